@@ -0,0 +1,62 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/jballerina.java;
+
+# Prints a measurement of the benchmark as a line prefixed with `RESULT`, which the runner of the benchmarks collects.
+#
+# + result - Measurement, along with the parameters it was taken with
+public isolated function report(map<json> result) {
+    io:println("RESULT ", result.toJsonString());
+}
+
+# Gets a percentile of the given latencies.
+#
+# + latencies - Latencies in seconds, in any order
+# + percentile - Percentile from 0 to 100
+# + return - Latency of the percentile in milliseconds
+public isolated function percentileMillis(decimal[] latencies, decimal percentile) returns decimal {
+    if latencies.length() == 0 {
+        return 0;
+    }
+    decimal[] sorted = latencies.sort();
+    int index = <int>(percentile / 100 * <decimal>(sorted.length() - 1));
+    return sorted[index] * 1000;
+}
+
+# Gets the rate of the given number of operations over the given time.
+#
+# + count - Number of operations
+# + seconds - Time the operations took in seconds
+# + return - Operations per second
+public isolated function perSecond(int count, decimal seconds) returns decimal {
+    return seconds > 0d ? <decimal>count / seconds : 0;
+}
+
+# Gets the bytes allocated so far by the threads the program runs on.
+#
+# + return - Allocated bytes
+public isolated function allocatedBytes() returns int = @java:Method {
+    'class: "io.ballerina.asyncapi.benchmarks.RuntimeMetrics"
+} external;
+
+# Gets the CPU time the program took so far.
+#
+# + return - CPU time in nanoseconds
+public isolated function processCpuTime() returns int = @java:Method {
+    'class: "io.ballerina.asyncapi.benchmarks.RuntimeMetrics"
+} external;
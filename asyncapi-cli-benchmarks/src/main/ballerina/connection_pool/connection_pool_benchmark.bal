@@ -0,0 +1,113 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/time;
+import ballerina/websocket;
+
+const int PORT = 21140;
+const string SERVICE_URL = "ws://localhost:21140/payloadV";
+const decimal SERVICE_TIME = 0.001;
+const decimal TIMEOUT = 30;
+
+service class SerialEchoUpgradeService {
+    *websocket:UpgradeService;
+
+    resource function get .() returns websocket:Service {
+        return new SerialEchoService();
+    }
+}
+
+service class SerialEchoService {
+    *websocket:Service;
+
+    # Answers each request with a response of the same id after the service time. The service reads the next frame
+    # of a connection once it answered the previous one, hence a connection carries at most one request per service
+    # time, however many requests are in flight on it.
+    remote function onMessage(websocket:Caller caller, map<json> message) returns websocket:Error? {
+        runtime:sleep(SERVICE_TIME);
+        check caller->writeMessage({id: message["id"], 'type: "UnSubscribe", event: "UnSubscribe"});
+    }
+}
+
+# Sends requests from 256 concurrent callers over the pool of the client generated with `--connection-pool` to a
+# local service which takes 1 ms to answer each request of a connection, and reports the requests answered per second
+# along with the latency percentiles. A single connection tops out at about 1,000 requests per second, hence the
+# requests per second show how the pool spreads the load over its connections.
+#
+# + poolSize - Number of connections of the pool
+# + routing - Routing of the remote function calls over the connections, `ROUND_ROBIN` or `LEAST_IN_FLIGHT`
+# + callers - Number of concurrent callers
+# + requests - Number of requests to send for the measurement, after as many to warm up
+# + return - An error if a request was not answered
+public function main(int poolSize, string routing, int callers = 256, int requests = 20000) returns error? {
+    websocket:Listener echoListener = check new (PORT);
+    check echoListener.attach(new SerialEchoUpgradeService(), "/payloadV/locations");
+    check echoListener.'start();
+    PoolRouting poolRouting = check routing.ensureType();
+    PayloadVlocationsClientPool locationsPool = check new (serviceUrl = SERVICE_URL, poolSize = poolSize,
+        routing = poolRouting);
+
+    _ = check send(locationsPool, "warmup", callers, requests);
+    decimal startedAt = time:monotonicNow();
+    decimal[] latencies = check send(locationsPool, "measured", callers, requests);
+    decimal elapsed = time:monotonicNow() - startedAt;
+    report({
+        poolSize,
+        routing,
+        callers,
+        requests: latencies.length(),
+        requestsPerSecond: perSecond(latencies.length(), elapsed),
+        p50Millis: percentileMillis(latencies, 50),
+        p99Millis: percentileMillis(latencies, 99)
+    });
+    check locationsPool->connectionClose();
+    check echoListener.immediateStop();
+}
+
+# Sends the given number of requests, spread over the callers.
+#
+# + locationsPool - Generated pool
+# + round - Name of the round, which makes the ids of its requests unique
+# + callers - Number of concurrent callers
+# + requests - Number of requests to send
+# + return - Latencies of the requests in seconds, or an error if a request was not answered
+isolated function send(PayloadVlocationsClientPool locationsPool, string round, int callers, int requests)
+        returns decimal[]|error {
+    future<decimal[]|error>[] callerFutures = [];
+    foreach int caller in 0 ..< callers {
+        future<decimal[]|error> callerFuture = start sendFrom(locationsPool, string `${round}-${caller}`,
+                requests / callers);
+        callerFutures.push(callerFuture);
+    }
+    decimal[] latencies = [];
+    foreach future<decimal[]|error> callerFuture in callerFutures {
+        decimal[] callerLatencies = check wait callerFuture;
+        latencies.push(...callerLatencies);
+    }
+    return latencies;
+}
+
+isolated function sendFrom(PayloadVlocationsClientPool locationsPool, string caller, int requests)
+        returns decimal[]|error {
+    decimal[] latencies = [];
+    foreach int i in 0 ..< requests {
+        decimal sentAt = time:monotonicNow();
+        _ = check locationsPool->doSubscribe({id: string `${caller}-${i}`, event: "Subscribe"}, TIMEOUT);
+        latencies.push(time:monotonicNow() - sentAt);
+    }
+    return latencies;
+}
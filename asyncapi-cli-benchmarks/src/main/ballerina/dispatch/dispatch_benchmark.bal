@@ -0,0 +1,84 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/time;
+
+const int PORT = 21100;
+const int CALLERS = 16;
+
+# Posts events to the generated listener from 16 concurrent callers and reports the events dispatched per second along
+# with the latency percentiles. The events are spread evenly over all the events of the listener. No service is
+# attached, hence each event is routed and bound to its type, but no remote function is invoked, which is the same
+# for both dispatch modes.
+#
+# + mode - Dispatch mode the listener was generated with
+# + events - Number of events of the listener
+# + requests - Number of events to post for the measurement, after as many to warm up
+# + return - An error if an event could not be dispatched
+public function main(string mode, int events, int requests = 50000) returns error? {
+    Listener webhookListener = check new (PORT);
+    check webhookListener.'start();
+    http:Client httpClient = check new (string `http://localhost:${PORT}`);
+
+    _ = check post(httpClient, events, requests);
+    decimal startedAt = time:monotonicNow();
+    decimal[] latencies = check post(httpClient, events, requests);
+    decimal elapsed = time:monotonicNow() - startedAt;
+    report({
+        mode,
+        events,
+        requests,
+        requestsPerSecond: perSecond(requests, elapsed),
+        p50Millis: percentileMillis(latencies, 50),
+        p99Millis: percentileMillis(latencies, 99)
+    });
+    check webhookListener.immediateStop();
+}
+
+# Posts the given number of events, spread over the callers.
+#
+# + httpClient - Client of the listener
+# + events - Number of events of the listener
+# + requests - Number of events to post
+# + return - Latencies of the events in seconds, or an error if an event could not be dispatched
+isolated function post(http:Client httpClient, int events, int requests) returns decimal[]|error {
+    future<decimal[]|error>[] callers = [];
+    foreach int caller in 0 ..< CALLERS {
+        future<decimal[]|error> callerFuture = start postFrom(httpClient, events, caller, requests / CALLERS);
+        callers.push(callerFuture);
+    }
+    decimal[] latencies = [];
+    foreach future<decimal[]|error> callerFuture in callers {
+        decimal[] callerLatencies = check wait callerFuture;
+        latencies.push(...callerLatencies);
+    }
+    return latencies;
+}
+
+isolated function postFrom(http:Client httpClient, int events, int caller, int requests) returns decimal[]|error {
+    decimal[] latencies = [];
+    foreach int i in 0 ..< requests {
+        int event = (i * CALLERS + caller) % events;
+        decimal sentAt = time:monotonicNow();
+        http:Response response = check httpClient->post("/", {'type: string `event_${event}`, id: i.toString()});
+        latencies.push(time:monotonicNow() - sentAt);
+        if response.statusCode != http:STATUS_OK {
+            return error(string `The event event_${event} was answered with the status ${response.statusCode}`);
+        }
+    }
+    return latencies;
+}
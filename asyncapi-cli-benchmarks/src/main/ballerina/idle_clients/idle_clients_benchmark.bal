@@ -0,0 +1,91 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/time;
+import ballerina/websocket;
+
+const int PORT = 21120;
+const string SERVICE_URL = "ws://localhost:21120/payloadV";
+
+service class IdleUpgradeService {
+    *websocket:UpgradeService;
+
+    resource function get .() returns websocket:Service {
+        return new IdleService();
+    }
+}
+
+service class IdleService {
+    *websocket:Service;
+
+    # Answers a request with a response of the same id, which is only used to check that a client works.
+    remote function onMessage(websocket:Caller caller, map<json> message) returns websocket:Error? {
+        check caller->writeMessage({id: message["id"], 'type: "UnSubscribe", event: "UnSubscribe"});
+    }
+}
+
+# Opens the given number of generated clients, keeps them idle, and reports the CPU time the process took while they
+# were idle, along with the time taken to close them all. The CPU time of the process over the same time is reported
+# as well before any client is opened, as the baseline, and once the clients are closed, which stays at the baseline
+# only if the workers of the clients completed.
+#
+# + clients - Number of clients to open
+# + idleSeconds - Time in seconds to keep the clients idle
+# + return - An error if a client could not be opened, used or closed
+public function main(int clients, decimal idleSeconds = 10) returns error? {
+    websocket:Listener idleListener = check new (PORT);
+    check idleListener.attach(new IdleUpgradeService(), "/payloadV/locations");
+    check idleListener.'start();
+    decimal baselineCpuMillis = cpuMillisOver(idleSeconds);
+
+    PayloadVlocationsClient[] idleClients = [];
+    foreach int i in 0 ..< clients {
+        PayloadVlocationsClient idleClient = check new (serviceUrl = SERVICE_URL);
+        // Each client writes and reads a message once, hence its workers have run before they wait
+        _ = check idleClient->doSubscribe({id: i.toString(), event: "Subscribe"}, 30);
+        idleClients.push(idleClient);
+    }
+    // Lets the clients settle after the burst of the requests
+    runtime:sleep(1);
+    decimal idleCpuMillis = cpuMillisOver(idleSeconds);
+
+    decimal closedAt = time:monotonicNow();
+    foreach PayloadVlocationsClient idleClient in idleClients {
+        check idleClient->connectionClose();
+    }
+    decimal shutdownMillis = (time:monotonicNow() - closedAt) * 1000;
+    decimal closedCpuMillis = cpuMillisOver(idleSeconds);
+    report({
+        clients,
+        idleSeconds,
+        baselineCpuMillis,
+        idleCpuMillis,
+        closedCpuMillis,
+        shutdownMillis
+    });
+    check idleListener.immediateStop();
+}
+
+# Sleeps for the given time and gets the CPU time the process took meanwhile.
+#
+# + seconds - Time to sleep in seconds
+# + return - CPU time in milliseconds
+function cpuMillisOver(decimal seconds) returns decimal {
+    int cpuBefore = processCpuTime();
+    runtime:sleep(seconds);
+    return <decimal>(processCpuTime() - cpuBefore) / 1000000;
+}
@@ -0,0 +1,138 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/time;
+import ballerina/websocket;
+
+const int PORT = 21170;
+const string SERVICE_URL = "ws://localhost:21170";
+const string REQUEST_ID = "receive";
+const decimal TIMEOUT = 30;
+
+service class ResponderUpgradeService {
+    *websocket:UpgradeService;
+    private final readonly & string[] responses;
+
+    function init(readonly & string[] responses) {
+        self.responses = responses;
+    }
+
+    resource function get .() returns websocket:Service {
+        return new ResponderService(self.responses);
+    }
+}
+
+isolated service class ResponderService {
+    *websocket:Service;
+    private final readonly & string[] responses;
+    private int answered = 0;
+
+    isolated function init(readonly & string[] responses) {
+        self.responses = responses;
+    }
+
+    # Answers the requests with the response types in turn, in the order the program sends them, without parsing the
+    # requests, so that the bytes the service allocates do not depend on the response types.
+    remote function onMessage(websocket:Caller caller, string request) returns websocket:Error? {
+        int answered;
+        lock {
+            answered = self.answered;
+            self.answered += 1;
+        }
+        check caller->writeMessage(self.responses[answered % self.responses.length()]);
+    }
+}
+
+# Sends requests over the generated client of 32 request and response types, one after the other and the types in
+# turn, and reports the requests answered per second and the bytes the process allocated per request. Each response
+# carries a list of entries as a rest field. The reader of the client routes the text of a response on the stream id
+# and the dispatcher key it scans off the text, and the remote function parses the text once, into the type of its
+# response. The time and the bytes of that binding alone are reported as well, along with the ones of the binding the
+# client used to do, which bound the message to the `Message` type of the dispatcher key in the reader and cloned it
+# into the type of its response in the remote function.
+#
+# + entries - Number of entries of each response
+# + requests - Number of requests for the measurement, after as many to warm up
+# + return - An error if a request was not answered
+public function main(int entries, int requests = 3200) returns error? {
+    json[] payload = [];
+    foreach int i in 0 ..< entries {
+        payload.push({price: <decimal>(10000 + i) / 100, volume: i + 1, side: i % 2 == 0 ? "buy" : "sell"});
+    }
+    string[] texts = [];
+    foreach int i in 0 ..< RESPONSE_TYPES.length() {
+        map<json> response = {event: string `Response${i}`, id: REQUEST_ID, count: i, "entries": payload};
+        texts.push(response.toJsonString());
+    }
+    readonly & string[] responses = texts.cloneReadOnly();
+
+    websocket:Listener responderListener = check new (PORT);
+    check responderListener.attach(new ResponderUpgradeService(responses), "/");
+    check responderListener.'start();
+    SyntheticClient syntheticClient = check openClient(SERVICE_URL);
+
+    check sendRequests(syntheticClient, 0, requests);
+    int startBytes = allocatedBytes();
+    decimal startedAt = time:monotonicNow();
+    check sendRequests(syntheticClient, requests, requests);
+    decimal elapsed = time:monotonicNow() - startedAt;
+    int requestBytes = allocatedBytes() - startBytes;
+
+    startBytes = allocatedBytes();
+    startedAt = time:monotonicNow();
+    foreach int i in 0 ..< requests {
+        int index = i % responses.length();
+        _ = check responses[index].fromJsonStringWithType(RESPONSE_TYPES[index]);
+    }
+    decimal bindingElapsed = time:monotonicNow() - startedAt;
+    int bindingBytes = allocatedBytes() - startBytes;
+
+    startBytes = allocatedBytes();
+    startedAt = time:monotonicNow();
+    foreach int i in 0 ..< requests {
+        int index = i % responses.length();
+        Message message = check responses[index].fromJsonStringWithType();
+        _ = check message.cloneWithType(RESPONSE_TYPES[index]);
+    }
+    decimal messageBindingElapsed = time:monotonicNow() - startedAt;
+    int messageBindingBytes = allocatedBytes() - startBytes;
+
+    report({
+        entries,
+        responseTypes: RESPONSE_TYPES.length(),
+        requests,
+        requestsPerSecond: perSecond(requests, elapsed),
+        bytesPerRequest: requestBytes / requests,
+        bytesPerBinding: bindingBytes / requests,
+        microsPerBinding: bindingElapsed * 1000000 / <decimal>requests,
+        bytesPerMessageBinding: messageBindingBytes / requests,
+        microsPerMessageBinding: messageBindingElapsed * 1000000 / <decimal>requests
+    });
+    check syntheticClient->connectionClose();
+    check responderListener.immediateStop();
+}
+
+# Sends the given number of requests one after the other, with the request types in turn.
+#
+# + syntheticClient - Client to send the requests over
+# + first - Number of the first request, which keeps the turns of the types in line with the service
+# + count - Number of requests to send
+# + return - An error if a request was not answered
+function sendRequests(SyntheticClient syntheticClient, int first, int count) returns error? {
+    foreach int i in first ..< first + count {
+        _ = check sendRequest(syntheticClient, i % RESPONSE_TYPES.length(), REQUEST_ID, TIMEOUT);
+    }
+}
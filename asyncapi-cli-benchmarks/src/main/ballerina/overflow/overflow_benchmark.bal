@@ -0,0 +1,218 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/time;
+import ballerina/websocket;
+
+const int PORT = 21180;
+const string SERVICE_URL = "ws://localhost:21180/chat";
+const int STREAMS = 8;
+const decimal TICK = 0.01;
+const int MESSAGES_PER_TICK = 10;
+const decimal SLOW_CONSUME_TIME = 0.0025;
+const decimal FAST_TIMEOUT = 30;
+const decimal SLOW_TIMEOUT = 1;
+const decimal SAMPLE_INTERVAL = 0.1;
+
+isolated int messagesPerStream = 0;
+isolated boolean sampling = false;
+
+service class ChatUpgradeService {
+    *websocket:UpgradeService;
+
+    resource function get .() returns websocket:Service {
+        return new ChatService();
+    }
+}
+
+service class ChatService {
+    *websocket:Service;
+
+    # Answers each subscribe message with next messages of the same id, 10 every 10 ms, i.e. 1,000 per second.
+    remote function onMessage(websocket:Caller caller, map<json> message) {
+        _ = start publish(caller, message["id"]);
+    }
+}
+
+# Writes the messages of a stream at a fixed rate. Each message holds the time it was due to be written, hence the
+# time the service is held up by a client which does not read its messages counts towards the delay of the messages.
+#
+# + caller - Caller of the connection of the client
+# + id - Id of the stream
+# + return - An error if a message could not be written
+function publish(websocket:Caller caller, json id) returns websocket:Error? {
+    int messages;
+    lock {
+        messages = messagesPerStream;
+    }
+    decimal startedAt = time:monotonicNow();
+    foreach int sequence in 0 ..< messages {
+        decimal dueAt = startedAt + <decimal>(sequence / MESSAGES_PER_TICK) * TICK;
+        decimal wait = dueAt - time:monotonicNow();
+        if wait > 0d {
+            runtime:sleep(wait);
+        }
+        check caller->writeMessage({id, 'type: "NextMessage", payload: {sequence, dueAtMicros: toMicros(dueAt)}});
+    }
+}
+
+# Subscribes to 8 streams over a client of the given overflow policy, one of which is consumed at 40% of the rate its
+# messages arrive, and reports how the reader of the client delays the messages of the other 7 streams. With the
+# `BLOCK` policy the reader waits on the full pipe of the slow stream, hence the messages of the other streams queue
+# up behind it, while the other policies keep the reader going at the cost of the messages of the slow stream. The
+# depth of the pipe of the slow stream is sampled from `getPipeDepths` every 100 ms.
+#
+# + policy - Overflow policy of the pipes
+# + seconds - Time in seconds the service writes the messages of each stream for, after a round of 1 second to warm up
+# + return - An error if a fast stream was not answered
+public function main(string policy, int seconds = 5) returns error? {
+    OverflowPolicy pipeOverflow = check policy.ensureType();
+    websocket:Listener chatListener = check new (PORT);
+    check chatListener.attach(new ChatUpgradeService(), "/chat");
+    check chatListener.'start();
+    ChatClient chatClient = check new (serviceUrl = SERVICE_URL, queueConfig = {pipeOverflow});
+
+    _ = check subscribe(chatClient, "warmup", 1);
+    int droppedBefore = chatClient.getDroppedMessageCount();
+    [decimal[], int, int] [delays, slowConsumed, slowMaxPipeDepth] = check subscribe(chatClient, "measured", seconds);
+    report({
+        policy,
+        streams: STREAMS,
+        seconds,
+        fastMessages: delays.length(),
+        fastMeanDelayMillis: meanMillis(delays),
+        fastP99DelayMillis: percentileMillis(delays, 99),
+        fastMaxDelayMillis: percentileMillis(delays, 100),
+        slowConsumed,
+        slowMaxPipeDepth,
+        dropped: chatClient.getDroppedMessageCount() - droppedBefore
+    });
+    check chatClient->connectionClose();
+    check chatListener.immediateStop();
+}
+
+# Subscribes to the streams of a round and consumes them until the service wrote all of their messages.
+#
+# + chatClient - Generated client
+# + round - Name of the round, which makes the ids of its streams unique
+# + seconds - Time in seconds the service writes the messages of each stream for
+# + return - Delays of the messages of the fast streams in seconds, the messages of the slow stream consumed and the
+# maximum depth sampled of its pipe, or an error if a fast stream was not answered
+function subscribe(ChatClient chatClient, string round, int seconds) returns [decimal[], int, int]|error {
+    int messages = seconds * MESSAGES_PER_TICK * <int>(1d / TICK);
+    lock {
+        messagesPerStream = messages;
+    }
+    string slowId = string `${round}-slow`;
+    stream<NextMessage, error?> slowMessages = check chatClient->doTesting(testingMessage(slowId), SLOW_TIMEOUT);
+    future<int> slowConsumer = start consumeSlowly(slowMessages);
+    future<decimal[]|error>[] fastConsumers = [];
+    foreach int i in 1 ..< STREAMS {
+        stream<NextMessage, error?> fastMessages = check chatClient->doTesting(testingMessage(string `${round}-${i}`),
+                FAST_TIMEOUT);
+        future<decimal[]|error> fastConsumer = start consume(fastMessages, messages);
+        fastConsumers.push(fastConsumer);
+    }
+    lock {
+        sampling = true;
+    }
+    future<int> sampler = start sampleMaxPipeDepth(chatClient, slowId);
+
+    decimal[] delays = [];
+    foreach future<decimal[]|error> fastConsumer in fastConsumers {
+        decimal[] fastDelays = check wait fastConsumer;
+        delays.push(...fastDelays);
+    }
+    int slowConsumed = wait slowConsumer;
+    lock {
+        sampling = false;
+    }
+    int slowMaxPipeDepth = wait sampler;
+    return [delays, slowConsumed, slowMaxPipeDepth];
+}
+
+# Consumes the messages of a fast stream as soon as they arrive, until the last one.
+#
+# + messages - Stream to consume
+# + count - Number of messages the service writes to the stream
+# + return - Delays of the messages in seconds from the time they were due, or an error if the stream failed
+function consume(stream<NextMessage, error?> messages, int count) returns decimal[]|error {
+    decimal[] delays = [];
+    int sequence = -1;
+    while sequence < count - 1 {
+        record {|NextMessage value;|}? next = check messages.next();
+        if next is () {
+            return error("The stream of a fast consumer ended");
+        }
+        decimal receivedAt = time:monotonicNow();
+        json message = next.value.toJson();
+        sequence = check (check message.payload.sequence).ensureType();
+        int dueAtMicros = check (check message.payload.dueAtMicros).ensureType();
+        delays.push((<decimal>(toMicros(receivedAt) - dueAtMicros)) / 1000000);
+    }
+    return delays;
+}
+
+# Consumes the messages of the slow stream, one every 2.5 ms, until the stream ends or no message arrived for a
+# second.
+#
+# + messages - Stream to consume
+# + return - Number of messages consumed
+function consumeSlowly(stream<NextMessage, error?> messages) returns int {
+    int consumed = 0;
+    while true {
+        record {|NextMessage value;|}|error? next = messages.next();
+        if next !is record {|NextMessage value;|} {
+            return consumed;
+        }
+        consumed += 1;
+        runtime:sleep(SLOW_CONSUME_TIME);
+    }
+}
+
+# Samples the depth of the pipe of the slow stream until the round stops the sampling.
+#
+# + chatClient - Generated client
+# + slowId - Id of the slow stream
+# + return - Maximum depth sampled
+function sampleMaxPipeDepth(ChatClient chatClient, string slowId) returns int {
+    int maxDepth = 0;
+    while isSampling() {
+        int depth = chatClient.getPipeDepths()[slowId] ?: 0;
+        maxDepth = depth > maxDepth ? depth : maxDepth;
+        runtime:sleep(SAMPLE_INTERVAL);
+    }
+    return maxDepth;
+}
+
+isolated function isSampling() returns boolean {
+    lock {
+        return sampling;
+    }
+}
+
+function meanMillis(decimal[] delays) returns decimal {
+    return delays.length() == 0 ? 0 : decimal:sum(...delays) / <decimal>delays.length() * 1000;
+}
+
+function toMicros(decimal seconds) returns int {
+    return <int>(seconds * 1000000);
+}
+
+function testingMessage(string id) returns Testing {
+    return {id, 'type: "SubscribeMessage", payload: {query: "{ messages }"}};
+}
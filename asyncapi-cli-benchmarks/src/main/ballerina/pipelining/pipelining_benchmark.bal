@@ -0,0 +1,113 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/time;
+import ballerina/websocket;
+
+const int PORT = 21130;
+const string SERVICE_URL = "ws://localhost:21130/payloadV";
+const decimal ROUND_TRIP_TIME = 0.001;
+const decimal TIMEOUT = 30;
+
+service class DelayedEchoUpgradeService {
+    *websocket:UpgradeService;
+
+    resource function get .() returns websocket:Service {
+        return new DelayedEchoService();
+    }
+}
+
+service class DelayedEchoService {
+    *websocket:Service;
+
+    # Answers each request with a response of the same id after the round trip time. The requests are answered
+    # concurrently, hence the service does not bound the requests in flight over the connection.
+    remote function onMessage(websocket:Caller caller, map<json> message) {
+        _ = start answerLater(caller, message["id"]);
+    }
+}
+
+function answerLater(websocket:Caller caller, json id) returns websocket:Error? {
+    runtime:sleep(ROUND_TRIP_TIME);
+    check caller->writeMessage({id, 'type: "UnSubscribe", event: "UnSubscribe"});
+}
+
+# Sends requests from 64 concurrent callers over a single connection of the client generated with `--pipelining` to
+# a local service which answers each request after a round trip time of 1 ms, and reports the requests answered per
+# second along with the latency percentiles. The window of the client bounds the requests in flight, hence a window
+# of 1 is the same as sending the requests one after the other.
+#
+# + maxInFlightRequests - Size of the window of the requests in flight
+# + callers - Number of concurrent callers
+# + requests - Number of requests to send for the measurement, after as many to warm up
+# + return - An error if a request was not answered
+public function main(int maxInFlightRequests, int callers = 64, int requests = 20000) returns error? {
+    websocket:Listener echoListener = check new (PORT);
+    check echoListener.attach(new DelayedEchoUpgradeService(), "/payloadV/locations");
+    check echoListener.'start();
+    PayloadVlocationsClient locationsClient = check new (serviceUrl = SERVICE_URL,
+        maxInFlightRequests = maxInFlightRequests);
+
+    _ = check send(locationsClient, "warmup", callers, requests);
+    decimal startedAt = time:monotonicNow();
+    decimal[] latencies = check send(locationsClient, "measured", callers, requests);
+    decimal elapsed = time:monotonicNow() - startedAt;
+    report({
+        maxInFlightRequests,
+        callers,
+        requests: latencies.length(),
+        requestsPerSecond: perSecond(latencies.length(), elapsed),
+        p50Millis: percentileMillis(latencies, 50),
+        p99Millis: percentileMillis(latencies, 99)
+    });
+    check locationsClient->connectionClose();
+    check echoListener.immediateStop();
+}
+
+# Sends the given number of requests, spread over the callers.
+#
+# + locationsClient - Generated client
+# + round - Name of the round, which makes the ids of its requests unique
+# + callers - Number of concurrent callers
+# + requests - Number of requests to send
+# + return - Latencies of the requests in seconds, or an error if a request was not answered
+isolated function send(PayloadVlocationsClient locationsClient, string round, int callers, int requests)
+        returns decimal[]|error {
+    future<decimal[]|error>[] callerFutures = [];
+    foreach int caller in 0 ..< callers {
+        future<decimal[]|error> callerFuture = start sendFrom(locationsClient, string `${round}-${caller}`,
+                requests / callers);
+        callerFutures.push(callerFuture);
+    }
+    decimal[] latencies = [];
+    foreach future<decimal[]|error> callerFuture in callerFutures {
+        decimal[] callerLatencies = check wait callerFuture;
+        latencies.push(...callerLatencies);
+    }
+    return latencies;
+}
+
+isolated function sendFrom(PayloadVlocationsClient locationsClient, string caller, int requests)
+        returns decimal[]|error {
+    decimal[] latencies = [];
+    foreach int i in 0 ..< requests {
+        decimal sentAt = time:monotonicNow();
+        _ = check locationsClient->doSubscribe({id: string `${caller}-${i}`, event: "Subscribe"}, TIMEOUT);
+        latencies.push(time:monotonicNow() - sentAt);
+    }
+    return latencies;
+}
@@ -0,0 +1,135 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/time;
+import xlibb/pipe;
+
+# Operations of the pipes map which a remote function call goes through, which both maps of the benchmark provide.
+type PipeRegistry isolated object {
+    public isolated function getPipe(string id) returns pipe:Pipe;
+    public isolated function getPipeToProduce(string id) returns pipe:Pipe;
+    public isolated function removePipe(string id) returns error?;
+};
+
+# Pipes map guarded by the single lock of the class, as the generated utils used to have it.
+isolated class SingleLockPipesMap {
+    private final map<pipe:Pipe> pipes = {};
+    private final map<decimal> unclaimedPipes = {};
+
+    public isolated function getPipe(string id) returns pipe:Pipe {
+        lock {
+            _ = self.unclaimedPipes.removeIfHasKey(id);
+            pipe:Pipe? pipe = self.pipes[id];
+            if pipe is pipe:Pipe {
+                return pipe;
+            }
+            pipe:Pipe newPipe = new (100);
+            self.pipes[id] = newPipe;
+            return newPipe;
+        }
+    }
+
+    public isolated function getPipeToProduce(string id) returns pipe:Pipe {
+        lock {
+            pipe:Pipe? pipe = self.pipes[id];
+            if pipe is pipe:Pipe {
+                return pipe;
+            }
+            pipe:Pipe newPipe = new (100);
+            self.pipes[id] = newPipe;
+            self.unclaimedPipes[id] = time:monotonicNow();
+            return newPipe;
+        }
+    }
+
+    public isolated function removePipe(string id) returns error? {
+        pipe:Pipe? pipe;
+        lock {
+            _ = self.unclaimedPipes.removeIfHasKey(id);
+            pipe = self.pipes.removeIfHasKey(id);
+        }
+        if pipe is pipe:Pipe {
+            check pipe.gracefulClose();
+        }
+    }
+}
+
+# Goes through the pipes map from concurrent callers the way the remote function calls of a client do, and reports
+# the calls per second along with the latency percentiles. Each call gets the pipe of its id to consume from, gets it
+# again to produce the response to, as the reader does, consumes the response and removes the pipe. The ids differ
+# at their ends, as the ids of the requests do. The `striped` map is the `PipesMap` of the generated utils, while the
+# `single_lock` map keeps all the pipes under one lock.
+#
+# + registry - Map to measure, `striped` or `single_lock`
+# + callers - Number of concurrent callers
+# + calls - Number of calls for the measurement, after as many to warm up
+# + return - An error if a call failed
+public function main(string registry, int callers = 64, int calls = 1000000) returns error? {
+    PipesMap pipesMap = new;
+    PipeRegistry pipes = registry == "striped" ? pipesMap : new SingleLockPipesMap();
+
+    _ = check call(pipes, "warmup", callers, calls);
+    decimal startedAt = time:monotonicNow();
+    decimal[] latencies = check call(pipes, "measured", callers, calls);
+    decimal elapsed = time:monotonicNow() - startedAt;
+    report({
+        registry,
+        callers,
+        calls: latencies.length(),
+        callsPerSecond: perSecond(latencies.length(), elapsed),
+        p50Millis: percentileMillis(latencies, 50),
+        p99Millis: percentileMillis(latencies, 99)
+    });
+    check pipesMap.removePipes();
+}
+
+# Makes the given number of calls, spread over the callers.
+#
+# + pipes - Map to go through
+# + round - Name of the round, which makes the ids of its calls unique
+# + callers - Number of concurrent callers
+# + calls - Number of calls to make
+# + return - Latencies of the calls in seconds, or an error if a call failed
+isolated function call(PipeRegistry pipes, string round, int callers, int calls) returns decimal[]|error {
+    future<decimal[]|error>[] callerFutures = [];
+    foreach int caller in 0 ..< callers {
+        future<decimal[]|error> callerFuture = start callFrom(pipes, string `${round}-${caller}`, calls / callers);
+        callerFutures.push(callerFuture);
+    }
+    decimal[] latencies = [];
+    foreach future<decimal[]|error> callerFuture in callerFutures {
+        decimal[] callerLatencies = check wait callerFuture;
+        latencies.push(...callerLatencies);
+    }
+    return latencies;
+}
+
+isolated function callFrom(PipeRegistry pipes, string caller, int calls) returns decimal[]|error {
+    decimal[] latencies = [];
+    foreach int i in 0 ..< calls {
+        string id = string `${caller}-${i}`;
+        decimal calledAt = time:monotonicNow();
+        pipe:Pipe responsePipe = pipes.getPipe(id);
+        check pipes.getPipeToProduce(id).produce({id, event: "UnSubscribe"}, 0);
+        anydata|pipe:Error response = responsePipe.consume(0);
+        if response is pipe:Error {
+            return response;
+        }
+        check pipes.removePipe(id);
+        latencies.push(time:monotonicNow() - calledAt);
+    }
+    return latencies;
+}
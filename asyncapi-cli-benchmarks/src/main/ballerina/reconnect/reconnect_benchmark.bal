@@ -0,0 +1,130 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/time;
+import ballerina/websocket;
+
+const int PORT = 21150;
+const string SERVICE_URL = "ws://localhost:21150/chat";
+const decimal TIMEOUT = 30;
+
+isolated websocket:Caller[] callers = [];
+isolated boolean rejectConnections = false;
+
+service class ChatUpgradeService {
+    *websocket:UpgradeService;
+
+    resource function get .() returns websocket:Service|websocket:UpgradeError {
+        lock {
+            if rejectConnections {
+                return error websocket:UpgradeError("The service is down");
+            }
+        }
+        return new ChatService();
+    }
+}
+
+service class ChatService {
+    *websocket:Service;
+
+    remote function onOpen(websocket:Caller caller) {
+        lock {
+            callers.push(caller);
+        }
+    }
+
+    # Answers each subscribe message with a single next message of the same id.
+    remote function onMessage(websocket:Caller caller, map<json> message) returns websocket:Error? {
+        check caller->writeMessage({id: message["id"], 'type: "NextMessage", payload: {}});
+    }
+}
+
+# Opens streams over the client generated with `--reconnect`, drops its connection from the side of a local service,
+# which rejects the connections for the downtime, and reports the time the client takes to recover, which is until
+# each stream received the answer to its subscribe message written again on the new connection. The client waits for
+# a random time up to a backoff of 100 ms before its first attempt, and doubles the backoff after each failed attempt.
+#
+# + streams - Number of open streams of the client
+# + downtime - Time in seconds the service rejects the connections for once it dropped the connection of the client
+# + drops - Number of drops to measure, after one to warm up
+# + return - An error if the client did not recover
+public function main(int streams, decimal downtime, int drops = 20) returns error? {
+    websocket:Listener chatListener = check new (PORT);
+    check chatListener.attach(new ChatUpgradeService(), "/chat");
+    check chatListener.'start();
+    ChatClient chatClient = check new (serviceUrl = SERVICE_URL);
+    stream<NextMessage, error?>[] openStreams = [];
+    foreach int i in 0 ..< streams {
+        stream<NextMessage, error?> messages = check chatClient->doTesting(
+            {id: string `stream-${i}`, 'type: "SubscribeMessage", payload: {query: "{ messages }"}}, TIMEOUT);
+        _ = check nextMessage(messages);
+        openStreams.push(messages);
+    }
+
+    _ = check recover(openStreams, downtime);
+    decimal[] recoveries = [];
+    foreach int _ in 0 ..< drops {
+        recoveries.push(check recover(openStreams, downtime));
+    }
+    report({
+        streams,
+        downtimeMillis: downtime * 1000,
+        drops,
+        p50RecoverMillis: percentileMillis(recoveries, 50),
+        p99RecoverMillis: percentileMillis(recoveries, 99),
+        maxRecoverMillis: percentileMillis(recoveries, 100)
+    });
+    check chatClient->connectionClose();
+    check chatListener.immediateStop();
+}
+
+# Drops the connection of the client and waits until all of its streams received the answer to their subscribe
+# messages written again on the new connection.
+#
+# + openStreams - Streams of the client
+# + downtime - Time in seconds to reject the connections for once the connection was dropped
+# + return - Time in seconds from the drop until the client recovered, or an error if a stream was not answered
+function recover(stream<NextMessage, error?>[] openStreams, decimal downtime) returns decimal|error {
+    decimal droppedAt = time:monotonicNow();
+    lock {
+        rejectConnections = downtime > 0d;
+    }
+    lock {
+        foreach websocket:Caller caller in callers {
+            check caller->close(timeout = 5);
+        }
+        callers.removeAll();
+    }
+    if downtime > 0d {
+        runtime:sleep(downtime);
+        lock {
+            rejectConnections = false;
+        }
+    }
+    foreach stream<NextMessage, error?> messages in openStreams {
+        _ = check nextMessage(messages);
+    }
+    return time:monotonicNow() - droppedAt;
+}
+
+function nextMessage(stream<NextMessage, error?> messages) returns NextMessage|error {
+    record {|NextMessage value;|}? next = check messages.next();
+    if next is () {
+        return error("The stream ended, as the client gave up reconnecting");
+    }
+    return next.value;
+}
@@ -0,0 +1,92 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/websocket;
+
+const int PORT = 21160;
+const string SERVICE_URL = "ws://localhost:21160/payloadV";
+const string REQUEST_ID = "send";
+const decimal TIMEOUT = 30;
+
+service class FixedAnswerUpgradeService {
+    *websocket:UpgradeService;
+
+    resource function get .() returns websocket:Service {
+        return new FixedAnswerService();
+    }
+}
+
+service class FixedAnswerService {
+    *websocket:Service;
+
+    # Answers each request with the same small response, without parsing the request, so that the bytes the service
+    # allocates do not grow with the request beyond the frame it reads.
+    remote function onMessage(websocket:Caller caller, string request) returns websocket:Error? {
+        check caller->writeMessage({id: REQUEST_ID, 'type: "UnSubscribe", event: "UnSubscribe"});
+    }
+}
+
+# Sends an order book snapshot of the given number of price levels on each side over the generated client, one send
+# after the other, and reports the bytes the process allocated per send. The `Message` type of the client is not
+# read-only, hence the remote function queues the request as it is. The bytes `cloneReadOnly` allocates for the same
+# request, which the remote functions used to copy the request with on every send, are reported as well.
+#
+# + levels - Number of price levels of the bids and of the asks of the request
+# + sends - Number of sends for the measurement, after as many to warm up
+# + return - An error if a request was not answered
+public function main(int levels, int sends = 2000) returns error? {
+    websocket:Listener answerListener = check new (PORT);
+    check answerListener.attach(new FixedAnswerUpgradeService(), "/payloadV/locations");
+    check answerListener.'start();
+    PayloadVlocationsClient locationsClient = check new (serviceUrl = SERVICE_URL);
+    Subscribe snapshot = {
+        id: REQUEST_ID,
+        event: "Subscribe",
+        "bids": createLevels(levels, 100),
+        "asks": createLevels(levels, 101)
+    };
+
+    foreach int _ in 0 ..< sends {
+        _ = check locationsClient->doSubscribe(snapshot, TIMEOUT);
+    }
+    int startBytes = allocatedBytes();
+    foreach int _ in 0 ..< sends {
+        _ = check locationsClient->doSubscribe(snapshot, TIMEOUT);
+    }
+    int sendBytes = allocatedBytes() - startBytes;
+
+    startBytes = allocatedBytes();
+    foreach int _ in 0 ..< sends {
+        _ = snapshot.cloneReadOnly();
+    }
+    int copyBytes = allocatedBytes() - startBytes;
+    report({
+        levels,
+        sends,
+        bytesPerSend: sendBytes / sends,
+        bytesPerCopy: copyBytes / sends
+    });
+    check locationsClient->connectionClose();
+    check answerListener.immediateStop();
+}
+
+isolated function createLevels(int levels, int basePrice) returns decimal[][] {
+    decimal[][] priceLevels = [];
+    foreach int i in 0 ..< levels {
+        priceLevels.push([<decimal>(basePrice * 100 + i) / 100, <decimal>(i + 1) / 1000]);
+    }
+    return priceLevels;
+}
@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves the inputs of the benchmarks by name.
+ * <p>
+ * A name is either one of the definitions bundled with the tests of the tool, or {@code synthetic-<size>}, which
+ * is generated by {@link SyntheticSpecGenerator}. The bundled connector definitions are OpenAPI definitions, hence
+ * only their schemas are used, wrapped into an AsyncAPI definition.
+ */
+public class BenchmarkInputs {
+    /**
+     * System property which points to the test resources of the tool. Defaults to the location relative to this
+     * module.
+     */
+    public static final String RESOURCES_PROPERTY = "asyncapi.benchmarks.resources";
+    private static final String DEFAULT_RESOURCES = "../asyncapi-cli/src/test/resources";
+    private static final String SYNTHETIC_PREFIX = "synthetic-";
+    private static final String CONNECTORS_DIR =
+            "websockets/asyncapi-to-ballerina/client/diagnostic_files/ballerinax_connector_tests";
+    private static final String SLACK = "slack";
+    private static final String KRAKEN = "kraken";
+    private static final String ONE_RESPONSE = "one_response";
+    private static final String MULTIPLE_STREAM = "multiple_stream";
+    private static final String STRIPE = "stripe";
+    private static final String BOX = "box";
+    private static final String REFERENCE_SCENARIO = "reference_scenario";
+    private static final String GRAPHQL_OVER_WEBSOCKET = "graphql_over_websocket";
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+
+    private BenchmarkInputs() {
+    }
+
+    /**
+     * Resolves a definition for the listener generation.
+     *
+     * @param name    {@code slack}, {@code stripe}, {@code box} or {@code synthetic-<size>}
+     * @param workDir Directory to write the generated definitions to
+     * @return Path to the definition
+     * @throws IOException when the definition could not be read or written
+     */
+    public static Path getListenerSpec(String name, Path workDir) throws IOException {
+        if (name.startsWith(SYNTHETIC_PREFIX)) {
+            return writeSpec(workDir, name, SyntheticSpecGenerator.generateListenerSpec(getSize(name)));
+        }
+        switch (name) {
+            case SLACK:
+                return getResource("specs/spec-complete-slack.yml");
+            case STRIPE:
+            case BOX:
+                return writeSpec(workDir, name,
+                        SyntheticSpecGenerator.wrapListenerSchemas(readConnectorSchemas(name)));
+            default:
+                throw new IllegalArgumentException("Unknown listener definition: " + name);
+        }
+    }
+
+    /**
+     * Resolves a definition for the WebSocket client generation.
+     *
+     * @param name    {@code kraken}, {@code one_response}, {@code multiple_stream}, {@code stripe}, {@code box} or
+     *                {@code synthetic-<size>}
+     * @param workDir Directory to write the generated definitions to
+     * @return Path to the definition
+     * @throws IOException when the definition could not be read or written
+     */
+    public static Path getClientSpec(String name, Path workDir) throws IOException {
+        if (name.startsWith(SYNTHETIC_PREFIX)) {
+            return writeSpec(workDir, name, SyntheticSpecGenerator.generateClientSpec(getSize(name)));
+        }
+        switch (name) {
+            case KRAKEN:
+                return getResource("websockets/asyncapi-to-ballerina/client/Real/kraken_websocket.yaml");
+            case ONE_RESPONSE:
+                return getResource("websockets/asyncapi-to-ballerina/client/SimpleResponse/" +
+                        "one_response_with_dispatcherStreamId.yaml");
+            case MULTIPLE_STREAM:
+                return getResource("websockets/asyncapi-to-ballerina/client/StreamResponse/" +
+                        "multiple_stream_with_dispatcherStreamId.yaml");
+            case STRIPE:
+            case BOX:
+                return writeSpec(workDir, name, SyntheticSpecGenerator.wrapClientSchemas(readConnectorSchemas(name)));
+            default:
+                throw new IllegalArgumentException("Unknown client definition: " + name);
+        }
+    }
+
+    /**
+     * Resolves a Ballerina service for the AsyncAPI definition generation.
+     *
+     * @param name    {@code reference_scenario}, {@code graphql_over_websocket} or {@code synthetic-<size>}
+     * @param workDir Directory to write the generated services to
+     * @return Path to the service
+     * @throws IOException when the service could not be written
+     */
+    public static Path getService(String name, Path workDir) throws IOException {
+        if (name.startsWith(SYNTHETIC_PREFIX)) {
+            Path servicePath = workDir.resolve(name + ".bal");
+            Files.writeString(servicePath, SyntheticSpecGenerator.generateService(getSize(name)),
+                    StandardCharsets.UTF_8);
+            return servicePath;
+        }
+        switch (name) {
+            case REFERENCE_SCENARIO:
+                return getResource("websockets/ballerina-to-asyncapi/apidoc/reference_scenario.bal");
+            case GRAPHQL_OVER_WEBSOCKET:
+                return getResource("websockets/ballerina-to-asyncapi/advance/graphql_over_websocket.bal");
+            default:
+                throw new IllegalArgumentException("Unknown service: " + name);
+        }
+    }
+
+    /**
+     * Writes a Ballerina package with the given number of synthetic services, one in the default module and one in
+     * each of the other modules, for the AsyncAPI definition generation of a whole package.
+     *
+     * @param services Number of services of the package
+     * @param size     Number of remote functions of each service
+     * @param workDir  Directory to write the package to
+     * @return Paths to the Ballerina files of the services, the one of the default module first
+     * @throws IOException when the package could not be written
+     */
+    public static List<Path> writeServicePackage(int services, int size, Path workDir) throws IOException {
+        Path packageDir = workDir.resolve("services");
+        Files.createDirectories(packageDir);
+        Files.writeString(packageDir.resolve("Ballerina.toml"),
+                "[package]\norg = \"benchmark\"\nname = \"services\"\nversion = \"0.1.0\"\n", StandardCharsets.UTF_8);
+        List<Path> servicePaths = new ArrayList<>();
+        servicePaths.add(packageDir.resolve("main.bal"));
+        for (int i = 1; i < services; i++) {
+            Path moduleDir = packageDir.resolve("modules").resolve("service" + i);
+            Files.createDirectories(moduleDir);
+            servicePaths.add(moduleDir.resolve("service" + i + ".bal"));
+        }
+        for (Path servicePath : servicePaths) {
+            Files.writeString(servicePath, SyntheticSpecGenerator.generateService(size), StandardCharsets.UTF_8);
+        }
+        return servicePaths;
+    }
+
+    private static ObjectNode readConnectorSchemas(String name) throws IOException {
+        Path connectorSpec = getResource(CONNECTORS_DIR + "/" + name + ".yaml");
+        return SyntheticSpecGenerator.getSchemas((ObjectNode) YAML_MAPPER.readTree(connectorSpec.toFile()));
+    }
+
+    private static Path writeSpec(Path workDir, String name, ObjectNode spec) throws IOException {
+        Path specPath = workDir.resolve(name + ".json");
+        Files.writeString(specPath, JSON_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(spec),
+                StandardCharsets.UTF_8);
+        return specPath;
+    }
+
+    private static Path getResource(String relativePath) throws IOException {
+        Path resourcesDir = Paths.get(System.getProperty(RESOURCES_PROPERTY, DEFAULT_RESOURCES));
+        Path resource = resourcesDir.resolve(relativePath).toAbsolutePath().normalize();
+        if (!Files.isRegularFile(resource)) {
+            throw new IOException("Could not find the benchmark input " + resource + ", set the system property " +
+                    RESOURCES_PROPERTY + " to the test resources of the tool");
+        }
+        return resource;
+    }
+
+    private static int getSize(String name) {
+        try {
+            return Integer.parseInt(name.substring(SYNTHETIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid size of the synthetic input: " + name, e);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
+import io.apicurio.datamodels.validation.ValidationProblem;
+import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
+import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.CodegenUtils;
+import io.ballerina.asyncapi.websocketscore.generators.client.IntermediateClientGenerator;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.AasClientConfig;
+import io.ballerina.asyncapi.websocketscore.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GenerationContext;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each stage of the WebSocket client generation of the {@code asyncapi} command.
+ * <p>
+ * The {@code parse}, {@code readDocument} and {@code validate} benchmarks split the normalization of the definition
+ * into its steps, while {@code normalize} measures it as a whole. The generators may update the AsyncAPI model
+ * while building the syntax trees, hence every invocation of the {@code generate*} benchmarks starts from a freshly
+ * read model, which is prepared outside of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ClientGenerationBenchmark {
+    private static final String CLIENT_FILE_NAME = "client.bal";
+    private static final String UTIL_FILE_NAME = "utils.bal";
+    private static final String TYPE_FILE_NAME = "types.bal";
+
+    @Param({"kraken", "stripe", "box", "synthetic-10", "synthetic-100", "synthetic-1000", "synthetic-10000"})
+    public String spec;
+
+    private Path workDir;
+    private Path specPath;
+    private String specJson;
+    private AsyncApi25DocumentImpl document;
+    private final Map<String, SyntaxTree> generatedSyntaxTrees = new LinkedHashMap<>();
+    private final Map<String, String> generatedSources = new LinkedHashMap<>();
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, BallerinaAsyncApiExceptionWs, FormatterException {
+        workDir = Files.createTempDirectory("asyncapi-client-benchmark");
+        specPath = BenchmarkInputs.getClientSpec(spec, workDir);
+        specJson = parse();
+        document = readDocument();
+
+        IntermediateClientGenerator clientGenerator = createClientGenerator(readDocument());
+        generatedSyntaxTrees.put(CLIENT_FILE_NAME, clientGenerator.generateSyntaxTree());
+        generatedSyntaxTrees.put(UTIL_FILE_NAME,
+                clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree());
+        generatedSyntaxTrees.put(TYPE_FILE_NAME, new BallerinaTypesGenerator(clientGenerator.getGenerationContext(),
+                getPreGeneratedTypeDefNodes(clientGenerator)).generateSyntaxTree());
+        for (Map.Entry<String, SyntaxTree> syntaxTree : generatedSyntaxTrees.entrySet()) {
+            generatedSources.put(syntaxTree.getKey(), Formatter.format(syntaxTree.getValue()).toString());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    /**
+     * Reads the YAML or JSON definition and converts it to JSON, the same way the definition is normalized.
+     */
+    @Benchmark
+    public String parse() throws IOException {
+        Object definition = new ObjectMapper(new YAMLFactory()).readValue(Files.readString(specPath), Object.class);
+        return new ObjectMapper().writeValueAsString(definition);
+    }
+
+    @Benchmark
+    public AsyncApi25DocumentImpl readDocument() {
+        return (AsyncApi25DocumentImpl) Library.readDocumentFromJSONString(specJson);
+    }
+
+    @Benchmark
+    public List<ValidationProblem> validate() {
+        return Library.validate(document, null);
+    }
+
+    @Benchmark
+    public AsyncApi25DocumentImpl normalize() throws IOException, BallerinaAsyncApiExceptionWs {
+        return GeneratorUtils.normalizeAsyncAPI(specPath);
+    }
+
+    @Benchmark
+    public void generateClient(FreshDocument freshDocument, Blackhole blackhole)
+            throws IOException, BallerinaAsyncApiExceptionWs {
+        IntermediateClientGenerator clientGenerator = createClientGenerator(freshDocument.document);
+        blackhole.consume(clientGenerator.generateSyntaxTree());
+        blackhole.consume(clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree());
+    }
+
+    @Benchmark
+    public SyntaxTree generateTypes(GeneratedClient generatedClient) throws BallerinaAsyncApiExceptionWs {
+        return new BallerinaTypesGenerator(generatedClient.context, generatedClient.typeDefNodes)
+                .generateSyntaxTree();
+    }
+
+    @Benchmark
+    public void format(Blackhole blackhole) throws FormatterException {
+        for (SyntaxTree syntaxTree : generatedSyntaxTrees.values()) {
+            blackhole.consume(Formatter.format(syntaxTree));
+        }
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        for (Map.Entry<String, String> source : generatedSources.entrySet()) {
+            CodegenUtils.writeFile(workDir.resolve(source.getKey()), source.getValue());
+        }
+    }
+
+    /**
+     * AsyncAPI model read for a single invocation.
+     */
+    @State(Scope.Thread)
+    public static class FreshDocument {
+        private AsyncApi25DocumentImpl document;
+
+        @Setup(Level.Invocation)
+        public void setup(ClientGenerationBenchmark benchmark) {
+            document = benchmark.readDocument();
+        }
+    }
+
+    /**
+     * Client generated for a single invocation, along with the types the types generation depends on.
+     */
+    @State(Scope.Thread)
+    public static class GeneratedClient {
+        private GenerationContext context;
+        private List<TypeDefinitionNode> typeDefNodes;
+
+        @Setup(Level.Invocation)
+        public void setup(ClientGenerationBenchmark benchmark) throws IOException, BallerinaAsyncApiExceptionWs {
+            IntermediateClientGenerator clientGenerator = createClientGenerator(benchmark.readDocument());
+            clientGenerator.generateSyntaxTree();
+            clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+            context = clientGenerator.getGenerationContext();
+            typeDefNodes = getPreGeneratedTypeDefNodes(clientGenerator);
+        }
+    }
+
+    private static IntermediateClientGenerator createClientGenerator(AsyncApi25DocumentImpl asyncApi) {
+        AasClientConfig clientConfig = new AasClientConfig.Builder().withAsyncApi(asyncApi).build();
+        return new IntermediateClientGenerator(clientConfig);
+    }
+
+    private static List<TypeDefinitionNode> getPreGeneratedTypeDefNodes(IntermediateClientGenerator clientGenerator) {
+        List<TypeDefinitionNode> typeDefNodes = new ArrayList<>(
+                clientGenerator.getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
+        typeDefNodes.addAll(clientGenerator.getTypeDefinitionNodeList());
+        return typeDefNodes;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.benchmarks;
+
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.model.AsyncApiResult;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.ServiceToAsyncApiConverterUtils;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each stage of the AsyncAPI definition generation from a Ballerina service.
+ * <p>
+ * The service is compiled once for the {@code generate} and {@code write} benchmarks, while the {@code compile}
+ * benchmark measures loading and compiling the service on its own. The definitions are serialized as they are
+ * written, hence {@code write} includes their serialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ContractGenerationBenchmark {
+    @Param({"reference_scenario", "graphql_over_websocket", "synthetic-10", "synthetic-100", "synthetic-1000"})
+    public String service;
+
+    private Path workDir;
+    private Path servicePath;
+    private SyntaxTree syntaxTree;
+    private SemanticModel semanticModel;
+    private Path inputPath;
+    private List<AsyncApiResult> asyncApiResults;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        workDir = Files.createTempDirectory("asyncapi-contract-benchmark");
+        servicePath = BenchmarkInputs.getService(service, workDir);
+        Project project = ProjectLoader.loadProject(servicePath);
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        DocumentId documentId = defaultModule.documentIds().iterator().next();
+        Document document = defaultModule.document(documentId);
+        syntaxTree = document.syntaxTree();
+        semanticModel = project.currentPackage().getCompilation().getSemanticModel(documentId.moduleId());
+        inputPath = project.documentPath(documentId).orElse(null);
+        asyncApiResults = generate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    @Benchmark
+    public PackageCompilation compile() {
+        return ProjectLoader.loadProject(servicePath).currentPackage().getCompilation();
+    }
+
+    @Benchmark
+    public List<AsyncApiResult> generate() {
+        return ServiceToAsyncApiConverterUtils.generateAsyncAPISpecDefinition(syntaxTree, semanticModel, null,
+                false, inputPath);
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        for (int i = 0; i < asyncApiResults.size(); i++) {
+            if (asyncApiResults.get(i).getAsyncAPI().isPresent()) {
+                asyncApiResults.get(i).write(workDir.resolve("service_" + i + "_asyncapi.yaml"), false);
+            }
+        }
+    }
+}
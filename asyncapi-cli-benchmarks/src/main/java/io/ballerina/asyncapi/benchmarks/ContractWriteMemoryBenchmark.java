@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.benchmarks;
+
+import com.sun.management.ThreadMXBean;
+import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25Document;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.model.AsyncApiResult;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.ServiceToAsyncApiConverterUtils;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time and the bytes allocated to write the AsyncAPI definition generated from a Ballerina service.
+ * <p>
+ * {@code materialized} serializes the definition into a string and writes the string through a {@code FileWriter},
+ * as the command did before, which encodes a copy of the whole string on top of it. {@code streamed} serializes the
+ * node tree of the definition straight to the file, as the command does. Both start from the same AsyncAPI model,
+ * generated once outside of the measurement, and both build its node tree.
+ * <p>
+ * Each benchmark reports the time per write, and the bytes allocated per write in {@code bytesPerWrite}, along with
+ * the size of the written file in {@code fileBytes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ContractWriteMemoryBenchmark {
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Param({"synthetic-100", "synthetic-1000"})
+    public String service;
+
+    @Param({"yaml", "json"})
+    public String format;
+
+    private Path workDir;
+    private Path definitionPath;
+    private AsyncApi25Document asyncApi;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        workDir = Files.createTempDirectory("asyncapi-contract-write-benchmark");
+        Path servicePath = BenchmarkInputs.getService(service, workDir);
+        Project project = ProjectLoader.loadProject(servicePath);
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        DocumentId documentId = defaultModule.documentIds().iterator().next();
+        SemanticModel semanticModel = project.currentPackage().getCompilation()
+                .getSemanticModel(documentId.moduleId());
+        List<AsyncApiResult> asyncApiResults = ServiceToAsyncApiConverterUtils.generateAsyncAPISpecDefinition(
+                defaultModule.document(documentId).syntaxTree(), semanticModel, null, false, servicePath);
+        asyncApi = asyncApiResults.get(0).getAsyncAPI().orElseThrow();
+        definitionPath = workDir.resolve("service_asyncapi." + format);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    @Benchmark
+    public void materialized(Allocation allocation) throws IOException {
+        long startBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        AsyncApiResult definition = new AsyncApiResult(asyncApi, null);
+        String content = "json".equals(format) ? definition.getJson().orElseThrow() :
+                definition.getYaml().orElseThrow();
+        try (FileWriter writer = new FileWriter(definitionPath.toString(), StandardCharsets.UTF_8)) {
+            writer.write(content);
+        }
+        allocation.bytesPerWrite = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startBytes;
+        allocation.fileBytes = Files.size(definitionPath);
+    }
+
+    @Benchmark
+    public void streamed(Allocation allocation) throws IOException {
+        long startBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        long fileBytes = new AsyncApiResult(asyncApi, null).write(definitionPath, "json".equals(format));
+        allocation.bytesPerWrite = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startBytes;
+        allocation.fileBytes = fileBytes;
+    }
+
+    /**
+     * Bytes allocated per write and size of the written file, by the last invocation of the iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Allocation {
+        public long bytesPerWrite;
+        public long fileBytes;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.benchmarks;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.deref.Dereferencer;
+import io.apicurio.datamodels.models.asyncapi.AsyncApiDocument;
+import io.apicurio.datamodels.models.asyncapi.AsyncApiSchema;
+import io.apicurio.datamodels.refs.ReferenceResolverChain;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.controller.DispatcherController;
+import io.ballerina.asyncapi.codegenerator.controller.ListenerController;
+import io.ballerina.asyncapi.codegenerator.controller.SchemaController;
+import io.ballerina.asyncapi.codegenerator.controller.ServiceTypesController;
+import io.ballerina.asyncapi.codegenerator.entity.MultiChannel;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import io.ballerina.asyncapi.codegenerator.usecase.ExtractChannelsFromSpec;
+import io.ballerina.asyncapi.codegenerator.usecase.ExtractIdentifierPathFromSpec;
+import io.ballerina.asyncapi.codegenerator.usecase.ExtractIdentifierTypeFromSpec;
+import io.ballerina.asyncapi.codegenerator.usecase.ExtractSchemasFromSpec;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocuments;
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each stage of the listener generation of the {@code asyncapi} command.
+ * <p>
+ * The controllers format the code they generate, hence the {@code generate*} benchmarks measure building the
+ * syntax tree together with the formatting. The {@code format} benchmark measures the formatting of the same
+ * sources on its own, so that the time taken to build the syntax trees is the difference of the two.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ListenerGenerationBenchmark {
+    @Param({"slack", "stripe", "box", "synthetic-10", "synthetic-100", "synthetic-1000", "synthetic-10000"})
+    public String spec;
+
+    private final FileRepository fileRepository = new FileRepositoryImpl();
+    private Path workDir;
+    private String specPath;
+    private ObjectNode specTree;
+    private AsyncApiDocument dereferencedSpec;
+    private List<ServiceType> serviceTypes;
+    private Map<String, AsyncApiSchema> schemas;
+    private String eventIdentifierType;
+    private String eventIdentifierPath;
+    private String dataTypesTemplate;
+    private String listenerTemplate;
+    private String dispatcherTemplate;
+    private final Map<String, String> generatedSources = new LinkedHashMap<>();
+    private final Map<String, SyntaxTree> generatedSyntaxTrees = new LinkedHashMap<>();
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, BallerinaAsyncApiException {
+        workDir = Files.createTempDirectory("asyncapi-listener-benchmark");
+        specPath = BenchmarkInputs.getListenerSpec(spec, workDir).toString();
+        specTree = fileRepository.getSpecTree(specPath);
+        dereferencedSpec = dereference(specTree);
+
+        MultiChannel multiChannel = new ExtractChannelsFromSpec(dereferencedSpec).extract();
+        serviceTypes = multiChannel.getServiceTypes();
+        schemas = new ExtractSchemasFromSpec(dereferencedSpec).extract();
+        schemas.putAll(multiChannel.getInlineSchemas());
+        eventIdentifierType = new ExtractIdentifierTypeFromSpec(dereferencedSpec).extract();
+        eventIdentifierPath = new ExtractIdentifierPathFromSpec(dereferencedSpec).extract();
+
+        dataTypesTemplate = fileRepository.getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
+        listenerTemplate = fileRepository.getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME);
+        dispatcherTemplate = fileRepository.getFileContentFromResources(
+                eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_BODY) ?
+                        Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY :
+                        Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER);
+
+        generatedSources.put(Constants.DATA_TYPES_BAL_FILE_NAME, generateDataTypes());
+        generatedSources.put(Constants.SERVICE_TYPES_BAL_FILE_NAME, generateServiceTypes());
+        generatedSources.put(Constants.LISTENER_BAL_FILE_NAME, generateListener());
+        generatedSources.put(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME, generateDispatcher());
+        for (Map.Entry<String, String> source : generatedSources.entrySet()) {
+            generatedSyntaxTrees.put(source.getKey(),
+                    SyntaxTree.from(TextDocuments.from(source.getValue()), source.getKey()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    @Benchmark
+    public ObjectNode parse() throws BallerinaAsyncApiException {
+        return fileRepository.getSpecTree(specPath);
+    }
+
+    /**
+     * Reads the parsed definition into the AsyncAPI model and resolves the references, the same way the spec
+     * controller does.
+     */
+    @Benchmark
+    public AsyncApiDocument dereference() {
+        return dereference(specTree);
+    }
+
+    @Benchmark
+    public void extract(Blackhole blackhole) throws BallerinaAsyncApiException {
+        blackhole.consume(new ExtractChannelsFromSpec(dereferencedSpec).extract());
+        blackhole.consume(new ExtractSchemasFromSpec(dereferencedSpec).extract());
+        blackhole.consume(new ExtractIdentifierTypeFromSpec(dereferencedSpec).extract());
+        blackhole.consume(new ExtractIdentifierPathFromSpec(dereferencedSpec).extract());
+    }
+
+    @Benchmark
+    public String generateDataTypes() throws BallerinaAsyncApiException {
+        return new SchemaController(schemas).generateBalCode(dataTypesTemplate);
+    }
+
+    @Benchmark
+    public String generateServiceTypes() throws BallerinaAsyncApiException {
+        return new ServiceTypesController(serviceTypes).generateBalCode(Constants.EMPTY_BALLERINA_FILE_CONTENT);
+    }
+
+    @Benchmark
+    public String generateListener() throws BallerinaAsyncApiException {
+        return new ListenerController(serviceTypes).generateBalCode(listenerTemplate);
+    }
+
+    @Benchmark
+    public String generateDispatcher() throws BallerinaAsyncApiException {
+        return new DispatcherController(serviceTypes, eventIdentifierType, eventIdentifierPath)
+                .generateBalCode(dispatcherTemplate);
+    }
+
+    @Benchmark
+    public void format(Blackhole blackhole) throws FormatterException {
+        for (SyntaxTree syntaxTree : generatedSyntaxTrees.values()) {
+            blackhole.consume(Formatter.format(syntaxTree));
+        }
+    }
+
+    @Benchmark
+    public void write() throws BallerinaAsyncApiException {
+        for (Map.Entry<String, String> source : generatedSources.entrySet()) {
+            fileRepository.writeToFile(workDir.resolve(source.getKey()).toString(), source.getValue());
+        }
+    }
+
+    private static AsyncApiDocument dereference(ObjectNode specTree) {
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(specTree);
+        Dereferencer dereferencer = new Dereferencer(ReferenceResolverChain.getInstance(), false);
+        return (AsyncApiDocument) dereferencer.dereference(asyncApiSpec);
+    }
+}
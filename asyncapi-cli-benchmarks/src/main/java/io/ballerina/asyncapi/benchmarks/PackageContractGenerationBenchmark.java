@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.benchmarks;
+
+import io.ballerina.asyncapi.cmd.websockets.BallerinaToAsyncApiGenerator;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.AsyncApiConverterDiagnostic;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the AsyncAPI definition generation of the services of a Ballerina package file by file with the
+ * generation of the whole package at once.
+ * <p>
+ * The package has one synthetic service of 10 remote functions in its default module and one in each of its other
+ * modules. {@code perFile} generates the definitions of each file in turn, which loads and compiles the whole package
+ * for every file, as generating a package file by file did. {@code perPackage} compiles the package once, and
+ * generates the definitions of all of its files from the semantic models of their modules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PackageContractGenerationBenchmark {
+    private static final int SERVICE_SIZE = 10;
+
+    @Param({"1", "10", "40"})
+    public int services;
+
+    private Path workDir;
+    private Path outDir;
+    private List<Path> servicePaths;
+    private final PrintStream outStream = new PrintStream(OutputStream.nullOutputStream());
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        workDir = Files.createTempDirectory("asyncapi-package-benchmark");
+        outDir = workDir.resolve("out");
+        servicePaths = BenchmarkInputs.writeServicePackage(services, SERVICE_SIZE, workDir);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    @Benchmark
+    public List<AsyncApiConverterDiagnostic> perFile() {
+        List<AsyncApiConverterDiagnostic> diagnostics = new ArrayList<>();
+        for (Path servicePath : servicePaths) {
+            diagnostics.addAll(BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllService(servicePath, outDir,
+                    null, false, outStream));
+        }
+        return diagnostics;
+    }
+
+    @Benchmark
+    public List<AsyncApiConverterDiagnostic> perPackage() {
+        return BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllModules(servicePaths.get(0).getParent(),
+                outDir, null, false, outStream, GenerationProfiler.DISABLED);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.benchmarks;
+
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.model.AsyncApiResult;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.ServiceToAsyncApiConverterUtils;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the AsyncAPI definition generation of a module of 100 synthetic services of 10 remote functions each, with
+ * the services mapped one by one and their definitions validated one by one and on 2, 4 and 8 workers.
+ * <p>
+ * The module is compiled once outside of the measurement, hence the benchmark covers the part of the generation
+ * which runs per service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParallelContractGenerationBenchmark {
+    private static final int SERVICES = 100;
+    private static final int SERVICE_SIZE = 10;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private Path workDir;
+    private SyntaxTree syntaxTree;
+    private SemanticModel semanticModel;
+    private Path inputPath;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        workDir = Files.createTempDirectory("asyncapi-parallel-contract-benchmark");
+        Path servicePath = workDir.resolve("services.bal");
+        Files.writeString(servicePath, SyntheticSpecGenerator.generateServices(SERVICES, SERVICE_SIZE),
+                StandardCharsets.UTF_8);
+        Project project = ProjectLoader.loadProject(servicePath);
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        DocumentId documentId = defaultModule.documentIds().iterator().next();
+        syntaxTree = defaultModule.document(documentId).syntaxTree();
+        semanticModel = project.currentPackage().getCompilation().getSemanticModel(documentId.moduleId());
+        inputPath = project.documentPath(documentId).orElse(null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    @Benchmark
+    public List<AsyncApiResult> generate() {
+        return ServiceToAsyncApiConverterUtils.generateAsyncAPISpecDefinition(syntaxTree, semanticModel, null,
+                false, inputPath, threads);
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.asyncapi.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.asyncapi.cmd.websockets.AsyncApiToBallerinaGenerator;
+import io.ballerina.asyncapi.codegenerator.application.CodeGenerator;
+import io.ballerina.asyncapi.codegenerator.configuration.DispatchMode;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import io.ballerina.asyncapi.options.GenerationOptions;
+import org.apache.commons.io.FileUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs the benchmarks of the generated code at runtime.
+ * <p>
+ * Each variant of a benchmark generates a listener or a client into a Ballerina package of its own, adds the
+ * benchmark program of {@code src/main/ballerina/<benchmark>} along with the shared sources of
+ * {@code src/main/ballerina/common}, and runs the package with the {@code bal} command of the Ballerina distribution
+ * at {@code ballerina.home}. A program measures the generated code against a local service of its own and prints a
+ * line prefixed with {@code RESULT} for each measurement, as a JSON object. The measurements of all the variants are
+ * written to the results file given as the first argument.
+ * <p>
+ * The benchmarks to run can be selected by passing their names after the results file, all of them are run otherwise.
+ */
+public class RuntimeBenchmarks {
+    /**
+     * System property which points to the directory of the benchmark programs.
+     */
+    public static final String PROGRAMS_PROPERTY = "asyncapi.benchmarks.programs";
+    /**
+     * System property which points to the jar of {@link RuntimeMetrics}, which the programs call through Java interop.
+     */
+    public static final String METRICS_JAR_PROPERTY = "asyncapi.benchmarks.metricsJar";
+    private static final String BALLERINA_HOME_PROPERTY = "ballerina.home";
+    private static final String COMMON_PROGRAM = "common";
+    private static final String RESULT_PREFIX = "RESULT ";
+    private static final String BAL_EXTENSION = ".bal";
+    private static final long RUN_TIMEOUT_MINUTES = 30;
+    private static final int INBOUND_RESPONSE_TYPES = 32;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final PrintStream OUT = System.out;
+
+    private RuntimeBenchmarks() {
+    }
+
+    /**
+     * Generation of the code a variant measures, into the given Ballerina package.
+     */
+    @FunctionalInterface
+    interface Generation {
+        void generate(Path packagePath) throws Exception;
+    }
+
+    /**
+     * Variant of a benchmark, which runs the program of the benchmark with the given arguments against the code
+     * generated for the variant.
+     */
+    static class Variant {
+        private final String benchmark;
+        private final String name;
+        private final Generation generation;
+        private final List<String> args;
+
+        Variant(String benchmark, String name, Generation generation, String... args) {
+            this.benchmark = benchmark;
+            this.name = name;
+            this.generation = generation;
+            this.args = Arrays.asList(args);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: RuntimeBenchmarks <results file> [<benchmark>...]");
+        }
+        Path resultsPath = Paths.get(args[0]);
+        List<String> includes = Arrays.asList(args).subList(1, args.length);
+        Path balCommand = Paths.get(System.getProperty(BALLERINA_HOME_PROPERTY, ""), "bin", "bal");
+        if (!Files.isExecutable(balCommand)) {
+            throw new IllegalStateException("No bal command found in the Ballerina distribution at " +
+                    BALLERINA_HOME_PROPERTY);
+        }
+        Path workDir = Files.createTempDirectory("asyncapi-runtime-benchmarks");
+        ArrayNode results = MAPPER.createArrayNode();
+        int failures = 0;
+        try {
+            for (Variant variant : getVariants(workDir)) {
+                if (!includes.isEmpty() && !includes.contains(variant.benchmark)) {
+                    continue;
+                }
+                OUT.println("# Runtime benchmark: " + variant.benchmark + ", variant: " + variant.name);
+                Path packagePath = workDir.resolve(variant.benchmark + "-" + variant.name);
+                if (!run(variant, packagePath, balCommand, results)) {
+                    failures++;
+                }
+            }
+        } finally {
+            FileUtils.deleteDirectory(workDir.toFile());
+        }
+        Files.createDirectories(resultsPath.toAbsolutePath().getParent());
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(resultsPath.toFile(), results);
+        if (failures > 0) {
+            throw new IllegalStateException(failures + " runtime benchmark variant(s) failed");
+        }
+    }
+
+    /**
+     * Lists the variants of all the benchmarks.
+     */
+    private static List<Variant> getVariants(Path workDir) throws IOException {
+        List<Variant> variants = new ArrayList<>();
+        for (int events : new int[]{10, 100, 1000}) {
+            Path spec = BenchmarkInputs.getListenerSpec("synthetic-" + events, workDir);
+            for (DispatchMode mode : DispatchMode.values()) {
+                String modeName = mode.name().toLowerCase(Locale.ENGLISH);
+                variants.add(new Variant("dispatch", modeName + "-" + events,
+                        packagePath -> generateListener(spec, packagePath,
+                                new GenerationOptions.Builder().withDispatchMode(mode)),
+                        modeName, String.valueOf(events)));
+            }
+        }
+        Path oneResponse = BenchmarkInputs.getClientSpec("one_response", workDir);
+        for (int clients : new int[]{1000, 10000}) {
+            variants.add(new Variant("idle_clients", String.valueOf(clients),
+                    packagePath -> generateClient(oneResponse, packagePath, new GenerationOptions.Builder()),
+                    String.valueOf(clients)));
+        }
+        for (int poolSize : new int[]{1, 2, 4, 8}) {
+            for (String routing : new String[]{"ROUND_ROBIN", "LEAST_IN_FLIGHT"}) {
+                variants.add(new Variant("connection_pool", routing.toLowerCase(Locale.ENGLISH) + "-" + poolSize,
+                        packagePath -> generateClient(oneResponse, packagePath,
+                                new GenerationOptions.Builder().withConnectionPool(true)),
+                        String.valueOf(poolSize), routing));
+            }
+        }
+        Path multipleStream = BenchmarkInputs.getClientSpec("multiple_stream", workDir);
+        for (int streams : new int[]{1, 100}) {
+            for (String downtime : new String[]{"0", "0.5"}) {
+                variants.add(new Variant("reconnect", streams + "-" + downtime,
+                        packagePath -> generateClient(multipleStream, packagePath,
+                                new GenerationOptions.Builder().withReconnect(true)),
+                        String.valueOf(streams), downtime));
+            }
+        }
+        for (String policy : new String[]{"BLOCK", "DROP_OLDEST", "DROP_NEWEST", "FAIL_FAST"}) {
+            variants.add(new Variant("overflow", policy.toLowerCase(Locale.ENGLISH),
+                    packagePath -> generateClient(multipleStream, packagePath, new GenerationOptions.Builder()),
+                    policy));
+        }
+        for (int maxInFlightRequests : new int[]{1, 8, 64}) {
+            variants.add(new Variant("pipelining", String.valueOf(maxInFlightRequests),
+                    packagePath -> generateClient(oneResponse, packagePath,
+                            new GenerationOptions.Builder().withPipelining(true)),
+                    String.valueOf(maxInFlightRequests)));
+        }
+        for (String registry : new String[]{"striped", "single_lock"}) {
+            variants.add(new Variant("pipes_map", registry,
+                    packagePath -> generateClient(oneResponse, packagePath, new GenerationOptions.Builder()),
+                    registry));
+        }
+        for (int levels : new int[]{10, 1000}) {
+            variants.add(new Variant("send_allocation", String.valueOf(levels),
+                    packagePath -> generateClient(oneResponse, packagePath, new GenerationOptions.Builder()),
+                    String.valueOf(levels)));
+        }
+        Path syntheticClient = BenchmarkInputs.getClientSpec("synthetic-" + INBOUND_RESPONSE_TYPES, workDir);
+        for (int entries : new int[]{10, 1000}) {
+            variants.add(new Variant("inbound_binding", String.valueOf(entries),
+                    packagePath -> {
+                        generateClient(syntheticClient, packagePath, new GenerationOptions.Builder());
+                        Files.writeString(packagePath.resolve("client_calls.bal"),
+                                SyntheticSpecGenerator.generateClientCalls(INBOUND_RESPONSE_TYPES),
+                                StandardCharsets.UTF_8);
+                    },
+                    String.valueOf(entries)));
+        }
+        for (boolean writeBatching : new boolean[]{false, true}) {
+            variants.add(new Variant("write_batching", writeBatching ? "on" : "off",
+                    packagePath -> generateClient(oneResponse, packagePath,
+                            new GenerationOptions.Builder().withWriteBatching(writeBatching)),
+                    String.valueOf(writeBatching)));
+        }
+        return variants;
+    }
+
+    private static void generateListener(Path spec, Path packagePath, GenerationOptions.Builder options)
+            throws Exception {
+        new CodeGenerator(new FileRepositoryImpl(), options.withThreads(1).build())
+                .generate(spec.toString(), packagePath.toString());
+    }
+
+    private static void generateClient(Path spec, Path packagePath, GenerationOptions.Builder options)
+            throws Exception {
+        new AsyncApiToBallerinaGenerator(options.withThreads(1).build()).generateClient(spec, packagePath);
+    }
+
+    /**
+     * Generates the code of the variant into a new package along with the benchmark program, runs the package and
+     * adds the results it printed.
+     *
+     * @return true if the program completed successfully
+     */
+    private static boolean run(Variant variant, Path packagePath, Path balCommand, ArrayNode results)
+            throws Exception {
+        Files.createDirectories(packagePath);
+        writeBallerinaToml(variant, packagePath);
+        variant.generation.generate(packagePath);
+        Path programsDir = Paths.get(System.getProperty(PROGRAMS_PROPERTY, "src/main/ballerina"));
+        copyPrograms(programsDir.resolve(COMMON_PROGRAM), packagePath);
+        copyPrograms(programsDir.resolve(variant.benchmark), packagePath);
+
+        List<String> command = new ArrayList<>(List.of(balCommand.toString(), "run", "--"));
+        command.addAll(variant.args);
+        Process process = new ProcessBuilder(command)
+                .directory(packagePath.toFile())
+                .redirectErrorStream(true)
+                .start();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                OUT.println(line);
+                if (line.startsWith(RESULT_PREFIX)) {
+                    ObjectNode result = MAPPER.createObjectNode();
+                    result.put("benchmark", variant.benchmark);
+                    result.put("variant", variant.name);
+                    result.setAll((ObjectNode) MAPPER.readTree(line.substring(RESULT_PREFIX.length())));
+                    results.add(result);
+                }
+            }
+        }
+        if (!process.waitFor(RUN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            OUT.println("# The variant did not complete in " + RUN_TIMEOUT_MINUTES + " minutes");
+            return false;
+        }
+        return process.exitValue() == 0;
+    }
+
+    private static void writeBallerinaToml(Variant variant, Path packagePath) throws IOException {
+        String metricsJar = System.getProperty(METRICS_JAR_PROPERTY);
+        if (metricsJar == null) {
+            throw new IllegalStateException("Set the system property " + METRICS_JAR_PROPERTY +
+                    " to the jar of the benchmarks");
+        }
+        String packageName = (variant.benchmark + "_" + variant.name).replaceAll("[^A-Za-z0-9_]", "_");
+        Files.writeString(packagePath.resolve("Ballerina.toml"), "[package]\n" +
+                "org = \"asyncapi_benchmarks\"\n" +
+                "name = \"" + packageName + "\"\n" +
+                "version = \"0.1.0\"\n\n" +
+                "[[platform.java17.dependency]]\n" +
+                "path = \"" + Paths.get(metricsJar).toAbsolutePath().toString().replace("\\", "/") + "\"\n",
+                StandardCharsets.UTF_8);
+    }
+
+    private static void copyPrograms(Path programDir, Path packagePath) throws IOException {
+        List<Path> programs;
+        try (Stream<Path> files = Files.list(programDir)) {
+            programs = files.filter(path -> path.toString().endsWith(BAL_EXTENSION)).collect(Collectors.toList());
+        }
+        for (Path program : programs) {
+            Files.copy(program, packagePath.resolve(program.getFileName()));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.asyncapi.benchmarks;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measurements of the JVM a benchmark program of {@link RuntimeBenchmarks} runs on, which the programs call through
+ * Java interop, as the Ballerina library does not provide them.
+ */
+public class RuntimeMetrics {
+
+    private RuntimeMetrics() {
+    }
+
+    /**
+     * Returns the bytes allocated so far by the live threads of the JVM. The strands of a program run on a pool of
+     * threads which lives as long as the program, hence the difference of two calls is the bytes the program
+     * allocated in between.
+     *
+     * @return Allocated bytes
+     */
+    public static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBytes = 0;
+        for (long threadAllocatedBytes : threadBean.getThreadAllocatedBytes(threadBean.getAllThreadIds())) {
+            if (threadAllocatedBytes > 0) {
+                allocatedBytes += threadAllocatedBytes;
+            }
+        }
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns the CPU time the JVM took so far, over all of its threads.
+     *
+     * @return CPU time in nanoseconds
+     */
+    public static long processCpuTime() {
+        com.sun.management.OperatingSystemMXBean operatingSystemBean =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        return operatingSystemBean.getProcessCpuTime();
+    }
+}
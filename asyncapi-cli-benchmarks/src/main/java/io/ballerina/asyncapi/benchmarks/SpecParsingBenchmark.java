@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.benchmarks;
+
+import com.sun.management.ThreadMXBean;
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.models.Document;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a definition into the AsyncAPI model through a JSON string, which the listener generation used
+ * to do, with reading it in a single pass into a tree.
+ * <p>
+ * Each benchmark reports the time per parse, and the bytes allocated per parse in {@code bytesPerParse}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SpecParsingBenchmark {
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Param({"slack", "stripe", "box", "synthetic-100", "synthetic-10000"})
+    public String spec;
+
+    private final FileRepository fileRepository = new FileRepositoryImpl();
+    private Path workDir;
+    private String specPath;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        workDir = Files.createTempDirectory("asyncapi-spec-parsing-benchmark");
+        specPath = BenchmarkInputs.getListenerSpec(spec, workDir).toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    /**
+     * Reads the definition as a string, converts a YAML definition to a JSON string or validates a JSON definition,
+     * and parses the JSON string again into the model.
+     */
+    @Benchmark
+    public Document parseAsJsonString(Allocation allocation) throws BallerinaAsyncApiException {
+        long startBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        String content = fileRepository.getFileContent(specPath);
+        String json;
+        if (specPath.endsWith(".json")) {
+            fileRepository.validateJson(content);
+            json = content;
+        } else {
+            json = fileRepository.convertYamlToJson(content);
+        }
+        Document document = Library.readDocumentFromJSONString(json);
+        allocation.bytesPerParse = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startBytes;
+        return document;
+    }
+
+    @Benchmark
+    public Document parseAsSpecTree(Allocation allocation) throws BallerinaAsyncApiException {
+        long startBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        Document document = Library.readDocument(fileRepository.getSpecTree(specPath));
+        allocation.bytesPerParse = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startBytes;
+        return document;
+    }
+
+    /**
+     * Bytes allocated per parse, by the last invocation of the iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Allocation {
+        public long bytesPerParse;
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Generates AsyncAPI definitions and Ballerina services of a given size, so that the generators can be measured
+ * against inputs much larger than the bundled ones.
+ * <p>
+ * The content only depends on the size, hence the same size always gives the same input.
+ */
+public class SyntheticSpecGenerator {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+    private static final String MESSAGE_REF_PREFIX = "#/components/messages/";
+    private static final String DISPATCHER_KEY = "event";
+    private static final String DISPATCHER_STREAM_ID = "id";
+
+    private SyntheticSpecGenerator() {
+    }
+
+    /**
+     * Generates a definition for the listener generation, with the given number of channels. Each channel has
+     * its own event, and the payload schema of each event refers to the schema of the previous one, so that the
+     * number of schemas grows with the number of channels.
+     *
+     * @param size Number of channels and schemas
+     * @return Definition as a JSON tree
+     */
+    public static ObjectNode generateListenerSpec(int size) {
+        ObjectNode schemas = MAPPER.createObjectNode();
+        for (int i = 0; i < size; i++) {
+            ObjectNode schema = createEventSchema(i);
+            if (i > 0) {
+                ((ObjectNode) schema.get("properties")).putObject("previous")
+                        .put("$ref", SCHEMA_REF_PREFIX + getEventSchemaName(i - 1));
+            }
+            schemas.set(getEventSchemaName(i), schema);
+        }
+        ObjectNode channels = MAPPER.createObjectNode();
+        for (int i = 0; i < size; i++) {
+            ObjectNode channel = channels.putObject("benchmark/events/" + i);
+            channel.put("x-ballerina-service-type", "Event" + i + "HandlingService");
+            ObjectNode message = channel.putObject("subscribe").putObject("message");
+            message.put("x-ballerina-event-type", "event_" + i);
+            message.putObject("payload").put("$ref", SCHEMA_REF_PREFIX + getEventSchemaName(i));
+        }
+        return createListenerSpec("Synthetic listener with " + size + " channels", schemas, channels);
+    }
+
+    /**
+     * Wraps the schemas of an existing definition, e.g. an OpenAPI definition of a connector, into a definition
+     * for the listener generation which has a single channel.
+     *
+     * @param schemas Schemas to wrap
+     * @return Definition as a JSON tree
+     */
+    public static ObjectNode wrapListenerSchemas(ObjectNode schemas) {
+        ObjectNode allSchemas = schemas.deepCopy();
+        allSchemas.set(getEventSchemaName(0), createEventSchema(0));
+        ObjectNode channels = MAPPER.createObjectNode();
+        ObjectNode channel = channels.putObject("benchmark/events");
+        channel.put("x-ballerina-service-type", "BenchmarkHandlingService");
+        ObjectNode message = channel.putObject("subscribe").putObject("message");
+        message.put("x-ballerina-event-type", "event_0");
+        message.putObject("payload").put("$ref", SCHEMA_REF_PREFIX + getEventSchemaName(0));
+        return createListenerSpec("Wrapped schemas", allSchemas, channels);
+    }
+
+    /**
+     * Generates a definition for the WebSocket client generation, with the given number of request and response
+     * message pairs on a single channel.
+     *
+     * @param size Number of message pairs, and hence the number of request and response schemas each
+     * @return Definition as a JSON tree
+     */
+    public static ObjectNode generateClientSpec(int size) {
+        ObjectNode schemas = MAPPER.createObjectNode();
+        for (int i = 0; i < size; i++) {
+            schemas.set(getRequestName(i), createMessageSchema(getRequestName(i)));
+            ObjectNode response = createMessageSchema(getResponseName(i));
+            if (i > 0) {
+                ((ObjectNode) response.get("properties")).putObject("previous")
+                        .put("$ref", SCHEMA_REF_PREFIX + getResponseName(i - 1));
+            }
+            schemas.set(getResponseName(i), response);
+        }
+        return createClientSpec(getClientTitle(size), schemas, size);
+    }
+
+    /**
+     * Generates Ballerina functions which call the client generated for {@link #generateClientSpec(int)} of the
+     * same size, so that a benchmark program can go through all of its remote functions and response types by the
+     * index of the message pair. {@code openClient} opens the client, which is referred to as
+     * {@code SyntheticClient}, {@code sendRequest} sends the request of an index and returns its response, and
+     * {@code RESPONSE_TYPES} holds the response types by their indices.
+     *
+     * @param size Number of message pairs of the client
+     * @return Source of the functions
+     */
+    public static String generateClientCalls(int size) {
+        String clientName = getClientTitle(size).replaceAll("\\s", "") + "Client";
+        StringBuilder source = new StringBuilder();
+        source.append("# Client generated for the synthetic definition\n")
+                .append("public type SyntheticClient ").append(clientName).append(";\n\n")
+                .append("# Response types of the client, by the indices of their requests\n")
+                .append("final readonly & typedesc<anydata>[] RESPONSE_TYPES = [");
+        for (int i = 0; i < size; i++) {
+            source.append(i == 0 ? "" : ", ").append(getResponseName(i));
+        }
+        source.append("];\n\n")
+                .append("# Opens the client generated for the synthetic definition.\n")
+                .append("#\n")
+                .append("# + serviceUrl - URL of the service\n")
+                .append("# + return - The client, or an error if it could not connect to the service\n")
+                .append("isolated function openClient(string serviceUrl) returns SyntheticClient|error {\n")
+                .append("    return new ").append(clientName).append("(serviceUrl = serviceUrl);\n")
+                .append("}\n\n")
+                .append("# Sends the request of the given index over the client and waits for its response.\n")
+                .append("#\n")
+                .append("# + syntheticClient - Client to send the request over\n")
+                .append("# + index - Index of the request\n")
+                .append("# + id - Stream id of the request\n")
+                .append("# + timeout - Time in seconds to wait for the response\n")
+                .append("# + return - Response, or an error if the request was not answered\n")
+                .append("isolated function sendRequest(SyntheticClient syntheticClient, int index, string id, ")
+                .append("decimal timeout) returns anydata|error {\n")
+                .append("    match index {\n");
+        for (int i = 0; i < size; i++) {
+            source.append("        ").append(i).append(" => {\n")
+                    .append("            return syntheticClient->do").append(getRequestName(i)).append("({")
+                    .append(DISPATCHER_KEY).append(": \"").append(getRequestName(i)).append("\", ")
+                    .append(DISPATCHER_STREAM_ID).append(": id}, timeout);\n")
+                    .append("        }\n");
+        }
+        source.append("    }\n")
+                .append("    return error(string `No request of the index ${index}`);\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Wraps the schemas of an existing definition, e.g. an OpenAPI definition of a connector, into a definition
+     * for the WebSocket client generation which has a single request and response pair.
+     *
+     * @param schemas Schemas to wrap
+     * @return Definition as a JSON tree
+     */
+    public static ObjectNode wrapClientSchemas(ObjectNode schemas) {
+        ObjectNode allSchemas = schemas.deepCopy();
+        allSchemas.set(getRequestName(0), createMessageSchema(getRequestName(0)));
+        allSchemas.set(getResponseName(0), createMessageSchema(getResponseName(0)));
+        return createClientSpec("Wrapped schemas", allSchemas, 1);
+    }
+
+    /**
+     * Generates a Ballerina WebSocket service with the given number of remote functions, each of which has its own
+     * request and response records.
+     *
+     * @param size Number of remote functions
+     * @return Source of the service
+     */
+    public static String generateService(int size) {
+        return generateServices(1, size);
+    }
+
+    /**
+     * Generates a Ballerina module with the given number of WebSocket services, each of which has the given number
+     * of remote functions. The services share the request and response records.
+     *
+     * @param services Number of services
+     * @param size     Number of remote functions of each service
+     * @return Source of the services
+     */
+    public static String generateServices(int services, int size) {
+        StringBuilder source = new StringBuilder();
+        source.append("import ballerina/websocket;\n");
+        for (int service = 0; service < services; service++) {
+            String suffix = service == 0 ? "" : String.valueOf(service);
+            source.append('\n')
+                    .append("@websocket:ServiceConfig {dispatcherKey: \"").append(DISPATCHER_KEY).append("\"}\n")
+                    .append("service /benchmark").append(suffix).append(" on new websocket:Listener(9090) {\n")
+                    .append("    resource function get .() returns websocket:Service|websocket:UpgradeError {\n")
+                    .append("        return new BenchmarkService").append(suffix).append("();\n")
+                    .append("    }\n")
+                    .append("}\n\n")
+                    .append("service class BenchmarkService").append(suffix).append(" {\n")
+                    .append("    *websocket:Service;\n");
+            for (int i = 0; i < size; i++) {
+                source.append('\n')
+                        .append("    remote function on").append(getRequestName(i)).append('(')
+                        .append(getRequestName(i)).append(" message) returns ").append(getResponseName(i))
+                        .append(" {\n")
+                        .append("        return {").append(DISPATCHER_KEY).append(": \"")
+                        .append(getResponseName(i)).append("\", id: message.id, count: 0};\n")
+                        .append("    }\n");
+            }
+            source.append("}\n");
+        }
+        for (int i = 0; i < size; i++) {
+            appendRecord(source, getRequestName(i));
+            appendRecord(source, getResponseName(i));
+        }
+        return source.toString();
+    }
+
+    /**
+     * Generates a Ballerina WebSocket service whose message types share a graph of nested records. The records are
+     * spread evenly over the given number of levels, and each record refers to 3 records of the next level, so that
+     * the records of a level are reached from several records of the level above. The remote functions take and
+     * return the records of the first level.
+     *
+     * @param levels  Number of levels of the graph
+     * @param records Number of records of the graph
+     * @return Source of the service
+     */
+    public static String generateTypeGraphService(int levels, int records) {
+        int recordsPerLevel = records / levels;
+        StringBuilder source = new StringBuilder();
+        source.append("import ballerina/websocket;\n\n")
+                .append("@websocket:ServiceConfig {dispatcherKey: \"").append(DISPATCHER_KEY).append("\"}\n")
+                .append("service /benchmark on new websocket:Listener(9090) {\n")
+                .append("    resource function get .() returns websocket:Service|websocket:UpgradeError {\n")
+                .append("        return new BenchmarkService();\n")
+                .append("    }\n")
+                .append("}\n\n")
+                .append("service class BenchmarkService {\n")
+                .append("    *websocket:Service;\n");
+        for (int i = 0; i < recordsPerLevel; i++) {
+            String name = getNodeName(0, i);
+            source.append('\n')
+                    .append("    remote function on").append(name).append('(').append(name)
+                    .append(" message) returns ").append(name).append(" {\n")
+                    .append("        return message;\n")
+                    .append("    }\n");
+        }
+        source.append("}\n");
+        for (int level = 0; level < levels; level++) {
+            for (int i = 0; i < recordsPerLevel; i++) {
+                source.append('\n')
+                        .append("# Record ").append(i).append(" of level ").append(level).append('\n')
+                        .append("#\n")
+                        .append("# + id - Identifier of the record\n")
+                        .append("public type ").append(getNodeName(level, i)).append(" record {\n")
+                        .append("    int id;\n");
+                if (level == 0) {
+                    source.append("    string ").append(DISPATCHER_KEY).append(";\n");
+                }
+                if (level == levels - 1) {
+                    source.append("    decimal value;\n");
+                } else {
+                    for (int child = 0; child < 3; child++) {
+                        source.append("    ").append(getNodeName(level + 1, (i + child * 7) % recordsPerLevel))
+                                .append(" child").append(child).append(";\n");
+                    }
+                }
+                source.append("};\n");
+            }
+        }
+        return source.toString();
+    }
+
+    /**
+     * Returns the schemas of an OpenAPI or AsyncAPI definition, or an empty object if it does not have any.
+     *
+     * @param definition Definition as a JSON tree
+     * @return Schemas keyed by the schema name
+     */
+    public static ObjectNode getSchemas(ObjectNode definition) {
+        ObjectNode schemas = MAPPER.createObjectNode();
+        if (definition.path("components").path("schemas").isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = definition.path("components").path("schemas").fields();
+            fields.forEachRemaining(field -> schemas.set(field.getKey(), field.getValue()));
+        }
+        return schemas;
+    }
+
+    private static ObjectNode createListenerSpec(String title, ObjectNode schemas, ObjectNode channels) {
+        ObjectNode spec = MAPPER.createObjectNode();
+        spec.put("asyncapi", "2.1.0");
+        spec.putObject("x-ballerina-event-identifier")
+                .put("type", "body")
+                .put("path", "type");
+        spec.putObject("info")
+                .put("title", title)
+                .put("version", "1.0.0");
+        spec.putObject("components").set("schemas", schemas);
+        spec.set("channels", channels);
+        return spec;
+    }
+
+    private static ObjectNode createClientSpec(String title, ObjectNode schemas, int messageCount) {
+        ObjectNode spec = MAPPER.createObjectNode();
+        spec.put("asyncapi", "2.5.0");
+        spec.putObject("info")
+                .put("title", title)
+                .put("version", "1.0.0");
+        spec.putObject("servers").putObject("public")
+                .put("url", "ws.example.com")
+                .put("protocol", "wss");
+        ObjectNode channel = spec.putObject("channels").putObject("/");
+        ArrayNode publishMessages = channel.putObject("publish").putObject("message").putArray("oneOf");
+        ArrayNode subscribeMessages = channel.putObject("subscribe").putObject("message").putArray("oneOf");
+        ObjectNode components = spec.putObject("components");
+        ObjectNode messages = components.putObject("messages");
+        for (int i = 0; i < messageCount; i++) {
+            publishMessages.addObject().put("$ref", MESSAGE_REF_PREFIX + getRequestName(i));
+            subscribeMessages.addObject().put("$ref", MESSAGE_REF_PREFIX + getResponseName(i));
+            ObjectNode request = messages.putObject(getRequestName(i));
+            request.putObject("payload").put("$ref", SCHEMA_REF_PREFIX + getRequestName(i));
+            request.putObject("x-response").put("$ref", MESSAGE_REF_PREFIX + getResponseName(i));
+            request.put("x-response-type", "simple-rpc");
+            messages.putObject(getResponseName(i)).putObject("payload")
+                    .put("$ref", SCHEMA_REF_PREFIX + getResponseName(i));
+        }
+        components.set("schemas", schemas);
+        spec.put("x-dispatcherKey", DISPATCHER_KEY);
+        spec.put("x-dispatcherStreamId", DISPATCHER_STREAM_ID);
+        return spec;
+    }
+
+    private static ObjectNode createEventSchema(int index) {
+        ObjectNode schema = MAPPER.createObjectNode();
+        schema.put("type", "object");
+        schema.put("description", "Event " + index + " of the synthetic definition");
+        ObjectNode properties = schema.putObject("properties");
+        properties.putObject("type").put("type", "string");
+        properties.putObject("id").put("type", "string");
+        properties.putObject("count").put("type", "integer");
+        properties.putObject("tags").put("type", "array").putObject("items").put("type", "string");
+        schema.putArray("required").add("type").add("id");
+        return schema;
+    }
+
+    private static ObjectNode createMessageSchema(String name) {
+        ObjectNode schema = MAPPER.createObjectNode();
+        schema.put("type", "object");
+        ObjectNode properties = schema.putObject("properties");
+        properties.putObject(DISPATCHER_KEY).put("type", "string").put("const", name);
+        properties.putObject(DISPATCHER_STREAM_ID).put("type", "string");
+        properties.putObject("count").put("type", "integer");
+        schema.putArray("required").add(DISPATCHER_KEY).add(DISPATCHER_STREAM_ID);
+        return schema;
+    }
+
+    private static void appendRecord(StringBuilder source, String name) {
+        source.append('\n')
+                .append("public type ").append(name).append(" record {\n")
+                .append("    string ").append(DISPATCHER_KEY).append(";\n")
+                .append("    string ").append(DISPATCHER_STREAM_ID).append(";\n")
+                .append("    int count;\n")
+                .append("};\n");
+    }
+
+    private static String getClientTitle(int size) {
+        return "Synthetic client with " + size + " messages";
+    }
+
+    private static String getNodeName(int level, int index) {
+        return "Node" + level + "_" + index;
+    }
+
+    private static String getEventSchemaName(int index) {
+        return "Event" + index;
+    }
+
+    private static String getRequestName(int index) {
+        return "Request" + index;
+    }
+
+    private static String getResponseName(int index) {
+        return "Response" + index;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.benchmarks;
+
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.model.AsyncApiResult;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.ServiceToAsyncApiConverterUtils;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the AsyncAPI definition generation of a service whose 50 message types share a graph of 500 nested
+ * records over 10 levels, where each record refers to 3 records of the next level.
+ * <p>
+ * The service is compiled once outside of the measurement, hence the benchmark covers the mapping of the types to
+ * schemas, which builds the schema of each record once however many records and remote functions refer to it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TypeGraphContractGenerationBenchmark {
+    private static final int LEVELS = 10;
+    private static final int RECORDS = 500;
+
+    private Path workDir;
+    private SyntaxTree syntaxTree;
+    private SemanticModel semanticModel;
+    private Path inputPath;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        workDir = Files.createTempDirectory("asyncapi-type-graph-benchmark");
+        Path servicePath = workDir.resolve("type_graph.bal");
+        Files.writeString(servicePath, SyntheticSpecGenerator.generateTypeGraphService(LEVELS, RECORDS),
+                StandardCharsets.UTF_8);
+        Project project = ProjectLoader.loadProject(servicePath);
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        DocumentId documentId = defaultModule.documentIds().iterator().next();
+        syntaxTree = defaultModule.document(documentId).syntaxTree();
+        semanticModel = project.currentPackage().getCompilation().getSemanticModel(documentId.moduleId());
+        inputPath = project.documentPath(documentId).orElse(null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    @Benchmark
+    public List<AsyncApiResult> generate() {
+        return ServiceToAsyncApiConverterUtils.generateAsyncAPISpecDefinition(syntaxTree, semanticModel, null,
+                false, inputPath);
+    }
+}
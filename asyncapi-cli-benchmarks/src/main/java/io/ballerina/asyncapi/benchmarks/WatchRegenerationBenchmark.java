@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.benchmarks;
+
+import io.ballerina.asyncapi.cmd.websockets.BallerinaToAsyncApiGenerator;
+import io.ballerina.asyncapi.cmd.websockets.IncrementalContractGenerator;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.AsyncApiConverterDiagnostic;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares generating the AsyncAPI definitions of a package again after one of its files changed, from scratch and
+ * from the project kept loaded by the {@code --watch} option.
+ * <p>
+ * The package has 30 synthetic services of 10 remote functions, one in its default module and one in each of its
+ * other modules. Every invocation changes the same service file. {@code reload} loads, compiles and generates the
+ * whole package, as a run of the command does, while {@code update} applies the change to the loaded project,
+ * compiles it incrementally and generates the definitions of the changed file only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WatchRegenerationBenchmark {
+    private static final int SERVICES = 30;
+    private static final int SERVICE_SIZE = 10;
+
+    private Path workDir;
+    private Path outDir;
+    private Path packageDir;
+    private Path changedPath;
+    private String changedSource;
+    private int changes;
+    private IncrementalContractGenerator generator;
+    private final PrintStream outStream = new PrintStream(OutputStream.nullOutputStream());
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        workDir = Files.createTempDirectory("asyncapi-watch-benchmark");
+        outDir = workDir.resolve("out");
+        List<Path> servicePaths = BenchmarkInputs.writeServicePackage(SERVICES, SERVICE_SIZE, workDir);
+        packageDir = servicePaths.get(0).getParent();
+        changedPath = servicePaths.get(SERVICES / 2);
+        changedSource = Files.readString(changedPath);
+        generator = new IncrementalContractGenerator(packageDir, outDir, null, false, outStream);
+        generator.generate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    @Benchmark
+    public List<AsyncApiConverterDiagnostic> reload() throws IOException {
+        change();
+        return BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllModules(packageDir, outDir, null, false,
+                outStream, GenerationProfiler.DISABLED);
+    }
+
+    @Benchmark
+    public List<AsyncApiConverterDiagnostic> update() throws IOException {
+        change();
+        return generator.update(List.of(changedPath));
+    }
+
+    /**
+     * Changes the service file the way an edit which does not touch the types does.
+     */
+    private void change() throws IOException {
+        changes++;
+        Files.writeString(changedPath, changedSource + "\n// Change " + changes + "\n");
+    }
+}
@@ -22,20 +22,30 @@ import io.ballerina.asyncapi.cmd.websockets.AsyncApiToBallerinaGenerator;
 import io.ballerina.asyncapi.cmd.websockets.BallerinaToAsyncApiGenerator;
 import io.ballerina.asyncapi.cmd.websockets.CmdConstants;
 import io.ballerina.asyncapi.cmd.websockets.CmdUtils;
+import io.ballerina.asyncapi.cmd.websockets.IncrementalContractGenerator;
 import io.ballerina.asyncapi.codegenerator.application.Application;
 import io.ballerina.asyncapi.codegenerator.application.CodeGenerator;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.DispatchMode;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import io.ballerina.asyncapi.options.GenerationOptions;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constants;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.AsyncApiConverterDiagnostic;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.DiagnosticMessages;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.ExceptionDiagnostic;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.IncompatibleRemoteDiagnostic;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.AasQueueConfig;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.OverflowPolicy;
 import io.ballerina.cli.BLauncherCmd;
+import io.ballerina.projects.ProjectException;
+import io.ballerina.projects.util.ProjectConstants;
 import org.ballerinalang.formatter.core.FormatterException;
 import picocli.CommandLine;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -46,8 +56,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.ASYNC_ACK_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.BATCH_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.CACHE_DIR_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.CACHE_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.CONNECTION_POOL_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.DISPATCH_MODE_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.EXPERIMENTAL_WARNING;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.INPUT_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.INPUT_FLAG_ALT;
@@ -56,18 +78,58 @@ import static io.ballerina.asyncapi.cmd.AsyncApiConstants.LICENSE_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.LINE_SEPARATOR;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.OUTPUT_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.OUTPUT_FLAG_ALT;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PIPELINING_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PIPE_OVERFLOW_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PIPE_SIZE_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PROFILE_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PROFILE_TRACE_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PROTOCOL_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.RECONNECT_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.SERVICE_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.TEST_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.THREADS_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.TIMINGS_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.VALID_HTTP_NAMES;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.VALID_WS_NAMES;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.WATCH_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.WRITE_BATCHING_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.WRITE_QUEUE_SIZE_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.BATCH_ENTRY_FAILED;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.BATCH_ENTRY_SUCCEEDED;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.BATCH_SUMMARY;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.CLIENT_GENERATION_FAILED;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.GENERATION_CACHE_SUMMARY;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.GENERATION_CACHE_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.GENERATION_UP_TO_DATE;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_OPTION_ERROR_HTTP;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_ASYNC_ACK_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_CONNECTION_POOL_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_DISPATCH_MODE_FLAG_WARNING;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_JSON_FLAG_WARNING;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_LICENSE_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_PIPELINING_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_PIPE_OVERFLOW_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_PIPE_SIZE_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_RECONNECT_FLAG_WARNING;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_SERVICE_FLAG_WARNING;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_TEST_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_WRITE_BATCHING_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_WRITE_QUEUE_SIZE_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.MESSAGE_EMPTY_BATCH;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.MESSAGE_INVALID_BATCH_INPUT;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.MESSAGE_INVALID_LICENSE_STREAM;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.MESSAGE_INVALID_OVERFLOW_POLICY;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.MESSAGE_INVALID_QUEUE_SIZE;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.MESSAGE_INVALID_THREAD_COUNT;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.MESSAGE_INVALID_USE_OF_WATCH_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.PROFILE_TRACE_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.PROFILE_TRACE_WRITTEN;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.WATCHING_INPUT;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.WATCH_FAILED;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.WATCH_REGENERATED;
+import static io.ballerina.asyncapi.cmd.websockets.CmdConstants.CLIENT_TEMPLATE_FILE_NAMES;
+import static io.ballerina.asyncapi.codegenerator.configuration.Constants.GENERATED_LISTENER_FILE_NAMES;
+import static io.ballerina.asyncapi.codegenerator.configuration.Constants.LISTENER_TEMPLATE_FILE_NAMES;
 
 /**
  * Main class to implement "asyncapi" command for ballerina. Commands for Listener generation from AsyncApi spec
@@ -79,10 +141,14 @@ import static io.ballerina.asyncapi.cmd.AsyncApiMessages.MESSAGE_INVALID_LICENSE
 )
 public class AsyncApiCmd implements BLauncherCmd {
     private static final String CMD_NAME = "asyncapi";
+    private static final long WATCH_DEBOUNCE_MILLIS = 100;
     private PrintStream outStream;
     private boolean exitWhenFinish;
     private Path executionPath = Paths.get(System.getProperty("user.dir"));
     private Path targetOutputPath;
+    private GenerationCache generationCache;
+    private GenerationProfiler profiler = GenerationProfiler.DISABLED;
+    private AasQueueConfig queueConfig = AasQueueConfig.DEFAULT;
 
     @CommandLine.Option(names = {"-h", "--help"}, hidden = true)
     private boolean helpFlag;
@@ -111,6 +177,78 @@ public class AsyncApiCmd implements BLauncherCmd {
     @CommandLine.Option(names = {JSON_FLAG}, description = "Generate json file")
     private boolean generatedFileType;
 
+    @CommandLine.Option(names = {CACHE_FLAG}, description = "Skip the generation when the spec, the flags and the " +
+            "previously generated sources are unchanged")
+    private boolean useCache;
+
+    @CommandLine.Option(names = {CACHE_DIR_FLAG}, description = "Directory to store the generation cache. " +
+            "Implies --cache")
+    private String cacheDirPath;
+
+    @CommandLine.Option(names = {BATCH_FLAG}, description = "Treat the input as a directory, a glob pattern or a " +
+            "manifest file (.txt or .list) listing the inputs, and generate all of them in a single run")
+    private boolean batch;
+
+    @CommandLine.Option(names = {THREADS_FLAG}, description = "Number of inputs generated in parallel in batch mode")
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    @CommandLine.Option(names = {TIMINGS_FLAG}, description = "Print the time taken to format and write each " +
+            "generated file")
+    private boolean printTimings;
+
+    @CommandLine.Option(names = {PROFILE_FLAG}, description = "Print the time taken, the memory allocated and the " +
+            "number of processed items of each phase of the generation")
+    private boolean profile;
+
+    @CommandLine.Option(names = {PROFILE_TRACE_FLAG}, description = "File to write the generation profile to, in " +
+            "the trace event format of Chrome. Implies --profile")
+    private String profileTracePath;
+
+    @CommandLine.Option(names = {DISPATCH_MODE_FLAG}, description = "Way the generated dispatcher service finds " +
+            "the remote function of an event, `match` compares the event against each event in turn and `map` " +
+            "looks it up in a precomputed map")
+    private String dispatchMode;
+
+    @CommandLine.Option(names = {ASYNC_ACK_FLAG}, description = "Acknowledge each event as soon as it is routed, " +
+            "and run its remote function on a separate strand, up to a bounded number of events at a time")
+    private boolean asyncAck;
+
+    @CommandLine.Option(names = {PIPELINING_FLAG}, description = "Generate a future-returning variant of each " +
+            "remote function of the generated WebSocket client which waits on a response correlated by its id, " +
+            "and bound the requests in flight on the connection")
+    private boolean pipelining;
+
+    @CommandLine.Option(names = {CONNECTION_POOL_FLAG}, description = "Generate a pool of connections of the " +
+            "generated WebSocket client along with the client, which spreads the remote function calls over several " +
+            "connections")
+    private boolean connectionPool;
+
+    @CommandLine.Option(names = {RECONNECT_FLAG}, description = "Generate a WebSocket client which reconnects " +
+            "with a jittered backoff once its connection fails, and writes the subscriptions of its active streams " +
+            "again on the new connection")
+    private boolean reconnect;
+
+    @CommandLine.Option(names = {WRITE_BATCHING_FLAG}, description = "Write the messages the generated WebSocket " +
+            "client has queued, or which are queued within a linger time, back-to-back in batches, instead of one at " +
+            "a time")
+    private boolean writeBatching;
+
+    @CommandLine.Option(names = {WRITE_QUEUE_SIZE_FLAG}, description = "Default number of messages the generated " +
+            "WebSocket client queues to be written")
+    private Integer writeQueueSize;
+
+    @CommandLine.Option(names = {PIPE_SIZE_FLAG}, description = "Default number of received messages the generated " +
+            "WebSocket client holds in the pipe of each response or stream until they are consumed")
+    private Integer pipeSize;
+
+    @CommandLine.Option(names = {PIPE_OVERFLOW_FLAG}, description = "Default policy of the generated WebSocket " +
+            "client for a received message whose pipe is full, `block`, `drop-oldest`, `drop-newest` or `fail-fast`")
+    private String pipeOverflow;
+
+    @CommandLine.Option(names = {WATCH_FLAG}, description = "Keep running and generate the sources again whenever " +
+            "the input changes")
+    private boolean watch;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -171,13 +309,29 @@ public class AsyncApiCmd implements BLauncherCmd {
                 return;
             }
             String fileName = argList.get(0);
+            if (useCache || cacheDirPath != null) {
+                generationCache = new GenerationCache((cacheDirPath == null) ? GenerationCache.getDefaultCacheDir() :
+                        Paths.get(cacheDirPath));
+            }
+            if (profile || profileTracePath != null) {
+                profiler = new GenerationProfiler();
+            }
 
-            if (VALID_HTTP_NAMES.contains(protocol.toLowerCase())) {
+            if (batch) {
+                if (watch) {
+                    outStream.println(MESSAGE_INVALID_USE_OF_WATCH_FLAG);
+                    exitError(this.exitWhenFinish);
+                    return;
+                }
+                if (!generateBatch(fileName)) {
+                    exitError(this.exitWhenFinish);
+                    return;
+                }
+            } else if (VALID_HTTP_NAMES.contains(protocol.toLowerCase())) {
                 verifyValidInputsForHttp();
-                Application codeGenerator = new CodeGenerator();
                 try {
-                    codeGenerator.generate(fileName, (outputPath == null) ?
-                            String.valueOf(executionPath) : outputPath);
+                    generateListener(fileName, (outputPath == null) ? String.valueOf(executionPath) : outputPath,
+                            outStream, Runtime.getRuntime().availableProcessors());
                 } catch (BallerinaAsyncApiException e) {
                     outStream.println(e.getMessage());
                     exitError(this.exitWhenFinish);
@@ -187,8 +341,17 @@ public class AsyncApiCmd implements BLauncherCmd {
                 if (fileName.endsWith(Constants.YAML_EXTENSION) || fileName.endsWith(Constants.JSON_EXTENSION) ||
                         fileName.endsWith(Constants.YML_EXTENSION)) {
                     giveWarningsForInvalidClientGenOptions();
+                    queueConfig = createQueueConfig();
+                    if (queueConfig == null) {
+                        exitError(this.exitWhenFinish);
+                        return;
+                    }
                     try {
-                        asyncApiToBallerinaWs(fileName);
+                        if (watch) {
+                            watchClient(fileName);
+                        } else {
+                            asyncApiToBallerinaWs(fileName);
+                        }
                     } catch (IOException e) {
                         outStream.println(e.getLocalizedMessage());
                         exitError(this.exitWhenFinish);
@@ -197,7 +360,24 @@ public class AsyncApiCmd implements BLauncherCmd {
                 } else if (fileName.endsWith(CmdConstants.BAL_EXTENSION)) {
                     giveWarningsForInvalidSpecGenOptions();
                     try {
-                        ballerinaToAsyncApiWs(fileName);
+                        if (watch) {
+                            watchContracts(fileName);
+                        } else {
+                            ballerinaToAsyncApiWs(fileName, false);
+                        }
+                    } catch (Exception e) {
+                        outStream.println(e.getLocalizedMessage());
+                        exitError(this.exitWhenFinish);
+                    }
+                    // when -i is a Ballerina package, the services of all its modules are generated at once
+                } else if (Files.isRegularFile(Paths.get(fileName).resolve(ProjectConstants.BALLERINA_TOML))) {
+                    giveWarningsForInvalidSpecGenOptions();
+                    try {
+                        if (watch) {
+                            watchContracts(fileName);
+                        } else {
+                            ballerinaToAsyncApiWs(fileName, true);
+                        }
                     } catch (Exception e) {
                         outStream.println(e.getLocalizedMessage());
                         exitError(this.exitWhenFinish);
@@ -218,18 +398,72 @@ public class AsyncApiCmd implements BLauncherCmd {
             return;
         }
 
+        if (profiler.isEnabled()) {
+            reportProfile();
+        }
+        if (generationCache != null) {
+            outStream.println(String.format(GENERATION_CACHE_SUMMARY, generationCache.getHits(),
+                    generationCache.getMisses()));
+        }
         if (this.exitWhenFinish) {
             Runtime.getRuntime().exit(0);
         }
     }
 
+    /**
+     * Prints the phases recorded by the profiler and writes them as a trace if a trace file was given.
+     */
+    private void reportProfile() {
+        profiler.printSummary(outStream);
+        if (profileTracePath == null) {
+            return;
+        }
+        Path tracePath = Paths.get(profileTracePath);
+        if (!tracePath.isAbsolute()) {
+            tracePath = executionPath.resolve(tracePath);
+        }
+        try {
+            profiler.writeChromeTrace(tracePath);
+            outStream.println(String.format(PROFILE_TRACE_WRITTEN, tracePath));
+        } catch (IOException e) {
+            outStream.println(String.format(PROFILE_TRACE_WARNING, tracePath, e.getMessage()));
+        }
+    }
+
     private void giveWarningsForInvalidSpecGenOptions() {
         if (licenseFilePath != null) {
             outStream.println(INVALID_USE_OF_LICENSE_FLAG_WARNING);
         }
+        if (dispatchMode != null) {
+            outStream.println(INVALID_USE_OF_DISPATCH_MODE_FLAG_WARNING);
+        }
+        if (asyncAck) {
+            outStream.println(INVALID_USE_OF_ASYNC_ACK_FLAG_WARNING);
+        }
         if (includeTestFiles) {
             outStream.println(INVALID_USE_OF_TEST_FLAG_WARNING);
         }
+        if (pipelining) {
+            outStream.println(INVALID_USE_OF_PIPELINING_FLAG_WARNING);
+        }
+        if (connectionPool) {
+            outStream.println(INVALID_USE_OF_CONNECTION_POOL_FLAG_WARNING);
+        }
+        if (reconnect) {
+            outStream.println(INVALID_USE_OF_RECONNECT_FLAG_WARNING);
+        }
+        if (writeBatching) {
+            outStream.println(INVALID_USE_OF_WRITE_BATCHING_FLAG_WARNING);
+        }
+        if (writeQueueSize != null) {
+            outStream.println(INVALID_USE_OF_WRITE_QUEUE_SIZE_FLAG_WARNING);
+        }
+        if (pipeSize != null) {
+            outStream.println(INVALID_USE_OF_PIPE_SIZE_FLAG_WARNING);
+        }
+        if (pipeOverflow != null) {
+            outStream.println(INVALID_USE_OF_PIPE_OVERFLOW_FLAG_WARNING);
+        }
     }
 
     private void giveWarningsForInvalidClientGenOptions() {
@@ -239,6 +473,12 @@ public class AsyncApiCmd implements BLauncherCmd {
         if (service != null) {
             outStream.println(INVALID_USE_OF_SERVICE_FLAG_WARNING);
         }
+        if (dispatchMode != null) {
+            outStream.println(INVALID_USE_OF_DISPATCH_MODE_FLAG_WARNING);
+        }
+        if (asyncAck) {
+            outStream.println(INVALID_USE_OF_ASYNC_ACK_FLAG_WARNING);
+        }
     }
 
     private void verifyValidInputsForHttp() {
@@ -258,26 +498,283 @@ public class AsyncApiCmd implements BLauncherCmd {
             outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, JSON_FLAG));
             exitError(this.exitWhenFinish);
         }
+        if (pipelining) {
+            outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, PIPELINING_FLAG));
+            exitError(this.exitWhenFinish);
+        }
+        if (connectionPool) {
+            outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, CONNECTION_POOL_FLAG));
+            exitError(this.exitWhenFinish);
+        }
+        if (reconnect) {
+            outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, RECONNECT_FLAG));
+            exitError(this.exitWhenFinish);
+        }
+        if (writeBatching) {
+            outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, WRITE_BATCHING_FLAG));
+            exitError(this.exitWhenFinish);
+        }
+        if (writeQueueSize != null) {
+            outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, WRITE_QUEUE_SIZE_FLAG));
+            exitError(this.exitWhenFinish);
+        }
+        if (pipeSize != null) {
+            outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, PIPE_SIZE_FLAG));
+            exitError(this.exitWhenFinish);
+        }
+        if (pipeOverflow != null) {
+            outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, PIPE_OVERFLOW_FLAG));
+            exitError(this.exitWhenFinish);
+        }
+        if (watch) {
+            outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, WATCH_FLAG));
+            exitError(this.exitWhenFinish);
+        }
+    }
+
+    /**
+     * Creates the defaults of the queue configurations of the generated client from the options, or prints the
+     * error and returns null when an option is invalid.
+     */
+    private AasQueueConfig createQueueConfig() {
+        int queueSize = (writeQueueSize == null) ? AasQueueConfig.DEFAULT_WRITE_QUEUE_SIZE : writeQueueSize;
+        int size = (pipeSize == null) ? AasQueueConfig.DEFAULT_PIPE_SIZE : pipeSize;
+        if (queueSize < 1 || size < 1) {
+            outStream.println(String.format(MESSAGE_INVALID_QUEUE_SIZE, Math.min(queueSize, size)));
+            return null;
+        }
+        try {
+            OverflowPolicy overflowPolicy = (pipeOverflow == null) ? OverflowPolicy.BLOCK :
+                    OverflowPolicy.fromName(pipeOverflow);
+            return new AasQueueConfig(queueSize, size, overflowPolicy);
+        } catch (BallerinaAsyncApiExceptionWs e) {
+            outStream.println(String.format(MESSAGE_INVALID_OVERFLOW_POLICY, pipeOverflow));
+            return null;
+        }
+    }
+
+    /**
+     * Generates all the inputs of the batch on a bounded pool of workers and prints the diagnostics of each input
+     * in the order of the inputs.
+     *
+     * @param source Directory, glob pattern or manifest file
+     * @return true if all the inputs were generated successfully
+     */
+    private boolean generateBatch(String source) {
+        boolean isHttp = VALID_HTTP_NAMES.contains(protocol.toLowerCase());
+        if (!isHttp && !VALID_WS_NAMES.contains(protocol.toLowerCase())) {
+            outStream.println(String.format(AsyncApiMessages.MESSAGE_INVALID_PROTOCOL, protocol));
+            return false;
+        }
+        if (threads < 1) {
+            outStream.println(String.format(MESSAGE_INVALID_THREAD_COUNT, threads));
+            return false;
+        }
+        if (isHttp) {
+            verifyValidInputsForHttp();
+        } else {
+            outStream.println(EXPERIMENTAL_WARNING);
+            queueConfig = createQueueConfig();
+            if (queueConfig == null) {
+                return false;
+            }
+        }
+        setOutputPathWs();
+        List<BatchGenerator.Input> inputs;
+        try {
+            inputs = BatchGenerator.resolveInputs(source, executionPath, targetOutputPath,
+                    path -> isBatchInput(path, isHttp));
+        } catch (IOException e) {
+            outStream.println(String.format(MESSAGE_INVALID_BATCH_INPUT, source, e.getMessage()));
+            return false;
+        }
+        if (inputs.isEmpty()) {
+            outStream.println(String.format(MESSAGE_EMPTY_BATCH, source));
+            return false;
+        }
+        String licenseHeader = isHttp ? "" : extractLicenseHeaderWs();
+        List<BatchGenerator.Result> results = new BatchGenerator(threads).generate(inputs,
+                (input, outputDir) -> generateBatchInput(input, outputDir, isHttp, licenseHeader));
+        int failures = 0;
+        for (BatchGenerator.Result result : results) {
+            if (result.isSuccess()) {
+                outStream.println(String.format(BATCH_ENTRY_SUCCEEDED, result.getInput(), result.getOutputDir()));
+            } else {
+                failures++;
+                outStream.println(String.format(BATCH_ENTRY_FAILED, result.getInput()));
+            }
+            for (String diagnostic : result.getDiagnostics()) {
+                outStream.println("  " + diagnostic);
+            }
+        }
+        outStream.println(String.format(BATCH_SUMMARY, results.size() - failures, failures));
+        return failures == 0;
+    }
+
+    private static boolean isBatchInput(Path path, boolean isHttp) {
+        String fileName = path.getFileName().toString();
+        if (fileName.endsWith(Constants.YAML_EXTENSION) || fileName.endsWith(Constants.JSON_EXTENSION) ||
+                fileName.endsWith(Constants.YML_EXTENSION)) {
+            return true;
+        }
+        return !isHttp && fileName.endsWith(CmdConstants.BAL_EXTENSION);
+    }
+
+    /**
+     * Generates an input of the batch on a worker of the batch. The inputs are already generated in parallel, hence
+     * the files of an input are generated one by one, and the output of the generation is captured so that it can be
+     * reported along with the rest of the diagnostics of the input.
+     */
+    private List<String> generateBatchInput(Path input, Path outputDir, boolean isHttp, String licenseHeader)
+            throws Exception {
+        if (!isHttp && input.toString().endsWith(CmdConstants.BAL_EXTENSION)) {
+            return generateSpecForBatch(input, outputDir);
+        }
+        ByteArrayOutputStream capturedOutput = new ByteArrayOutputStream();
+        try (PrintStream inputOutStream = new PrintStream(capturedOutput, true, StandardCharsets.UTF_8)) {
+            if (isHttp) {
+                generateListener(input.toString(), outputDir.toString(), inputOutStream, 1);
+            } else {
+                generateClientWs(new AsyncApiToBallerinaGenerator(createGenerationOptions(licenseHeader)
+                        .withThreads(1).withOutStream(inputOutStream).build()), input, outputDir, inputOutStream);
+            }
+        }
+        return capturedOutput.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    /**
+     * Generates the AsyncAPI contracts of a Ballerina service in batch mode. The output of the generation is
+     * captured so that it can be reported along with the rest of the diagnostics of the input.
+     */
+    private List<String> generateSpecForBatch(Path balFilePath, Path outputDir) throws BallerinaAsyncApiException {
+        ByteArrayOutputStream capturedOutput = new ByteArrayOutputStream();
+        List<AsyncApiConverterDiagnostic> errors;
+        try (PrintStream inputOutStream = new PrintStream(capturedOutput, true, StandardCharsets.UTF_8)) {
+            try (GenerationProfiler.Phase ignored = profiler.start("generate " + balFilePath.getFileName())) {
+                errors = BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllService(balFilePath, outputDir,
+                        service, generatedFileType, inputOutStream, profiler);
+            }
+        }
+        List<String> diagnostics = new ArrayList<>(capturedOutput.toString(StandardCharsets.UTF_8).lines().toList());
+        boolean hasErrors = false;
+        for (AsyncApiConverterDiagnostic error : errors) {
+            if (error instanceof ExceptionDiagnostic exceptionDiagnostic) {
+                hasErrors = true;
+                diagnostics.add(CmdUtils.constructAsyncAPIDiagnostic(exceptionDiagnostic.getCode(),
+                        exceptionDiagnostic.getMessage(), exceptionDiagnostic.getDiagnosticSeverity(),
+                        exceptionDiagnostic.getLocation().orElse(null)).toString());
+            } else if (error instanceof IncompatibleRemoteDiagnostic incompatibleError) {
+                diagnostics.add(CmdUtils.constructAsyncAPIDiagnostic(incompatibleError.getCode(),
+                        incompatibleError.getMessage(), incompatibleError.getDiagnosticSeverity(),
+                        incompatibleError.getLocation().orElse(null)).toString());
+            }
+        }
+        if (hasErrors) {
+            throw new BallerinaAsyncApiException(String.join(LINE_SEPARATOR + "  ", diagnostics));
+        }
+        return diagnostics;
+    }
+
+    /**
+     * Generates a listener, printing the output of the generation to the given stream.
+     *
+     * @param fileName           AsyncAPI contract to generate the listener of
+     * @param listenerOutputPath Directory to write the listener to
+     * @param runOutStream       Stream to print the output of the generation to
+     * @param generatorThreads   Maximum number of files of the listener generated at the same time
+     */
+    private void generateListener(String fileName, String listenerOutputPath, PrintStream runOutStream,
+                                  int generatorThreads) throws BallerinaAsyncApiException {
+        Path outputDir = Paths.get(listenerOutputPath);
+        String cacheKey = getCacheKey(Paths.get(fileName), outputDir, LISTENER_TEMPLATE_FILE_NAMES);
+        if (cacheKey != null && generationCache.isUpToDate(cacheKey, outputDir)) {
+            runOutStream.println(String.format(GENERATION_UP_TO_DATE, fileName));
+            return;
+        }
+        Application codeGenerator = new CodeGenerator(new FileRepositoryImpl(), createGenerationOptions("")
+                .withThreads(generatorThreads).withOutStream(runOutStream)
+                .withDispatchMode((dispatchMode == null) ? DispatchMode.MATCH : DispatchMode.fromName(dispatchMode))
+                .build());
+        try (GenerationProfiler.Phase ignored = profiler.start("generate " + Paths.get(fileName).getFileName())) {
+            codeGenerator.generate(fileName, listenerOutputPath);
+        }
+        if (cacheKey != null) {
+            List<Path> generatedFiles = new ArrayList<>();
+            for (String generatedFileName : GENERATED_LISTENER_FILE_NAMES) {
+                generatedFiles.add(outputDir.resolve(generatedFileName));
+            }
+            storeCacheEntry(cacheKey, outputDir, generatedFiles);
+        }
+    }
+
+    /**
+     * Computes the generation cache key for the given spec, or returns null when the cache is not in use.
+     */
+    private String getCacheKey(Path specPath, Path outputDir, List<String> templates) {
+        if (generationCache == null) {
+            return null;
+        }
+        Map<String, String> flags = new HashMap<>();
+        flags.put(PROTOCOL_FLAG, VALID_HTTP_NAMES.contains(protocol.toLowerCase()) ? "http" : "ws");
+        flags.put(LICENSE_FLAG, licenseFilePath == null ? "" : extractLicenseHeaderWs());
+        flags.put(TEST_FLAG, String.valueOf(includeTestFiles));
+        flags.put(DISPATCH_MODE_FLAG, (dispatchMode == null) ? "" : dispatchMode.toLowerCase(Locale.ENGLISH));
+        flags.put(ASYNC_ACK_FLAG, String.valueOf(asyncAck));
+        flags.put(PIPELINING_FLAG, String.valueOf(pipelining));
+        flags.put(CONNECTION_POOL_FLAG, String.valueOf(connectionPool));
+        flags.put(RECONNECT_FLAG, String.valueOf(reconnect));
+        flags.put(WRITE_BATCHING_FLAG, String.valueOf(writeBatching));
+        flags.put(WRITE_QUEUE_SIZE_FLAG, String.valueOf(queueConfig.getWriteQueueSize()));
+        flags.put(PIPE_SIZE_FLAG, String.valueOf(queueConfig.getPipeSize()));
+        flags.put(PIPE_OVERFLOW_FLAG, queueConfig.getPipeOverflow().name());
+        try {
+            return generationCache.computeKey(specPath, outputDir, templates, flags);
+        } catch (IOException e) {
+            outStream.println(String.format(GENERATION_CACHE_WARNING, e.getMessage()));
+            return null;
+        }
+    }
+
+    private void storeCacheEntry(String cacheKey, Path outputDir, List<Path> generatedFiles) {
+        try {
+            generationCache.store(cacheKey, outputDir, generatedFiles);
+        } catch (IOException e) {
+            outStream.println(String.format(GENERATION_CACHE_WARNING, e.getMessage()));
+        }
     }
 
-    private void ballerinaToAsyncApiWs(String fileName) {
+    /**
+     * Generates the AsyncAPI contracts of the services of a Ballerina file, or of all the modules of a Ballerina
+     * package, which is compiled once for all of its services.
+     */
+    private void ballerinaToAsyncApiWs(String fileName, boolean isPackage) {
         List<AsyncApiConverterDiagnostic> errors = new ArrayList<>();
         final File balFile = new File(fileName);
         try {
             Path balFilePath = Paths.get(balFile.getCanonicalPath());
             setOutputPathWs();
             // Check service name it is mandatory
-            List<AsyncApiConverterDiagnostic> generationErrors =  BallerinaToAsyncApiGenerator
-                    .generateAsyncAPIDefinitionsAllService(balFilePath, targetOutputPath, service, generatedFileType,
-                            outStream);
-            errors.addAll(generationErrors);
+            try (GenerationProfiler.Phase ignored = profiler.start("generate " + balFilePath.getFileName())) {
+                List<AsyncApiConverterDiagnostic> generationErrors = isPackage ?
+                        BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllModules(balFilePath,
+                                targetOutputPath, service, generatedFileType, outStream, profiler) :
+                        BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllService(balFilePath,
+                                targetOutputPath, service, generatedFileType, outStream, profiler);
+                errors.addAll(generationErrors);
+            }
         } catch (IOException e) {
             DiagnosticMessages message = DiagnosticMessages.AAS_CONVERTOR_102;
             ExceptionDiagnostic error = new ExceptionDiagnostic(message.getCode(), message.getDescription(), null,
                     e.getLocalizedMessage());
             errors.add(error);
         }
+        printDiagnostics(errors, true);
+    }
 
+    /**
+     * Prints the diagnostics of the generation of AsyncAPI contracts, exiting on the first error if required.
+     */
+    private void printDiagnostics(List<AsyncApiConverterDiagnostic> errors, boolean exitOnError) {
         if (!errors.isEmpty()) {
             for (AsyncApiConverterDiagnostic error : errors) {
                 if (error instanceof ExceptionDiagnostic exceptionDiagnostic) {
@@ -285,7 +782,9 @@ public class AsyncApiCmd implements BLauncherCmd {
                             exceptionDiagnostic.getMessage(), exceptionDiagnostic.getDiagnosticSeverity(),
                             exceptionDiagnostic.getLocation().orElse(null));
                     outStream.println(diagnostic);
-                    exitError(this.exitWhenFinish);
+                    if (exitOnError) {
+                        exitError(this.exitWhenFinish);
+                    }
                 } else if (error instanceof IncompatibleRemoteDiagnostic incompatibleError) {
                     AsyncApiDiagnostic diagnostic = CmdUtils.constructAsyncAPIDiagnostic(incompatibleError.getCode(),
                             incompatibleError.getMessage(), incompatibleError.getDiagnosticSeverity(),
@@ -296,15 +795,118 @@ public class AsyncApiCmd implements BLauncherCmd {
         }
     }
 
+    /**
+     * Generates the AsyncAPI contracts of a Ballerina file or package, and keeps generating the contracts of the
+     * changed documents again as the sources change, until the command is stopped. The project is kept loaded in
+     * between, and the changes are applied to it instead of loading it again.
+     */
+    private void watchContracts(String fileName) throws IOException {
+        setOutputPathWs();
+        Path inputFilePath = Paths.get(new File(fileName).getCanonicalPath());
+        IncrementalContractGenerator generator = new IncrementalContractGenerator(inputFilePath, targetOutputPath,
+                service, generatedFileType, outStream);
+        printDiagnostics(generator.generate(), false);
+        try (FileWatcher watcher = new FileWatcher(generator.getSourceDirectories(), generator::isSourceFile,
+                WATCH_DEBOUNCE_MILLIS)) {
+            outStream.println(String.format(WATCHING_INPUT, inputFilePath));
+            watcher.watch(changedFiles -> {
+                long startTime = System.nanoTime();
+                try {
+                    printDiagnostics(generator.update(changedFiles), false);
+                    // A module may have been added
+                    watcher.register(generator.getSourceDirectories());
+                } catch (IOException | ProjectException e) {
+                    outStream.println(String.format(WATCH_FAILED, inputFilePath, e.getMessage()));
+                    return;
+                }
+                outStream.println(String.format(WATCH_REGENERATED, inputFilePath,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Generates the client of an AsyncAPI contract, and keeps generating it again as the contract or the license
+     * header changes, until the command is stopped.
+     */
+    private void watchClient(String fileName) throws IOException {
+        setOutputPathWs();
+        Path specPath = Paths.get(new File(fileName).getCanonicalPath());
+        Set<Path> watchedFiles = new HashSet<>();
+        watchedFiles.add(specPath);
+        if (licenseFilePath != null && !licenseFilePath.isBlank()) {
+            watchedFiles.add(Paths.get(new File(licenseFilePath).getCanonicalPath()));
+        }
+        Set<Path> directories = new HashSet<>();
+        for (Path watchedFile : watchedFiles) {
+            directories.add(watchedFile.getParent());
+        }
+        generateClientForWatch(specPath, false);
+        try (FileWatcher watcher = new FileWatcher(directories,
+                file -> watchedFiles.contains(file.toAbsolutePath().normalize()), WATCH_DEBOUNCE_MILLIS)) {
+            outStream.println(String.format(WATCHING_INPUT, specPath));
+            watcher.watch(changedFiles -> {
+                long startTime = System.nanoTime();
+                if (generateClientForWatch(specPath, true)) {
+                    outStream.println(String.format(WATCH_REGENERATED, specPath,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Generates the client in watch mode, printing the failure of the generation instead of exiting.
+     */
+    private boolean generateClientForWatch(Path specPath, boolean regenerate) {
+        AsyncApiToBallerinaGenerator generator = new AsyncApiToBallerinaGenerator(
+                createGenerationOptions(this.extractLicenseHeaderWs()).build());
+        try {
+            if (regenerate) {
+                generator.regenerateClient(specPath, targetOutputPath);
+            } else {
+                generateClientWs(generator, specPath, targetOutputPath, outStream);
+            }
+            return true;
+        } catch (IOException | FormatterException | BallerinaAsyncApiExceptionWs e) {
+            outStream.println(e.getLocalizedMessage() != null ? e.getLocalizedMessage() : CLIENT_GENERATION_FAILED);
+            return false;
+        }
+    }
+
     private void asyncApiToBallerinaWs(String fileName) throws IOException {
-        AsyncApiToBallerinaGenerator generator = new AsyncApiToBallerinaGenerator(this.extractLicenseHeaderWs(),
-                this.includeTestFiles);
+        AsyncApiToBallerinaGenerator generator = new AsyncApiToBallerinaGenerator(
+                createGenerationOptions(this.extractLicenseHeaderWs()).build());
         final File asyncApiFile = new File(fileName);
         setOutputPathWs();
         Path resourcePath = Paths.get(asyncApiFile.getCanonicalPath());
         generatesClientFileWs(generator, resourcePath);
     }
 
+    /**
+     * Creates a builder of the options of the generation, set to the options given on the command line.
+     *
+     * @param licenseHeader License header to add to the generated Ballerina files
+     */
+    private GenerationOptions.Builder createGenerationOptions(String licenseHeader) {
+        return new GenerationOptions.Builder()
+                .withLicenseHeader(licenseHeader)
+                .withIncludeTestFiles(this.includeTestFiles)
+                .withPrintTimings(this.printTimings)
+                .withPipelining(this.pipelining)
+                .withConnectionPool(this.connectionPool)
+                .withReconnect(this.reconnect)
+                .withWriteBatching(this.writeBatching)
+                .withQueueConfig(this.queueConfig)
+                .withAsyncAck(this.asyncAck)
+                .withProfiler(this.profiler)
+                .withOutStream(this.outStream);
+    }
+
     /**
      * This util is to set the license header content which is to be added at the beginning of the ballerina files.
      */
@@ -350,7 +952,7 @@ public class AsyncApiCmd implements BLauncherCmd {
      */
     private void generatesClientFileWs(AsyncApiToBallerinaGenerator generator, Path resourcePath) {
         try {
-            generator.generateClient(resourcePath, targetOutputPath);
+            generateClientWs(generator, resourcePath, targetOutputPath, outStream);
         } catch (IOException | FormatterException | BallerinaAsyncApiExceptionWs e) {
             if (e.getLocalizedMessage() != null) {
                 outStream.println(e.getLocalizedMessage());
@@ -362,6 +964,23 @@ public class AsyncApiCmd implements BLauncherCmd {
         }
     }
 
+    private void generateClientWs(AsyncApiToBallerinaGenerator generator, Path resourcePath, Path outputDir,
+                                  PrintStream runOutStream)
+            throws IOException, FormatterException, BallerinaAsyncApiExceptionWs {
+        String cacheKey = getCacheKey(resourcePath, outputDir, CLIENT_TEMPLATE_FILE_NAMES);
+        if (cacheKey != null && generationCache.isUpToDate(cacheKey, outputDir)) {
+            runOutStream.println(String.format(GENERATION_UP_TO_DATE, resourcePath));
+            return;
+        }
+        List<Path> generatedFiles;
+        try (GenerationProfiler.Phase ignored = profiler.start("generate " + resourcePath.getFileName())) {
+            generatedFiles = generator.generateClient(resourcePath, outputDir);
+        }
+        if (cacheKey != null) {
+            storeCacheEntry(cacheKey, outputDir, generatedFiles);
+        }
+    }
+
     @Override
     public String getName() {
         return CMD_NAME;
@@ -38,6 +38,23 @@ public class AsyncApiConstants {
     public static final String INPUT_FLAG_ALT = "-i";
     public static final String OUTPUT_FLAG_ALT = "-o";
     public static final String PROTOCOL_FLAG = "--protocol";
+    public static final String CACHE_FLAG = "--cache";
+    public static final String CACHE_DIR_FLAG = "--cache-dir";
+    public static final String BATCH_FLAG = "--batch";
+    public static final String THREADS_FLAG = "--threads";
+    public static final String TIMINGS_FLAG = "--timings";
+    public static final String PROFILE_FLAG = "--profile";
+    public static final String PROFILE_TRACE_FLAG = "--profile-trace";
+    public static final String DISPATCH_MODE_FLAG = "--dispatch-mode";
+    public static final String ASYNC_ACK_FLAG = "--async-ack";
+    public static final String PIPELINING_FLAG = "--pipelining";
+    public static final String CONNECTION_POOL_FLAG = "--connection-pool";
+    public static final String RECONNECT_FLAG = "--reconnect";
+    public static final String WRITE_BATCHING_FLAG = "--write-batching";
+    public static final String WRITE_QUEUE_SIZE_FLAG = "--write-queue-size";
+    public static final String PIPE_SIZE_FLAG = "--pipe-size";
+    public static final String PIPE_OVERFLOW_FLAG = "--pipe-overflow";
+    public static final String WATCH_FLAG = "--watch";
     public static final String SPEC = "spec";
     public static final String CLIENT = "client";
     public static final String LINE_SEPARATOR = System.lineSeparator();
@@ -17,12 +17,21 @@
  */
 package io.ballerina.asyncapi.cmd;
 
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.ASYNC_ACK_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.CLIENT;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.CONNECTION_POOL_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.DISPATCH_MODE_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.JSON_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.LICENSE_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PIPELINING_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PIPE_OVERFLOW_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PIPE_SIZE_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.RECONNECT_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.SERVICE_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.SPEC;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.TEST_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.WRITE_BATCHING_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.WRITE_QUEUE_SIZE_FLAG;
 
 /**
  * This class contains the messages constants required for AsyncApi tool.
@@ -31,8 +40,8 @@ public class AsyncApiMessages {
     public static final String MESSAGE_FOR_MISSING_INPUT = "An AsyncApi definition file is required to generate the " +
             "listener. \ne.g: bal asyncapi --input <AsyncAPIContract>";
     public static final String CLIENT_GENERATION_FAILED = "Error occurred when generating client for AsyncAPI contract";
-    public static final String MISSING_CONTRACT_PATH = "Bal service file is required to generate the " +
-            "asyncapi definition. \ne.g: bal asyncapi --input <Ballerina file path>";
+    public static final String MISSING_CONTRACT_PATH = "Bal service file or package is required to generate the " +
+            "asyncapi definition. \ne.g: bal asyncapi --input <Ballerina file or package path>";
     public static final String MESSAGE_INVALID_PROTOCOL = "ERROR invalid protocol: %s. Supported protocols are" +
             " `http` and `ws`.";
     public static final String INVALID_OPTION_ERROR_HTTP = "ERROR unsupported %s flag for http protocol";
@@ -42,9 +51,49 @@ public class AsyncApiMessages {
             SPEC);
     public static final String INVALID_USE_OF_TEST_FLAG_WARNING = String.format(INVALID_OPTION_WARNING, TEST_FLAG,
             SPEC);
+    public static final String INVALID_USE_OF_PIPELINING_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            PIPELINING_FLAG, SPEC);
+    public static final String INVALID_USE_OF_CONNECTION_POOL_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            CONNECTION_POOL_FLAG, SPEC);
+    public static final String INVALID_USE_OF_RECONNECT_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            RECONNECT_FLAG, SPEC);
+    public static final String INVALID_USE_OF_WRITE_BATCHING_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            WRITE_BATCHING_FLAG, SPEC);
+    public static final String INVALID_USE_OF_WRITE_QUEUE_SIZE_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            WRITE_QUEUE_SIZE_FLAG, SPEC);
+    public static final String INVALID_USE_OF_PIPE_SIZE_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            PIPE_SIZE_FLAG, SPEC);
+    public static final String INVALID_USE_OF_PIPE_OVERFLOW_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            PIPE_OVERFLOW_FLAG, SPEC);
     public static final String INVALID_USE_OF_JSON_FLAG_WARNING = String.format(INVALID_OPTION_WARNING, JSON_FLAG,
             CLIENT);
     public static final String INVALID_USE_OF_SERVICE_FLAG_WARNING = String.format(INVALID_OPTION_WARNING, SERVICE_FLAG,
             CLIENT);
+    public static final String INVALID_USE_OF_DISPATCH_MODE_FLAG_WARNING = "WARNING the `" + DISPATCH_MODE_FLAG +
+            "` option is only valid for the http protocol and will be ignored.";
+    public static final String INVALID_USE_OF_ASYNC_ACK_FLAG_WARNING = "WARNING the `" + ASYNC_ACK_FLAG +
+            "` option is only valid for the http protocol and will be ignored.";
     public static final String MESSAGE_INVALID_LICENSE_STREAM = "Invalid license file path : %s. %s.";
+    public static final String GENERATION_UP_TO_DATE = "Sources generated for %s are up to date, skipping the " +
+            "generation.";
+    public static final String GENERATION_CACHE_WARNING = "WARNING unable to use the generation cache: %s";
+    public static final String MESSAGE_INVALID_BATCH_INPUT = "ERROR unable to read the batch input %s: %s";
+    public static final String MESSAGE_EMPTY_BATCH = "ERROR no AsyncAPI contracts or Ballerina services found in %s";
+    public static final String MESSAGE_INVALID_THREAD_COUNT = "ERROR invalid number of threads: %d. The number of " +
+            "threads should be at least 1.";
+    public static final String MESSAGE_INVALID_QUEUE_SIZE = "ERROR invalid size: %d. The sizes of the write queue " +
+            "and of the pipes should be at least 1.";
+    public static final String MESSAGE_INVALID_OVERFLOW_POLICY = "ERROR invalid pipe overflow policy: %s. Supported " +
+            "policies are `block`, `drop-oldest`, `drop-newest` and `fail-fast`.";
+    public static final String BATCH_ENTRY_SUCCEEDED = "[SUCCESS] %s -> %s";
+    public static final String BATCH_ENTRY_FAILED = "[FAILED] %s";
+    public static final String BATCH_SUMMARY = "Batch generation completed: %d succeeded, %d failed.";
+    public static final String GENERATION_CACHE_SUMMARY = "Generation cache: %d hit(s), %d miss(es)";
+    public static final String PROFILE_TRACE_WRITTEN = "Generation profile trace written to %s";
+    public static final String PROFILE_TRACE_WARNING = "WARNING unable to write the generation profile trace %s: %s";
+    public static final String MESSAGE_INVALID_USE_OF_WATCH_FLAG = "ERROR the `--watch` option cannot be used along " +
+            "with the `--batch` option.";
+    public static final String WATCHING_INPUT = "Watching %s for changes. Press Ctrl+C to stop.";
+    public static final String WATCH_REGENERATED = "Regenerated the sources of %s in %d ms.";
+    public static final String WATCH_FAILED = "ERROR unable to watch %s: %s";
 }
@@ -0,0 +1,293 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.cmd;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs the generation for a set of inputs on a bounded pool of workers.
+ * <p>
+ * The inputs can be given as a directory, which is searched recursively, a glob pattern, or a manifest file
+ * which lists one input path per line. A manifest is recognized by its {@code .txt} or {@code .list} extension, so
+ * that a single spec given in batch mode is rejected instead of being read as a list of paths. Blank lines and lines
+ * starting with {@code #} are ignored in a manifest.
+ */
+public class BatchGenerator {
+    private static final String GLOB_CHARACTERS = "*?[{";
+    private static final String MANIFEST_COMMENT = "#";
+    private static final List<String> MANIFEST_EXTENSIONS = List.of(".txt", ".list");
+    private final int threads;
+
+    public BatchGenerator(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Generation of a single input of the batch.
+     */
+    @FunctionalInterface
+    public interface Generation {
+        /**
+         * Generates the sources for the given input.
+         *
+         * @param input     Path of the input
+         * @param outputDir Directory to write the generated sources to
+         * @return Non fatal diagnostics of the generation
+         * @throws Exception when the generation fails
+         */
+        List<String> generate(Path input, Path outputDir) throws Exception;
+    }
+
+    /**
+     * Result of the generation of a single input of the batch.
+     */
+    public static class Result {
+        private final Path input;
+        private final Path outputDir;
+        private final boolean success;
+        private final List<String> diagnostics;
+
+        Result(Path input, Path outputDir, boolean success, List<String> diagnostics) {
+            this.input = input;
+            this.outputDir = outputDir;
+            this.success = success;
+            this.diagnostics = diagnostics;
+        }
+
+        public Path getInput() {
+            return input;
+        }
+
+        public Path getOutputDir() {
+            return outputDir;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public List<String> getDiagnostics() {
+            return diagnostics;
+        }
+    }
+
+    /**
+     * Input of the batch along with the directory its generated sources are written to.
+     */
+    public static class Input {
+        private final Path path;
+        private final Path outputDir;
+
+        Input(Path path, Path outputDir) {
+            this.path = path;
+            this.outputDir = outputDir;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public Path getOutputDir() {
+            return outputDir;
+        }
+    }
+
+    /**
+     * Resolves the inputs of the batch. The generated sources of each input are written to a directory named
+     * after the input file, relative to the root of the batch, so that the inputs do not overwrite each other.
+     *
+     * @param source        Directory, glob pattern or manifest file
+     * @param executionPath Directory to resolve relative paths against
+     * @param outputPath    Root directory of the generated sources
+     * @param filter        Filter to select the inputs
+     * @return Inputs of the batch sorted by their path
+     * @throws IOException when the inputs could not be listed, or when the source is neither a directory, a glob
+     *                     pattern nor a manifest file
+     */
+    public static List<Input> resolveInputs(String source, Path executionPath, Path outputPath,
+                                            Predicate<Path> filter) throws IOException {
+        Path root;
+        List<Path> paths;
+        if (containsGlob(source)) {
+            root = executionPath.resolve(getGlobBase(source)).normalize();
+            String pattern = executionPath.resolve(source).normalize().toString();
+            PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+            paths = listFiles(root, path -> matcher.matches(path) && filter.test(path));
+        } else {
+            Path sourcePath = executionPath.resolve(source).normalize();
+            if (Files.isDirectory(sourcePath)) {
+                root = sourcePath;
+                paths = listFiles(root, filter);
+            } else if (isManifest(sourcePath)) {
+                root = sourcePath.getParent();
+                paths = readManifest(sourcePath);
+            } else {
+                throw new IOException("the input should be a directory, a glob pattern or a manifest file with one " +
+                        "of the extensions " + String.join(", ", MANIFEST_EXTENSIONS));
+            }
+        }
+        Map<Path, Long> outputDirCounts = paths.stream()
+                .collect(Collectors.groupingBy(path -> getOutputDir(path, root, outputPath, false),
+                        Collectors.counting()));
+        List<Input> inputs = new ArrayList<>();
+        for (Path path : paths) {
+            // Inputs which only differ by the extension, e.g. spec.yaml and spec.json, keep the extension
+            boolean keepExtension = outputDirCounts.get(getOutputDir(path, root, outputPath, false)) > 1;
+            inputs.add(new Input(path, getOutputDir(path, root, outputPath, keepExtension)));
+        }
+        return inputs;
+    }
+
+    private static Path getOutputDir(Path path, Path root, Path outputPath, boolean keepExtension) {
+        String fileName = path.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String outputName;
+        if (extensionIndex <= 0) {
+            outputName = fileName;
+        } else if (keepExtension) {
+            outputName = fileName.substring(0, extensionIndex) + "_" + fileName.substring(extensionIndex + 1);
+        } else {
+            outputName = fileName.substring(0, extensionIndex);
+        }
+        Path relativeDir = path.startsWith(root) ? root.relativize(path).getParent() : null;
+        return relativeDir == null ? outputPath.resolve(outputName) :
+                outputPath.resolve(relativeDir).resolve(outputName);
+    }
+
+    /**
+     * Runs the generation of all the inputs. Results are returned in the order of the inputs regardless of the
+     * order in which the workers complete them.
+     *
+     * @param inputs     Inputs of the batch
+     * @param generation Generation to run for each input
+     * @return Results of the generations
+     */
+    public List<Result> generate(List<Input> inputs, Generation generation) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, inputs.size())));
+        try {
+            List<Future<Result>> futures = new ArrayList<>();
+            for (Input input : inputs) {
+                futures.add(executor.submit(() -> generate(input, generation)));
+            }
+            List<Result> results = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                Input input = inputs.get(i);
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    results.add(new Result(input.getPath(), input.getOutputDir(), false,
+                            List.of(String.valueOf(e.getCause()))));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    results.add(new Result(input.getPath(), input.getOutputDir(), false,
+                            List.of("Generation was interrupted")));
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Result generate(Input input, Generation generation) {
+        try {
+            List<String> diagnostics = generation.generate(input.getPath(), input.getOutputDir());
+            return new Result(input.getPath(), input.getOutputDir(), true, diagnostics);
+        } catch (Exception e) {
+            String message = e.getLocalizedMessage() != null ? e.getLocalizedMessage() : e.toString();
+            return new Result(input.getPath(), input.getOutputDir(), false, List.of(message));
+        }
+    }
+
+    private static boolean containsGlob(String source) {
+        for (char character : GLOB_CHARACTERS.toCharArray()) {
+            if (source.indexOf(character) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the leading directories of the glob pattern which do not contain a glob character.
+     */
+    private static String getGlobBase(String pattern) {
+        int globIndex = firstGlobIndex(pattern);
+        int separatorIndex = Math.max(pattern.lastIndexOf('/', globIndex), pattern.lastIndexOf('\\', globIndex));
+        return separatorIndex < 0 ? "." : pattern.substring(0, separatorIndex + 1);
+    }
+
+    private static int firstGlobIndex(String pattern) {
+        int index = pattern.length();
+        for (char character : GLOB_CHARACTERS.toCharArray()) {
+            int characterIndex = pattern.indexOf(character);
+            if (characterIndex >= 0) {
+                index = Math.min(index, characterIndex);
+            }
+        }
+        return index;
+    }
+
+    private static List<Path> listFiles(Path root, Predicate<Path> filter) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(filter)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static boolean isManifest(Path path) {
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ENGLISH);
+        return MANIFEST_EXTENSIONS.stream().anyMatch(fileName::endsWith);
+    }
+
+    private static List<Path> readManifest(Path manifest) throws IOException {
+        Path manifestDir = manifest.getParent();
+        List<Path> paths = new ArrayList<>();
+        for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+            String entry = line.trim();
+            if (entry.isEmpty() || entry.startsWith(MANIFEST_COMMENT)) {
+                continue;
+            }
+            paths.add(manifestDir.resolve(entry).normalize());
+        }
+        return paths;
+    }
+}
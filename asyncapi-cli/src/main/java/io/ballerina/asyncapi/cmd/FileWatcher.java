@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.cmd;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Watches the files of a set of directories and reports the files which changed.
+ * <p>
+ * Editors usually save a file in several steps, e.g. by writing a temporary file and renaming it, hence the events
+ * which follow each other within the debounce interval are reported as a single change.
+ */
+public class FileWatcher implements Closeable {
+    private final WatchService watchService;
+    private final Predicate<Path> filter;
+    private final long debounceMillis;
+
+    /**
+     * Creates a watcher of the given directories.
+     *
+     * @param directories    Directories to watch, which are not watched recursively
+     * @param filter         Filter of the files to report the changes of
+     * @param debounceMillis Time in milliseconds to wait for the events which follow an event
+     * @throws IOException when a directory could not be watched
+     */
+    public FileWatcher(Collection<Path> directories, Predicate<Path> filter, long debounceMillis) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.filter = filter;
+        this.debounceMillis = debounceMillis;
+        try {
+            register(directories);
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Listener of the changes of the watched files.
+     */
+    @FunctionalInterface
+    public interface ChangeListener {
+        /**
+         * Handles the change of the given files.
+         *
+         * @param changedFiles Files which were created, modified or deleted
+         */
+        void onChange(Set<Path> changedFiles);
+    }
+
+    /**
+     * Watches the given directories as well. A directory which is already watched is not watched twice.
+     *
+     * @param directories Directories to watch
+     * @throws IOException when a directory could not be watched
+     */
+    public void register(Collection<Path> directories) throws IOException {
+        for (Path directory : directories) {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+    }
+
+    /**
+     * Reports the changes of the watched files to the given listener until the watcher is closed.
+     *
+     * @param listener Listener to report the changes to
+     * @throws InterruptedException when the thread was interrupted while waiting for a change
+     */
+    public void watch(ChangeListener listener) throws InterruptedException {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Set<Path> changedFiles = new LinkedHashSet<>();
+                while (key != null) {
+                    collectChangedFiles(key, changedFiles);
+                    key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+                }
+                if (!changedFiles.isEmpty()) {
+                    listener.onChange(changedFiles);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // The watcher was closed, which ends the watching
+        }
+    }
+
+    private void collectChangedFiles(WatchKey key, Set<Path> changedFiles) {
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost, hence the directory is reported as changed as a whole
+                changedFiles.add(directory);
+                continue;
+            }
+            Path file = directory.resolve((Path) event.context());
+            if (filter.test(file)) {
+                changedFiles.add(file);
+            }
+        }
+        key.reset();
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * On-disk content addressed cache of the generated sources.
+ * <p>
+ * A cache key is derived from the spec bytes, the bytes of every local file the spec pulls in through an external
+ * {@code $ref}, the tool version, the templates used by the generator, the CLI flags and the output location. Specs
+ * referring to remote files are not cached, as the content of those files cannot be tracked. The cache entry of a
+ * key records the content hash of every file generated for it, so a later run with the same key can skip the
+ * generation entirely, without touching the output files, as long as those files are still present and unmodified.
+ */
+public class GenerationCache {
+    private static final String CACHE_FORMAT_VERSION = "1";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String CACHE_ENTRY_EXTENSION = ".properties";
+    private static final String REF_FIELD = "$ref";
+    // YAML is a superset of JSON, hence this reads the specs of either format
+    private static final ObjectReader SPEC_READER = new ObjectMapper(new YAMLFactory()).reader();
+    private final Path cacheDir;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    public GenerationCache(Path cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * Returns the default cache location, which is shared by all the runs of the current user.
+     *
+     * @return Path to the default cache directory
+     */
+    public static Path getDefaultCacheDir() {
+        return Paths.get(System.getProperty("user.home"), ".ballerina", "asyncapi-cache");
+    }
+
+    /**
+     * Computes the cache key for a generation.
+     *
+     * @param specPath  Path to the input spec
+     * @param outputDir Directory the sources are generated into
+     * @param templates Class path resources used by the generator
+     * @param flags     CLI flags which affect the generated content
+     * @return Hex encoded cache key
+     * @throws IOException when the spec, a file it refers to or a template could not be read, or when the spec
+     *                     refers to a remote file
+     */
+    public String computeKey(Path specPath, Path outputDir, List<String> templates, Map<String, String> flags)
+            throws IOException {
+        MessageDigest digest = newDigest();
+        update(digest, CACHE_FORMAT_VERSION);
+        update(digest, getToolVersion());
+        update(digest, outputDir.toAbsolutePath().normalize().toString());
+        update(digest, Long.toString(Files.size(specPath)));
+        try (InputStream inputStream = Files.newInputStream(specPath)) {
+            updateFromStream(digest, inputStream);
+        }
+        updateFromReferencedFiles(digest, specPath);
+        ClassLoader classLoader = GenerationCache.class.getClassLoader();
+        for (String template : templates) {
+            update(digest, template);
+            try (InputStream inputStream = classLoader.getResourceAsStream(template)) {
+                if (inputStream != null) {
+                    updateFromStream(digest, inputStream);
+                }
+            }
+        }
+        for (Map.Entry<String, String> flag : new TreeMap<>(flags).entrySet()) {
+            update(digest, flag.getKey());
+            update(digest, String.valueOf(flag.getValue()));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Checks whether the files generated for the given key are still present and unmodified in the output
+     * directory, and records the result as a cache hit or a miss.
+     *
+     * @param key       Cache key computed with {@link #computeKey}
+     * @param outputDir Directory the sources are generated into
+     * @return true if the generation can be skipped
+     */
+    public boolean isUpToDate(String key, Path outputDir) {
+        Path entry = cacheDir.resolve(key + CACHE_ENTRY_EXTENSION);
+        boolean upToDate = Files.isRegularFile(entry);
+        if (upToDate) {
+            try (Reader reader = Files.newBufferedReader(entry, StandardCharsets.UTF_8)) {
+                Properties outputs = new Properties();
+                outputs.load(reader);
+                upToDate = !outputs.isEmpty();
+                for (String fileName : outputs.stringPropertyNames()) {
+                    Path outputFile = outputDir.resolve(fileName);
+                    if (!Files.isRegularFile(outputFile) ||
+                            !hashFile(outputFile).equals(outputs.getProperty(fileName))) {
+                        upToDate = false;
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                upToDate = false;
+            }
+        }
+        if (upToDate) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return upToDate;
+    }
+
+    /**
+     * Records the files generated for the given key.
+     *
+     * @param key         Cache key computed with {@link #computeKey}
+     * @param outputDir   Directory the sources are generated into
+     * @param outputFiles Generated files
+     * @throws IOException when the cache entry could not be written
+     */
+    public void store(String key, Path outputDir, List<Path> outputFiles) throws IOException {
+        Path normalizedOutputDir = outputDir.toAbsolutePath().normalize();
+        Properties outputs = new Properties();
+        for (Path outputFile : outputFiles) {
+            Path normalizedOutputFile = outputFile.toAbsolutePath().normalize();
+            outputs.setProperty(normalizedOutputDir.relativize(normalizedOutputFile).toString(),
+                    hashFile(normalizedOutputFile));
+        }
+        Files.createDirectories(cacheDir);
+        // Write to a temporary file first, so that concurrent runs never observe a partially written entry
+        Path tmpEntry = Files.createTempFile(cacheDir, key, ".tmp");
+        try (OutputStream outputStream = Files.newOutputStream(tmpEntry)) {
+            outputs.store(outputStream, null);
+        }
+        Files.move(tmpEntry, cacheDir.resolve(key + CACHE_ENTRY_EXTENSION), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * The implementation version is not available when running from the class files, hence the size and the
+     * modified time of the code source are used as well, so that any rebuild of the tool invalidates the cache.
+     */
+    private static String getToolVersion() {
+        StringBuilder version = new StringBuilder(String.valueOf(
+                GenerationCache.class.getPackage().getImplementationVersion()));
+        CodeSource codeSource = GenerationCache.class.getProtectionDomain().getCodeSource();
+        if (codeSource != null) {
+            URL location = codeSource.getLocation();
+            try {
+                Path codeSourcePath = Paths.get(location.toURI());
+                version.append(':').append(Files.size(codeSourcePath))
+                        .append(':').append(Files.getLastModifiedTime(codeSourcePath).toMillis());
+            } catch (URISyntaxException | IOException | IllegalArgumentException e) {
+                version.append(':').append(location);
+            }
+        }
+        return version.toString();
+    }
+
+    /**
+     * Adds the path and the bytes of every local file the spec refers to through an external {@code $ref}, directly or
+     * through another referenced file, so that editing any of them changes the key. The files are visited breadth
+     * first in the order the references appear, hence the same set of files always yields the same digest.
+     */
+    private static void updateFromReferencedFiles(MessageDigest digest, Path specPath) throws IOException {
+        Path normalizedSpecPath = specPath.toAbsolutePath().normalize();
+        Set<Path> visited = new HashSet<>();
+        visited.add(normalizedSpecPath);
+        Deque<Path> pending = new ArrayDeque<>();
+        pending.add(normalizedSpecPath);
+        while (!pending.isEmpty()) {
+            Path file = pending.poll();
+            for (String ref : getExternalRefs(file)) {
+                if (ref.contains("://")) {
+                    throw new IOException("the spec refers to the remote file " + ref);
+                }
+                Path referencedFile = file.resolveSibling(ref).normalize();
+                if (!visited.add(referencedFile)) {
+                    continue;
+                }
+                update(digest, referencedFile.toString());
+                if (Files.isRegularFile(referencedFile)) {
+                    update(digest, Long.toString(Files.size(referencedFile)));
+                    try (InputStream inputStream = Files.newInputStream(referencedFile)) {
+                        updateFromStream(digest, inputStream);
+                    }
+                    pending.add(referencedFile);
+                } else {
+                    // The generation fails on a missing file, but its later creation still has to change the key
+                    update(digest, "");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the file part of every {@code $ref} of the given file which does not point into the file itself.
+     */
+    private static List<String> getExternalRefs(Path file) throws IOException {
+        JsonNode root;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            root = SPEC_READER.readTree(inputStream);
+        }
+        List<String> refs = new ArrayList<>();
+        Deque<JsonNode> nodes = new ArrayDeque<>();
+        if (root != null) {
+            nodes.push(root);
+        }
+        while (!nodes.isEmpty()) {
+            JsonNode node = nodes.pop();
+            JsonNode ref = node.get(REF_FIELD);
+            if (node.isObject() && ref != null && ref.isTextual()) {
+                String refFile = ref.textValue();
+                int fragmentIndex = refFile.indexOf('#');
+                if (fragmentIndex >= 0) {
+                    refFile = refFile.substring(0, fragmentIndex);
+                }
+                if (!refFile.isEmpty()) {
+                    refs.add(refFile);
+                }
+            }
+            List<JsonNode> childNodes = new ArrayList<>();
+            node.elements().forEachRemaining(childNodes::add);
+            // Pushed in reverse, so that the references are collected in document order
+            for (int i = childNodes.size() - 1; i >= 0; i--) {
+                nodes.push(childNodes.get(i));
+            }
+        }
+        return refs;
+    }
+
+    private static String hashFile(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            updateFromStream(digest, inputStream);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private static void updateFromStream(MessageDigest digest, InputStream inputStream) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not supported by the runtime", e);
+        }
+    }
+}
@@ -17,7 +17,10 @@
  */
 package io.ballerina.asyncapi.cmd.websockets;
 
+import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25ComponentsImpl;
 import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
+import io.ballerina.asyncapi.options.GenerationOptions;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
 import io.ballerina.asyncapi.websocketscore.GeneratorConstants;
 import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
@@ -25,6 +28,7 @@ import io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.CodegenUt
 import io.ballerina.asyncapi.websocketscore.generators.client.IntermediateClientGenerator;
 import io.ballerina.asyncapi.websocketscore.generators.client.TestGenerator;
 import io.ballerina.asyncapi.websocketscore.generators.client.model.AasClientConfig;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.AasQueueConfig;
 import io.ballerina.asyncapi.websocketscore.generators.schema.BallerinaTypesGenerator;
 import io.ballerina.asyncapi.websocketscore.model.GenSrcFile;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
@@ -34,6 +38,7 @@ import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -43,7 +48,16 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static io.ballerina.asyncapi.cmd.websockets.CmdConstants.CLIENT_FILE_NAME;
 import static io.ballerina.asyncapi.cmd.websockets.CmdConstants.CONFIG_FILE_NAME;
@@ -60,13 +74,40 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.UTIL_FILE_
  *
  */
 public class AsyncApiToBallerinaGenerator {
-    private static final PrintStream outStream = System.err;
     private final String licenseHeader;
     private final boolean includeTestFiles;
+    private final int threads;
+    private final boolean printTimings;
+    private final boolean pipelining;
+    private final boolean connectionPool;
+    private final boolean reconnect;
+    private final boolean writeBatching;
+    private final AasQueueConfig queueConfig;
+    private final GenerationProfiler profiler;
+    private final PrintStream outStream;
 
     public AsyncApiToBallerinaGenerator(String licenseHeader, boolean includeTestFiles) {
-        this.licenseHeader = licenseHeader;
-        this.includeTestFiles = includeTestFiles;
+        this(new GenerationOptions.Builder().withLicenseHeader(licenseHeader).withIncludeTestFiles(includeTestFiles)
+                .build());
+    }
+
+    /**
+     * Creates a generator which generates the client with the given options.
+     *
+     * @param options Options of the generation
+     */
+    public AsyncApiToBallerinaGenerator(GenerationOptions options) {
+        this.licenseHeader = options.getLicenseHeader();
+        this.includeTestFiles = options.isIncludeTestFiles();
+        this.threads = options.getThreads();
+        this.printTimings = options.isPrintTimings();
+        this.pipelining = options.isPipelining();
+        this.connectionPool = options.isConnectionPool();
+        this.reconnect = options.isReconnect();
+        this.writeBatching = options.isWriteBatching();
+        this.queueConfig = options.getQueueConfig();
+        this.profiler = options.getProfiler();
+        this.outStream = options.getOutStream();
     }
 
     /**
@@ -77,22 +118,63 @@ public class AsyncApiToBallerinaGenerator {
      * @param definitionPath Input Async Api Definition file path
      * @param outPath        Destination file path to save generated client files including types.bal, utils.bal
      *                       If not provided {@code definitionPath} will be used as the default destination path
+     * @return paths of the files written to {@code outPath}
      * @throws IOException   when file operations fail
      * @throws BallerinaAsyncApiExceptionWs when code generator fails
      */
-    public void generateClient(Path definitionPath, Path outPath) throws IOException, BallerinaAsyncApiExceptionWs,
-            FormatterException {
-        writeGeneratedSources(generateClientFiles(definitionPath), outPath, GEN_CLIENT);
+    public List<Path> generateClient(Path definitionPath, Path outPath) throws IOException,
+            BallerinaAsyncApiExceptionWs, FormatterException {
+        return generateClient(definitionPath, outPath, false);
     }
 
     /**
+     * Generates the client again for a definition which changed, into the directory the client was generated in
+     * before. The files generated before are overwritten without asking, and a file is written only if its content
+     * changed, so that only the affected files of the client are touched.
      *
-     * @param sources Generated all sources as a list
-     * @param srcPath Output path provided
+     * @param definitionPath Input Async Api Definition file path
+     * @param outPath        Directory the client was generated in
+     * @return paths of the generated files
+     * @throws IOException   when file operations fail
+     * @throws BallerinaAsyncApiExceptionWs when code generator fails
+     */
+    public List<Path> regenerateClient(Path definitionPath, Path outPath) throws IOException,
+            BallerinaAsyncApiExceptionWs, FormatterException {
+        return generateClient(definitionPath, outPath, true);
+    }
+
+    private List<Path> generateClient(Path definitionPath, Path outPath, boolean regenerate) throws IOException,
+            BallerinaAsyncApiExceptionWs, FormatterException {
+        Map<String, Long> formatTimes = new ConcurrentHashMap<>();
+        List<GenSrcFile> sources = generateClientFiles(definitionPath, formatTimes);
+        List<String> fileNames = sources.stream().map(GenSrcFile::getFileName).collect(Collectors.toList());
+        long[] writeTimes = new long[sources.size()];
+        List<Path> writtenFiles = writeGeneratedSources(sources, outPath, GEN_CLIENT, writeTimes, regenerate);
+        if (printTimings) {
+            outStream.println("Time taken per file:");
+            for (int i = 0; i < fileNames.size(); i++) {
+                outStream.println(String.format("-- %s: format %d ms, write %d ms", fileNames.get(i),
+                        TimeUnit.NANOSECONDS.toMillis(formatTimes.getOrDefault(fileNames.get(i), 0L)),
+                        TimeUnit.NANOSECONDS.toMillis(writeTimes[i])));
+            }
+        }
+        return writtenFiles;
+    }
+
+    /**
+     *
+     * @param sources    Generated all sources as a list
+     * @param srcPath    Output path provided
+     * @param writeTimes Array to record the time taken to write each of the sources
+     * @param regenerate Whether the sources are generated again, overwriting the files without asking and writing
+     *                   only the files whose content changed
+     * @return paths of the written files
      * @throws IOException
      */
-    private void writeGeneratedSources(List<GenSrcFile> sources, Path srcPath, GeneratorConstants.GenType type)
-            throws IOException {
+    private List<Path> writeGeneratedSources(List<GenSrcFile> sources, Path srcPath, GeneratorConstants.GenType type,
+                                             long[] writeTimes, boolean regenerate) throws IOException {
+        List<Path> writtenFiles = new ArrayList<>();
+        List<Callable<Path>> writes = new ArrayList<>();
         //  Remove old generated file with same name
         List<File> listFiles = new ArrayList<>();
         if (Files.notExists(srcPath)) {
@@ -116,7 +198,7 @@ public class AsyncApiToBallerinaGenerator {
         for (File file : listFiles) {
             for (GenSrcFile gFile : sources) {
                 if (file.getName().equals(gFile.getFileName())) {
-                    if (System.console() != null) {
+                    if (!regenerate && System.console() != null) {
                         String userInput = System.console().readLine("There is already a/an " + file.getName() +
                                 " in the location. Do you want to override the file? [y/N] ");
                         if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
@@ -128,16 +210,16 @@ public class AsyncApiToBallerinaGenerator {
             }
         }
 
-        for (GenSrcFile file : sources) {
+        for (int i = 0; i < sources.size(); i++) {
+            GenSrcFile file = sources.get(i);
             Path filePath;
             // We only overwrite files of overwritable type.
             // So non overwritable files will be written to disk only once.
             if (!file.getType().isOverwritable()) {
                 filePath = srcPath.resolve(file.getFileName());
                 if (Files.notExists(filePath)) {
-                    String fileContent = file.getFileName().endsWith(".bal") ?
-                            (licenseHeader + file.getContent()) : file.getContent();
-                    CodegenUtils.writeFile(filePath, fileContent);
+                    String header = file.getFileName().endsWith(".bal") ? licenseHeader : "";
+                    writes.add(writeSource(filePath, header, file.getContent(), writeTimes, i, false, profiler));
                 }
             } else {
                 boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
@@ -151,11 +233,16 @@ public class AsyncApiToBallerinaGenerator {
                 } else {
                     filePath = Paths.get(srcPath.resolve(file.getFileName()).toFile().getCanonicalPath());
                 }
-                String fileContent = file.getFileName().endsWith(".bal") ?
-                        (licenseHeader + file.getContent()) : file.getContent();
-                CodegenUtils.writeFile(filePath, fileContent);
+                String header = file.getFileName().endsWith(".bal") ? licenseHeader : "";
+                writes.add(writeSource(filePath, header, file.getContent(), writeTimes, i, regenerate, profiler));
             }
         }
+        // The files are written to distinct paths, hence they can be written in any order
+        try {
+            writtenFiles.addAll(invokeAll(writes));
+        } catch (FormatterException e) {
+            throw new IOException(e);
+        }
 
         outStream.println("Client generated successfully.");
         outStream.println("Following files were created.");
@@ -163,59 +250,159 @@ public class AsyncApiToBallerinaGenerator {
         while (iterator.hasNext()) {
             outStream.println("-- " + iterator.next().getFileName());
         }
+        return writtenFiles;
+    }
+
+    /**
+     * Writes a source file, with the license header ahead of the source. The header and the source are written one
+     * after the other, rather than concatenated into another copy of the source.
+     */
+    private static Callable<Path> writeSource(Path filePath, String header, String content, long[] writeTimes,
+                                              int index, boolean skipUnchanged, GenerationProfiler profiler) {
+        return () -> {
+            long startTime = System.nanoTime();
+            if (skipUnchanged && Files.isRegularFile(filePath) &&
+                    isUnchanged(Files.readString(filePath), header, content)) {
+                writeTimes[index] = System.nanoTime() - startTime;
+                return filePath;
+            }
+            try (GenerationProfiler.Phase ignored = profiler.start("write " + filePath.getFileName())
+                    .count("characters", header.length() + content.length())) {
+                CodegenUtils.writeFile(filePath, header, content);
+            }
+            writeTimes[index] = System.nanoTime() - startTime;
+            return filePath;
+        };
+    }
+
+    private static boolean isUnchanged(String existingContent, String header, String content) {
+        return existingContent.length() == header.length() + content.length() &&
+                existingContent.startsWith(header) &&
+                existingContent.regionMatches(header.length(), content, 0, content.length());
     }
 
     /**
      * Generate code for ballerina client.
-     * @param asyncApi path to the AsyncAPI definition
+     * The syntax trees of the files are built one after the other since the later trees depend on the types
+     * collected while building the earlier ones, but the trees are independent once built, hence they are formatted
+     * in parallel.
+     *
+     * @param asyncApi    path to the AsyncAPI definition
+     * @param formatTimes map to record the time taken to format each file
      * @return generated source files as a list of {@link GenSrcFile}
      * @throws IOException when code generation with specified templates fails
      */
-    private List<GenSrcFile> generateClientFiles(Path asyncApi)
+    private List<GenSrcFile> generateClientFiles(Path asyncApi, Map<String, Long> formatTimes)
             throws IOException, BallerinaAsyncApiExceptionWs, FormatterException {
-        List<GenSrcFile> sourceFiles = new ArrayList<>();
+        List<Callable<GenSrcFile>> formattings = new ArrayList<>();
         // Normalize AsyncAPI definition
-        AsyncApi25DocumentImpl asyncApiDef = GeneratorUtils.normalizeAsyncAPI(asyncApi);
+        AsyncApi25DocumentImpl asyncApiDef = GeneratorUtils.normalizeAsyncAPI(asyncApi, profiler);
         // Generate ballerina client.
         AasClientConfig.Builder clientMetaDataBuilder = new AasClientConfig.Builder();
         AasClientConfig asyncApiClientConfig = clientMetaDataBuilder.withAsyncApi(asyncApiDef)
-                .withLicense(licenseHeader).build();
+                .withLicense(licenseHeader)
+                .withPipelining(pipelining).withConnectionPool(connectionPool)
+                .withReconnect(reconnect).withWriteBatching(writeBatching).withQueueConfig(queueConfig).build();
         //Generate client intermediate code
         IntermediateClientGenerator intermediateClientGenerator = new IntermediateClientGenerator(asyncApiClientConfig);
-        String mainContent = Formatter.format(intermediateClientGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, CLIENT_FILE_NAME, mainContent));
+        SyntaxTree clientSyntaxTree;
+        try (GenerationProfiler.Phase phase = profiler.start("client syntax tree")) {
+            clientSyntaxTree = intermediateClientGenerator.generateSyntaxTree();
+            phase.count("remote functions", intermediateClientGenerator.getRemoteFunctionNameList().size());
+        }
+        formattings.add(formatSource(GenSrcFile.GenFileType.GEN_SRC, CLIENT_FILE_NAME, clientSyntaxTree, false,
+                formatTimes));
 
         //Generate util functions for client intermediate code
-        String utilContent = Formatter.format(
-                intermediateClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, UTIL_FILE_NAME, utilContent));
+        SyntaxTree utilSyntaxTree;
+        try (GenerationProfiler.Phase ignored = profiler.start("util syntax tree")) {
+            utilSyntaxTree = intermediateClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
         }
+        formattings.add(formatSource(GenSrcFile.GenFileType.UTIL_SRC, UTIL_FILE_NAME, utilSyntaxTree, true,
+                formatTimes));
         List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>(
                 intermediateClientGenerator.getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
         preGeneratedTypeDefNodes.addAll(intermediateClientGenerator.getTypeDefinitionNodeList());
 
         //Generate ballerina records to represent schemas in client intermediate code
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(asyncApiDef,
-                preGeneratedTypeDefNodes);
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
+                intermediateClientGenerator.getGenerationContext(), preGeneratedTypeDefNodes);
         // Generate schema generator syntax tree
-        SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toString();
-
-        if (!schemaContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, TYPE_FILE_NAME, schemaContent));
+        SyntaxTree schemaSyntaxTree;
+        try (GenerationProfiler.Phase phase = profiler.start("types syntax tree")) {
+            schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
+            if (asyncApiDef.getComponents() instanceof AsyncApi25ComponentsImpl components &&
+                    components.getSchemas() != null) {
+                phase.count("schemas", components.getSchemas().size());
+            }
         }
+        formattings.add(formatSource(GenSrcFile.GenFileType.MODEL_SRC, TYPE_FILE_NAME, schemaSyntaxTree, true,
+                formatTimes));
 
         // Generate test boilerplate code for test cases
+        String configContent = null;
         if (this.includeTestFiles) {
             TestGenerator testGenerator = new TestGenerator(intermediateClientGenerator);
-            String testContent = Formatter.format(testGenerator.generateSyntaxTree()).toString();
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, TEST_FILE_NAME, testContent));
-            String configContent = testGenerator.getConfigTomlFile();
-            if (!configContent.isBlank()) {
-                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, CONFIG_FILE_NAME, configContent));
+            SyntaxTree testSyntaxTree;
+            try (GenerationProfiler.Phase ignored = profiler.start("test syntax tree")) {
+                testSyntaxTree = testGenerator.generateSyntaxTree();
             }
+            formattings.add(formatSource(GenSrcFile.GenFileType.GEN_SRC, TEST_FILE_NAME, testSyntaxTree, false,
+                    formatTimes));
+            configContent = testGenerator.getConfigTomlFile();
+        }
+
+        // Blank sources are skipped, the rest keep the order they were added in
+        List<GenSrcFile> sourceFiles = invokeAll(formattings).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (configContent != null && !configContent.isBlank()) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, CONFIG_FILE_NAME, configContent));
         }
         return sourceFiles;
     }
+
+    private Callable<GenSrcFile> formatSource(GenSrcFile.GenFileType type, String fileName, SyntaxTree syntaxTree,
+                                              boolean skipIfBlank, Map<String, Long> formatTimes) {
+        return () -> {
+            long startTime = System.nanoTime();
+            String content;
+            try (GenerationProfiler.Phase ignored = profiler.start("format " + fileName)) {
+                content = Formatter.format(syntaxTree).toString();
+            }
+            formatTimes.put(fileName, System.nanoTime() - startTime);
+            return skipIfBlank && content.isBlank() ? null : new GenSrcFile(type, fileName, content);
+        };
+    }
+
+    /**
+     * Runs the given tasks on a bounded pool of workers and returns their results in the order of the tasks.
+     */
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) throws IOException, FormatterException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, tasks.size())));
+        try {
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof FormatterException formatterException) {
+                throw formatterException;
+            } else if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Generation of the client was interrupted");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -17,11 +17,11 @@
  */
 package io.ballerina.asyncapi.cmd.websockets;
 
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.AsyncApiConverterDiagnostic;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.DiagnosticMessages;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.ExceptionDiagnostic;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.model.AsyncApiResult;
-import io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.CodegenUtils;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.ServiceToAsyncApiConverterUtils;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
@@ -36,15 +36,20 @@ import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.apache.commons.io.FilenameUtils;
 
 import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.CodegenUtils.resolveContractFileName;
 
@@ -59,13 +64,37 @@ public class BallerinaToAsyncApiGenerator {
                                                                                           String serviceName,
                                                                                           Boolean needJson,
                                                                                           PrintStream outStream) {
+        return generateAsyncAPIDefinitionsAllService(servicePath, outPath, serviceName, needJson, outStream,
+                GenerationProfiler.DISABLED);
+    }
+
+    /**
+     * Generates the AsyncAPI definitions of the services in the given Ballerina file, recording the phases of the
+     * generation in the given profiler.
+     *
+     * @param servicePath Path to the Ballerina file
+     * @param outPath     Directory to write the definitions to
+     * @param serviceName Base path of the service to generate the definition for, or null for all services
+     * @param needJson    Whether to generate the definitions in JSON instead of YAML
+     * @param outStream   Stream to print the progress to
+     * @param profiler    Profiler to record the phases of the generation in
+     * @return diagnostics of the generation
+     */
+    public static List<AsyncApiConverterDiagnostic> generateAsyncAPIDefinitionsAllService(Path servicePath,
+                                                                                          Path outPath,
+                                                                                          String serviceName,
+                                                                                          Boolean needJson,
+                                                                                          PrintStream outStream,
+                                                                                          GenerationProfiler profiler) {
         SyntaxTree syntaxTree;
         SemanticModel semanticModel;
         Project project;
         final List<AsyncApiConverterDiagnostic> errors = new ArrayList<>();
 
         // Load project instance for single ballerina file
-        project = ProjectLoader.loadProject(servicePath);
+        try (GenerationProfiler.Phase ignored = profiler.start("load project")) {
+            project = ProjectLoader.loadProject(servicePath);
+        }
         Package packageName = project.currentPackage();
         DocumentId docId;
         Document doc;
@@ -83,10 +112,158 @@ public class BallerinaToAsyncApiGenerator {
         Optional<Path> path = project.documentPath(docId);
         Path inputPath = path.orElse(null);
         syntaxTree = doc.syntaxTree();
-        PackageCompilation compilation = project.currentPackage().getCompilation();
+        PackageCompilation compilation;
+        try (GenerationProfiler.Phase ignored = profiler.start("compile")) {
+            compilation = project.currentPackage().getCompilation();
+        }
+        if (!hasCompilationErrors(compilation, outStream)) {
+            semanticModel = compilation.getSemanticModel(docId.moduleId());
+            List<AsyncApiResult> asyncAPIDefinitions;
+            try (GenerationProfiler.Phase phase = profiler.start("generate definitions")) {
+                asyncAPIDefinitions = ServiceToAsyncApiConverterUtils.generateAsyncAPISpecDefinition(syntaxTree,
+                        semanticModel, serviceName, needJson, inputPath, Runtime.getRuntime().availableProcessors());
+                phase.count("definitions", asyncAPIDefinitions.size());
+            }
+            writeDefinitions(asyncAPIDefinitions, outPath, needJson, outStream, profiler, Collections.emptySet(),
+                    errors);
+        }
+        return errors;
+    }
+
+    /**
+     * Generates the AsyncAPI definitions of the services in all the documents of all the modules of the given
+     * Ballerina package. The package is compiled once, and the definitions of the documents of a module are generated
+     * from the shared semantic model of the module, instead of loading and compiling the package again for each file.
+     * A definition whose file name was already generated from another document is prefixed by the name of its module,
+     * or of its document in the default module.
+     *
+     * @param packagePath Path to the Ballerina package
+     * @param outPath     Directory to write the definitions to
+     * @param serviceName Base path of the service to generate the definition for, or null for all services
+     * @param needJson    Whether to generate the definitions in JSON instead of YAML
+     * @param outStream   Stream to print the progress to
+     * @param profiler    Profiler to record the phases of the generation in
+     * @return diagnostics of the generation
+     */
+    public static List<AsyncApiConverterDiagnostic> generateAsyncAPIDefinitionsAllModules(Path packagePath,
+                                                                                          Path outPath,
+                                                                                          String serviceName,
+                                                                                          Boolean needJson,
+                                                                                          PrintStream outStream,
+                                                                                          GenerationProfiler profiler) {
+        final List<AsyncApiConverterDiagnostic> errors = new ArrayList<>();
+        Project project;
+        try (GenerationProfiler.Phase ignored = profiler.start("load project")) {
+            project = ProjectLoader.loadProject(packagePath);
+        }
+        PackageCompilation compilation;
+        try (GenerationProfiler.Phase ignored = profiler.start("compile")) {
+            compilation = project.currentPackage().getCompilation();
+        }
+        if (hasCompilationErrors(compilation, outStream)) {
+            return errors;
+        }
+        List<DocumentDefinitions> documentDefinitions = new ArrayList<>();
+        List<AsyncApiResult> asyncAPIDefinitions;
+        try (GenerationProfiler.Phase phase = profiler.start("generate definitions")) {
+            for (Module module : getModules(project.currentPackage())) {
+                SemanticModel semanticModel = compilation.getSemanticModel(module.moduleId());
+                for (Document document : getDocuments(module)) {
+                    documentDefinitions.add(generateDocumentDefinitions(project, module, document, semanticModel,
+                            serviceName, needJson));
+                }
+            }
+            asyncAPIDefinitions = collectDefinitions(documentDefinitions, errors);
+            phase.count("documents", documentDefinitions.size()).count("definitions", asyncAPIDefinitions.size());
+        }
+        writeDefinitions(asyncAPIDefinitions, outPath, needJson, outStream, profiler, Collections.emptySet(),
+                errors);
+        return errors;
+    }
+
+    /**
+     * Returns the modules of the package, the default module first and the rest by their names, so that the file
+     * names of the definitions do not depend on the order the package lists its modules in.
+     */
+    static List<Module> getModules(Package currentPackage) {
+        List<Module> modules = new ArrayList<>();
+        currentPackage.modules().forEach(modules::add);
+        modules.sort(Comparator.comparing((Module module) -> !module.isDefaultModule())
+                .thenComparing(module -> module.moduleName().toString()));
+        return modules;
+    }
+
+    /**
+     * Returns the documents of the module by their names.
+     */
+    static List<Document> getDocuments(Module module) {
+        List<Document> documents = new ArrayList<>();
+        module.documentIds().forEach(documentId -> documents.add(module.document(documentId)));
+        documents.sort(Comparator.comparing(Document::name));
+        return documents;
+    }
+
+    /**
+     * Generates the AsyncAPI definitions of the services of a document of a package.
+     */
+    static DocumentDefinitions generateDocumentDefinitions(Project project, Module module, Document document,
+                                                           SemanticModel semanticModel, String serviceName,
+                                                           Boolean needJson) {
+        List<AsyncApiResult> definitions = ServiceToAsyncApiConverterUtils.generateAsyncAPISpecDefinition(
+                document.syntaxTree(), semanticModel, serviceName, needJson,
+                project.documentPath(document.documentId()).orElse(null), Runtime.getRuntime().availableProcessors());
+        String prefix = module.isDefaultModule() ? FilenameUtils.removeExtension(document.name()) :
+                module.moduleName().moduleNamePart();
+        return new DocumentDefinitions(prefix, definitions);
+    }
+
+    /**
+     * Collects the definitions generated from the documents of a package in the order of the documents, naming each
+     * definition whose file name was already generated from another document after its module or document. The
+     * documents which do not have the given service report it, which is an error only if none of the documents has
+     * it.
+     *
+     * @param documentDefinitions Definitions generated from each document
+     * @param errors              Diagnostics to add the error of a service which was not found to
+     * @return definitions to write
+     */
+    static List<AsyncApiResult> collectDefinitions(List<DocumentDefinitions> documentDefinitions,
+                                                   List<AsyncApiConverterDiagnostic> errors) {
+        List<AsyncApiResult> asyncAPIDefinitions = new ArrayList<>();
+        List<AsyncApiConverterDiagnostic> serviceNotFoundErrors = new ArrayList<>();
+        Set<String> fileNames = new HashSet<>();
+        for (DocumentDefinitions document : documentDefinitions) {
+            for (int i = 0; i < document.getDefinitions().size(); i++) {
+                AsyncApiResult definition = document.getDefinitions().get(i);
+                if (definition.getAsyncAPI().isEmpty() && isServiceNotFound(definition)) {
+                    serviceNotFoundErrors.addAll(definition.getDiagnostics());
+                    continue;
+                }
+                // The generated name is kept, so that the definitions of a document can be named again along with
+                // the definitions of other documents
+                String fileName = document.getFileNames().get(i);
+                if (definition.getAsyncAPI().isPresent() && !fileNames.add(fileName)) {
+                    fileName = document.getPrefix() + "_" + fileName;
+                    fileNames.add(fileName);
+                }
+                definition.setServiceName(fileName);
+                asyncAPIDefinitions.add(definition);
+            }
+        }
+        if (asyncAPIDefinitions.stream().noneMatch(definition -> definition.getAsyncAPI().isPresent())) {
+            errors.addAll(serviceNotFoundErrors);
+        }
+        return asyncAPIDefinitions;
+    }
+
+    private static boolean isServiceNotFound(AsyncApiResult definition) {
+        return !definition.getDiagnostics().isEmpty() && definition.getDiagnostics().stream().allMatch(
+                diagnostic -> DiagnosticMessages.AAS_CONVERTOR_101.getCode().equals(diagnostic.getCode()));
+    }
+
+    static boolean hasCompilationErrors(PackageCompilation compilation, PrintStream outStream) {
         boolean hasErrors = compilation.diagnosticResult().diagnostics().stream()
                 .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-
         if (hasErrors) {
             // if there are any compilation errors, do not proceed
             outStream.println("COMPILATION ERRORS:");
@@ -95,37 +272,23 @@ public class BallerinaToAsyncApiGenerator {
                     outStream.println(e.message());
                 }
             }
-        } else {
-            semanticModel = compilation.getSemanticModel(docId.moduleId());
-            List<AsyncApiResult> asyncAPIDefinitions = ServiceToAsyncApiConverterUtils.
-                    generateAsyncAPISpecDefinition(syntaxTree, semanticModel, serviceName, needJson, inputPath);
-
-            if (!asyncAPIDefinitions.isEmpty()) {
-                List<String> fileNames = new ArrayList<>();
-                for (AsyncApiResult definition : asyncAPIDefinitions) {
-                    if (Files.notExists(outPath)) {
-                        try {
-                            Files.createDirectories(outPath);
-                        } catch (IOException e) {
-                            DiagnosticMessages message = DiagnosticMessages.AAS_CONVERTOR_102;
-                            ExceptionDiagnostic error = new ExceptionDiagnostic(message.getCode(),
-                                    message.getDescription() + e.getLocalizedMessage(), null);
-                            errors.add(error);
-                        }
-                    }
+        }
+        return hasErrors;
+    }
+
+    /**
+     * Writes the given definitions, asking before overwriting an existing file unless it is one of the given files
+     * which were generated before.
+     */
+    static void writeDefinitions(List<AsyncApiResult> asyncAPIDefinitions, Path outPath, Boolean needJson,
+                                 PrintStream outStream, GenerationProfiler profiler, Set<String> generatedFileNames,
+                                 List<AsyncApiConverterDiagnostic> errors) {
+        if (!asyncAPIDefinitions.isEmpty()) {
+            List<String> fileNames = new ArrayList<>();
+            for (AsyncApiResult definition : asyncAPIDefinitions) {
+                if (Files.notExists(outPath)) {
                     try {
-                        errors.addAll(definition.getDiagnostics());
-                        if (definition.getAsyncAPI().isPresent()) {
-                            Optional<String> content;
-                            if (needJson) {
-                                content = definition.getJson();
-                            } else {
-                                content = definition.getYaml();
-                            }
-                            String fileName = resolveContractFileName(outPath, definition.getServiceName(), needJson);
-                            CodegenUtils.writeFile(outPath.resolve(fileName), content.get());
-                            fileNames.add(fileName);
-                        }
+                        Files.createDirectories(outPath);
                     } catch (IOException e) {
                         DiagnosticMessages message = DiagnosticMessages.AAS_CONVERTOR_102;
                         ExceptionDiagnostic error = new ExceptionDiagnostic(message.getCode(),
@@ -133,12 +296,64 @@ public class BallerinaToAsyncApiGenerator {
                         errors.add(error);
                     }
                 }
-                outStream.println("AsyncAPI definition(s) generated successfully and copied to :");
-                for (String fileName : fileNames) {
-                    outStream.println("-- " + fileName);
+                try {
+                    errors.addAll(definition.getDiagnostics());
+                    if (definition.getAsyncAPI().isPresent()) {
+                        String fileName = generatedFileNames.contains(definition.getServiceName()) ?
+                                definition.getServiceName() :
+                                resolveContractFileName(outPath, definition.getServiceName(), needJson);
+                        try (GenerationProfiler.Phase phase = profiler.start("write " + fileName)) {
+                            phase.count("bytes", definition.write(outPath.resolve(fileName), needJson));
+                        }
+                        fileNames.add(fileName);
+                    }
+                } catch (IOException e) {
+                    DiagnosticMessages message = DiagnosticMessages.AAS_CONVERTOR_102;
+                    ExceptionDiagnostic error = new ExceptionDiagnostic(message.getCode(),
+                            message.getDescription() + e.getLocalizedMessage(), null);
+                    errors.add(error);
                 }
             }
+            outStream.println("AsyncAPI definition(s) generated successfully and copied to :");
+            for (String fileName : fileNames) {
+                outStream.println("-- " + fileName);
+            }
+        }
+    }
+
+    /**
+     * AsyncAPI definitions generated from a document of a package.
+     */
+    static class DocumentDefinitions {
+        private final String prefix;
+        private final List<AsyncApiResult> definitions;
+        private final List<String> fileNames = new ArrayList<>();
+
+        DocumentDefinitions(String prefix, List<AsyncApiResult> definitions) {
+            this.prefix = prefix;
+            this.definitions = definitions;
+            for (AsyncApiResult definition : definitions) {
+                fileNames.add(definition.getServiceName());
+            }
+        }
+
+        /**
+         * Returns the name of the module, or of the document in the default module, which prefixes the file names
+         * of the definitions that were already generated from another document.
+         */
+        String getPrefix() {
+            return prefix;
+        }
+
+        List<AsyncApiResult> getDefinitions() {
+            return definitions;
+        }
+
+        /**
+         * Returns the file names the definitions were generated with.
+         */
+        List<String> getFileNames() {
+            return fileNames;
         }
-        return errors;
     }
 }
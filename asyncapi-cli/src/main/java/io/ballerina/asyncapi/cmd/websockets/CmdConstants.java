@@ -19,6 +19,7 @@ package io.ballerina.asyncapi.cmd.websockets;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -56,6 +57,10 @@ public class CmdConstants {
     public static final String TEST_FILE_NAME = "test.bal";
     public static final String CONFIG_FILE_NAME = "Config.toml";
     public static final String DEFAULT_MOCK_PKG = "mock";
+    public static final List<String> CLIENT_TEMPLATE_FILE_NAMES = List.of("templates/utils_asyncapi.bal",
+            "config_toml_files/api_key_config.toml", "config_toml_files/basic_config.toml",
+            "config_toml_files/bearer_config.toml", "config_toml_files/client_credentials_config.toml",
+            "config_toml_files/password_config.toml", "config_toml_files/refresh_token_config.toml");
 
     static {
         Map<String, String> typeMap = new HashMap<>();
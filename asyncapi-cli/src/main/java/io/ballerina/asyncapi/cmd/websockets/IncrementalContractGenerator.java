@@ -0,0 +1,305 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.cmd.websockets;
+
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.AsyncApiConverterDiagnostic;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.model.AsyncApiResult;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectKind;
+import io.ballerina.projects.directory.ProjectLoader;
+import io.ballerina.projects.util.ProjectConstants;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.ballerina.asyncapi.cmd.websockets.BallerinaToAsyncApiGenerator.collectDefinitions;
+import static io.ballerina.asyncapi.cmd.websockets.BallerinaToAsyncApiGenerator.generateDocumentDefinitions;
+import static io.ballerina.asyncapi.cmd.websockets.BallerinaToAsyncApiGenerator.getDocuments;
+import static io.ballerina.asyncapi.cmd.websockets.BallerinaToAsyncApiGenerator.getModules;
+import static io.ballerina.asyncapi.cmd.websockets.BallerinaToAsyncApiGenerator.hasCompilationErrors;
+import static io.ballerina.asyncapi.cmd.websockets.BallerinaToAsyncApiGenerator.writeDefinitions;
+
+/**
+ * Generates the AsyncAPI definitions of the services of a Ballerina file or package, and generates them again as
+ * the sources change, keeping the project loaded in between.
+ * <p>
+ * A changed source file is applied to the loaded project as a modification of its document, so that the package is
+ * compiled again incrementally instead of being loaded from the disk again, and only the definitions of the changed
+ * documents are generated and written again. The types, the enums and the constants of a document may be used by the
+ * services of the other documents, hence the definitions of all the documents are generated again when they change.
+ * Adding or removing a source file or changing Ballerina.toml changes the structure of the package, in which case the
+ * project is loaded again.
+ */
+public class IncrementalContractGenerator {
+    private final Path inputPath;
+    private final Path outPath;
+    private final String serviceName;
+    private final Boolean needJson;
+    private final PrintStream outStream;
+    private Project project;
+    private final Map<Path, BallerinaToAsyncApiGenerator.DocumentDefinitions> documentDefinitions = new HashMap<>();
+    private final Map<Path, String> typeDeclarations = new HashMap<>();
+    private final Set<Path> outdatedDocuments = new HashSet<>();
+    private boolean allOutdated;
+    private Map<AsyncApiResult, String> writtenFileNames = new IdentityHashMap<>();
+
+    /**
+     * Creates a generator of the definitions of the given Ballerina file or package.
+     *
+     * @param inputPath   Path to the Ballerina file, or to the Ballerina package to generate all the modules of
+     * @param outPath     Directory to write the definitions to
+     * @param serviceName Base path of the service to generate the definition for, or null for all services
+     * @param needJson    Whether to generate the definitions in JSON instead of YAML
+     * @param outStream   Stream to print the progress to
+     */
+    public IncrementalContractGenerator(Path inputPath, Path outPath, String serviceName, Boolean needJson,
+                                        PrintStream outStream) {
+        this.inputPath = inputPath.toAbsolutePath().normalize();
+        this.outPath = outPath;
+        this.serviceName = serviceName;
+        this.needJson = needJson;
+        this.outStream = outStream;
+    }
+
+    /**
+     * Loads the project and generates the definitions of all the documents.
+     *
+     * @return diagnostics of the generation
+     */
+    public List<AsyncApiConverterDiagnostic> generate() {
+        project = ProjectLoader.loadProject(inputPath);
+        documentDefinitions.clear();
+        typeDeclarations.clear();
+        allOutdated = true;
+        return generateDefinitions();
+    }
+
+    /**
+     * Applies the given changed files to the loaded project and generates the definitions which they affect.
+     *
+     * @param changedFiles Files which were created, modified or deleted
+     * @return diagnostics of the generation
+     * @throws IOException when a changed file could not be read
+     */
+    public List<AsyncApiConverterDiagnostic> update(Collection<Path> changedFiles) throws IOException {
+        if (project == null) {
+            return generate();
+        }
+        boolean changed = false;
+        for (Path changedFile : changedFiles) {
+            Path path = changedFile.toAbsolutePath().normalize();
+            Optional<Document> document = findDocument(path);
+            if (document.isEmpty() || !Files.isRegularFile(path)) {
+                return generate();
+            }
+            String content = Files.readString(path);
+            if (!content.equals(document.get().syntaxTree().toSourceCode())) {
+                Document modifiedDocument = document.get().modify().withContent(content).apply();
+                allOutdated = allOutdated ||
+                        !getTypeDeclarations(modifiedDocument).equals(typeDeclarations.get(path));
+                outdatedDocuments.add(path);
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return Collections.emptyList();
+        }
+        return generateDefinitions();
+    }
+
+    /**
+     * Returns the directories which contain the sources of the project, i.e. the directory of the package along
+     * with the directories of its modules, or the directory of the Ballerina file.
+     */
+    public List<Path> getSourceDirectories() {
+        List<Path> directories = new ArrayList<>();
+        if (project == null || project.kind() != ProjectKind.BUILD_PROJECT) {
+            directories.add(inputPath.getParent());
+            return directories;
+        }
+        Path sourceRoot = project.sourceRoot().toAbsolutePath().normalize();
+        directories.add(sourceRoot);
+        Path modulesRoot = sourceRoot.resolve(ProjectConstants.MODULES_ROOT);
+        if (Files.isDirectory(modulesRoot)) {
+            directories.add(modulesRoot);
+        }
+        for (Module module : project.currentPackage().modules()) {
+            if (!module.isDefaultModule()) {
+                directories.add(modulesRoot.resolve(module.moduleName().moduleNamePart()));
+            }
+        }
+        return directories;
+    }
+
+    /**
+     * Returns whether the given file is a source of the project, so that its changes are applied to the project.
+     */
+    public boolean isSourceFile(Path file) {
+        Path path = file.toAbsolutePath().normalize();
+        if (project == null || project.kind() != ProjectKind.BUILD_PROJECT) {
+            return path.equals(inputPath);
+        }
+        String fileName = path.getFileName().toString();
+        if (fileName.startsWith(".")) {
+            // Hidden files, such as the lock and the backup files of the editors
+            return false;
+        }
+        return fileName.endsWith(CmdConstants.BAL_EXTENSION) || fileName.equals(ProjectConstants.BALLERINA_TOML) ||
+                path.getParent().equals(project.sourceRoot().toAbsolutePath().normalize()
+                        .resolve(ProjectConstants.MODULES_ROOT));
+    }
+
+    /**
+     * Generates the definitions of the outdated documents. The documents stay outdated while the package has
+     * compilation errors, so that they are generated once the errors are fixed.
+     */
+    private List<AsyncApiConverterDiagnostic> generateDefinitions() {
+        List<AsyncApiConverterDiagnostic> errors = new ArrayList<>();
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        if (hasCompilationErrors(compilation, outStream)) {
+            return errors;
+        }
+        List<BallerinaToAsyncApiGenerator.DocumentDefinitions> definitions = new ArrayList<>();
+        for (Module module : getModules(project.currentPackage())) {
+            SemanticModel semanticModel = null;
+            for (Document document : getDocuments(module)) {
+                Path path = getDocumentPath(document.documentId());
+                if (!isGenerated(path)) {
+                    typeDeclarations.put(path, getTypeDeclarations(document));
+                    continue;
+                }
+                BallerinaToAsyncApiGenerator.DocumentDefinitions previous = documentDefinitions.get(path);
+                if (previous != null && !allOutdated && !outdatedDocuments.contains(path)) {
+                    definitions.add(previous);
+                    continue;
+                }
+                if (semanticModel == null) {
+                    semanticModel = compilation.getSemanticModel(module.moduleId());
+                }
+                BallerinaToAsyncApiGenerator.DocumentDefinitions current = generateDocumentDefinitions(project,
+                        module, document, semanticModel, serviceName, needJson);
+                definitions.add(current);
+                documentDefinitions.put(path, current);
+                typeDeclarations.put(path, getTypeDeclarations(document));
+            }
+        }
+        allOutdated = false;
+        outdatedDocuments.clear();
+        // The file names of the definitions which were not generated again change only if the name of another
+        // definition clashes with them now, in which case they are written again as well
+        List<AsyncApiResult> asyncAPIDefinitions = collectDefinitions(definitions, errors);
+        List<AsyncApiResult> changedDefinitions = new ArrayList<>();
+        Map<AsyncApiResult, String> fileNames = new IdentityHashMap<>();
+        for (AsyncApiResult definition : asyncAPIDefinitions) {
+            if (!writtenFileNames.containsKey(definition) ||
+                    !Objects.equals(definition.getServiceName(), writtenFileNames.get(definition))) {
+                changedDefinitions.add(definition);
+            }
+            fileNames.put(definition, definition.getServiceName());
+        }
+        Set<String> writtenFiles = getFileNames(writtenFileNames);
+        writeDefinitions(changedDefinitions, outPath, needJson, outStream, GenerationProfiler.DISABLED, writtenFiles,
+                errors);
+        writtenFiles.removeAll(getFileNames(fileNames));
+        deleteRemovedDefinitions(writtenFiles);
+        writtenFileNames = fileNames;
+        return errors;
+    }
+
+    private static Set<String> getFileNames(Map<AsyncApiResult, String> fileNames) {
+        Set<String> names = new HashSet<>();
+        for (Map.Entry<AsyncApiResult, String> fileName : fileNames.entrySet()) {
+            if (fileName.getKey().getAsyncAPI().isPresent()) {
+                names.add(fileName.getValue());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Deletes the definitions which were written before, but are no longer generated, e.g. as their services were
+     * removed.
+     */
+    private void deleteRemovedDefinitions(Set<String> removedFileNames) {
+        for (String fileName : removedFileNames) {
+            try {
+                Files.deleteIfExists(outPath.resolve(fileName));
+            } catch (IOException e) {
+                outStream.println("Unable to delete the definition " + fileName + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private boolean isGenerated(Path documentPath) {
+        return Files.isDirectory(inputPath) || inputPath.equals(documentPath);
+    }
+
+    private Optional<Document> findDocument(Path path) {
+        for (Module module : project.currentPackage().modules()) {
+            for (DocumentId documentId : module.documentIds()) {
+                if (path.equals(getDocumentPath(documentId))) {
+                    return Optional.of(module.document(documentId));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Path getDocumentPath(DocumentId documentId) {
+        return project.documentPath(documentId).map(path -> path.toAbsolutePath().normalize()).orElse(null);
+    }
+
+    /**
+     * Returns the source of the declarations of the document which may be used by the services of the other
+     * documents.
+     */
+    private static String getTypeDeclarations(Document document) {
+        StringBuilder declarations = new StringBuilder();
+        ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            SyntaxKind kind = member.kind();
+            if (kind == SyntaxKind.TYPE_DEFINITION || kind == SyntaxKind.ENUM_DECLARATION ||
+                    kind == SyntaxKind.CONST_DECLARATION) {
+                declarations.append(member.toSourceCode());
+            }
+        }
+        return declarations.toString();
+    }
+}
@@ -18,11 +18,13 @@
 
 package io.ballerina.asyncapi.codegenerator.application;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.apicurio.datamodels.models.asyncapi.AsyncApiSchema;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.DispatchMode;
 import io.ballerina.asyncapi.codegenerator.controller.AsyncApiSpecController;
-import io.ballerina.asyncapi.codegenerator.controller.BalController;
 import io.ballerina.asyncapi.codegenerator.controller.DispatcherController;
 import io.ballerina.asyncapi.codegenerator.controller.ListenerController;
 import io.ballerina.asyncapi.codegenerator.controller.SchemaController;
@@ -31,10 +33,20 @@ import io.ballerina.asyncapi.codegenerator.controller.SpecController;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import io.ballerina.asyncapi.options.GenerationOptions;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  *  This class controls the flow of code generation.
@@ -44,62 +56,173 @@ import java.util.Map;
  */
 public class CodeGenerator implements Application {
     private final FileRepository fileRepository;
-    private static final PrintStream outStream = System.err;
+    private final int threads;
+    private final boolean printTimings;
+    private final DispatchMode dispatchMode;
+    private final boolean asyncAck;
+    private final GenerationProfiler profiler;
+    private final PrintStream outStream;
 
     public CodeGenerator() {
-        this.fileRepository = new FileRepositoryImpl();
+        this(new FileRepositoryImpl());
     }
 
     public CodeGenerator(FileRepository fileRepository) {
+        this(fileRepository, new GenerationOptions.Builder().build());
+    }
+
+    /**
+     * Creates a code generator which generates the files of a listener with the given options.
+     *
+     * @param fileRepository Repository to read the spec and the templates from, and to write the files to
+     * @param options        Options of the generation
+     */
+    public CodeGenerator(FileRepository fileRepository, GenerationOptions options) {
         this.fileRepository = fileRepository;
+        this.threads = options.getThreads();
+        this.printTimings = options.isPrintTimings();
+        this.dispatchMode = options.getDispatchMode();
+        this.asyncAck = options.isAsyncAck();
+        this.profiler = options.getProfiler();
+        this.outStream = options.getOutStream();
     }
 
     @Override
     public void generate(String specPath, String outputPath) throws BallerinaAsyncApiException {
-        String asyncApiSpecJson = getFileContent(fileRepository, specPath);
+        ObjectNode asyncApiSpecTree;
+        try (GenerationProfiler.Phase phase = profiler.start("parse")) {
+            asyncApiSpecTree = getSpecTree(fileRepository, specPath);
+            if (profiler.isEnabled()) {
+                phase.count("nodes", countNodes(asyncApiSpecTree));
+            }
+        }
 
-        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecTree, profiler);
         Map<String, AsyncApiSchema> schemas = specController.getSchemas();
         List<ServiceType> serviceTypes = specController.getServiceTypes();
         String eventIdentifierType = specController.getEventIdentifierType();
         String eventIdentifierPath = specController.getEventIdentifierPath();
 
         String dataTypesTemplate = fileRepository.getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
-        BalController schemaController = new SchemaController(schemas);
-        String dataTypesBalContent = schemaController.generateBalCode(dataTypesTemplate);
-
-        BalController serviceTypesController = new ServiceTypesController(serviceTypes);
-        String serviceTypesBalContent = serviceTypesController.generateBalCode(Constants.EMPTY_BALLERINA_FILE_CONTENT);
-
-        String listenerTemplate = fileRepository.getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME);
-        BalController listenerController = new ListenerController(serviceTypes);
-        String listenerBalContent = listenerController.generateBalCode(listenerTemplate);
-
-        BalController dispatcherController = new DispatcherController(serviceTypes, eventIdentifierType,
-                eventIdentifierPath);
-        String dispatcherContent;
+        String listenerTemplate = fileRepository.getFileContentFromResources(asyncAck ?
+                Constants.LISTENER_BAL_FILE_NAME_WITH_ASYNC_ACK : Constants.LISTENER_BAL_FILE_NAME);
+        String dispatcherTemplate;
         if (eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_BODY)) {
-            String dispatcherTemplateForEventIdentifierInBody = fileRepository
-                    .getFileContentFromResources(
-                            Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY);
-            dispatcherContent = dispatcherController.generateBalCode(dispatcherTemplateForEventIdentifierInBody);
+            dispatcherTemplate = fileRepository.getFileContentFromResources(asyncAck ?
+                    Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY_WITH_ASYNC_ACK :
+                    Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY);
         } else {
-            String dispatcherTemplateForEventIdentifierInHeader = fileRepository
-                    .getFileContentFromResources(
-                            Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER);
-            dispatcherContent = dispatcherController.generateBalCode(dispatcherTemplateForEventIdentifierInHeader);
+            dispatcherTemplate = fileRepository.getFileContentFromResources(asyncAck ?
+                    Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER_WITH_ASYNC_ACK :
+                    Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER);
         }
 
-        String outputDirectory = getOutputDirectory(outputPath);
-        fileRepository.writeToFile(outputDirectory.concat(Constants.DATA_TYPES_BAL_FILE_NAME), dataTypesBalContent);
-        fileRepository
-                .writeToFile(outputDirectory.concat(Constants.SERVICE_TYPES_BAL_FILE_NAME), serviceTypesBalContent);
-        fileRepository.writeToFile(outputDirectory.concat(Constants.LISTENER_BAL_FILE_NAME), listenerBalContent);
-        fileRepository
-                .writeToFile(outputDirectory.concat(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME), dispatcherContent);
+        // The generated files do not depend on each other, hence each of them is generated, formatted and written
+        // on its own. The order of this map is the order the files are reported in.
+        Map<String, BalFileGeneration> balFiles = new LinkedHashMap<>();
+        balFiles.put(Constants.DATA_TYPES_BAL_FILE_NAME,
+                () -> new SchemaController(schemas, profiler).generateBalCode(dataTypesTemplate));
+        balFiles.put(Constants.SERVICE_TYPES_BAL_FILE_NAME,
+                () -> new ServiceTypesController(serviceTypes, profiler).generateBalCode(
+                        Constants.EMPTY_BALLERINA_FILE_CONTENT));
+        balFiles.put(Constants.LISTENER_BAL_FILE_NAME,
+                () -> new ListenerController(serviceTypes, profiler).generateBalCode(listenerTemplate));
+        balFiles.put(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME,
+                () -> new DispatcherController(serviceTypes, eventIdentifierType, eventIdentifierPath, dispatchMode,
+                        profiler).generateBalCode(dispatcherTemplate));
+
+        List<FileTiming> fileTimings = generateBalFiles(balFiles, getOutputDirectory(outputPath));
 
         outStream.println("Following files were generated successfully:" +
                 "\n--data_types.bal\n--service_types.bal\n--listener.bal\n--dispatcher_service.bal");
+        if (printTimings) {
+            outStream.println("Time taken per file:");
+            for (FileTiming fileTiming : fileTimings) {
+                outStream.println(fileTiming);
+            }
+        }
+    }
+
+    /**
+     * Generates the given files on a bounded pool of workers, and writes them once all of them are generated, so
+     * that nothing is written when one of the generations fails. The content of each file only depends on its own
+     * generation, hence the output is the same as generating the files one by one.
+     *
+     * @param balFiles        Generations of the files keyed by the file name
+     * @param outputDirectory Directory to write the files to
+     * @return Time taken for each file, in the order of the given files
+     * @throws BallerinaAsyncApiException when the generation or the writing of a file fails
+     */
+    private List<FileTiming> generateBalFiles(Map<String, BalFileGeneration> balFiles, String outputDirectory)
+            throws BallerinaAsyncApiException {
+        List<String> fileNames = new ArrayList<>(balFiles.keySet());
+        long[] generationTimes = new long[fileNames.size()];
+        long[] writeTimes = new long[fileNames.size()];
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, fileNames.size())));
+        try {
+            List<Callable<String>> generations = new ArrayList<>();
+            for (int i = 0; i < fileNames.size(); i++) {
+                int index = i;
+                generations.add(() -> {
+                    try (GenerationProfiler.Phase ignored = profiler.start("generate " + fileNames.get(index))) {
+                        long startTime = System.nanoTime();
+                        String content = balFiles.get(fileNames.get(index)).generate();
+                        generationTimes[index] = System.nanoTime() - startTime;
+                        return content;
+                    }
+                });
+            }
+            List<String> contents = invokeAll(executor, generations);
+
+            List<Callable<String>> writes = new ArrayList<>();
+            for (int i = 0; i < fileNames.size(); i++) {
+                int index = i;
+                writes.add(() -> {
+                    try (GenerationProfiler.Phase phase = profiler.start("write " + fileNames.get(index))) {
+                        long startTime = System.nanoTime();
+                        fileRepository.writeToFile(outputDirectory.concat(fileNames.get(index)), contents.get(index));
+                        writeTimes[index] = System.nanoTime() - startTime;
+                        phase.count("characters", contents.get(index).length());
+                        return fileNames.get(index);
+                    }
+                });
+            }
+            invokeAll(executor, writes);
+        } finally {
+            executor.shutdownNow();
+        }
+        List<FileTiming> fileTimings = new ArrayList<>();
+        for (int i = 0; i < fileNames.size(); i++) {
+            fileTimings.add(new FileTiming(fileNames.get(i), generationTimes[i], writeTimes[i]));
+        }
+        return fileTimings;
+    }
+
+    private static List<String> invokeAll(ExecutorService executor, List<Callable<String>> tasks)
+            throws BallerinaAsyncApiException {
+        try {
+            List<String> results = new ArrayList<>();
+            for (Future<String> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BallerinaAsyncApiException) {
+                throw (BallerinaAsyncApiException) e.getCause();
+            }
+            throw new BallerinaAsyncApiException("Could not generate the Ballerina sources", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaAsyncApiException("Generation of the Ballerina sources was interrupted", e);
+        }
+    }
+
+    private static long countNodes(JsonNode node) {
+        long count = 1;
+        for (JsonNode child : node) {
+            count += countNodes(child);
+        }
+        return count;
     }
 
     private String getOutputDirectory(String outputPath) {
@@ -109,15 +232,40 @@ public class CodeGenerator implements Application {
         return outputPath.concat("/");
     }
 
-    private String getFileContent(FileRepository fileRepository, String specPath) throws BallerinaAsyncApiException {
-        String asyncApiSpecYaml = fileRepository.getFileContent(specPath);
-        if (specPath.endsWith(".json")) {
-            fileRepository.validateJson(asyncApiSpecYaml);
-            return asyncApiSpecYaml;
-        } else if (specPath.endsWith("yaml") || specPath.endsWith("yml")) {
-            return fileRepository.convertYamlToJson(asyncApiSpecYaml);
-        } else {
-            throw new BallerinaAsyncApiException("Unknown file type: ".concat(specPath));
+    private ObjectNode getSpecTree(FileRepository fileRepository, String specPath)
+            throws BallerinaAsyncApiException {
+        if (specPath.endsWith(".json") || specPath.endsWith("yaml") || specPath.endsWith("yml")) {
+            return fileRepository.getSpecTree(specPath);
+        }
+        throw new BallerinaAsyncApiException("Unknown file type: ".concat(specPath));
+    }
+
+    /**
+     * Generation of the content of a single Ballerina file.
+     */
+    @FunctionalInterface
+    private interface BalFileGeneration {
+        String generate() throws BallerinaAsyncApiException;
+    }
+
+    /**
+     * Time taken to generate, which includes the formatting, and to write a single file.
+     */
+    private static class FileTiming {
+        private final String fileName;
+        private final long generationTime;
+        private final long writeTime;
+
+        FileTiming(String fileName, long generationTime, long writeTime) {
+            this.fileName = fileName;
+            this.generationTime = generationTime;
+            this.writeTime = writeTime;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("--%s: generate %d ms, write %d ms", fileName,
+                    TimeUnit.NANOSECONDS.toMillis(generationTime), TimeUnit.NANOSECONDS.toMillis(writeTime));
         }
     }
 }
@@ -33,6 +33,20 @@ public final class Constants {
             "dispatcher_service.bal";
     public static final String DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER =
             "dispatcher_service_for_event_identifier_in_header.bal";
+    public static final String LISTENER_BAL_FILE_NAME_WITH_ASYNC_ACK = "listener_with_async_ack.bal";
+    public static final String DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY_WITH_ASYNC_ACK =
+            "dispatcher_service_with_async_ack.bal";
+    public static final String DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER_WITH_ASYNC_ACK =
+            "dispatcher_service_for_event_identifier_in_header_with_async_ack.bal";
+    public static final List<String> GENERATED_LISTENER_FILE_NAMES = List.of(DATA_TYPES_BAL_FILE_NAME,
+            SERVICE_TYPES_BAL_FILE_NAME, LISTENER_BAL_FILE_NAME, DISPATCHER_SERVICE_BAL_FILE_NAME);
+    public static final List<String> LISTENER_TEMPLATE_FILE_NAMES = List.of(DATA_TYPES_BAL_FILE_NAME,
+            LISTENER_BAL_FILE_NAME,
+            DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY,
+            DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER,
+            LISTENER_BAL_FILE_NAME_WITH_ASYNC_ACK,
+            DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY_WITH_ASYNC_ACK,
+            DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER_WITH_ASYNC_ACK);
     public static final List<String> BAL_KEYWORDS;
     public static final List<String> BAL_TYPES;
     public static final String ESCAPE_PATTERN = "([\\[\\]\\\\?!<>@#&~`*\\-=^+();:\\/\\_{}\\s|.$])";
@@ -77,10 +91,13 @@ public final class Constants {
     public static final String X_BALLERINA_EVENT_FIELD_IDENTIFIER_PATH = "path";
     public static final String X_BALLERINA_EVENT_FIELD_IDENTIFIER_NAME = "name";
     public static final String CLONE_WITH_TYPE_VAR_NAME = "genericDataType";
+    public static final String PAYLOAD_VAR_NAME = "payload";
     public static final String INTEROP_INVOKE_FUNCTION_NAME = "executeRemoteFunc";
     public static final String LISTENER_SERVICE_TYPE_FILTER_FUNCTION_NAME = "getServiceTypeStr";
     public static final String DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME = "matchRemoteFunc";
     public static final String DISPATCHER_SERVICE_POST_FUNCTION_NAME = "post";
+    public static final String DISPATCH_TABLE_VAR_NAME = "dispatchTable";
+    public static final String DISPATCH_TABLE_ENTRY_TYPE = "[string, string, typedesc<GenericDataType>]";
     public static final String REMOTE_FUNCTION_NAME_PREFIX = "on";
     public static final String SERVICE_TYPE_NAME_SUFFIX = "Service";
 
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.codegenerator.configuration;
+
+import java.util.Locale;
+
+/**
+ * Ways the generated dispatcher service finds the remote function of an incoming event.
+ */
+public enum DispatchMode {
+    /**
+     * Compares the event identifier against each event in a match statement.
+     */
+    MATCH,
+    /**
+     * Looks up the event identifier in a map from each event to its service type and remote function.
+     */
+    MAP;
+
+    /**
+     * Returns the dispatch mode of the given name, ignoring the case.
+     *
+     * @param name Name of the dispatch mode
+     * @return Dispatch mode of the given name
+     * @throws BallerinaAsyncApiException when there is no dispatch mode of the given name
+     */
+    public static DispatchMode fromName(String name) throws BallerinaAsyncApiException {
+        for (DispatchMode mode : values()) {
+            if (mode.name().equals(name.toUpperCase(Locale.ENGLISH))) {
+                return mode;
+            }
+        }
+        throw new BallerinaAsyncApiException("Unknown dispatch mode: " + name);
+    }
+}
@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.controller;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.deref.Dereferencer;
 import io.apicurio.datamodels.models.asyncapi.AsyncApiDocument;
@@ -31,6 +32,7 @@ import io.ballerina.asyncapi.codegenerator.usecase.ExtractIdentifierPathFromSpec
 import io.ballerina.asyncapi.codegenerator.usecase.ExtractIdentifierTypeFromSpec;
 import io.ballerina.asyncapi.codegenerator.usecase.ExtractSchemasFromSpec;
 import io.ballerina.asyncapi.codegenerator.usecase.Extractor;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
 
 import java.util.List;
 import java.util.Map;
@@ -43,27 +45,47 @@ public class AsyncApiSpecController implements SpecController {
     private Map<String, AsyncApiSchema> schemas;
     private String eventIdentifierType;
     private String eventIdentifierPath;
+    private final GenerationProfiler profiler;
 
     public AsyncApiSpecController(String asyncApiSpecJson) throws BallerinaAsyncApiException {
-        readSpec(asyncApiSpecJson);
+        this.profiler = GenerationProfiler.DISABLED;
+        readSpec((AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson));
     }
 
-    private void readSpec(String asyncApiSpecJson) throws BallerinaAsyncApiException {
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
-        Dereferencer dereferencer = new Dereferencer(ReferenceResolverChain.getInstance(), false);
-        asyncApiSpec = (AsyncApiDocument) dereferencer.dereference(asyncApiSpec);
+    public AsyncApiSpecController(ObjectNode asyncApiSpecTree) throws BallerinaAsyncApiException {
+        this(asyncApiSpecTree, GenerationProfiler.DISABLED);
+    }
+
+    public AsyncApiSpecController(ObjectNode asyncApiSpecTree, GenerationProfiler profiler)
+            throws BallerinaAsyncApiException {
+        this.profiler = profiler;
+        AsyncApiDocument asyncApiSpec;
+        try (GenerationProfiler.Phase ignored = profiler.start("read document")) {
+            asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecTree);
+        }
+        readSpec(asyncApiSpec);
+    }
+
+    private void readSpec(AsyncApiDocument asyncApiSpec) throws BallerinaAsyncApiException {
+        try (GenerationProfiler.Phase ignored = profiler.start("dereference")) {
+            Dereferencer dereferencer = new Dereferencer(ReferenceResolverChain.getInstance(), false);
+            asyncApiSpec = (AsyncApiDocument) dereferencer.dereference(asyncApiSpec);
+        }
 
-        Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
-        Extractor extractSchemas = new ExtractSchemasFromSpec(asyncApiSpec);
-        Extractor extractIdentifierType = new ExtractIdentifierTypeFromSpec(asyncApiSpec);
-        Extractor extractIdentifierPath = new ExtractIdentifierPathFromSpec(asyncApiSpec);
+        try (GenerationProfiler.Phase phase = profiler.start("extract")) {
+            Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
+            Extractor extractSchemas = new ExtractSchemasFromSpec(asyncApiSpec);
+            Extractor extractIdentifierType = new ExtractIdentifierTypeFromSpec(asyncApiSpec);
+            Extractor extractIdentifierPath = new ExtractIdentifierPathFromSpec(asyncApiSpec);
 
-        MultiChannel multiChannel = extractServiceTypes.extract();
-        serviceTypes = multiChannel.getServiceTypes();
-        schemas = extractSchemas.extract();
-        schemas.putAll(multiChannel.getInlineSchemas());
-        eventIdentifierType = extractIdentifierType.extract();
-        eventIdentifierPath = extractIdentifierPath.extract();
+            MultiChannel multiChannel = extractServiceTypes.extract();
+            serviceTypes = multiChannel.getServiceTypes();
+            schemas = extractSchemas.extract();
+            schemas.putAll(multiChannel.getInlineSchemas());
+            eventIdentifierType = extractIdentifierType.extract();
+            eventIdentifierPath = extractIdentifierPath.extract();
+            phase.count("channels", serviceTypes.size()).count("schemas", schemas.size());
+        }
     }
 
     @Override
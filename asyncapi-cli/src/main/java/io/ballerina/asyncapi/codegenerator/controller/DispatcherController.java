@@ -20,9 +20,12 @@ package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.DispatchMode;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateDispatchTableNode;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateMatchStatementNode;
 import io.ballerina.asyncapi.codegenerator.usecase.Generator;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
 import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
@@ -36,6 +39,7 @@ import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.StatementNode;
@@ -48,6 +52,7 @@ import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -77,12 +82,26 @@ public class DispatcherController implements BalController {
     private final List<ServiceType> serviceTypes;
     private final String eventIdentifierType;
     private final String eventIdentifierPath;
+    private final DispatchMode dispatchMode;
+    private final GenerationProfiler profiler;
 
     public DispatcherController(List<ServiceType> serviceTypes, String eventIdentifierType,
                                 String eventIdentifierPath) {
+        this(serviceTypes, eventIdentifierType, eventIdentifierPath, GenerationProfiler.DISABLED);
+    }
+
+    public DispatcherController(List<ServiceType> serviceTypes, String eventIdentifierType,
+                                String eventIdentifierPath, GenerationProfiler profiler) {
+        this(serviceTypes, eventIdentifierType, eventIdentifierPath, DispatchMode.MATCH, profiler);
+    }
+
+    public DispatcherController(List<ServiceType> serviceTypes, String eventIdentifierType,
+                                String eventIdentifierPath, DispatchMode dispatchMode, GenerationProfiler profiler) {
         this.serviceTypes = serviceTypes;
         this.eventIdentifierType = eventIdentifierType;
         this.eventIdentifierPath = eventIdentifierPath;
+        this.dispatchMode = dispatchMode;
+        this.profiler = profiler;
     }
 
     @Override
@@ -91,7 +110,8 @@ public class DispatcherController implements BalController {
         SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
         ModulePartNode oldRoot = syntaxTree.rootNode();
 
-        String eventIdentifierPath = Constants.CLONE_WITH_TYPE_VAR_NAME.concat(".").concat(this.eventIdentifierPath);
+        // Only the event identifier is read from the raw payload to route the event
+        String eventIdentifierPath = "check " + Constants.PAYLOAD_VAR_NAME.concat(".").concat(this.eventIdentifierPath);
         if (this.eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_HEADER)) {
             eventIdentifierPath = "eventIdentifier";
 
@@ -121,19 +141,30 @@ public class DispatcherController implements BalController {
                     + "', is not found in the dispatcher_service.bal");
         }
 
-        Generator generateMatchStatement = new GenerateMatchStatementNode(serviceTypes, eventIdentifierPath);
-        MatchStatementNode matchStatementNode = generateMatchStatement.generate();
-
         FunctionBodyBlockNode functionBodyBlockNode = (FunctionBodyBlockNode) functionDefinitionNode.functionBody();
         NodeList<StatementNode> oldStatements = functionBodyBlockNode.statements();
-        NodeList<StatementNode> newStatements =
-                oldStatements.add(matchStatementNode);
+        NodeList<StatementNode> newStatements;
+        ModuleMemberDeclarationNode dispatchTableNode = null;
+        if (dispatchMode == DispatchMode.MAP) {
+            Generator generateDispatchTable = new GenerateDispatchTableNode(serviceTypes);
+            dispatchTableNode = generateDispatchTable.generate();
+            newStatements = oldStatements.addAll(getDispatchTableLookupNodes(eventIdentifierPath));
+        } else {
+            Generator generateMatchStatement = new GenerateMatchStatementNode(serviceTypes, eventIdentifierPath);
+            MatchStatementNode matchStatementNode = generateMatchStatement.generate();
+            newStatements = oldStatements.add(matchStatementNode);
+        }
         FunctionBodyBlockNode functionBodyBlockNodeNew =
                 functionBodyBlockNode.modify().withStatements(newStatements).apply();
         ModulePartNode newRoot = oldRoot.replace(functionBodyBlockNode, functionBodyBlockNodeNew);
+        if (dispatchTableNode != null) {
+            // The dispatch table is declared right after the imports, ahead of the dispatcher service
+            newRoot = newRoot.modify().withMembers(newRoot.members().add(0, dispatchTableNode)).apply();
+        }
         SyntaxTree modifiedTree = syntaxTree.replaceNode(oldRoot, newRoot);
 
-        try {
+        try (GenerationProfiler.Phase ignored = profiler.start("format " +
+                Constants.DISPATCHER_SERVICE_BAL_FILE_NAME)) {
             return Formatter.format(modifiedTree).toSourceCode();
         } catch (FormatterException e) {
             throw new BallerinaAsyncApiException("Could not format the generated code, " +
@@ -141,6 +172,37 @@ public class DispatcherController implements BalController {
         }
     }
 
+    /**
+     * Generates the statements which look up the remote function of the event in the dispatch table.
+     *
+     * @param eventIdentifierPath Expression which evaluates to the identifier of the event
+     * @return Statements of the lookup
+     */
+    private List<StatementNode> getDispatchTableLookupNodes(String eventIdentifierPath) {
+        String eventName = eventIdentifierPath;
+        List<StatementNode> statements = new ArrayList<>();
+        if (this.eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_BODY)) {
+            // {@code json eventName = check payload.event.'type;}, which is only looked up if it is a string
+            eventName = "eventName";
+            statements.add(NodeParser.parseStatement("json " + eventName + " = " + eventIdentifierPath + ";"));
+        }
+        // {@code [string, string, typedesc<GenericDataType>]? remoteFunction = dispatchTable[eventName];} and the call
+        // of the remote function with the payload bound to the type of the event
+        String lookup = Constants.DISPATCH_TABLE_ENTRY_TYPE + "? remoteFunction = " +
+                Constants.DISPATCH_TABLE_VAR_NAME + "[" + eventName + "];";
+        String dispatch = "if remoteFunction is " + Constants.DISPATCH_TABLE_ENTRY_TYPE + " { check self." +
+                Constants.INTEROP_INVOKE_FUNCTION_NAME + "(check " + Constants.PAYLOAD_VAR_NAME +
+                ".cloneWithType(remoteFunction[2]), " + eventName + ", remoteFunction[0], remoteFunction[1]); }";
+        if (statements.isEmpty()) {
+            statements.add(NodeParser.parseStatement(lookup));
+            statements.add(NodeParser.parseStatement(dispatch));
+        } else {
+            statements.add(NodeParser.parseStatement("if " + eventName + " is string { " + lookup + " " + dispatch +
+                    " }"));
+        }
+        return statements;
+    }
+
     private FunctionDefinitionNode getResourceFuncNode(ModulePartNode oldRoot) {
         for (ModuleMemberDeclarationNode node : oldRoot.members()) {
             if (node.kind() == SyntaxKind.CLASS_DEFINITION) {
@@ -23,6 +23,7 @@ import io.ballerina.asyncapi.codegenerator.configuration.Constants;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateListenerStatementNode;
 import io.ballerina.asyncapi.codegenerator.usecase.Generator;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
@@ -48,9 +49,15 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeLi
  */
 public class ListenerController implements BalController {
     private final List<ServiceType> serviceTypes;
+    private final GenerationProfiler profiler;
 
     public ListenerController(List<ServiceType> serviceTypes) {
+        this(serviceTypes, GenerationProfiler.DISABLED);
+    }
+
+    public ListenerController(List<ServiceType> serviceTypes, GenerationProfiler profiler) {
         this.serviceTypes = serviceTypes;
+        this.profiler = profiler;
     }
 
     @Override
@@ -75,7 +82,7 @@ public class ListenerController implements BalController {
                 .modify().withStatements(statements).apply();
         SyntaxTree modifiedTree = syntaxTree.replaceNode(functionBodyBlockNode, functionBodyBlockNodeNew);
 
-        try {
+        try (GenerationProfiler.Phase ignored = profiler.start("format " + Constants.LISTENER_BAL_FILE_NAME)) {
             return Formatter.format(modifiedTree).toSourceCode();
         } catch (FormatterException e) {
             throw new BallerinaAsyncApiException("Could not format the generated code, " +
@@ -24,6 +24,7 @@ import io.ballerina.asyncapi.codegenerator.configuration.Constants;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateModuleMemberDeclarationNode;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateUnionDescriptorNode;
 import io.ballerina.asyncapi.codegenerator.usecase.Generator;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
@@ -46,9 +47,15 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  */
 public class SchemaController implements BalController {
     private final Map<String, AsyncApiSchema> schemas;
+    private final GenerationProfiler profiler;
 
     public SchemaController(Map<String, AsyncApiSchema> schemas) {
+        this(schemas, GenerationProfiler.DISABLED);
+    }
+
+    public SchemaController(Map<String, AsyncApiSchema> schemas, GenerationProfiler profiler) {
         this.schemas = schemas;
+        this.profiler = profiler;
     }
 
     @Override
@@ -75,7 +82,7 @@ public class SchemaController implements BalController {
         ModulePartNode newRoot = oldRoot.modify().withMembers(oldRoot.members().addAll(recordNodes)).apply();
         SyntaxTree modifiedTree = syntaxTree.replaceNode(oldRoot, newRoot);
 
-        try {
+        try (GenerationProfiler.Phase ignored = profiler.start("format " + Constants.DATA_TYPES_BAL_FILE_NAME)) {
             return Formatter.format(modifiedTree).toSourceCode();
         } catch (FormatterException e) {
             throw new BallerinaAsyncApiException("Could not format the generated code, " +
@@ -24,6 +24,7 @@ import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateServiceTypeNode;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateUnionDescriptorNode;
 import io.ballerina.asyncapi.codegenerator.usecase.Generator;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
@@ -45,9 +46,15 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  */
 public class ServiceTypesController implements BalController {
     private final List<ServiceType> serviceTypes;
+    private final GenerationProfiler profiler;
 
     public ServiceTypesController(List<ServiceType> serviceTypes) {
+        this(serviceTypes, GenerationProfiler.DISABLED);
+    }
+
+    public ServiceTypesController(List<ServiceType> serviceTypes, GenerationProfiler profiler) {
         this.serviceTypes = serviceTypes;
+        this.profiler = profiler;
     }
 
     @Override
@@ -72,7 +79,7 @@ public class ServiceTypesController implements BalController {
         ModulePartNode newRoot = oldRoot.modify().withMembers(oldRoot.members().addAll(serviceNodes)).apply();
         SyntaxTree modifiedTree = syntaxTree.replaceNode(oldRoot, newRoot);
 
-        try {
+        try (GenerationProfiler.Phase ignored = profiler.start("format " + Constants.SERVICE_TYPES_BAL_FILE_NAME)) {
             return Formatter.format(modifiedTree).toSourceCode();
         } catch (FormatterException e) {
             throw new BallerinaAsyncApiException("Could not format the generated code, " +
@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.repository;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 
 /**
@@ -29,4 +30,6 @@ public interface FileRepository {
     void writeToFile(String filePath, String content) throws BallerinaAsyncApiException;
     String convertYamlToJson(String yaml) throws BallerinaAsyncApiException;
     boolean validateJson(String jsonString) throws BallerinaAsyncApiException;
+    ObjectNode getSpecTree(String filePath) throws BallerinaAsyncApiException;
+    ObjectNode getSpecTreeFromResources(String fileName) throws BallerinaAsyncApiException;
 }
@@ -20,22 +20,33 @@ package io.ballerina.asyncapi.codegenerator.repository;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Implementation of the FileRepository which includes the file reading and converting related tasks.
  */
 public class FileRepositoryImpl implements FileRepository {
+    private static final ObjectReader JSON_SPEC_READER = new ObjectMapper().reader()
+            .with(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY);
+    private static final ObjectReader YAML_SPEC_READER = new ObjectMapper(new YAMLFactory()).reader()
+            .with(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY);
 
     @Override
     public String getFileContent(String filePath) throws BallerinaAsyncApiException {
@@ -58,9 +69,16 @@ public class FileRepositoryImpl implements FileRepository {
 
     @Override
     public void writeToFile(String filePath, String content) throws BallerinaAsyncApiException {
-        File file = new File(filePath);
+        // Written through a buffer, as encoding the whole content at once copies it into a byte array
+        Path path = Paths.get(filePath);
         try {
-            FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                writer.write(content);
+            }
         } catch (IOException e) {
             throw new BallerinaAsyncApiException(
                     "Could not write the contents to the relevant path: ".concat(filePath), e);
@@ -92,6 +110,58 @@ public class FileRepositoryImpl implements FileRepository {
         }
     }
 
+    @Override
+    public ObjectNode getSpecTree(String filePath) throws BallerinaAsyncApiException {
+        ObjectReader specReader = getSpecReader(filePath);
+        File mainFile = new File(filePath);
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(mainFile))) {
+            return readSpecTree(specReader, inputStream, filePath);
+        } catch (IOException e) {
+            throw new BallerinaAsyncApiException("File not found in the given path: ".concat(filePath), e);
+        }
+    }
+
+    @Override
+    public ObjectNode getSpecTreeFromResources(String fileName) throws BallerinaAsyncApiException {
+        ObjectReader specReader = getSpecReader(fileName);
+        try (InputStream inputStream = new BufferedInputStream(getFileFromResourceAsStream(fileName))) {
+            return readSpecTree(specReader, inputStream, fileName);
+        } catch (IOException e) {
+            throw new BallerinaAsyncApiException("File not found in the resources: ".concat(fileName), e);
+        }
+    }
+
+    /**
+     * Reads the given YAML or JSON stream directly into a Jackson tree, failing on duplicate keys while the tree
+     * is being built, so that the spec is parsed only once before it is handed over to the Apicurio reader.
+     */
+    private ObjectNode readSpecTree(ObjectReader specReader, InputStream inputStream, String filePath)
+            throws IOException, BallerinaAsyncApiException {
+        JsonNode specTree;
+        try {
+            specTree = specReader.readTree(inputStream);
+        } catch (JsonProcessingException e) {
+            if (specReader == YAML_SPEC_READER) {
+                throw new BallerinaAsyncApiException("Error when converting the given yaml file to json, " +
+                        "Please validate the yaml file", e);
+            }
+            throw new BallerinaAsyncApiException("Error parsing the json, please validate the json file", e);
+        }
+        if (specTree == null || !specTree.isObject()) {
+            throw new BallerinaAsyncApiException("AsyncAPI specification should be an object: ".concat(filePath));
+        }
+        return (ObjectNode) specTree;
+    }
+
+    private ObjectReader getSpecReader(String filePath) throws BallerinaAsyncApiException {
+        if (filePath.endsWith(".json")) {
+            return JSON_SPEC_READER;
+        } else if (filePath.endsWith("yaml") || filePath.endsWith("yml")) {
+            return YAML_SPEC_READER;
+        }
+        throw new BallerinaAsyncApiException("Unknown file type: ".concat(filePath));
+    }
+
     private InputStream getFileFromResourceAsStream(String fileName) {
         ClassLoader classLoader = getClass().getClassLoader();
         InputStream inputStream = classLoader.getResourceAsStream(fileName);
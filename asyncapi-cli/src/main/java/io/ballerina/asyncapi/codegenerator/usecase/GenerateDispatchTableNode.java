@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generate the dispatch table for dispatcher_service.bal, an immutable map from each event to the service type and
+ * the remote function which handles it, along with the type to bind the payload of the event to, so that an event is
+ * dispatched with a single lookup.
+ */
+public class GenerateDispatchTableNode implements Generator {
+    private final CodegenUtils codegenUtils = new CodegenUtils();
+    private final List<ServiceType> serviceTypes;
+
+    public GenerateDispatchTableNode(List<ServiceType> serviceTypes) {
+        this.serviceTypes = serviceTypes;
+    }
+
+    @Override
+    public ModuleMemberDeclarationNode generate() throws BallerinaAsyncApiException {
+        if (serviceTypes.isEmpty()) {
+            throw new BallerinaAsyncApiException("No service types found, " +
+                    "probably there are no channels defined in the async api spec");
+        }
+        // The match statement dispatches an event to the first clause it matches, hence the first service type
+        // which has the event is kept, which also keeps the keys of the map literal unique
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (ServiceType service : serviceTypes) {
+            String serviceTypeName = codegenUtils.getServiceTypeNameByServiceName(service.getServiceTypeName());
+            for (RemoteFunction remoteFunction : service.getRemoteFunctions()) {
+                String eventName = remoteFunction.getEventName();
+                String eventType = codegenUtils.getValidName(
+                        codegenUtils.escapeIdentifier(remoteFunction.getEventType().trim()), true);
+                entries.putIfAbsent(eventName, "[\"" + serviceTypeName + "\", \"" +
+                        codegenUtils.getFunctionNameByEventName(eventName) + "\", " + eventType + "]");
+            }
+        }
+
+        StringBuilder dispatchTable = new StringBuilder("final map<")
+                .append(Constants.DISPATCH_TABLE_ENTRY_TYPE).append("> & readonly ")
+                .append(Constants.DISPATCH_TABLE_VAR_NAME).append(" = {");
+        String separator = "";
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            dispatchTable.append(separator).append("\n    \"").append(entry.getKey()).append("\": ")
+                    .append(entry.getValue());
+            separator = ",";
+        }
+        dispatchTable.append("\n};");
+        return NodeParser.parseModuleMemberDeclaration(dispatchTable.toString());
+    }
+}
@@ -79,7 +79,10 @@ public class GenerateMatchStatementNode implements Generator {
             for (RemoteFunction remoteFunction : service.getRemoteFunctions()) {
                 String eventName = remoteFunction.getEventName();
                 String formattedEventName = codegenUtils.getFunctionNameByEventName(eventName);
-                MatchClauseNode matchClause = generateMatchClause(serviceName, eventName, formattedEventName);
+                String eventType = codegenUtils.getValidName(
+                        codegenUtils.escapeIdentifier(remoteFunction.getEventType().trim()), true);
+                MatchClauseNode matchClause = generateMatchClause(serviceName, eventName, formattedEventName,
+                        eventType);
                 matchClauseNodes.add(matchClause);
             }
         }
@@ -93,12 +96,15 @@ public class GenerateMatchStatementNode implements Generator {
     }
 
     /**
-     * Generates each match clause which filters event types in dispatcher_service.bal.
+     * Generates each match clause which filters event types in dispatcher_service.bal. The payload is bound to the
+     * type of the event only once the event is matched, e.g. {@code check payload.cloneWithType(GenericEventWrapper)}.
      */
-    private MatchClauseNode generateMatchClause(String serviceTypeName, String eventName, String formattedEventName) {
+    private MatchClauseNode generateMatchClause(String serviceTypeName, String eventName, String formattedEventName,
+                                                String eventType) {
         SeparatedNodeList<FunctionArgumentNode> argumentsList = createSeparatedNodeList(
                 createPositionalArgumentNode(createSimpleNameReferenceNode(
-                        createIdentifierToken(Constants.CLONE_WITH_TYPE_VAR_NAME))),
+                        createIdentifierToken("check " + Constants.PAYLOAD_VAR_NAME + ".cloneWithType(" + eventType +
+                                ")"))),
                 createToken(SyntaxKind.COMMA_TOKEN),
                 createPositionalArgumentNode(createSimpleNameReferenceNode(
                         createIdentifierToken("\"" + eventName + "\""))),
@@ -0,0 +1,249 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.options;
+
+import io.ballerina.asyncapi.codegenerator.configuration.DispatchMode;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.AasQueueConfig;
+
+import java.io.PrintStream;
+
+/**
+ * Options of a generation, which are given on the command line and passed on to the generators as they are.
+ * <p>
+ * An option which is not set keeps its default, so a generator built from {@code new Builder().build()} behaves as
+ * a generator without any of the options.
+ */
+public class GenerationOptions {
+    private final String licenseHeader;
+    private final boolean includeTestFiles;
+    private final int threads;
+    private final boolean printTimings;
+    private final boolean pipelining;
+    private final boolean connectionPool;
+    private final boolean reconnect;
+    private final boolean writeBatching;
+    private final AasQueueConfig queueConfig;
+    private final DispatchMode dispatchMode;
+    private final boolean asyncAck;
+    private final GenerationProfiler profiler;
+    private final PrintStream outStream;
+
+    private GenerationOptions(Builder builder) {
+        this.licenseHeader = builder.licenseHeader;
+        this.includeTestFiles = builder.includeTestFiles;
+        this.threads = builder.threads;
+        this.printTimings = builder.printTimings;
+        this.pipelining = builder.pipelining;
+        this.connectionPool = builder.connectionPool;
+        this.reconnect = builder.reconnect;
+        this.writeBatching = builder.writeBatching;
+        this.queueConfig = builder.queueConfig;
+        this.dispatchMode = builder.dispatchMode;
+        this.asyncAck = builder.asyncAck;
+        this.profiler = builder.profiler;
+        this.outStream = builder.outStream;
+    }
+
+    /**
+     * Returns the license header to add to the generated Ballerina files.
+     */
+    public String getLicenseHeader() {
+        return licenseHeader;
+    }
+
+    /**
+     * Returns whether the test files are generated along with the client.
+     */
+    public boolean isIncludeTestFiles() {
+        return includeTestFiles;
+    }
+
+    /**
+     * Returns the maximum number of files formatted or written at the same time, 1 handles them one by one.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Returns whether the time taken to format and write each generated file is printed.
+     */
+    public boolean isPrintTimings() {
+        return printTimings;
+    }
+
+    /**
+     * Returns whether the generated client has a future-returning variant of each remote function which waits on a
+     * response correlated by its id, with the requests in flight bounded by a window.
+     */
+    public boolean isPipelining() {
+        return pipelining;
+    }
+
+    /**
+     * Returns whether a pool of connections of the generated client, which spreads the remote function calls over
+     * several connections, is generated along with the client.
+     */
+    public boolean isConnectionPool() {
+        return connectionPool;
+    }
+
+    /**
+     * Returns whether the generated client reconnects with a jittered backoff once its connection fails, and writes
+     * the subscriptions of its active streams again on the new connection.
+     */
+    public boolean isReconnect() {
+        return reconnect;
+    }
+
+    /**
+     * Returns whether the writer of the generated client writes the messages already queued, or arriving within a
+     * linger time, back-to-back in batches, instead of one at a time.
+     */
+    public boolean isWriteBatching() {
+        return writeBatching;
+    }
+
+    /**
+     * Returns the defaults of the sizes of the write queue and of the pipes of the generated client, and of the
+     * policy for a received message whose pipe is full.
+     */
+    public AasQueueConfig getQueueConfig() {
+        return queueConfig;
+    }
+
+    /**
+     * Returns the way the generated dispatcher service of a listener finds the remote function of an event.
+     */
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    /**
+     * Returns whether the generated listener acknowledges an event once it is routed, and runs its remote function
+     * on a strand of its own, up to a bounded number of events at a time.
+     */
+    public boolean isAsyncAck() {
+        return asyncAck;
+    }
+
+    /**
+     * Returns the profiler to record the phases of the generation in.
+     */
+    public GenerationProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Returns the stream the generators print the generated files and the timings of the generation to. Each run
+     * of a generation has a stream of its own, so that the outputs of the generations run at the same time are not
+     * mixed up.
+     */
+    public PrintStream getOutStream() {
+        return outStream;
+    }
+
+    /**
+     * Generation options builder class.
+     */
+    public static class Builder {
+        private String licenseHeader = "";
+        private boolean includeTestFiles = false;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private boolean printTimings = false;
+        private boolean pipelining = false;
+        private boolean connectionPool = false;
+        private boolean reconnect = false;
+        private boolean writeBatching = false;
+        private AasQueueConfig queueConfig = AasQueueConfig.DEFAULT;
+        private DispatchMode dispatchMode = DispatchMode.MATCH;
+        private boolean asyncAck = false;
+        private GenerationProfiler profiler = GenerationProfiler.DISABLED;
+        private PrintStream outStream = System.err;
+
+        public Builder withLicenseHeader(String licenseHeader) {
+            this.licenseHeader = licenseHeader;
+            return this;
+        }
+
+        public Builder withIncludeTestFiles(boolean includeTestFiles) {
+            this.includeTestFiles = includeTestFiles;
+            return this;
+        }
+
+        public Builder withThreads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public Builder withPrintTimings(boolean printTimings) {
+            this.printTimings = printTimings;
+            return this;
+        }
+
+        public Builder withPipelining(boolean pipelining) {
+            this.pipelining = pipelining;
+            return this;
+        }
+
+        public Builder withConnectionPool(boolean connectionPool) {
+            this.connectionPool = connectionPool;
+            return this;
+        }
+
+        public Builder withReconnect(boolean reconnect) {
+            this.reconnect = reconnect;
+            return this;
+        }
+
+        public Builder withWriteBatching(boolean writeBatching) {
+            this.writeBatching = writeBatching;
+            return this;
+        }
+
+        public Builder withQueueConfig(AasQueueConfig queueConfig) {
+            this.queueConfig = queueConfig;
+            return this;
+        }
+
+        public Builder withDispatchMode(DispatchMode dispatchMode) {
+            this.dispatchMode = dispatchMode;
+            return this;
+        }
+
+        public Builder withAsyncAck(boolean asyncAck) {
+            this.asyncAck = asyncAck;
+            return this;
+        }
+
+        public Builder withProfiler(GenerationProfiler profiler) {
+            this.profiler = profiler;
+            return this;
+        }
+
+        public Builder withOutStream(PrintStream outStream) {
+            this.outStream = outStream;
+            return this;
+        }
+
+        public GenerationOptions build() {
+            return new GenerationOptions(this);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.profiler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.management.ThreadMXBean;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the wall time, the allocated bytes and the size of the processed input of each phase of a generation.
+ * <p>
+ * A phase is recorded from the call to {@link #start} until the returned {@link Phase} is closed, and its allocated
+ * bytes are the bytes allocated by the current thread in between, hence a phase has to be started and closed on the
+ * same thread. Phases started while another phase is open on the same thread are nested in it. The recorded phases
+ * can be printed as a summary table or written as a trace which can be opened in the trace viewer of Chrome.
+ * <p>
+ * A disabled profiler does not record anything, so the generators can be instrumented unconditionally.
+ */
+public class GenerationProfiler {
+    public static final GenerationProfiler DISABLED = new GenerationProfiler(false);
+    private static final Phase NO_OP_PHASE = new Phase(null, null);
+    private static final ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+    private static final long NOT_AVAILABLE = -1;
+    private static final double BYTES_PER_MB = 1024 * 1024;
+
+    private final boolean enabled;
+    private final long originNanos = System.nanoTime();
+    private final ConcurrentLinkedQueue<PhaseRecord> records = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Integer> depth = ThreadLocal.withInitial(() -> 0);
+
+    public GenerationProfiler() {
+        this(true);
+    }
+
+    private GenerationProfiler(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts recording a phase on the current thread.
+     *
+     * @param name Name of the phase
+     * @return Phase to close once the phase is completed
+     */
+    public Phase start(String name) {
+        if (!enabled) {
+            return NO_OP_PHASE;
+        }
+        return new Phase(this, name);
+    }
+
+    /**
+     * Returns the phases recorded so far, ordered by the time they were started.
+     *
+     * @return Recorded phases
+     */
+    public List<PhaseRecord> getPhases() {
+        List<PhaseRecord> phases = new ArrayList<>(records);
+        phases.sort(Comparator.comparingLong(PhaseRecord::getStartNanos));
+        return phases;
+    }
+
+    /**
+     * Prints the recorded phases as a table. Nested phases are indented under the phase they were started in.
+     *
+     * @param outStream Stream to print the table to
+     */
+    public void printSummary(PrintStream outStream) {
+        List<PhaseRecord> phases = getPhases();
+        int nameWidth = "Phase".length();
+        for (PhaseRecord phase : phases) {
+            nameWidth = Math.max(nameWidth, getIndentedName(phase).length());
+        }
+        String rowFormat = "%-" + nameWidth + "s  %10s  %14s  %s";
+        outStream.println("Generation profile:");
+        outStream.println(String.format(rowFormat, "Phase", "Time (ms)", "Allocated (MB)", "Counts").stripTrailing());
+        for (PhaseRecord phase : phases) {
+            String allocated = phase.getAllocatedBytes() == NOT_AVAILABLE ? "n/a" :
+                    String.format("%.2f", phase.getAllocatedBytes() / BYTES_PER_MB);
+            StringBuilder counts = new StringBuilder();
+            for (Map.Entry<String, Long> count : phase.getCounts().entrySet()) {
+                if (counts.length() > 0) {
+                    counts.append(", ");
+                }
+                counts.append(count.getKey()).append('=').append(count.getValue());
+            }
+            outStream.println(String.format(rowFormat, getIndentedName(phase),
+                    String.format("%.2f", phase.getDurationNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1)),
+                    allocated, counts).stripTrailing());
+        }
+    }
+
+    /**
+     * Writes the recorded phases in the trace event format, which can be opened in the trace viewer of Chrome.
+     * Each phase is written as a complete event on the thread it was recorded on.
+     *
+     * @param tracePath Path to write the trace to
+     * @throws IOException when the trace could not be written
+     */
+    public void writeChromeTrace(Path tracePath) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode trace = objectMapper.createObjectNode();
+        ArrayNode events = trace.putArray("traceEvents");
+        Set<Long> threadIds = new HashSet<>();
+        for (PhaseRecord phase : getPhases()) {
+            if (threadIds.add(phase.getThreadId())) {
+                ObjectNode threadName = events.addObject();
+                threadName.put("name", "thread_name");
+                threadName.put("ph", "M");
+                threadName.put("pid", 1);
+                threadName.put("tid", phase.getThreadId());
+                threadName.putObject("args").put("name", phase.getThreadName());
+            }
+            ObjectNode event = events.addObject();
+            event.put("name", phase.getName());
+            event.put("cat", "generation");
+            event.put("ph", "X");
+            event.put("ts", TimeUnit.NANOSECONDS.toMicros(phase.getStartNanos()));
+            event.put("dur", TimeUnit.NANOSECONDS.toMicros(phase.getDurationNanos()));
+            event.put("pid", 1);
+            event.put("tid", phase.getThreadId());
+            ObjectNode args = event.putObject("args");
+            if (phase.getAllocatedBytes() != NOT_AVAILABLE) {
+                args.put("allocatedBytes", phase.getAllocatedBytes());
+            }
+            for (Map.Entry<String, Long> count : phase.getCounts().entrySet()) {
+                args.put(count.getKey(), count.getValue());
+            }
+        }
+        trace.put("displayTimeUnit", "ms");
+        Path parent = tracePath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(tracePath, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(trace),
+                StandardCharsets.UTF_8);
+    }
+
+    private static String getIndentedName(PhaseRecord phase) {
+        return "  ".repeat(phase.getDepth()) + phase.getName();
+    }
+
+    private static ThreadMXBean getThreadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadMXBean &&
+                threadMXBean.isThreadAllocatedMemorySupported()) {
+            if (!threadMXBean.isThreadAllocatedMemoryEnabled()) {
+                threadMXBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return threadMXBean;
+        }
+        return null;
+    }
+
+    private static long getAllocatedBytes() {
+        return THREAD_MX_BEAN == null ? NOT_AVAILABLE : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Phase being recorded.
+     */
+    public static class Phase implements AutoCloseable {
+        private final GenerationProfiler profiler;
+        private final String name;
+        private final int depth;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+        private final Map<String, Long> counts = new LinkedHashMap<>();
+
+        private Phase(GenerationProfiler profiler, String name) {
+            this.profiler = profiler;
+            this.name = name;
+            if (profiler == null) {
+                this.depth = 0;
+                this.startNanos = 0;
+                this.startAllocatedBytes = NOT_AVAILABLE;
+                return;
+            }
+            this.depth = profiler.depth.get();
+            profiler.depth.set(depth + 1);
+            this.startAllocatedBytes = getAllocatedBytes();
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Records the number of items processed in the phase, e.g. the number of schemas.
+         *
+         * @param unit  Name of the items
+         * @param count Number of items
+         * @return This phase
+         */
+        public Phase count(String unit, long count) {
+            if (profiler != null) {
+                counts.put(unit, count);
+            }
+            return this;
+        }
+
+        @Override
+        public void close() {
+            if (profiler == null) {
+                return;
+            }
+            long durationNanos = System.nanoTime() - startNanos;
+            long allocatedBytes = startAllocatedBytes == NOT_AVAILABLE ? NOT_AVAILABLE :
+                    getAllocatedBytes() - startAllocatedBytes;
+            profiler.depth.set(depth);
+            Thread thread = Thread.currentThread();
+            profiler.records.add(new PhaseRecord(name, thread.getId(), thread.getName(), depth,
+                    startNanos - profiler.originNanos, durationNanos, allocatedBytes, counts));
+        }
+    }
+
+    /**
+     * Recorded phase.
+     */
+    public static class PhaseRecord {
+        private final String name;
+        private final long threadId;
+        private final String threadName;
+        private final int depth;
+        private final long startNanos;
+        private final long durationNanos;
+        private final long allocatedBytes;
+        private final Map<String, Long> counts;
+
+        PhaseRecord(String name, long threadId, String threadName, int depth, long startNanos, long durationNanos,
+                    long allocatedBytes, Map<String, Long> counts) {
+            this.name = name;
+            this.threadId = threadId;
+            this.threadName = threadName;
+            this.depth = depth;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.counts = Collections.unmodifiableMap(new LinkedHashMap<>(counts));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getThreadId() {
+            return threadId;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Returns the time the phase was started at, relative to the creation of the profiler.
+         */
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        /**
+         * Returns the bytes allocated by the thread during the phase, or -1 if the runtime does not support it.
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public Map<String, Long> getCounts() {
+            return counts;
+        }
+    }
+}
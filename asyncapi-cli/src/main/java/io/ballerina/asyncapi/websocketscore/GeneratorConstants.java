@@ -59,12 +59,17 @@ public class GeneratorConstants {
     public static final String CAPITAL_ERROR = "Error";
     public static final QualifiedNameReferenceNode PIPE_ERROR_NODE = createQualifiedNameReferenceNode(
             createIdentifierToken(SIMPLE_PIPE), createToken(COLON_TOKEN), createIdentifierToken(CAPITAL_ERROR));
+    public static final QualifiedNameReferenceNode PIPE_TYPE_NODE = createQualifiedNameReferenceNode(
+            createIdentifierToken(SIMPLE_PIPE), createToken(COLON_TOKEN), createIdentifierToken(CAPITAL_PIPE));
     public static final QualifiedNameReferenceNode WS_ERROR = createQualifiedNameReferenceNode(
             createIdentifierToken(WEBSOCKET), createToken(COLON_TOKEN), createIdentifierToken(CAPITAL_ERROR));
     public static final OptionalTypeDescriptorNode WS_ERROR_OPTIONAL = createOptionalTypeDescriptorNode(
             WS_ERROR, createToken(QUESTION_MARK_TOKEN));
     public static final String TRUE = "true";
     public static final String URL = "url";
+    public static final String TIME = "time";
+    public static final String RANDOM = "random";
+    public static final String LANG_RUNTIME = "lang.runtime";
     public static final String MODULE_TEST = "test";
     public static final String BALLERINA = "ballerina";
     //Honour goes to Nuvindu
@@ -91,7 +96,7 @@ public class GeneratorConstants {
     public static final String START_MESSAGE_WRITING = "startMessageWriting";
     public static final String CONSUME = "consume";
     public static final String PRODUCE = "produce";
-    public static final String DEFAULT_PIPE_TIME_OUT = "5";
+    public static final String INDEFINITE_PIPE_TIME_OUT = "-1";
     public static final String WRITE_MESSAGE = "writeMessage";
     public static final String READ_MESSAGE = "readMessage";
     public static final String MESSAGE = "Message";
@@ -100,13 +105,14 @@ public class GeneratorConstants {
     public static final String DATABINDING_ERR_TEMPLATE = "\"DataBindingError: Error in cloning message\"";
     public static final String PIPE_ERR_TEMPLATE = "\"PipeError: Error in %s message\"";
     public static final String MESSAGE_VAR_NAME = "message";
+    public static final String TEXT = "text";
     public static final String CONNECTION_ERR = "\"ConnectionError\", connectionClose";
     public static final String ATTEMPT_TO_CLOSE_CONNECTION = "attemptToCloseConnection";
-    public static final String MESSAGE_WITH_ID_VAR_NAME = "messageWithId";
     public static final String TYPE_INCLUSION_GENERATOR = "Generator";
     public static final String WORKER_SLEEP_TIME_OUT = "0.01";
     public static final String STREAM_GENERATORS_MAP = "StreamGeneratorsMap";
     public static final String PIPES_MAP = "PipesMap";
+    public static final String PIPES_STRIPE = "PipesStripe";
     public static final String SLEEP = "sleep";
     public static final String RUNTIME = "runtime";
     public static final String PIPES = "pipes";
@@ -229,7 +235,6 @@ public class GeneratorConstants {
     public static final String WITHIN_BRACE_TEMPLATE = "{%s}";
     public static final String CONSUMING = "consuming";
     public static final String PRODUCING = "producing";
-    public static final ExpressionNode OP_TIMEOUT_EXPR = NodeParser.parseExpression("\"Operation has timed out\"");
     public static final String LOG_PRINT_ERR = "log:printError(%s);";
     public static final String LOG_PRINT_DEBUG_TEMPLATE = "log:printDebug(\"%s: %s\", %s);";
     public static final String ERROR_PIPE_CLOSE = "Error in closing pipe.";
@@ -261,10 +266,154 @@ public class GeneratorConstants {
     public static final String READ_ONLY = "readOnly";
     public static final String PIPE_ID = "pipeId";
     public static final String CLONE_WITH_TYPE = "cloneWithType";
+    public static final String FROM_JSON_STRING_WITH_TYPE = "fromJsonStringWithType";
     public static final String PIPE_CLOSE_STATEMENT = "error? %s = self.pipes.removePipe(%s);";
     public static final String INIT = "init";
     public static final String NEXT = "next";
-    public static final String QUEUE_DEFAULT_SIZE = "1000";
+    public static final String WRITE_QUEUE_SIZE = "queueConfig.writeQueueSize";
+    public static final String INT = "int";
+    public static final String PIPE_IDLE_TIMEOUT = "pipeIdleTimeout";
+    public static final String DEFAULT_PIPE_IDLE_TIMEOUT = "60";
+    public static final String PIPE_IDLE_TIMEOUT_DESCRIPTION = "Time in seconds after which a pipe created for a " +
+            "received message, which no remote function has consumed from, is removed";
+    public static final String GET_PIPE_COUNT = "getPipeCount";
+    public static final String GET_PIPE_COUNT_STATEMENT = "return self.pipes.getPipeCount();";
+    public static final String GET_PIPE_COUNT_DESCRIPTION = "Gets the number of pipes the client holds to route the " +
+            "received messages.";
+    public static final String GET_PIPE_DEPTHS = "getPipeDepths";
+    public static final String GET_PIPE_DEPTHS_STATEMENT = "return self.pipes.getPipeDepths();";
+    public static final String GET_PIPE_DEPTHS_DESCRIPTION = "Gets the number of received messages waiting to be " +
+            "consumed in each pipe of the client, by the id of the pipe.";
+    public static final String GET_DROPPED_MESSAGE_COUNT = "getDroppedMessageCount";
+    public static final String GET_DROPPED_MESSAGE_COUNT_STATEMENT = "return self.pipes.getDroppedMessageCount();";
+    public static final String GET_DROPPED_MESSAGE_COUNT_DESCRIPTION = "Gets the number of received messages the " +
+            "client dropped as their pipes were full.";
+    public static final String MAP_INT = "map<int>";
+    public static final String QUEUE_CONFIG = "queueConfig";
+    public static final String QUEUE_CONFIG_TYPE = "QueueConfig";
+    public static final String OVERFLOW_POLICY_TYPE = "OverflowPolicy";
+    public static final String QUEUE_CONFIG_DESCRIPTION = "Configurations of the write queue and of the pipes of the " +
+            "received messages";
+    public static final String QUEUE_CONFIG_CHECK = "if queueConfig.writeQueueSize < 1 || queueConfig.pipeSize < 1 " +
+            "{ return error(\"The sizes of the write queue and of the pipes should be at least 1\"); }";
+    public static final String WRITE_QUEUE_SIZE_FIELD = "writeQueueSize: ";
+    public static final String PIPE_SIZE_FIELD = "pipeSize: ";
+    public static final String PIPE_OVERFLOW_FIELD = "pipeOverflow: ";
+    public static final String IN_FLIGHT_WINDOW = "inFlightWindow";
+    public static final String IN_FLIGHT_WINDOW_CLASS = "InFlightWindow";
+    public static final String MAX_IN_FLIGHT_REQUESTS = "maxInFlightRequests";
+    public static final String DEFAULT_MAX_IN_FLIGHT_REQUESTS = "100";
+    public static final String MAX_IN_FLIGHT_REQUESTS_DESCRIPTION = "Maximum number of requests correlated by their " +
+            "ids which wait on a response at a time";
+    public static final String MAX_IN_FLIGHT_REQUESTS_CHECK = "if maxInFlightRequests < 1 { return error(\"The " +
+            "maximum number of requests in flight should be at least 1\"); }";
+    public static final String IN_FLIGHT_WINDOW_INIT = "self.inFlightWindow = new (maxInFlightRequests);";
+    public static final String IN_FLIGHT_WINDOW_ACQUIRE = "check self.inFlightWindow.acquire(timeout);";
+    public static final String IN_FLIGHT_WINDOW_RELEASE = "self.inFlightWindow.release();";
+    public static final String FUTURE_FUNCTION_SUFFIX = "Async";
+    public static final String FUTURE_RETURN_TYPE_TEMPLATE = "future<%s|error>";
+    public static final String START_REMOTE_FUNCTION_STATEMENT = "return start self->%s(%s.cloneReadOnly(), %s);";
+    public static final String POOL_CLASS_SUFFIX = "Pool";
+    public static final String POOL_ROUTING_TYPE = "PoolRouting";
+    public static final String CONNECTION_SELECTOR_CLASS = "ConnectionSelector";
+    public static final String POOL_SIZE = "poolSize";
+    public static final String DEFAULT_POOL_SIZE = "4";
+    public static final String POOL_SIZE_DESCRIPTION = "Number of connections of the pool";
+    public static final String POOL_ROUTING = "routing";
+    public static final String DEFAULT_POOL_ROUTING = "\"ROUND_ROBIN\"";
+    public static final String POOL_ROUTING_DESCRIPTION = "Routing of the remote function calls over the connections";
+    public static final String POOL_SIZE_CHECK = "if poolSize < 1 { return error(\"The pool size should be at " +
+            "least 1\"); }";
+    public static final String CONNECTION_SELECTOR_INIT = "self.selector = new (poolSize, routing);";
+    public static final String POOL_CONNECTION_LOOP = "foreach int i in 0 ..< poolSize { " +
+            "%1$s|error connection = new (%2$s); " +
+            "if connection is error { " +
+            "error? closeErr = self->connectionClose(); " +
+            "if closeErr is error { log:printError(\"ConnectionError: Failed to close the connections of the " +
+            "pool\", closeErr); } " +
+            "return connection; } " +
+            "lock { self.connections.push(connection); } }";
+    public static final String POOL_SELECT_CONNECTION = "int index = self.selector.select();";
+    public static final String POOL_GET_CONNECTION = "%s connection = self.getConnection(%s);";
+    public static final String POOL_DELEGATE_CALL = "%s result = connection->%s(%s);";
+    public static final String POOL_RELEASE_CONNECTION = "self.selector.release(index);";
+    public static final String POOL_RETURN_RESULT = "return result;";
+    public static final String POOL_RETURN_DELEGATE_CALL = "return connection->%s(%s);";
+    public static final String POOL_CONNECTION_COUNT = "int connections = self.getConnectionCount();";
+    public static final String POOL_CLOSE_LOOP = "foreach int i in 0 ..< connections { " +
+            "%s connection = self.getConnection(i); " +
+            "check connection->connectionClose(); }";
+    public static final String POOL_GET_CONNECTION_STATEMENT = "lock { return self.connections[index]; }";
+    public static final String POOL_GET_CONNECTION_COUNT_STATEMENT = "lock { return self.connections.length(); }";
+    public static final String RECONNECT = "reconnect";
+    public static final String RECONNECT_CONFIG = "reconnectConfig";
+    public static final String RECONNECT_CONFIG_TYPE = "ReconnectConfig";
+    public static final String RECONNECT_CONFIG_FIELD_TYPE = "readonly & ReconnectConfig";
+    public static final String DEFAULT_RECONNECT_CONFIG = "{}";
+    public static final String RECONNECT_CONFIG_DESCRIPTION = "Configurations of the reconnection once the " +
+            "connection fails";
+    public static final String PENDING_REQUEST_POLICY_TYPE = "PendingRequestPolicy";
+    public static final String REPLAY_LOG = "replayLog";
+    public static final String REPLAY_LOG_CLASS = "ReplayLog";
+    public static final String CONNECT_WITH_BACKOFF = "connectWithBackoff";
+    public static final String GET_CLIENT_EP = "getClientEp";
+    public static final String RECONNECT_DESCRIPTION = "Reconnects to the service once the connection failed, and " +
+            "writes the subscribe messages of the active streams again, along with the pending requests when they " +
+            "are retried. The pending requests which are not retried fail.";
+    public static final String RECONNECT_CONFIG_INIT = "self.reconnectConfig = reconnectConfig.cloneReadOnly();";
+    public static final String REPLAY_LOG_INIT = "self.replayLog = new ();";
+    public static final String GET_CLIENT_EP_VAR = "websocket:Client clientEp = self.getClientEp();";
+    public static final String GET_CLIENT_EP_STATEMENT = "lock { return self.clientEp; }";
+    public static final String RECONNECT_STATEMENTS = "{ " +
+            "websocket:Client websocketEp = check connectWithBackoff(serviceUrl, clientConfig, " +
+            "self.reconnectConfig); " +
+            "boolean isActive; " +
+            "lock { isActive = self.isActive; if isActive { self.clientEp = websocketEp; } } " +
+            "if !isActive { return websocketEp->close(); } " +
+            "[Message[], string[]] [messages, failedRequests] = " +
+            "self.replayLog.getReplay(self.reconnectConfig.pendingRequests); " +
+            "foreach string id in failedRequests { check self.pipes.removePipe(id); } " +
+            "foreach Message message in messages { check self.writeMessageQueue.produce(message, 5); } }";
+    public static final String READ_MESSAGE_RECONNECT_ON_ERROR = "if message is websocket:Error { " +
+            "lock { if !self.isActive { return; } } " +
+            "log:printError(\"WsError: Failed to read message from the client\", message); " +
+            "error? reconnectErr = self.reconnect(serviceUrl, clientConfig); " +
+            "if reconnectErr is error { " +
+            "log:printError(\"ReconnectError: Failed to reconnect to the service\", reconnectErr); " +
+            "self.attemptToCloseConnection(); return; } " +
+            "continue; }";
+    public static final String WRITE_MESSAGE_RECONNECT_ON_ERROR = "if wsErr is websocket:Error { " +
+            "lock { if !self.isActive { return; } } " +
+            "log:printError(\"WsError: Failed to write message to the client\", wsErr); " +
+            "continue; }";
+    public static final String WRITE_BATCH_SIZE = "writeBatchSize";
+    public static final String WRITE_LINGER_TIME = "writeLingerTime";
+    public static final String DEFAULT_WRITE_BATCH_SIZE = "64";
+    public static final String DEFAULT_WRITE_LINGER_TIME = "0.001";
+    public static final String WRITE_BATCH_SIZE_DESCRIPTION = "Maximum number of queued messages written " +
+            "back-to-back before the writer waits on the write queue again";
+    public static final String WRITE_LINGER_TIME_DESCRIPTION = "Time in seconds the writer waits for a further " +
+            "message before a batch of written messages ends";
+    public static final String WRITE_BATCHING_CHECK = "if writeBatchSize < 1 || writeLingerTime < 0d { " +
+            "return error(\"The write batch size should be at least 1 and the linger time should not be " +
+            "negative\"); }";
+    public static final String SELF_ASSIGNMENT_TEMPLATE = "self.%s = %s;";
+    public static final String WRITE_BATCH_COUNTER = "int batchedMessages = 1;";
+    public static final String WRITE_BATCH_LOOP_TEMPLATE = "while batchedMessages < self.writeBatchSize { " +
+            "Message|pipe:Error nextMessage = self.writeMessageQueue.consume(self.writeLingerTime); " +
+            "if nextMessage is pipe:Error { break; } " +
+            "websocket:Error? nextWsErr = %s->writeMessage(nextMessage); " +
+            "if nextWsErr is websocket:Error { " +
+            "lock { if !self.isActive { return; } } " +
+            "log:printError(\"WsError: Failed to write message to the client\", nextWsErr); " +
+            "%s } " +
+            "batchedMessages += 1; }";
+    public static final String WRITE_BATCH_CLOSE_ON_ERROR = "self.attemptToCloseConnection(); return;";
+    public static final String WRITE_BATCH_RECONNECT_ON_ERROR = "break;";
+    public static final String REPLAY_ADD_REQUEST = "self.replayLog.addRequest(%s, message);";
+    public static final String REPLAY_REMOVE_REQUEST = "self.replayLog.removeRequest(%s);";
+    public static final String REPLAY_ADD_SUBSCRIPTION = "self.replayLog.addSubscription(%s, message);";
+    public static final String REPLAY_REMOVE_SUBSCRIPTION = "self.replayLog.removeSubscription(%s);";
     public static final String BALLERINA_WEBSOCKET_DOESNT_SUPPORT_FOR_MULTIPLE_CHANNELS =
             "Ballerina websocket doesn't support for multiple channels";
     public static final String X_DISPATCHER_KEY_MUST_INCLUDE_IN_THE_SPECIFICATION = "x-dispatcherKey must include" +
@@ -276,15 +425,24 @@ public class GeneratorConstants {
     public static final String START_MESSAGE_READING_DESCRIPTION = "Used to read messages from the websocket.";
     public static final String START_MESSAGE_WRITING_DESCRIPTION = "Used to write messages to the websocket.";
     public static final String DEFAULT_RETURN = "null";
-    public static final String STREAM_NEXT_CONSUME_MESSAGE = "anydata|error? message = self.pipes.getPipe" +
-            "(self.pipeId).consume(self.timeout);";
-    public static final String STREAM_NEXT_RESPONSE_CLONE = "%s response = check message.cloneWithType();";
+    public static final String STREAM_CLAIM_PIPE = "self.pipe = pipes.getPipe(pipeId);";
+    public static final String STREAM_NEXT_CONSUME_MESSAGE = "string|pipe:Error message = self.pipe.consume" +
+            "(self.timeout);";
+    public static final String STREAM_NEXT_END_ON_CLOSE = "if message is pipe:Error { if self.pipe.isClosed() { " +
+            "return; } return message; }";
+    public static final String STREAM_NEXT_RESPONSE_BINDING = "%s response = check message.fromJsonStringWithType();";
     public static final String CLOSE_STREAM_STATEMENT = "check self.pipes.removePipe(self.pipeId);";
     public static final String SELF_PIPES_GET_PIPE = "self.pipes.getPipe(%s)";
-    public static final String PIPE_COLON_PIPE = "pipe:Pipe";
-    public static final String MESSAGE_WITH_ID_VAR_CLONE = "MessageWithId|error messageWithId = " +
-            "message.cloneWithType(MessageWithId);";
-    public static final String PIPE_VAR = PIPE_COLON_PIPE + SPACE + SIMPLE_PIPE;
+    public static final String READ_MESSAGE_VAR = "string|byte[]|websocket:Error message = %s->readMessage();";
+    public static final String READ_MESSAGE_TEXT_VAR = "string|error text = message is string ? message : " +
+            "string:fromBytes(message);";
+    public static final String READ_MESSAGE_DECODE_ERROR = "\"DataBindingError: Failed to decode the message\"";
+    public static final String PIPE_ID_VAR = "string|error pipeId = getPipeId(text, %s);";
+    public static final String READ_MESSAGE_ROUTE_ERROR = "\"DataBindingError: Failed to read the dispatcher key " +
+            "of the message\"";
+    public static final String READ_MESSAGE_ERROR_TEMPLATE = "if %s is error { log:printError(%s, %s); " +
+            "self.attemptToCloseConnection(); return; }";
+    public static final String PIPES_PRODUCE_VAR = "pipe:Error? pipeErr = self.pipes.produce(pipeId, text);";
     public static final String CONNECTION_CLOSE_STATEMENT = "error? connectionClose = self->connectionClose();";
     public static final String CREATE_UUID_STATEMENT = "%s.%s = uuid:createType1AsString();";
     public static final Map<String, String> TYPE_MAP;
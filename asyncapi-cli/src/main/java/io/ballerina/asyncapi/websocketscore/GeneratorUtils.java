@@ -26,6 +26,7 @@ import io.apicurio.datamodels.models.asyncapi.AsyncApiSchema;
 import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
 import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25SchemaImpl;
 import io.apicurio.datamodels.validation.ValidationProblem;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
 import io.ballerina.asyncapi.websocketscore.model.GenSrcFile;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
@@ -210,6 +211,16 @@ public class GeneratorUtils {
      */
     public static AsyncApi25DocumentImpl getAsyncAPIFromAsyncAPIParser(Path definitionPath) throws
             IOException, BallerinaAsyncApiExceptionWs {
+        return getAsyncAPIFromAsyncAPIParser(definitionPath, GenerationProfiler.DISABLED);
+    }
+
+    /**
+     * Util for take AsyncAPI spec from given yaml file, which records the conversion, the reading and the
+     * validation of the spec in the given profiler.
+     */
+    public static AsyncApi25DocumentImpl getAsyncAPIFromAsyncAPIParser(Path definitionPath,
+                                                                       GenerationProfiler profiler)
+            throws IOException, BallerinaAsyncApiExceptionWs {
 
         Path contractPath = java.nio.file.Paths.get(definitionPath.toString());
         if (!Files.exists(contractPath)) {
@@ -221,21 +232,29 @@ public class GeneratorUtils {
             throw new BallerinaAsyncApiExceptionWs(ErrorMessages.invalidFileType());
         }
         //    add a parser
-        String asyncAPIFileContent = Files.readString(definitionPath);
-        ObjectMapper yamlReader = new ObjectMapper(new YAMLFactory());
-        Object obj = yamlReader.readValue(asyncAPIFileContent, Object.class);
-
-        ObjectMapper jsonWriter = new ObjectMapper();
+        String asyncAPIJson;
+        try (GenerationProfiler.Phase phase = profiler.start("yaml to json")) {
+            String asyncAPIFileContent = Files.readString(definitionPath);
+            ObjectMapper yamlReader = new ObjectMapper(new YAMLFactory());
+            Object obj = yamlReader.readValue(asyncAPIFileContent, Object.class);
+
+            ObjectMapper jsonWriter = new ObjectMapper();
+            asyncAPIJson = jsonWriter.writeValueAsString(obj);
+            phase.count("characters", asyncAPIFileContent.length());
+        }
         AsyncApi25DocumentImpl document;
-        try {
-            document = (AsyncApi25DocumentImpl) Library.readDocumentFromJSONString
-                    (jsonWriter.writeValueAsString(obj));
+        try (GenerationProfiler.Phase ignored = profiler.start("read document")) {
+            document = (AsyncApi25DocumentImpl) Library.readDocumentFromJSONString(asyncAPIJson);
         } catch (ClassCastException e) {
             throw new BallerinaAsyncApiExceptionWs("AsyncAPI definition has errors. " +
                     "Ballerina client code can only be generate for 2.5.0 version");
         }
 
-        List<ValidationProblem> validationProblems = Library.validate(document, null);
+        List<ValidationProblem> validationProblems;
+        try (GenerationProfiler.Phase phase = profiler.start("validate")) {
+            validationProblems = Library.validate(document, null);
+            phase.count("problems", validationProblems.size());
+        }
         if (!validationProblems.isEmpty()) {
             StringBuilder errorMessage = new StringBuilder("AsyncAPI definition has errors: \n");
             for (ValidationProblem validationProblem : validationProblems) {
@@ -440,7 +459,22 @@ public class GeneratorUtils {
      */
     public static AsyncApi25DocumentImpl normalizeAsyncAPI(Path asyncAPIPath) throws IOException,
             BallerinaAsyncApiExceptionWs {
-        AsyncApi25DocumentImpl asyncAPI = getAsyncAPIFromAsyncAPIParser(asyncAPIPath);
+        return normalizeAsyncAPI(asyncAPIPath, GenerationProfiler.DISABLED);
+    }
+
+    /**
+     * Normalized AsyncAPI specification with adding proper naming to schema, which records the phases of the
+     * normalization in the given profiler.
+     *
+     * @param asyncAPIPath - asyncAPI file path
+     * @param profiler     - profiler to record the phases in
+     * @return - asyncAPI specification
+     * @throws IOException
+     * @throws BallerinaAsyncApiExceptionWs
+     */
+    public static AsyncApi25DocumentImpl normalizeAsyncAPI(Path asyncAPIPath, GenerationProfiler profiler)
+            throws IOException, BallerinaAsyncApiExceptionWs {
+        AsyncApi25DocumentImpl asyncAPI = getAsyncAPIFromAsyncAPIParser(asyncAPIPath, profiler);
         //TODO: have to add a asyncapi validator to here
         return asyncAPI;
     }
@@ -20,14 +20,19 @@ package io.ballerina.asyncapi.websocketscore.generators.asyncspec.model;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25Document;
-import io.apicurio.datamodels.models.util.JsonUtil;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.AsyncApiConverterDiagnostic;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -38,6 +43,10 @@ import java.util.Optional;
  *
  */
 public class AsyncApiResult {
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    // Writers are immutable, hence shared by all the definitions
+    private static final ObjectWriter YAML_WRITER = createYamlWriter();
+    private static final ObjectWriter JSON_WRITER = new ObjectMapper().writerWithDefaultPrettyPrinter();
 
     private final List<AsyncApiConverterDiagnostic> diagnostics;
     private AsyncApi25Document asyncAPI;
@@ -71,15 +80,9 @@ public class AsyncApiResult {
     // Take yaml file
     public Optional<String> getYaml() {
         ObjectNode json = Library.writeDocument(this.asyncAPI);
-        YAMLFactory factory = new YAMLFactory();
-        factory.disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER);
-        factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
-        factory.enable(YAMLGenerator.Feature.SPLIT_LINES);
-        factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
-
         String finalYaml;
         try {
-            finalYaml = new ObjectMapper(factory).writer(new DefaultPrettyPrinter()).writeValueAsString(json);
+            finalYaml = YAML_WRITER.writeValueAsString(json);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -88,7 +91,40 @@ public class AsyncApiResult {
     // Take json file
     public Optional<String> getJson() {
         ObjectNode json = Library.writeDocument(this.asyncAPI);
-        String finalJson = JsonUtil.stringify(json);
+        String finalJson;
+        try {
+            finalJson = JSON_WRITER.writeValueAsString(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
         return Optional.ofNullable(finalJson);
     }
+
+    /**
+     * Writes the definition to the given file, as YAML or as JSON. The content is the same as the one of
+     * {@link #getYaml()} and {@link #getJson()}, while the node tree of the definition is serialized straight to the
+     * file.
+     *
+     * @param filePath Path of the file to write the definition to
+     * @param isJson   Whether to write the definition as JSON
+     * @return Number of bytes written
+     * @throws IOException when the file could not be written
+     */
+    public long write(Path filePath, boolean isJson) throws IOException {
+        ObjectNode json = Library.writeDocument(this.asyncAPI);
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(filePath),
+                WRITE_BUFFER_SIZE)) {
+            (isJson ? JSON_WRITER : YAML_WRITER).writeValue(outputStream, json);
+        }
+        return Files.size(filePath);
+    }
+
+    private static ObjectWriter createYamlWriter() {
+        YAMLFactory factory = new YAMLFactory();
+        factory.disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER);
+        factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
+        factory.enable(YAMLGenerator.Feature.SPLIT_LINES);
+        factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
+        return new ObjectMapper(factory).writer(new DefaultPrettyPrinter());
+    }
 }
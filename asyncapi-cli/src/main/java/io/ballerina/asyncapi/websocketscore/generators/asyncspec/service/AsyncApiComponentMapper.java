@@ -58,6 +58,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constants.AsyncAPIType;
 import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constants.DISPATCHERKEY_NOT_PRESENT_IN_RECORD_FIELD;
@@ -84,6 +85,12 @@ import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.Co
 public class AsyncApiComponentMapper {
     private final AsyncApi25ComponentsImpl components;
     private final List<AsyncApiConverterDiagnostic> diagnostics;
+    // Schemas built for the type references, by the component name and then by the dispatcher key they were built
+    // with, as the schema of a message type has the dispatcher key field set to the name of the type
+    private final Map<String, Map<String, BalAsyncApi25SchemaImpl>> builtSchemas = new HashMap<>();
+    // Components whose schemas are being built, for a record which refers back to itself through other records
+    private final Set<String> componentsInProgress = new HashSet<>();
+    private final Map<String, Map<String, String>> apiDocsCache = new HashMap<>();
 
     public AsyncApiComponentMapper(AsyncApi25ComponentsImpl components) {
         this.components = components;
@@ -96,6 +103,10 @@ public class AsyncApiComponentMapper {
 
     /**
      * This function is to map ballerina type references.
+     * <p>
+     * The schema built for a type reference is kept along with the dispatcher key it was built with, so that a type
+     * referred by several remote functions or records is only mapped once. A type reference reached again while its
+     * schema is being built is a cycle, which the {@code $ref} of the referring schema already covers.
      *
      * @param typeSymbol Type reference name as the TypeSymbol
      */
@@ -110,104 +121,128 @@ public class AsyncApiComponentMapper {
             isComponentContains = allSchemas.containsKey(componentName);
         }
 
-        if (allSchemas == null || !isComponentContains || dispatcherValue != null) {
-            Map<String, String> apiDocs = getRecordFieldsAPIDocsMap((TypeReferenceTypeSymbol) typeSymbol,
-                    componentName);
-            String typeDoc = null;
-            if (!apiDocs.isEmpty()) {
-                typeDoc = apiDocs.get(typeSymbol.getName().get());
+        if ((allSchemas == null || !isComponentContains || dispatcherValue != null) &&
+                !componentsInProgress.contains(componentName)) {
+            BalAsyncApi25SchemaImpl builtSchema = builtSchemas.getOrDefault(componentName, Collections.emptyMap())
+                    .get(dispatcherValue);
+            if (builtSchema != null) {
+                // Another dispatcher key may have replaced the schema since it was built
+                components.addSchema(componentName, builtSchema);
+                return;
             }
-            TypeReferenceTypeSymbol typeRef = (TypeReferenceTypeSymbol) typeSymbol;
-            TypeSymbol type = typeRef.typeDescriptor();
-            // Handle record type request body
-            if (type.typeKind() == TypeDescKind.INTERSECTION) {
-                // Check if Read only present and then avoid it
-                type = excludeReadonlyIfPresent(type);
+            componentsInProgress.add(componentName);
+            try {
+                mapTypeReference(typeSymbol, componentName, dispatcherValue);
+            } finally {
+                componentsInProgress.remove(componentName);
             }
-            BalAsyncApi25SchemaImpl schema = new BalAsyncApi25SchemaImpl();
-            switch (type.typeKind()) {
-                case RECORD:
-                    // Handle typeInclusions with allOf type binding
-                    handleRecordTypeSymbol((RecordTypeSymbol) type, componentName, apiDocs, dispatcherValue);
-                    break;
-                case TYPE_REFERENCE:
-                    schema.setType(OBJECT);
-                    schema.set$ref(ConverterCommonUtils.unescapeIdentifier(
-                            type.getName().orElseThrow().trim()));
-                    components.addSchema(componentName, schema);
-                    TypeReferenceTypeSymbol referredType = (TypeReferenceTypeSymbol) type;
-                    createComponentSchema(referredType, dispatcherValue);
-                    break;
-                case STRING:
-                    schema.setType(STRING);
-                    schema.setDescription(typeDoc);
-                    components.addSchema(componentName, schema);
-                    break;
-                case INT:
-                    schema.setType(INTEGER);
-                    schema.setDescription(typeDoc);
-                    components.addSchema(componentName, schema);
-                    break;
-                case DECIMAL:
-                    schema.setType(NUMBER);
-                    schema.setFormat(DOUBLE);
-                    schema.setDescription(typeDoc);
-                    components.addSchema(componentName, schema);
-                    break;
-                case FLOAT:
-                    schema.setType(NUMBER);
-                    schema.setFormat(FLOAT);
-                    schema.setDescription(typeDoc);
-                    components.addSchema(componentName, schema);
-                    break;
-                case ARRAY:
-                case TUPLE:
-                    BalAsyncApi25SchemaImpl arraySchema = mapArrayToArraySchema(type, componentName);
-                    arraySchema.setDescription(typeDoc);
-                    components.addSchema(componentName, arraySchema);
-                    break;
-                case UNION:
-                    BalAsyncApi25SchemaImpl unionSchema = handleUnionType((UnionTypeSymbol) type,
-                            new BalAsyncApi25SchemaImpl(), componentName, null, null);
-                    unionSchema.setDescription(typeDoc);
-                    components.addSchema(componentName, unionSchema);
-                    break;
-                case MAP:
-                    MapTypeSymbol mapTypeSymbol = (MapTypeSymbol) type;
-                    TypeSymbol typeParam = mapTypeSymbol.typeParam();
-                    if (typeParam.typeKind() == TypeDescKind.TYPE_REFERENCE) {
-                        TypeReferenceTypeSymbol typeReferenceTypeSymbol = (TypeReferenceTypeSymbol) typeParam;
-                        BalAsyncApi25SchemaImpl objectSchema = new BalAsyncApi25SchemaImpl();
-                        objectSchema.setType(AsyncAPIType.OBJECT.toString());
-                        BalAsyncApi25SchemaImpl objectSchema2 = new BalAsyncApi25SchemaImpl();
-                        objectSchema2.setType(AsyncAPIType.OBJECT.toString());
-                        objectSchema2.set$ref(ConverterCommonUtils.unescapeIdentifier(
-                                typeReferenceTypeSymbol.getName().orElseThrow().trim()));
-                        objectSchema.setAdditionalProperties(objectSchema2);
-                        components.addSchema(componentName, objectSchema);
-                        createComponentSchema(typeReferenceTypeSymbol, dispatcherValue);
-                    } else {
-                        TypeDescKind typeDescKind = mapTypeSymbol.typeParam().typeKind();
-                        BalAsyncApi25SchemaImpl asyncApiSchema = getAsyncApiSchema(typeDescKind.getName());
-                        //TODO : have to check here asyncApiSchema.getType() == null ? true : asyncApiSchema
-                        BalAsyncApi25SchemaImpl objectSchema = new BalAsyncApi25SchemaImpl();
-                        objectSchema.setType(AsyncAPIType.OBJECT.toString());
-                        objectSchema.setAdditionalProperties(asyncApiSchema.getType() == null ?
-                                new BalBooleanSchema(true) : asyncApiSchema);
-                        components.addSchema(componentName, objectSchema);
-                    }
-                    break;
-                default:
-                    // Diagnostic for currently unsupported data types.
-                    DiagnosticMessages errorMessage = DiagnosticMessages.AAS_CONVERTOR_106;
-                    IncompatibleRemoteDiagnostic error = new IncompatibleRemoteDiagnostic(errorMessage,
-                            typeRef.getLocation().get(), type.typeKind().getName());
-                    diagnostics.add(error);
-                    break;
+            if (components.getSchemas() != null &&
+                    components.getSchemas().get(componentName) instanceof BalAsyncApi25SchemaImpl schema) {
+                builtSchemas.computeIfAbsent(componentName, name -> new HashMap<>()).put(dispatcherValue, schema);
             }
         }
     }
 
+    /**
+     * Maps the type the given type reference refers to, and adds its schema to the components.
+     */
+    private void mapTypeReference(TypeSymbol typeSymbol, String componentName, String dispatcherValue) {
+        Map<String, String> apiDocs = getRecordFieldsAPIDocsMap((TypeReferenceTypeSymbol) typeSymbol,
+                componentName);
+        String typeDoc = null;
+        if (!apiDocs.isEmpty()) {
+            typeDoc = apiDocs.get(typeSymbol.getName().get());
+        }
+        TypeReferenceTypeSymbol typeRef = (TypeReferenceTypeSymbol) typeSymbol;
+        TypeSymbol type = typeRef.typeDescriptor();
+        // Handle record type request body
+        if (type.typeKind() == TypeDescKind.INTERSECTION) {
+            // Check if Read only present and then avoid it
+            type = excludeReadonlyIfPresent(type);
+        }
+        BalAsyncApi25SchemaImpl schema = new BalAsyncApi25SchemaImpl();
+        switch (type.typeKind()) {
+            case RECORD:
+                // Handle typeInclusions with allOf type binding
+                handleRecordTypeSymbol((RecordTypeSymbol) type, componentName, apiDocs, dispatcherValue);
+                break;
+            case TYPE_REFERENCE:
+                schema.setType(OBJECT);
+                schema.set$ref(ConverterCommonUtils.unescapeIdentifier(
+                        type.getName().orElseThrow().trim()));
+                components.addSchema(componentName, schema);
+                TypeReferenceTypeSymbol referredType = (TypeReferenceTypeSymbol) type;
+                createComponentSchema(referredType, dispatcherValue);
+                break;
+            case STRING:
+                schema.setType(STRING);
+                schema.setDescription(typeDoc);
+                components.addSchema(componentName, schema);
+                break;
+            case INT:
+                schema.setType(INTEGER);
+                schema.setDescription(typeDoc);
+                components.addSchema(componentName, schema);
+                break;
+            case DECIMAL:
+                schema.setType(NUMBER);
+                schema.setFormat(DOUBLE);
+                schema.setDescription(typeDoc);
+                components.addSchema(componentName, schema);
+                break;
+            case FLOAT:
+                schema.setType(NUMBER);
+                schema.setFormat(FLOAT);
+                schema.setDescription(typeDoc);
+                components.addSchema(componentName, schema);
+                break;
+            case ARRAY:
+            case TUPLE:
+                BalAsyncApi25SchemaImpl arraySchema = mapArrayToArraySchema(type, componentName);
+                arraySchema.setDescription(typeDoc);
+                components.addSchema(componentName, arraySchema);
+                break;
+            case UNION:
+                BalAsyncApi25SchemaImpl unionSchema = handleUnionType((UnionTypeSymbol) type,
+                        new BalAsyncApi25SchemaImpl(), componentName, null, null);
+                unionSchema.setDescription(typeDoc);
+                components.addSchema(componentName, unionSchema);
+                break;
+            case MAP:
+                MapTypeSymbol mapTypeSymbol = (MapTypeSymbol) type;
+                TypeSymbol typeParam = mapTypeSymbol.typeParam();
+                if (typeParam.typeKind() == TypeDescKind.TYPE_REFERENCE) {
+                    TypeReferenceTypeSymbol typeReferenceTypeSymbol = (TypeReferenceTypeSymbol) typeParam;
+                    BalAsyncApi25SchemaImpl objectSchema = new BalAsyncApi25SchemaImpl();
+                    objectSchema.setType(AsyncAPIType.OBJECT.toString());
+                    BalAsyncApi25SchemaImpl objectSchema2 = new BalAsyncApi25SchemaImpl();
+                    objectSchema2.setType(AsyncAPIType.OBJECT.toString());
+                    objectSchema2.set$ref(ConverterCommonUtils.unescapeIdentifier(
+                            typeReferenceTypeSymbol.getName().orElseThrow().trim()));
+                    objectSchema.setAdditionalProperties(objectSchema2);
+                    components.addSchema(componentName, objectSchema);
+                    createComponentSchema(typeReferenceTypeSymbol, dispatcherValue);
+                } else {
+                    TypeDescKind typeDescKind = mapTypeSymbol.typeParam().typeKind();
+                    BalAsyncApi25SchemaImpl asyncApiSchema = getAsyncApiSchema(typeDescKind.getName());
+                    //TODO : have to check here asyncApiSchema.getType() == null ? true : asyncApiSchema
+                    BalAsyncApi25SchemaImpl objectSchema = new BalAsyncApi25SchemaImpl();
+                    objectSchema.setType(AsyncAPIType.OBJECT.toString());
+                    objectSchema.setAdditionalProperties(asyncApiSchema.getType() == null ?
+                            new BalBooleanSchema(true) : asyncApiSchema);
+                    components.addSchema(componentName, objectSchema);
+                }
+                break;
+            default:
+                // Diagnostic for currently unsupported data types.
+                DiagnosticMessages errorMessage = DiagnosticMessages.AAS_CONVERTOR_106;
+                IncompatibleRemoteDiagnostic error = new IncompatibleRemoteDiagnostic(errorMessage,
+                        typeRef.getLocation().get(), type.typeKind().getName());
+                diagnostics.add(error);
+                break;
+        }
+    }
+
     private BalAsyncApi25SchemaImpl handleRecordTypeSymbol(RecordTypeSymbol recordTypeSymbol, String componentName,
                                                            Map<String, String> apiDocs, String dispatcherValue) {
         // Handle typeInclusions with allOf type binding
@@ -225,9 +260,15 @@ public class AsyncApiComponentMapper {
     }
 
     /**
-     * Creating API docs related to given record fields.
+     * Creating API docs related to given record fields. The docs of a type are read once, and a copy is returned as
+     * the callers add the docs of the included records to it.
      */
     private Map<String, String> getRecordFieldsAPIDocsMap(TypeReferenceTypeSymbol typeSymbol, String componentName) {
+        return new LinkedHashMap<>(apiDocsCache.computeIfAbsent(componentName,
+                name -> readRecordFieldsAPIDocsMap(typeSymbol, name)));
+    }
+
+    private Map<String, String> readRecordFieldsAPIDocsMap(TypeReferenceTypeSymbol typeSymbol, String componentName) {
         Map<String, String> apiDocs = new LinkedHashMap<>();
 
         // Record field apidoc mapping
@@ -18,8 +18,8 @@
 package io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -36,15 +36,18 @@ import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constant
 public final class CodegenUtils {
 
     /**
-     * Writes a file with content to specified {@code filePath}.
+     * Writes a file with content to specified {@code filePath}. The given parts of the content are written one after
+     * the other through a buffer, hence neither the whole content nor its encoded bytes are copied in memory.
      *
      * @param filePath valid file path to write the content
-     * @param content  content of the file
+     * @param contents parts of the content of the file, e.g. the license header and the source
      * @throws IOException when a file operation fails
      */
-    public static void writeFile(Path filePath, String content) throws IOException {
-        try (FileWriter writer = new FileWriter(filePath.toString(), StandardCharsets.UTF_8)) {
-            writer.write(content);
+    public static void writeFile(Path filePath, String... contents) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            for (String content : contents) {
+                writer.write(content);
+            }
         }
     }
 
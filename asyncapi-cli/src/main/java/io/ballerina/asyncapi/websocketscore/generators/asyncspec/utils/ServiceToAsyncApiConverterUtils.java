@@ -63,6 +63,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constants.ASYNCAPI_ANNOTATION;
 import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constants.ASYNC_API_VERSION;
@@ -95,6 +100,30 @@ public class ServiceToAsyncApiConverterUtils {
     public static List<AsyncApiResult> generateAsyncAPISpecDefinition(SyntaxTree syntaxTree,
                                                                       SemanticModel semanticModel, String serviceName,
                                                                       Boolean needJson, Path inputPath) {
+        return generateAsyncAPISpecDefinition(syntaxTree, semanticModel, serviceName, needJson, inputPath, 1);
+    }
+
+    /**
+     * This method will generate asyncapi definition Map lists with ballerina code, validating the definitions on a
+     * bounded pool of workers.
+     * <p>
+     * The services are mapped one by one on the calling thread, as the mapping queries the semantic model of the
+     * module, which is not documented as thread-safe. Only the validation of the mapped definitions, which reads
+     * nothing but the definition it validates, runs on the workers. The definitions are not serialized either. Each
+     * definition is serialized once it is written, which streams it to its file on the writing thread, so that no
+     * definition is held as a string until all of them are generated.
+     *
+     * @param syntaxTree    - Syntax tree the related to ballerina service
+     * @param semanticModel - Semantic model related to ballerina module
+     * @param serviceName   - Service name that need to generate the asyncAPI specification
+     * @param needJson      - Flag for enabling the generated file format with json or YAML
+     * @param inputPath     - Input file path for resolve the annotation details
+     * @param threads       - Maximum number of definitions validated at the same time, 1 validates them one by one
+     * @return - {@link Map} with asyncAPI definitions for service nodes
+     */
+    public static List<AsyncApiResult> generateAsyncAPISpecDefinition(SyntaxTree syntaxTree,
+                                                                      SemanticModel semanticModel, String serviceName,
+                                                                      Boolean needJson, Path inputPath, int threads) {
         List<ListenerDeclarationNode> endpoints = new ArrayList<>();
         Map<String, ServiceDeclarationNode> servicesToGenerate = new LinkedHashMap<>();
         List<String> availableService = new ArrayList<>();
@@ -117,13 +146,18 @@ public class ServiceToAsyncApiConverterUtils {
                 diagnostics.add(error);
             }
             // Generating asyncapi specification for selected META-INF.services
+            List<Callable<AsyncApiResult>> tasks = new ArrayList<>();
             for (Map.Entry<String, ServiceDeclarationNode> serviceNode : servicesToGenerate.entrySet()) {
                 String asyncApiName = getAsyncApiFileName(syntaxTree.filePath(), serviceNode.getKey(), needJson);
-                AsyncApiResult asyncAPIDefinition = generateAsyncApiSpec(serviceNode.getValue(),
-                        endpoints, classDefinitionNodes, semanticModel, asyncApiName, inputPath);
-                asyncAPIDefinition.setServiceName(asyncApiName);
-                outputs.add(asyncAPIDefinition);
+                Callable<AsyncApiResult> validation = mapAsyncApiSpec(serviceNode.getValue(), endpoints,
+                        classDefinitionNodes, semanticModel, asyncApiName, inputPath);
+                tasks.add(() -> {
+                    AsyncApiResult asyncAPIDefinition = validation.call();
+                    asyncAPIDefinition.setServiceName(asyncApiName);
+                    return asyncAPIDefinition;
+                });
             }
+            outputs.addAll(invokeAll(tasks, threads, diagnostics));
         }
         if (!diagnostics.isEmpty()) {
             AsyncApiResult exceptions = new AsyncApiResult(null, diagnostics);
@@ -132,6 +166,55 @@ public class ServiceToAsyncApiConverterUtils {
         return outputs;
     }
 
+    /**
+     * Runs the given tasks on a bounded pool of workers and returns their results in the order of the tasks, hence
+     * the definitions are listed in the same order as running them one by one.
+     */
+    private static List<AsyncApiResult> invokeAll(List<Callable<AsyncApiResult>> tasks, int threads,
+                                                  List<AsyncApiConverterDiagnostic> diagnostics) {
+        List<AsyncApiResult> results = new ArrayList<>();
+        if (threads <= 1 || tasks.size() <= 1) {
+            for (Callable<AsyncApiResult> task : tasks) {
+                results.add(call(task));
+            }
+            return results;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, tasks.size()));
+        try {
+            for (Future<AsyncApiResult> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            DiagnosticMessages messages = DiagnosticMessages.AAS_CONVERTOR_102;
+            diagnostics.add(new ExceptionDiagnostic(messages.getCode(), messages.getDescription(), null,
+                    "the generation was interrupted"));
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static AsyncApiResult call(Callable<AsyncApiResult> task) {
+        try {
+            return task.call();
+        } catch (Exception e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (cause instanceof Error error) {
+            throw error;
+        }
+        throw new IllegalStateException(cause);
+    }
+
     /**
      * Filter all the end points and service nodes.
      */
@@ -201,6 +284,20 @@ public class ServiceToAsyncApiConverterUtils {
                                                       List<ClassDefinitionNode> classDefinitionNodes,
                                                       SemanticModel semanticModel, String asyncApiFileName,
                                                       Path ballerinaFilePath) {
+        return call(mapAsyncApiSpec(serviceDefinition, endpoints, classDefinitionNodes, semanticModel,
+                asyncApiFileName, ballerinaFilePath));
+    }
+
+    /**
+     * Maps the given service to its contract, and returns the validation of the contract, which provides the
+     * {@code AsyncApiResult} of the service. The validation does not use the semantic model, hence it can run on
+     * another thread than the mapping.
+     */
+    private static Callable<AsyncApiResult> mapAsyncApiSpec(ServiceDeclarationNode serviceDefinition,
+                                                            List<ListenerDeclarationNode> endpoints,
+                                                            List<ClassDefinitionNode> classDefinitionNodes,
+                                                            SemanticModel semanticModel, String asyncApiFileName,
+                                                            Path ballerinaFilePath) {
         // 01.Fill the asyncAPI info section
         AsyncApiResult asyncApiResult = fillAsyncApiInfoSection(serviceDefinition, semanticModel,
                 asyncApiFileName, ballerinaFilePath);
@@ -213,24 +310,29 @@ public class ServiceToAsyncApiConverterUtils {
                 asyncapi = AsyncApiEndpointMapper.ENDPOINT_MAPPER.getServers(asyncapi, endpoints, serviceDefinition);
                 // 03. Filter path and component sections in AsyncAPISpec.
                 //   Generate asyncApi string for the mentioned service name.
-                asyncapi = asyncApiServiceMapper.convertServiceToAsyncApi(serviceDefinition,
-                        classDefinitionNodes, asyncapi);
-                List<ValidationProblem> modelProblems = Library.validate(asyncapi, null);
-                if (!(modelProblems.isEmpty())) {
-                    List<AsyncApiConverterDiagnostic> diagnostics = new ArrayList<>();
-                    DiagnosticMessages error = DiagnosticMessages.AAS_CONVERTER_107;
-                    ExceptionDiagnostic diagnostic = new ExceptionDiagnostic(error.getCode(),
-                            error.getDescription(), null);
-                    diagnostics.add(diagnostic);
-                    return new AsyncApiResult(null, diagnostics);
-                } else {
-                    return new AsyncApiResult(asyncapi, null);
-                }
+                AsyncApi25DocumentImpl mappedAsyncapi = asyncApiServiceMapper.convertServiceToAsyncApi(
+                        serviceDefinition, classDefinitionNodes, asyncapi);
+                return () -> validate(mappedAsyncapi);
             } else {
-                return new AsyncApiResult(asyncapi, asyncApiResult.getDiagnostics());
+                AsyncApiResult result = new AsyncApiResult(asyncapi, asyncApiResult.getDiagnostics());
+                return () -> result;
             }
         } else {
-            return asyncApiResult;
+            return () -> asyncApiResult;
+        }
+    }
+
+    private static AsyncApiResult validate(AsyncApi25DocumentImpl asyncapi) {
+        List<ValidationProblem> modelProblems = Library.validate(asyncapi, null);
+        if (!(modelProblems.isEmpty())) {
+            List<AsyncApiConverterDiagnostic> diagnostics = new ArrayList<>();
+            DiagnosticMessages error = DiagnosticMessages.AAS_CONVERTER_107;
+            ExceptionDiagnostic diagnostic = new ExceptionDiagnostic(error.getCode(),
+                    error.getDescription(), null);
+            diagnostics.add(diagnostic);
+            return new AsyncApiResult(null, diagnostics);
+        } else {
+            return new AsyncApiResult(asyncapi, null);
         }
     }
 
@@ -0,0 +1,353 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.websocketscore.generators.client;
+
+import io.ballerina.asyncapi.websocketscore.generators.document.DocCommentsGenerator;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
+import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
+import io.ballerina.compiler.syntax.tree.MarkdownParameterDocumentationLineNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.ObjectFieldNode;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_CLOSE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_SELECTOR_CLASS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_SELECTOR_INIT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DEFAULT_POOL_ROUTING;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DEFAULT_POOL_SIZE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.INT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.OPTIONAL_ERROR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_CLASS_SUFFIX;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_CLOSE_LOOP;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_CONNECTION_COUNT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_CONNECTION_LOOP;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_DELEGATE_CALL;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_GET_CONNECTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_GET_CONNECTION_COUNT_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_GET_CONNECTION_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_RELEASE_CONNECTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_RETURN_DELEGATE_CALL;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_RETURN_RESULT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_ROUTING;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_ROUTING_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_ROUTING_TYPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_SELECT_CONNECTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_SIZE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_SIZE_CHECK;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_SIZE_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RETURN;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createClassDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createDefaultableParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionBodyBlockNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignatureNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMarkdownDocumentationNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createObjectFieldNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLASS_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLIENT_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.FINAL_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.FUNCTION_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.ISOLATED_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PRIVATE_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.REMOTE_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURNS_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+
+/**
+ * This class generates the pool of connections of a generated client, which spreads the remote function calls over
+ * several connections to the service.
+ * <p>
+ * The pool is generated from the class definition of the client. Each remote function of the client gets a remote
+ * function of the same signature in the pool, which selects a connection and calls the remote function on it. The
+ * remote functions returning streams and the ones only receiving the messages the server pushes are pinned to the
+ * first connection, hence the subscriptions of the pool and the messages pushed for them stay on a single connection.
+ */
+public class ClientPoolGenerator {
+    private static final String POOL_INIT_DESCRIPTION = "Gets invoked to initialize the pool of connections of the " +
+            "`connector`.\n";
+    private static final String CONNECTIONS = "connections";
+    private static final String SELECTOR = "selector";
+    private static final String INDEX = "index";
+    private static final String PINNED_CONNECTION = "0";
+    private static final String INIT = "init";
+    private static final String GET_CONNECTION = "getConnection";
+    private static final String GET_CONNECTION_COUNT = "getConnectionCount";
+    private static final String STREAM_TYPE_PREFIX = "stream<";
+
+    private static final Token openParenToken = createToken(OPEN_PAREN_TOKEN);
+    private static final Token closeParenToken = createToken(CLOSE_PAREN_TOKEN);
+    private static final Token openBraceToken = createToken(OPEN_BRACE_TOKEN);
+    private static final Token closeBraceToken = createToken(CLOSE_BRACE_TOKEN);
+    private static final Token semicolonToken = createToken(SEMICOLON_TOKEN);
+
+    private final ClassDefinitionNode clientClass;
+    private final String clientName;
+
+    public ClientPoolGenerator(ClassDefinitionNode clientClass) {
+        this.clientClass = clientClass;
+        this.clientName = clientClass.className().text();
+    }
+
+    /**
+     * Generate the class definition of the pool of the client.
+     *
+     * @return {@link ClassDefinitionNode} Class definition of the pool
+     */
+    public ClassDefinitionNode generatePoolClassDefinitionNode() {
+        List<Node> memberNodeList = new ArrayList<>(createClassInstanceVariables());
+        for (Node member : clientClass.members()) {
+            if (!(member instanceof FunctionDefinitionNode functionDefinitionNode)) {
+                continue;
+            }
+            String functionName = functionDefinitionNode.functionName().text();
+            if (functionName.equals(INIT)) {
+                memberNodeList.add(createInitFunction(functionDefinitionNode));
+            } else if (isRemoteFunction(functionDefinitionNode) && !functionName.equals(CONNECTION_CLOSE)) {
+                memberNodeList.add(createRemoteFunction(functionDefinitionNode));
+            }
+        }
+        memberNodeList.add(createConnectionCloseFunction());
+        memberNodeList.add(createGetConnectionFunction());
+        memberNodeList.add(createGetConnectionCountFunction());
+
+        MetadataNode metadataNode = createMetadataNode(createMarkdownDocumentationNode(createNodeList(
+                DocCommentsGenerator.createAPIDescriptionDoc(String.format("Pool of connections of the `%s`, which " +
+                        "spreads the remote function calls over the connections.", clientName), false))),
+                createEmptyNodeList());
+        return createClassDefinitionNode(metadataNode, createToken(PUBLIC_KEYWORD),
+                createNodeList(createToken(CLIENT_KEYWORD), createToken(ISOLATED_KEYWORD)),
+                createToken(CLASS_KEYWORD), createIdentifierToken(clientName + POOL_CLASS_SUFFIX), openBraceToken,
+                createNodeList(memberNodeList), closeBraceToken, null);
+    }
+
+    private List<ObjectFieldNode> createClassInstanceVariables() {
+        NodeList<Token> qualifiers = createNodeList(createToken(PRIVATE_KEYWORD), createToken(FINAL_KEYWORD));
+        //private final ChatClient[] connections = [];
+        ObjectFieldNode connectionsField = createObjectFieldNode(createMetadataNode(null, createEmptyNodeList()),
+                null, qualifiers, createSimpleNameReferenceNode(createIdentifierToken(clientName + "[]")),
+                createIdentifierToken(CONNECTIONS), createToken(EQUAL_TOKEN), NodeParser.parseExpression("[]"),
+                semicolonToken);
+        //private final ConnectionSelector selector;
+        ObjectFieldNode selectorField = createObjectFieldNode(createMetadataNode(null, createEmptyNodeList()),
+                null, qualifiers, createSimpleNameReferenceNode(createIdentifierToken(CONNECTION_SELECTOR_CLASS)),
+                createIdentifierToken(SELECTOR), null, null, semicolonToken);
+        return List.of(connectionsField, selectorField);
+    }
+
+    private FunctionDefinitionNode createInitFunction(FunctionDefinitionNode clientInit) {
+        FunctionSignatureNode clientInitSignature = clientInit.functionSignature();
+        List<String> argumentNames = getParameterNames(clientInitSignature.parameters());
+
+        //int poolSize = 4, PoolRouting routing = "ROUND_ROBIN"
+        List<Node> parameters = getParameterNodes(clientInitSignature.parameters());
+        parameters.add(createToken(COMMA_TOKEN));
+        parameters.add(createDefaultableParameterNode(createEmptyNodeList(),
+                createSimpleNameReferenceNode(createIdentifierToken(INT)), createIdentifierToken(POOL_SIZE),
+                createToken(EQUAL_TOKEN), NodeParser.parseExpression(DEFAULT_POOL_SIZE)));
+        parameters.add(createToken(COMMA_TOKEN));
+        parameters.add(createDefaultableParameterNode(createEmptyNodeList(),
+                createSimpleNameReferenceNode(createIdentifierToken(POOL_ROUTING_TYPE)),
+                createIdentifierToken(POOL_ROUTING), createToken(EQUAL_TOKEN),
+                NodeParser.parseExpression(DEFAULT_POOL_ROUTING)));
+        FunctionSignatureNode signatureNode = clientInitSignature.modify()
+                .withParameters(createSeparatedNodeList(parameters)).apply();
+
+        List<StatementNode> statements = new ArrayList<>();
+        statements.add(NodeParser.parseStatement(POOL_SIZE_CHECK));
+        statements.add(NodeParser.parseStatement(CONNECTION_SELECTOR_INIT));
+        statements.add(NodeParser.parseStatement(String.format(POOL_CONNECTION_LOOP, clientName,
+                String.join(", ", argumentNames))));
+
+        return createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, getInitDocComment(clientInit),
+                clientInit.qualifierList(), createToken(FUNCTION_KEYWORD), clientInit.functionName(),
+                createEmptyNodeList(), signatureNode, createFunctionBodyBlockNode(openBraceToken, null,
+                        createNodeList(statements), closeBraceToken, null));
+    }
+
+    /**
+     * Provide the pool init function's documentation, which is the documentation of the client init function along
+     * with the descriptions of the parameters of the pool.
+     */
+    private MetadataNode getInitDocComment(FunctionDefinitionNode clientInit) {
+        List<Node> docs = new ArrayList<>(DocCommentsGenerator.createAPIDescriptionDoc(POOL_INIT_DESCRIPTION, true));
+        Optional<Node> clientInitDoc = clientInit.metadata().flatMap(MetadataNode::documentationString);
+        if (clientInitDoc.isPresent()) {
+            for (Node docLine : ((MarkdownDocumentationNode) clientInitDoc.get()).documentationLines()) {
+                if (docLine instanceof MarkdownParameterDocumentationLineNode parameterDoc) {
+                    if (parameterDoc.parameterName().text().equals(RETURN)) {
+                        docs.add(DocCommentsGenerator.createAPIParamDoc(POOL_SIZE, POOL_SIZE_DESCRIPTION));
+                        docs.add(DocCommentsGenerator.createAPIParamDoc(POOL_ROUTING, POOL_ROUTING_DESCRIPTION));
+                    }
+                    docs.add(parameterDoc);
+                }
+            }
+        }
+        return createMetadataNode(createMarkdownDocumentationNode(createNodeList(docs)), createEmptyNodeList());
+    }
+
+    /**
+     * Generate the remote function of the pool which calls a remote function of the client on a connection.
+     */
+    private FunctionDefinitionNode createRemoteFunction(FunctionDefinitionNode clientFunction) {
+        FunctionSignatureNode signatureNode = clientFunction.functionSignature();
+        String functionName = clientFunction.functionName().text();
+        String arguments = String.join(", ", getParameterNames(signatureNode.parameters()));
+        String returnType = signatureNode.returnTypeDesc().map(ReturnTypeDescriptorNode::type)
+                .map(typeNode -> typeNode.toSourceCode().trim()).orElse(OPTIONAL_ERROR);
+
+        List<StatementNode> statements = new ArrayList<>();
+        if (isPinned(signatureNode, returnType)) {
+            //ChatClient connection = self.getConnection(0);
+            //return connection->doSubscribeMessage(subscribeMessage, timeout);
+            statements.add(NodeParser.parseStatement(String.format(POOL_GET_CONNECTION, clientName,
+                    PINNED_CONNECTION)));
+            statements.add(NodeParser.parseStatement(String.format(POOL_RETURN_DELEGATE_CALL, functionName,
+                    arguments)));
+        } else {
+            //int index = self.selector.select();
+            //ChatClient connection = self.getConnection(index);
+            //PongMessage|error result = connection->doPingMessage(pingMessage, timeout);
+            //self.selector.release(index);
+            //return result;
+            statements.add(NodeParser.parseStatement(POOL_SELECT_CONNECTION));
+            statements.add(NodeParser.parseStatement(String.format(POOL_GET_CONNECTION, clientName, INDEX)));
+            statements.add(NodeParser.parseStatement(String.format(POOL_DELEGATE_CALL, returnType, functionName,
+                    arguments)));
+            statements.add(NodeParser.parseStatement(POOL_RELEASE_CONNECTION));
+            statements.add(NodeParser.parseStatement(POOL_RETURN_RESULT));
+        }
+        return createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, clientFunction.metadata().orElse(null),
+                clientFunction.qualifierList(), createToken(FUNCTION_KEYWORD), clientFunction.functionName(),
+                createEmptyNodeList(), signatureNode, createFunctionBodyBlockNode(openBraceToken, null,
+                        createNodeList(statements), closeBraceToken, null));
+    }
+
+    private FunctionDefinitionNode createConnectionCloseFunction() {
+        //int connections = self.getConnectionCount();
+        //foreach int i in 0 ..< connections { ... check connection->connectionClose(); }
+        List<StatementNode> statements = new ArrayList<>();
+        statements.add(NodeParser.parseStatement(POOL_CONNECTION_COUNT));
+        statements.add(NodeParser.parseStatement(String.format(POOL_CLOSE_LOOP, clientName)));
+        return createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, null,
+                createNodeList(createToken(REMOTE_KEYWORD), createToken(ISOLATED_KEYWORD)),
+                createToken(FUNCTION_KEYWORD), createIdentifierToken(CONNECTION_CLOSE), createEmptyNodeList(),
+                createFunctionSignatureNode(openParenToken, createSeparatedNodeList(), closeParenToken,
+                        createReturnType(OPTIONAL_ERROR)), createFunctionBodyBlockNode(openBraceToken, null,
+                        createNodeList(statements), closeBraceToken, null));
+    }
+
+    private FunctionDefinitionNode createGetConnectionFunction() {
+        //private isolated function getConnection(int index) returns ChatClient
+        SeparatedNodeList<ParameterNode> parameters = createSeparatedNodeList(createRequiredParameterNode(
+                createEmptyNodeList(), createSimpleNameReferenceNode(createIdentifierToken(INT)),
+                createIdentifierToken(INDEX)));
+        return createPrivateFunction(GET_CONNECTION, parameters, clientName, POOL_GET_CONNECTION_STATEMENT);
+    }
+
+    private FunctionDefinitionNode createGetConnectionCountFunction() {
+        //private isolated function getConnectionCount() returns int
+        return createPrivateFunction(GET_CONNECTION_COUNT, createSeparatedNodeList(), INT,
+                POOL_GET_CONNECTION_COUNT_STATEMENT);
+    }
+
+    private FunctionDefinitionNode createPrivateFunction(String functionName,
+                                                         SeparatedNodeList<ParameterNode> parameters,
+                                                         String returnType, String statement) {
+        return createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, null,
+                createNodeList(createToken(PRIVATE_KEYWORD), createToken(ISOLATED_KEYWORD)),
+                createToken(FUNCTION_KEYWORD), createIdentifierToken(functionName), createEmptyNodeList(),
+                createFunctionSignatureNode(openParenToken, parameters, closeParenToken, createReturnType(returnType)),
+                createFunctionBodyBlockNode(openBraceToken, null, createNodeList(NodeParser.parseStatement(statement)),
+                        closeBraceToken, null));
+    }
+
+    private static ReturnTypeDescriptorNode createReturnType(String returnType) {
+        return createReturnTypeDescriptorNode(createToken(RETURNS_KEYWORD), createEmptyNodeList(),
+                createSimpleNameReferenceNode(createIdentifierToken(returnType)));
+    }
+
+    private static boolean isRemoteFunction(FunctionDefinitionNode functionDefinitionNode) {
+        for (Token qualifier : functionDefinitionNode.qualifierList()) {
+            if (qualifier.kind() == REMOTE_KEYWORD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether a remote function is pinned to the first connection, i.e. whether it returns a stream, or it
+     * only receives a message the server pushes, in which case its only parameter is the timeout.
+     */
+    private static boolean isPinned(FunctionSignatureNode signatureNode, String returnType) {
+        return returnType.startsWith(STREAM_TYPE_PREFIX) || signatureNode.parameters().size() == 1;
+    }
+
+    private static List<Node> getParameterNodes(SeparatedNodeList<ParameterNode> parameters) {
+        List<Node> parameterNodes = new ArrayList<>();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                parameterNodes.add(parameters.getSeparator(i - 1));
+            }
+            parameterNodes.add(parameters.get(i));
+        }
+        return parameterNodes;
+    }
+
+    private static List<String> getParameterNames(SeparatedNodeList<ParameterNode> parameters) {
+        List<String> parameterNames = new ArrayList<>();
+        for (ParameterNode parameter : parameters) {
+            Optional<Token> parameterName = parameter instanceof DefaultableParameterNode defaultableParameter ?
+                    defaultableParameter.paramName() : ((RequiredParameterNode) parameter).paramName();
+            parameterName.ifPresent(name -> parameterNames.add(name.text()));
+        }
+        return parameterNames;
+    }
+}
@@ -38,8 +38,11 @@ import io.ballerina.asyncapi.websocketscore.GeneratorConstants;
 import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
 import io.ballerina.asyncapi.websocketscore.generators.client.model.AasClientConfig;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.AasQueueConfig;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.OverflowPolicy;
 import io.ballerina.asyncapi.websocketscore.generators.document.DocCommentsGenerator;
 import io.ballerina.asyncapi.websocketscore.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GenerationContext;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.AssignmentStatementNode;
 import io.ballerina.compiler.syntax.tree.BinaryExpressionNode;
@@ -48,6 +51,7 @@ import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.ExpressionStatementNode;
 import io.ballerina.compiler.syntax.tree.FieldAccessExpressionNode;
 import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
@@ -75,6 +79,7 @@ import io.ballerina.compiler.syntax.tree.OptionalTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.ParameterNode;
 import io.ballerina.compiler.syntax.tree.ParenthesizedArgList;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
 import io.ballerina.compiler.syntax.tree.ReturnStatementNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
@@ -111,6 +116,7 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.BALLERINA_
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CAPITAL_PIPE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CHECK_PATH_FOR_QUERY_PARAM;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLIENT_CLASS_NAME;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLIENT_CONFIG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLIENT_CONFIG_CUSTOM_HEADERS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLIENT_EP;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLOSE;
@@ -119,66 +125,115 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONFIG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONFIG_DESCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_CLOSE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_CLOSE_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_CONFIG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_ERR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONSUME;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CUSTOM_HEADERS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DECIMAL;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DEFAULT_API_KEY_DESC;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DEFAULT_PIPE_TIME_OUT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DEFAULT_PIPE_IDLE_TIMEOUT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DEFAULT_RECONNECT_CONFIG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DEFAULT_URL;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DEFAULT_WRITE_BATCH_SIZE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DEFAULT_WRITE_LINGER_TIME;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DOT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DOT_TO_STRING;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DOUBLE_QUOTE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.EQUAL_SPACE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.ERROR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.FAIL_TO_READ_ENDPOINT_DETAILS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.FUTURE_FUNCTION_SUFFIX;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.FUTURE_RETURN_TYPE_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_CLIENT_EP;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_CLIENT_EP_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_CLIENT_EP_VAR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_COMBINE_HEADERS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_DROPPED_MESSAGE_COUNT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_DROPPED_MESSAGE_COUNT_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_DROPPED_MESSAGE_COUNT_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_PIPE_COUNT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_PIPE_COUNT_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_PIPE_COUNT_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_PIPE_DEPTHS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_PIPE_DEPTHS_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_PIPE_DEPTHS_STATEMENT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.HEADER_PARAM;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.HEADER_PARAMETERS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.HEADER_PARAMS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IMMEDIATE_CLOSE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.INDEFINITE_PIPE_TIME_OUT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.INIT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.INT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IN_FLIGHT_WINDOW;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IN_FLIGHT_WINDOW_CLASS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IN_FLIGHT_WINDOW_INIT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IS_ACTIVE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.LOG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.LOG_PRINT_ERR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MAP_ANY_DATA;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MAP_INT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MAP_STRING;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MAX_IN_FLIGHT_REQUESTS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MAX_IN_FLIGHT_REQUESTS_CHECK;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MAX_IN_FLIGHT_REQUESTS_DESCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MESSAGE;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MESSAGE_WITH_ID_VAR_CLONE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MESSAGE_VAR_NAME;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MESSAGE_WITH_ID;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MESSAGE_WITH_ID_VAR_NAME;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MODIFIED_URL;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.NOT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.OBJECT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.OPTIONAL_ERROR;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.OP_TIMEOUT_EXPR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PATH_PARAMETERS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PATH_PARAMS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPES;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_COLON_PIPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPES_PRODUCE_VAR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_ERR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_ERROR_NODE;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_VAR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_ID;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_IDLE_TIMEOUT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_IDLE_TIMEOUT_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_ID_VAR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_OVERFLOW_FIELD;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_SIZE_FIELD;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PLUS_SPACE;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PRODUCE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUERY_PARAM;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUERY_PARAMETERS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUERY_PARAMS;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUEUE_DEFAULT_SIZE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUEUE_CONFIG;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUEUE_CONFIG_CHECK;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUEUE_CONFIG_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUEUE_CONFIG_TYPE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_MESSAGE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_MESSAGE_CLIENT_READ_ERROR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_MESSAGE_DECODE_ERROR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_MESSAGE_ERROR_TEMPLATE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_MESSAGE_PIPE_PRODUCE_ERROR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_MESSAGE_RECONNECT_ON_ERROR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_MESSAGE_ROUTE_ERROR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_MESSAGE_TEXT_VAR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_MESSAGE_VAR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_ONLY;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_CONFIG;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_CONFIG_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_CONFIG_FIELD_TYPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_CONFIG_INIT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_CONFIG_TYPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_DESCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REF;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REMOTE_METHOD_NAME_PREFIX;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REMOVE_PIPES;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REMOVE_STREAM_GENERATORS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REPLAY_LOG;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REPLAY_LOG_CLASS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REPLAY_LOG_INIT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RETURN;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RETURN_DESCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF_PIPES_GET_PIPE;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SEMICOLON;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF_ASSIGNMENT_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SERVER_STREAMING;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SERVICE_URL;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SERVICE_URL_DESCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SIMPLE_PIPE;
@@ -188,16 +243,31 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.START_MESS
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.START_MESSAGE_READING_DESCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.START_MESSAGE_WRITING;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.START_MESSAGE_WRITING_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.START_REMOTE_FUNCTION_STATEMENT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_GENERATORS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STRING;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.S_DOT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.TEXT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.TIMEOUT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.UUID;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WEBSOCKET;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WEBSOCKET_EP;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCHING_CHECK;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_CLOSE_ON_ERROR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_COUNTER;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_LOOP_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_RECONNECT_ON_ERROR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_SIZE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_SIZE_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_LINGER_TIME;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_LINGER_TIME_DESCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_MESSAGE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_MESSAGE_CLIENT_WRITE_ERROR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_MESSAGE_PIPE_CONSUME_ERROR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_MESSAGE_QUEUE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_MESSAGE_RECONNECT_ON_ERROR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_QUEUE_SIZE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_QUEUE_SIZE_FIELD;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WSS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WS_ERR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WS_ERROR;
@@ -211,6 +281,7 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_DISPATCH
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_DISPATCHER_KEY_MUST_INCLUDE_IN_THE_SPECIFICATION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_DISPATCHER_STREAM_ID;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_DISPATCHER_STREAM_ID_CANNOT_BE_EMPTY;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_NULLABLE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_RESPONSE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_RESPONSE_TYPE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorUtils.escapeIdentifier;
@@ -226,13 +297,11 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createAssignmentStat
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBinaryExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBlockStatementNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createBreakStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createCheckExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createClassDefinitionNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createContinueStatementNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createElseBlockNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createDefaultableParameterNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createExpressionStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFieldAccessExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFieldBindingPatternVarnameNode;
@@ -255,6 +324,7 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createParenthesizedA
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createPositionalArgumentNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createQualifiedNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredParameterNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
@@ -265,8 +335,6 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createUnionTypeDescr
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createVariableDeclarationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createWhileStatementNode;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.BACKTICK_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.BINARY_EXPRESSION;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.BREAK_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CHECK_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLASS_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLIENT_KEYWORD;
@@ -274,10 +342,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.CONTINUE_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.DOT_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.DOUBLE_EQUAL_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.ELSE_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ERROR_KEYWORD;
@@ -304,7 +369,6 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.RIGHT_ARROW_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.TRUE_KEYWORD;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.VAR_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.WHILE_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.WORKER_KEYWORD;
 
@@ -315,11 +379,18 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.WORKER_KEYWORD;
 public class IntermediateClientGenerator {
 
     private final AsyncApi25DocumentImpl asyncApi;
+    private final GenerationContext generationContext;
     private final List<String> remoteFunctionNameList;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
     private final List<ImportDeclarationNode> imports;
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
     private final RemoteFunctionReturnTypeGenerator functionReturnType;
+    private final boolean pipelining;
+    private final boolean connectionPool;
+    private final boolean reconnect;
+    private final boolean writeBatching;
+    private final AasQueueConfig queueConfig;
+    private boolean inFlightWindowPresent = false;
     private UtilGenerator utilGenerator;
     private List<TypeDefinitionNode> typeDefinitionNodeList;
     private List<String> apiKeyNameList = new ArrayList<>();
@@ -346,10 +417,16 @@ public class IntermediateClientGenerator {
         this.asyncApi = asyncAPIClientConfig.getAsyncAPI();
         this.utilGenerator = null;
         this.remoteFunctionNameList = new ArrayList<>();
-        this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(asyncApi, new LinkedList<>());
+        this.generationContext = new GenerationContext(asyncApi);
+        this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(generationContext, new LinkedList<>());
         this.serverURL = "/";
         this.ballerinaAuthConfigGenerator = new BallerinaAuthConfigGenerator(false, false, ballerinaSchemaGenerator);
         this.functionReturnType = new RemoteFunctionReturnTypeGenerator(this.asyncApi);
+        this.pipelining = asyncAPIClientConfig.isPipelining();
+        this.connectionPool = asyncAPIClientConfig.isConnectionPool();
+        this.reconnect = asyncAPIClientConfig.isReconnect();
+        this.writeBatching = asyncAPIClientConfig.isWriteBatching();
+        this.queueConfig = asyncAPIClientConfig.getQueueConfig();
     }
 
     private static ObjectFieldNode getObjectFieldNode(NodeList<Token> qualifiers, Node typeNode,
@@ -370,6 +447,13 @@ public class IntermediateClientGenerator {
         return typeDefinitionNodeList;
     }
 
+    /**
+     * Returns the context of this generation, to be shared with the other generators of the same client.
+     */
+    public GenerationContext getGenerationContext() {
+        return generationContext;
+    }
+
     /**
      * Returns ballerinaAuthConfigGenerator.
      */
@@ -426,7 +510,13 @@ public class IntermediateClientGenerator {
 
         List<ModuleMemberDeclarationNode> nodes = new ArrayList<>();
         // Add class definition node to module member nodes
-        nodes.add(getClassDefinitionNode());
+        ClassDefinitionNode clientClassDefinitionNode = getClassDefinitionNode();
+        nodes.add(clientClassDefinitionNode);
+        if (connectionPool) {
+            // Add the pool of connections of the client, which is generated from the client class
+            nodes.add(new ClientPoolGenerator(clientClassDefinitionNode).generatePoolClassDefinitionNode());
+            utilGenerator.setConnectionPoolFound(true);
+        }
 
         NodeList<ImportDeclarationNode> importsList = createNodeList(imports);
 
@@ -496,6 +586,10 @@ public class IntermediateClientGenerator {
         memberNodeList.add(createInitFunction(isStreamPresent));
         memberNodeList.add(createStartMessageWriting());
         memberNodeList.add(createStartMessageReading());
+        if (reconnect) {
+            memberNodeList.add(createReconnectFunction());
+            memberNodeList.add(createGetClientEpFunction());
+        }
         memberNodeList.addAll(remoteFunctionNodes);
         MetadataNode metadataNode = getClassMetadataNode();
         String titleName = asyncApi.getInfo().getTitle().trim().replaceAll("\\s", "");
@@ -534,66 +628,45 @@ public class IntermediateClientGenerator {
     private FunctionBodyNode getStartMessageReadingFunctionBodyNode() {
 
         List<StatementNode> whileStatements = new ArrayList<>();
-        whileStatements.add(getIsActiveCheck());
 
-        // Message|websocket:Error message = self.clientEp->readMessage();
-        FieldAccessExpressionNode clientEp = createFieldAccessExpressionNode(
-                createSimpleNameReferenceNode(createIdentifierToken(SELF)), dotToken,
-                createSimpleNameReferenceNode(createIdentifierToken(CLIENT_EP)));
-        MethodCallExpressionNode responseMessageExpressionNode = createMethodCallExpressionNode(clientEp,
-                rightArrowToken, createSimpleNameReferenceNode(createIdentifierToken(READ_MESSAGE)), openParenToken,
-                        createSeparatedNodeList(createIdentifierToken(MESSAGE)), closeParenToken);
-        VariableDeclarationNode responseMessage = createVariableDeclarationNode(createEmptyNodeList(),
-                null, createTypedBindingPatternNode(
-                        createUnionTypeDescriptorNode(createBuiltinSimpleNameReferenceNode(null,
-                                        createIdentifierToken(MESSAGE)), createToken(PIPE_TOKEN), WS_ERROR),
-                        createFieldBindingPatternVarnameNode(createSimpleNameReferenceNode(createIdentifierToken(
-                                MESSAGE_VAR_NAME)))), equalToken, responseMessageExpressionNode, semicolonToken);
-
-        whileStatements.add(responseMessage);
-        whileStatements.add(getIsWsError(READ_MESSAGE_CLIENT_READ_ERROR, MESSAGE_VAR_NAME));
-
-        // pipe:Pipe pipe = self.pipes.getPipe(message.event);
-        String messageEventAccessor = String.format(SELF_PIPES_GET_PIPE, MESSAGE_VAR_NAME + DOT +
-                escapeIdentifier(this.dispatcherKey));
-        if (Objects.isNull(this.dispatcherStreamId)) {
-            VariableDeclarationNode pipesVar = createVariableDeclarationNode(createEmptyNodeList(), null,
-                    createTypedBindingPatternNode(NodeParser.parseTypeDescriptor(PIPE_COLON_PIPE),
-                            createFieldBindingPatternVarnameNode(createSimpleNameReferenceNode(
-                                    createIdentifierToken(SIMPLE_PIPE)))), equalToken,
-                    NodeParser.parseExpression(messageEventAccessor), semicolonToken);
-            whileStatements.add(pipesVar);
+        // The message is read as it was received, i.e. as a text or a binary message, rather than bound to the
+        // `Message` type, hence it is parsed only once, by its consumer, into the type of its response
+        // string|byte[]|websocket:Error message = self.clientEp->readMessage();
+        String clientEp = SELF + DOT + CLIENT_EP;
+        if (reconnect) {
+            // The connection is swapped once the client reconnects, hence it is read under the lock
+            // websocket:Client clientEp = self.getClientEp();
+            whileStatements.add(NodeParser.parseStatement(GET_CLIENT_EP_VAR));
+            clientEp = CLIENT_EP;
+        }
+        whileStatements.add(NodeParser.parseStatement(String.format(READ_MESSAGE_VAR, clientEp)));
+        if (reconnect) {
+            whileStatements.add(NodeParser.parseStatement(READ_MESSAGE_RECONNECT_ON_ERROR));
         } else {
-            whileStatements.add(NodeParser.parseStatement(PIPE_VAR + SEMICOLON));
-            whileStatements.add(NodeParser.parseStatement(MESSAGE_WITH_ID_VAR_CLONE));
-            IfElseStatementNode pipeConditional = createIfElseStatementNode(createToken(IF_KEYWORD),
-                    NodeParser.parseExpression(MESSAGE_WITH_ID_VAR_NAME + IS + MESSAGE_WITH_ID),
-                    createBlockStatementNode(openBraceToken, createNodeList(NodeParser.parseStatement(
-                            SIMPLE_PIPE + EQUAL_SPACE + String.format(SELF_PIPES_GET_PIPE,
-                                    MESSAGE_WITH_ID_VAR_NAME + DOT + escapeIdentifier(this.dispatcherStreamId)) +
-                                    SEMICOLON)), closeBraceToken),
-                    createElseBlockNode(createToken(ELSE_KEYWORD), createBlockStatementNode(openBraceToken,
-                            createNodeList(NodeParser.parseStatement(SIMPLE_PIPE + EQUAL_SPACE +
-                                    messageEventAccessor + SEMICOLON)), closeBraceToken)));
-            whileStatements.add(pipeConditional);
-        }
-
-        // pipe:Error? pipeErr = pipe.produce(message, 5);
-        MethodCallExpressionNode produceExpression = createMethodCallExpressionNode(createBasicLiteralNode(VAR_KEYWORD,
-                        createIdentifierToken(SIMPLE_PIPE)), dotToken, createSimpleNameReferenceNode(
-                                createIdentifierToken(PRODUCE)), openParenToken, createSeparatedNodeList(
-                                createPositionalArgumentNode(createRequiredExpressionNode(createIdentifierToken(
-                                        MESSAGE_VAR_NAME))), createToken(COMMA_TOKEN),
-                                        createPositionalArgumentNode(createRequiredExpressionNode(createIdentifierToken(
-                                                DEFAULT_PIPE_TIME_OUT)))), closeParenToken);
-        VariableDeclarationNode pipeErrVar = createVariableDeclarationNode(createEmptyNodeList(), null,
-                createTypedBindingPatternNode(createOptionalTypeDescriptorNode(PIPE_ERROR_NODE,
-                                createToken(QUESTION_MARK_TOKEN)), createFieldBindingPatternVarnameNode(
-                                        createSimpleNameReferenceNode(createIdentifierToken(PIPE_ERR)))),
-                equalToken, produceExpression, semicolonToken);
-
-        whileStatements.add(pipeErrVar);
-        whileStatements.add(getIsPipeError(PIPE_ERR, READ_MESSAGE_PIPE_PRODUCE_ERROR, false));
+            whileStatements.add(getIsWsError(READ_MESSAGE_CLIENT_READ_ERROR, MESSAGE_VAR_NAME));
+        }
+
+        // string|error text = message is string ? message : string:fromBytes(message);
+        whileStatements.add(NodeParser.parseStatement(READ_MESSAGE_TEXT_VAR));
+        whileStatements.add(NodeParser.parseStatement(String.format(READ_MESSAGE_ERROR_TEMPLATE, TEXT,
+                READ_MESSAGE_DECODE_ERROR, TEXT)));
+
+        // The id of the pipe is scanned off the text of the message, i.e. the stream id of the message if it has
+        // one, and the value of the dispatcher key otherwise
+        // string|error pipeId = getPipeId(text, "event", "id");
+        String pipeIdArguments = toStringLiteral(this.dispatcherKey);
+        if (!Objects.isNull(this.dispatcherStreamId)) {
+            pipeIdArguments += ", " + toStringLiteral(this.dispatcherStreamId);
+        }
+        whileStatements.add(NodeParser.parseStatement(String.format(PIPE_ID_VAR, pipeIdArguments)));
+        whileStatements.add(NodeParser.parseStatement(String.format(READ_MESSAGE_ERROR_TEMPLATE, PIPE_ID,
+                READ_MESSAGE_ROUTE_ERROR, PIPE_ID)));
+
+        // The pipes map produces the message to the pipe of its id, and handles it by the overflow policy of the
+        // pipes once the pipe is full
+        // pipe:Error? pipeErr = self.pipes.produce(pipeId, text);
+        whileStatements.add(NodeParser.parseStatement(PIPES_PRODUCE_VAR));
+        whileStatements.add(getIsPipeError(PIPE_ERR, READ_MESSAGE_PIPE_PRODUCE_ERROR, true));
 
         BlockStatementNode whileBody = createBlockStatementNode(openBraceToken, createNodeList(whileStatements),
                 closeBraceToken);
@@ -610,10 +683,45 @@ public class IntermediateClientGenerator {
     }
 
     private FunctionSignatureNode getStartMessageReadingFunctionSignatureNode() {
-        SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(new ArrayList<>());
+        List<Node> parameters = new ArrayList<>();
+        if (reconnect) {
+            // The reader reconnects with the URL and the configurations the client was initialized with
+            parameters.add(createRequiredParameterNode(createEmptyNodeList(),
+                    createSimpleNameReferenceNode(createIdentifierToken(STRING)), createIdentifierToken(SERVICE_URL)));
+            parameters.add(createToken(COMMA_TOKEN));
+            parameters.add(createRequiredParameterNode(createEmptyNodeList(),
+                    NodeParser.parseTypeDescriptor(CONNECTION_CONFIG),
+                    createIdentifierToken(CLIENT_CONFIG)));
+        }
+        SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(parameters);
         return createFunctionSignatureNode(openParenToken, parameterList, closeParenToken, null);
     }
 
+    private FunctionDefinitionNode createReconnectFunction() {
+        MetadataNode metadataNode = createMetadataNode(createMarkdownDocumentationNode(createNodeList(
+                DocCommentsGenerator.createAPIDescriptionDoc(RECONNECT_DESCRIPTION, false))), createEmptyNodeList());
+        FunctionSignatureNode functionSignatureNode = createFunctionSignatureNode(openParenToken,
+                getStartMessageReadingFunctionSignatureNode().parameters(), closeParenToken,
+                createReturnTypeDescriptorNode(createToken(RETURNS_KEYWORD), createEmptyNodeList(),
+                        createSimpleNameReferenceNode(createIdentifierToken(OPTIONAL_ERROR))));
+        return createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, metadataNode,
+                createNodeList(createToken(PRIVATE_KEYWORD), createToken(ISOLATED_KEYWORD)),
+                createToken(FUNCTION_KEYWORD), createIdentifierToken(RECONNECT), createEmptyNodeList(),
+                functionSignatureNode, NodeParser.parseFunctionBodyBlock(RECONNECT_STATEMENTS));
+    }
+
+    private FunctionDefinitionNode createGetClientEpFunction() {
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), createQualifiedNameReferenceNode(
+                        createIdentifierToken(WEBSOCKET), colonToken, createIdentifierToken(CLIENT_CLASS_NAME)));
+        return createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, null,
+                createNodeList(createToken(PRIVATE_KEYWORD), createToken(ISOLATED_KEYWORD)),
+                createToken(FUNCTION_KEYWORD), createIdentifierToken(GET_CLIENT_EP), createEmptyNodeList(),
+                createFunctionSignatureNode(openParenToken, createSeparatedNodeList(), closeParenToken,
+                        returnTypeDescriptorNode), createFunctionBodyBlockNode(openBraceToken, null,
+                        createNodeList(NodeParser.parseStatement(GET_CLIENT_EP_STATEMENT)), closeBraceToken, null));
+    }
+
     private AsyncApi25SchemaImpl createResponseMessageWithIDRecord(String dispatcherKey, String dispatcherStreamId) {
         //create MessageWithID record
         AsyncApi25SchemaImpl responseMessageWithId = new AsyncApi25SchemaImpl();
@@ -644,7 +752,6 @@ public class IntermediateClientGenerator {
         requiredFields.add(dispatcherKey);
         message.setRequired(requiredFields);
         message.addProperty(dispatcherKey, stringEventSchema);
-        message.addExtension(READ_ONLY, BooleanNode.TRUE);
         return message;
     }
 
@@ -662,14 +769,15 @@ public class IntermediateClientGenerator {
     private FunctionBodyNode getStartMessageWritingFunctionBodyNode() {
         NodeList<AnnotationNode> annotations = createEmptyNodeList();
 
-        // anydata|pipe:Error requestMessage = self.writeMessageQueue.consume(5);
+        // Waits until a message is queued or the queue is closed, instead of polling the queue
+        // anydata|pipe:Error requestMessage = self.writeMessageQueue.consume(-1);
         FieldAccessExpressionNode globalQueue = createFieldAccessExpressionNode(
                 createSimpleNameReferenceNode(createIdentifierToken(SELF)), dotToken,
                 createSimpleNameReferenceNode(createIdentifierToken(WRITE_MESSAGE_QUEUE)));
         MethodCallExpressionNode consumeExpression = createMethodCallExpressionNode(globalQueue, dotToken,
                         createSimpleNameReferenceNode(createIdentifierToken(CONSUME)), openParenToken,
                         createSeparatedNodeList(createPositionalArgumentNode(createRequiredExpressionNode(
-                                        createIdentifierToken(DEFAULT_PIPE_TIME_OUT)))), closeParenToken);
+                                        createIdentifierToken(INDEFINITE_PIPE_TIME_OUT)))), closeParenToken);
         VariableDeclarationNode queueData = createVariableDeclarationNode(createEmptyNodeList(), null,
                 createTypedBindingPatternNode(createUnionTypeDescriptorNode(createSimpleNameReferenceNode(
                         createIdentifierToken(MESSAGE)), createToken(PIPE_TOKEN), PIPE_ERROR_NODE),
@@ -677,9 +785,12 @@ public class IntermediateClientGenerator {
                                 MESSAGE_VAR_NAME)))), equalToken, consumeExpression, semicolonToken);
 
         // self.clientEp->writeMessage(requestMessage);
-        FieldAccessExpressionNode clientEp = createFieldAccessExpressionNode(
+        ExpressionNode clientEp = createFieldAccessExpressionNode(
                 createSimpleNameReferenceNode(createIdentifierToken(SELF)), dotToken,
                 createSimpleNameReferenceNode(createIdentifierToken(CLIENT_EP)));
+        if (reconnect) {
+            clientEp = createSimpleNameReferenceNode(createIdentifierToken(CLIENT_EP));
+        }
         MethodCallExpressionNode writeMessageExpression = createMethodCallExpressionNode(clientEp, rightArrowToken,
                         createSimpleNameReferenceNode(createIdentifierToken(WRITE_MESSAGE)), openParenToken,
                         createSeparatedNodeList(
@@ -691,11 +802,31 @@ public class IntermediateClientGenerator {
                                 createIdentifierToken(WS_ERR)))), equalToken, writeMessageExpression, semicolonToken);
 
         List<StatementNode> whileStatements = new ArrayList<>();
-        whileStatements.add(getIsActiveCheck());
         whileStatements.add(queueData);
-        whileStatements.add(getIsPipeError(MESSAGE_VAR_NAME, WRITE_MESSAGE_PIPE_CONSUME_ERROR, true));
-        whileStatements.add(writeMessage);
-        whileStatements.add(getIsWsError(WRITE_MESSAGE_CLIENT_WRITE_ERROR, WS_ERR));
+        // The writer checks whether the client is still active each time it wakes up, hence a message consumed as
+        // the client is closed is not written, and the close of the queue does not count as an error
+        whileStatements.add(getIsClosedCheck());
+        whileStatements.add(getIsPipeError(MESSAGE_VAR_NAME, WRITE_MESSAGE_PIPE_CONSUME_ERROR, false));
+        if (reconnect) {
+            // websocket:Client clientEp = self.getClientEp();
+            whileStatements.add(NodeParser.parseStatement(GET_CLIENT_EP_VAR));
+            whileStatements.add(writeMessage);
+            // The reader reconnects, hence the writer goes on with the next message. The subscriptions and the
+            // pending requests among the messages which failed to be written are written again once reconnected
+            whileStatements.add(NodeParser.parseStatement(WRITE_MESSAGE_RECONNECT_ON_ERROR));
+        } else {
+            whileStatements.add(writeMessage);
+            whileStatements.add(getIsWsError(WRITE_MESSAGE_CLIENT_WRITE_ERROR, WS_ERR));
+        }
+        if (writeBatching) {
+            // Writes the messages which are already queued, or are queued within the linger time, back-to-back
+            // int batchedMessages = 1;
+            // while batchedMessages < self.writeBatchSize { ... }
+            whileStatements.add(NodeParser.parseStatement(WRITE_BATCH_COUNTER));
+            whileStatements.add(NodeParser.parseStatement(String.format(WRITE_BATCH_LOOP_TEMPLATE,
+                    reconnect ? CLIENT_EP : SELF + DOT + CLIENT_EP,
+                    reconnect ? WRITE_BATCH_RECONNECT_ON_ERROR : WRITE_BATCH_CLOSE_ON_ERROR)));
+        }
 
         BlockStatementNode whileBody = createBlockStatementNode(openBraceToken, createNodeList(whileStatements),
                 closeBraceToken);
@@ -711,43 +842,36 @@ public class IntermediateClientGenerator {
         return createFunctionBodyBlockNode(openBraceToken, null, workerDeclarationNodes, closeBraceToken, null);
     }
 
-    private static StatementNode getIsActiveCheck() {
+    private static StatementNode getIsClosedCheck() {
+        // The connection is closed by closing the queue and the websocket, which wakes up the workers with an error
         //        lock {
         //            if !self.isActive {
-        //                break;
+        //                return;
         //            }
         //        }
         NodeList<StatementNode> ifIsActiveNode = createNodeList(createIfElseStatementNode(createToken(IF_KEYWORD),
                 createSimpleNameReferenceNode(createIdentifierToken(NOT + SELF + DOT + IS_ACTIVE)),
-                createBlockStatementNode(openBraceToken, createNodeList(createBreakStatementNode(
-                        createToken(BREAK_KEYWORD), semicolonToken)), closeBraceToken), null));
+                createBlockStatementNode(openBraceToken, createNodeList(createReturnStatementNode(
+                        createToken(RETURN_KEYWORD), null, semicolonToken)), closeBraceToken), null));
         return createLockStatementNode(createToken(LOCK_KEYWORD),
                 createBlockStatementNode(openBraceToken, ifIsActiveNode, closeBraceToken), null);
     }
 
     private static IfElseStatementNode getIsPipeError(String errVar, String errorMessageTemplate,
-                                                      boolean checkTimeout) {
+                                                      boolean checkClosed) {
         //        if requestMessage is pipe:Error {
-        //            if (requestMessage.message() == "Operation has timed out") {
-        //                continue;
+        //            lock {
+        //                if !self.isActive {
+        //                    return;
+        //                }
         //            }
         //            log:printError("[writeMessage]PipeError: " + requestMessage.message());
         //            self.attemptToCloseConnection();
         //            return;
         //        }
         ArrayList<StatementNode> ifStatements = new ArrayList<>();
-        if (checkTimeout) {
-            StatementNode continueStatementNode = createContinueStatementNode(createToken(CONTINUE_KEYWORD),
-                    semicolonToken);
-            IfElseStatementNode ifTimeOutErrorNode = createIfElseStatementNode(createToken(IF_KEYWORD),
-                    createBinaryExpressionNode(BINARY_EXPRESSION, createMethodCallExpressionNode(
-                                    createSimpleNameReferenceNode(createIdentifierToken(errVar)), dotToken,
-                                    createSimpleNameReferenceNode(createIdentifierToken(MESSAGE_VAR_NAME)),
-                                    openParenToken, createSeparatedNodeList(), closeParenToken),
-                            createToken(DOUBLE_EQUAL_TOKEN), OP_TIMEOUT_EXPR),
-                    createBlockStatementNode(openBraceToken, createNodeList(continueStatementNode), closeBraceToken),
-                    null);
-            ifStatements.add(ifTimeOutErrorNode);
+        if (checkClosed) {
+            ifStatements.add(getIsClosedCheck());
         }
 
         StatementNode logPrintError = NodeParser.parseStatement(String.format(LOG_PRINT_ERR,
@@ -767,11 +891,17 @@ public class IntermediateClientGenerator {
 
     private static IfElseStatementNode getIsWsError(String errMessageTemplate, String errVar) {
         //        if err is websocket:Error {
+        //            lock {
+        //                if !self.isActive {
+        //                    return;
+        //                }
+        //            }
         //            log:printError("[writeMessage]WsError: " + err.message());
         //            self.attemptToCloseConnection();
         //            return;
         //        }
         ArrayList<StatementNode> ifStatements = new ArrayList<>();
+        ifStatements.add(getIsClosedCheck());
 
         StatementNode logPrintError = NodeParser.parseStatement(String.format(LOG_PRINT_ERR,
                 String.format(errMessageTemplate, errVar)));
@@ -790,6 +920,10 @@ public class IntermediateClientGenerator {
                 createBlockStatementNode(openBraceToken, createNodeList(ifStatements), closeBraceToken), null);
     }
 
+    private static String toStringLiteral(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
     //TODO: Add metdata for the function
     private FunctionSignatureNode getStartMessageWritingFunctionSignatureNode() {
         SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(new ArrayList<>());
@@ -847,8 +981,14 @@ public class IntermediateClientGenerator {
             assignmentNodes.add(ballerinaAuthConfigGenerator.handleInitForMixOfApiKeyAndHTTPOrOAuth());
         }
 
-        // self.pipes =new ();
+        // The sizes are checked before the write queue and the pipes are created with them
+        assignmentNodes.add(NodeParser.parseStatement(QUEUE_CONFIG_CHECK));
+
+        // self.pipes =new (pipeIdleTimeout, queueConfig);
         List<Node> pipesArgumentsList = new ArrayList<>();
+        pipesArgumentsList.add(createIdentifierToken(PIPE_IDLE_TIMEOUT));
+        pipesArgumentsList.add(createToken(COMMA_TOKEN));
+        pipesArgumentsList.add(createIdentifierToken(QUEUE_CONFIG));
         SeparatedNodeList<FunctionArgumentNode> pipesArguments = createSeparatedNodeList(pipesArgumentsList);
         ParenthesizedArgList pipesParenthesizedArgList = createParenthesizedArgList(openParenToken, pipesArguments,
                 closeParenToken);
@@ -881,12 +1021,12 @@ public class IntermediateClientGenerator {
             assignmentNodes.add(selfStreamGeneratorsAssignmentStatementNode);
         }
 
-        // self.writeMessageQueue = new (1000);
+        // self.writeMessageQueue = new (queueConfig.writeQueueSize);
         List<Node> argumentsList = new ArrayList<>();
         FieldAccessExpressionNode selfWriteMessageQueues = createFieldAccessExpressionNode(
                 createSimpleNameReferenceNode(createIdentifierToken(SELF)), dotToken,
                 createSimpleNameReferenceNode(createIdentifierToken(WRITE_MESSAGE_QUEUE)));
-        argumentsList.add(createIdentifierToken(QUEUE_DEFAULT_SIZE));
+        argumentsList.add(createIdentifierToken(WRITE_QUEUE_SIZE));
         SeparatedNodeList<FunctionArgumentNode> arguments = createSeparatedNodeList(argumentsList);
         ParenthesizedArgList parenthesizedArgList = createParenthesizedArgList(openParenToken, arguments,
                 closeParenToken);
@@ -897,13 +1037,38 @@ public class IntermediateClientGenerator {
                 selfWriteMessageQueues, equalToken, expressionNode, semicolonToken);
         assignmentNodes.add(selfWriteQueueAssignmentStatementNode);
 
+        if (inFlightWindowPresent) {
+            // self.inFlightWindow = new (maxInFlightRequests);
+            assignmentNodes.add(NodeParser.parseStatement(MAX_IN_FLIGHT_REQUESTS_CHECK));
+            assignmentNodes.add(NodeParser.parseStatement(IN_FLIGHT_WINDOW_INIT));
+        }
+
+        if (writeBatching) {
+            // self.writeBatchSize = writeBatchSize;
+            // self.writeLingerTime = writeLingerTime;
+            assignmentNodes.add(NodeParser.parseStatement(WRITE_BATCHING_CHECK));
+            assignmentNodes.add(NodeParser.parseStatement(String.format(SELF_ASSIGNMENT_TEMPLATE, WRITE_BATCH_SIZE,
+                    WRITE_BATCH_SIZE)));
+            assignmentNodes.add(NodeParser.parseStatement(String.format(SELF_ASSIGNMENT_TEMPLATE, WRITE_LINGER_TIME,
+                    WRITE_LINGER_TIME)));
+        }
+
+        if (reconnect) {
+            // self.reconnectConfig = reconnectConfig.cloneReadOnly();
+            // self.replayLog = new ();
+            assignmentNodes.add(NodeParser.parseStatement(RECONNECT_CONFIG_INIT));
+            assignmentNodes.add(NodeParser.parseStatement(REPLAY_LOG_INIT));
+        }
+
         List<String> channelList = asyncApi.getChannels().getItemNames();
         if (channelList.size() != 1) {
             throw new BallerinaAsyncApiExceptionWs(BALLERINA_WEBSOCKET_DOESNT_SUPPORT_FOR_MULTIPLE_CHANNELS);
         }
         String path = channelList.get(0);
 
+        String url = SERVICE_URL;
         if (!path.equals("/") || querySchema.getProperties() != null) {
+            url = MODIFIED_URL;
             if (!path.equals("/")) {
                 VariableDeclarationNode pathInt = getPathStatement(path);
                 assignmentNodes.add(pathInt);
@@ -911,10 +1076,8 @@ public class IntermediateClientGenerator {
             } else {
                 handleParameterSchemaInOperation(querySchema, headerSchema, assignmentNodes, true);
             }
-            assignmentNodes.add(ballerinaAuthConfigGenerator.getClientInitializationNode(MODIFIED_URL));
-        } else {
-            assignmentNodes.add(ballerinaAuthConfigGenerator.getClientInitializationNode(SERVICE_URL));
         }
+        assignmentNodes.add(ballerinaAuthConfigGenerator.getClientInitializationNode(url));
 
         // self.clientEp = websocketEp
         FieldAccessExpressionNode selfClientEp = createFieldAccessExpressionNode(
@@ -937,9 +1100,17 @@ public class IntermediateClientGenerator {
         workers.add(START_MESSAGE_WRITING);
         workers.add(START_MESSAGE_READING);
 
-        List<Node> workersArgumentsList = new ArrayList<>();
-        SeparatedNodeList<FunctionArgumentNode> workersArguments = createSeparatedNodeList(workersArgumentsList);
         for (String worker : workers) {
+            List<Node> workersArgumentsList = new ArrayList<>();
+            if (reconnect && worker.equals(START_MESSAGE_READING)) {
+                // self.startMessageReading(serviceUrl, clientConfig);
+                workersArgumentsList.add(createPositionalArgumentNode(createSimpleNameReferenceNode(
+                        createIdentifierToken(url))));
+                workersArgumentsList.add(createToken(COMMA_TOKEN));
+                workersArgumentsList.add(createPositionalArgumentNode(createSimpleNameReferenceNode(
+                        createIdentifierToken(CLIENT_CONFIG))));
+            }
+            SeparatedNodeList<FunctionArgumentNode> workersArguments = createSeparatedNodeList(workersArgumentsList);
             ExpressionStatementNode workerNode = createExpressionStatementNode(FUNCTION_CALL,
                     createMethodCallExpressionNode(createSimpleNameReferenceNode(createIdentifierToken(SELF)),
                             dotToken, createSimpleNameReferenceNode(createIdentifierToken(worker)), openParenToken,
@@ -1123,6 +1294,44 @@ public class IntermediateClientGenerator {
         ballerinaAuthConfigGenerator.setFunctionParameters(channelItem, parameters, createToken(COMMA_TOKEN),
                 querySchema, headerSchema);
         ballerinaAuthConfigGenerator.getConfigParamForClassInit(serverURL, parameters);
+        //decimal pipeIdleTimeout = 60
+        parameters.add(createToken(COMMA_TOKEN));
+        parameters.add(createDefaultableParameterNode(createEmptyNodeList(),
+                createSimpleNameReferenceNode(createIdentifierToken(DECIMAL)), createIdentifierToken(PIPE_IDLE_TIMEOUT),
+                equalToken, NodeParser.parseExpression(DEFAULT_PIPE_IDLE_TIMEOUT)));
+        //QueueConfig queueConfig = {}
+        parameters.add(createToken(COMMA_TOKEN));
+        parameters.add(createDefaultableParameterNode(createEmptyNodeList(),
+                createSimpleNameReferenceNode(createIdentifierToken(QUEUE_CONFIG_TYPE)),
+                createIdentifierToken(QUEUE_CONFIG), equalToken, NodeParser.parseExpression(getDefaultQueueConfig())));
+        if (inFlightWindowPresent) {
+            //int maxInFlightRequests = 100
+            parameters.add(createToken(COMMA_TOKEN));
+            parameters.add(createDefaultableParameterNode(createEmptyNodeList(),
+                    createSimpleNameReferenceNode(createIdentifierToken(INT)),
+                    createIdentifierToken(MAX_IN_FLIGHT_REQUESTS), equalToken,
+                    NodeParser.parseExpression(DEFAULT_MAX_IN_FLIGHT_REQUESTS)));
+        }
+        if (reconnect) {
+            //ReconnectConfig reconnectConfig = {}
+            parameters.add(createToken(COMMA_TOKEN));
+            parameters.add(createDefaultableParameterNode(createEmptyNodeList(),
+                    createSimpleNameReferenceNode(createIdentifierToken(RECONNECT_CONFIG_TYPE)),
+                    createIdentifierToken(RECONNECT_CONFIG), equalToken,
+                    NodeParser.parseExpression(DEFAULT_RECONNECT_CONFIG)));
+        }
+        if (writeBatching) {
+            //int writeBatchSize = 64, decimal writeLingerTime = 0.001
+            parameters.add(createToken(COMMA_TOKEN));
+            parameters.add(createDefaultableParameterNode(createEmptyNodeList(),
+                    createSimpleNameReferenceNode(createIdentifierToken(INT)), createIdentifierToken(WRITE_BATCH_SIZE),
+                    equalToken, NodeParser.parseExpression(DEFAULT_WRITE_BATCH_SIZE)));
+            parameters.add(createToken(COMMA_TOKEN));
+            parameters.add(createDefaultableParameterNode(createEmptyNodeList(),
+                    createSimpleNameReferenceNode(createIdentifierToken(DECIMAL)),
+                    createIdentifierToken(WRITE_LINGER_TIME), equalToken,
+                    NodeParser.parseExpression(DEFAULT_WRITE_LINGER_TIME)));
+        }
         SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(parameters);
         //error?
         OptionalTypeDescriptorNode returnType = createOptionalTypeDescriptorNode(createToken(ERROR_KEYWORD),
@@ -1166,6 +1375,19 @@ public class IntermediateClientGenerator {
         MarkdownParameterDocumentationLineNode serviceUrlAPI = DocCommentsGenerator.createAPIParamDoc(SERVICE_URL,
                 SERVICE_URL_DESCRIPTION);
         docs.add(serviceUrlAPI);
+        docs.add(DocCommentsGenerator.createAPIParamDoc(PIPE_IDLE_TIMEOUT, PIPE_IDLE_TIMEOUT_DESCRIPTION));
+        docs.add(DocCommentsGenerator.createAPIParamDoc(QUEUE_CONFIG, QUEUE_CONFIG_DESCRIPTION));
+        if (inFlightWindowPresent) {
+            docs.add(DocCommentsGenerator.createAPIParamDoc(MAX_IN_FLIGHT_REQUESTS,
+                    MAX_IN_FLIGHT_REQUESTS_DESCRIPTION));
+        }
+        if (reconnect) {
+            docs.add(DocCommentsGenerator.createAPIParamDoc(RECONNECT_CONFIG, RECONNECT_CONFIG_DESCRIPTION));
+        }
+        if (writeBatching) {
+            docs.add(DocCommentsGenerator.createAPIParamDoc(WRITE_BATCH_SIZE, WRITE_BATCH_SIZE_DESCRIPTION));
+            docs.add(DocCommentsGenerator.createAPIParamDoc(WRITE_LINGER_TIME, WRITE_LINGER_TIME_DESCRIPTION));
+        }
         MarkdownParameterDocumentationLineNode returnDoc = DocCommentsGenerator.createAPIParamDoc(RETURN,
                 RETURN_DESCRIPTION);
         docs.add(returnDoc);
@@ -1234,8 +1456,9 @@ public class IntermediateClientGenerator {
         QualifiedNameReferenceNode websocketType = createQualifiedNameReferenceNode(createIdentifierToken(WEBSOCKET),
                 colonToken, createIdentifierToken(CLIENT_CLASS_NAME));
 
-        ObjectFieldNode websocketClientField = getObjectFieldNode(qualifiersWithPrivateAndFinal, websocketType,
-                CLIENT_EP);
+        // The connection is swapped once the client reconnects
+        ObjectFieldNode websocketClientField = getObjectFieldNode(reconnect ? qualifiersWithOnlyPrivate :
+                qualifiersWithPrivateAndFinal, websocketType, CLIENT_EP);
 
         fieldNodeList.add(websocketClientField);
 
@@ -1253,6 +1476,14 @@ public class IntermediateClientGenerator {
         ObjectFieldNode pipesField = getObjectFieldNode(qualifiersWithPrivateAndFinal, pipesType, PIPES);
         fieldNodeList.add(pipesField);
 
+        if (inFlightWindowPresent) {
+            //private final InFlightWindow inFlightWindow;
+            SimpleNameReferenceNode inFlightWindowType = createSimpleNameReferenceNode(createIdentifierToken(
+                    IN_FLIGHT_WINDOW_CLASS));
+            fieldNodeList.add(getObjectFieldNode(qualifiersWithPrivateAndFinal, inFlightWindowType,
+                    IN_FLIGHT_WINDOW));
+        }
+
         if (isStreamPresent) {
             //private final StreamGeneratorsMap streamGenerators;
             SimpleNameReferenceNode streamGeneratorsType =
@@ -1262,6 +1493,24 @@ public class IntermediateClientGenerator {
             fieldNodeList.add(streamGeneratorsField);
         }
 
+        if (reconnect) {
+            //private final readonly & ReconnectConfig reconnectConfig;
+            //private final ReplayLog replayLog;
+            fieldNodeList.add(getObjectFieldNode(qualifiersWithPrivateAndFinal,
+                    NodeParser.parseTypeDescriptor(RECONNECT_CONFIG_FIELD_TYPE), RECONNECT_CONFIG));
+            fieldNodeList.add(getObjectFieldNode(qualifiersWithPrivateAndFinal,
+                    createSimpleNameReferenceNode(createIdentifierToken(REPLAY_LOG_CLASS)), REPLAY_LOG));
+        }
+
+        if (writeBatching) {
+            //private final int writeBatchSize;
+            //private final decimal writeLingerTime;
+            fieldNodeList.add(getObjectFieldNode(qualifiersWithPrivateAndFinal,
+                    createSimpleNameReferenceNode(createIdentifierToken(INT)), WRITE_BATCH_SIZE));
+            fieldNodeList.add(getObjectFieldNode(qualifiersWithPrivateAndFinal,
+                    createSimpleNameReferenceNode(createIdentifierToken(DECIMAL)), WRITE_LINGER_TIME));
+        }
+
         SimpleNameReferenceNode booleanType =
                 createSimpleNameReferenceNode(createIdentifierToken(GeneratorConstants.BOOLEAN));
         //private boolean isActive;
@@ -1304,20 +1553,26 @@ public class IntermediateClientGenerator {
                     String messageName = GeneratorUtils.extractReferenceType(reference);
                     AsyncApi25MessageImpl componentMessage = (AsyncApi25MessageImpl) messages.get(messageName);
                     Map<String, JsonNode> extensions = componentMessage.getExtensions();
-                    FunctionDefinitionNode functionDefinitionNode;
+                    List<FunctionDefinitionNode> functionDefinitionNodes;
                     if (extensions != null && extensions.get(X_RESPONSE) != null) {
-                         functionDefinitionNode = getRemoteFunctionDefinitionNode(messageName, componentMessage,
+                         functionDefinitionNodes = getRemoteFunctionDefinitionNodes(messageName, componentMessage,
                                  extensions, pipeIdMethods, remainingResponseMessages, false, streamReturns);
                     } else {
-                        functionDefinitionNode = getRemoteFunctionDefinitionNode(messageName, componentMessage, null,
-                                pipeIdMethods, null, false, null);
+                        functionDefinitionNodes = getRemoteFunctionDefinitionNodes(messageName, componentMessage,
+                                null, pipeIdMethods, null, false, null);
                     }
-                    functionDefinitionNodeList.add(functionDefinitionNode);
+                    functionDefinitionNodeList.addAll(functionDefinitionNodes);
                 }
             }
         }
         //Set util generator with stream return classes
         setUtilGenerator(new UtilGenerator(streamReturns));
+        if (inFlightWindowPresent) {
+            utilGenerator.setInFlightWindowFound(true);
+        }
+        if (reconnect) {
+            utilGenerator.setReconnectFound(true);
+        }
         if (asyncApi.getChannels().getItems().get(0).getSubscribe() != null) {
             List<AsyncApiMessage> subscribeMessages = null;
             if (asyncApi.getChannels().getItems().get(0).getSubscribe().getMessage().getOneOf() != null) {
@@ -1343,13 +1598,18 @@ public class IntermediateClientGenerator {
                         newMessage.addExtension(X_RESPONSE, objectNode);
                         extensions.put(X_RESPONSE_TYPE, new TextNode(SIMPLE_RPC));
                         newMessage.addExtension(X_RESPONSE_TYPE, new TextNode(SIMPLE_RPC));
-                        FunctionDefinitionNode functionDefinitionNode = getRemoteFunctionDefinitionNode(messageName,
-                                newMessage, extensions, pipeIdMethods, null, true, streamReturns);
-                        functionDefinitionNodeList.add(functionDefinitionNode);
+                        functionDefinitionNodeList.addAll(getRemoteFunctionDefinitionNodes(messageName,
+                                newMessage, extensions, pipeIdMethods, null, true, streamReturns));
                     }
                 }
             }
         }
+        functionDefinitionNodeList.add(createPipesMetricFunction(GET_PIPE_COUNT, GET_PIPE_COUNT_DESCRIPTION, INT,
+                GET_PIPE_COUNT_STATEMENT));
+        functionDefinitionNodeList.add(createPipesMetricFunction(GET_PIPE_DEPTHS, GET_PIPE_DEPTHS_DESCRIPTION, MAP_INT,
+                GET_PIPE_DEPTHS_STATEMENT));
+        functionDefinitionNodeList.add(createPipesMetricFunction(GET_DROPPED_MESSAGE_COUNT,
+                GET_DROPPED_MESSAGE_COUNT_DESCRIPTION, INT, GET_DROPPED_MESSAGE_COUNT_STATEMENT));
         functionDefinitionNodeList.add(createAttemptToCloseConnectionFunction());
         functionDefinitionNodeList.add(createConnectionCloseFunction(!streamReturns.isEmpty()));
         return functionDefinitionNodeList;
@@ -1368,6 +1628,43 @@ public class IntermediateClientGenerator {
         return publishMessages;
     }
 
+    /**
+     * Creates a function which reads a metric of the pipes the client holds, e.g. the number of pipes, which stays
+     * flat as long as the pipes of the requests are removed, or the number of messages waiting in each pipe, which
+     * grows for the consumers falling behind the reader.
+     */
+    private FunctionDefinitionNode createPipesMetricFunction(String functionName, String description,
+                                                             String returnType, String statement) {
+        MetadataNode metadataNode = createMetadataNode(createMarkdownDocumentationNode(createNodeList(
+                DocCommentsGenerator.createAPIDescriptionDoc(description, false))), createEmptyNodeList());
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), NodeParser.parseTypeDescriptor(returnType));
+        return createFunctionDefinitionNode(FUNCTION_DEFINITION, metadataNode,
+                createNodeList(createToken(PUBLIC_KEYWORD), createToken(ISOLATED_KEYWORD)),
+                createToken(FUNCTION_KEYWORD), createIdentifierToken(functionName), createEmptyNodeList(),
+                createFunctionSignatureNode(openParenToken, createSeparatedNodeList(), closeParenToken,
+                        returnTypeDescriptorNode), createFunctionBodyBlockNode(openBraceToken, null,
+                        createNodeList(NodeParser.parseStatement(statement)), closeBraceToken, null));
+    }
+
+    /**
+     * Returns the default queue configurations of the init function, which set the defaults given to the generator
+     * in place of the defaults of the {@code QueueConfig} record of the utils.
+     */
+    private String getDefaultQueueConfig() {
+        List<String> fields = new ArrayList<>();
+        if (queueConfig.getWriteQueueSize() != AasQueueConfig.DEFAULT_WRITE_QUEUE_SIZE) {
+            fields.add(WRITE_QUEUE_SIZE_FIELD + queueConfig.getWriteQueueSize());
+        }
+        if (queueConfig.getPipeSize() != AasQueueConfig.DEFAULT_PIPE_SIZE) {
+            fields.add(PIPE_SIZE_FIELD + queueConfig.getPipeSize());
+        }
+        if (queueConfig.getPipeOverflow() != OverflowPolicy.BLOCK) {
+            fields.add(PIPE_OVERFLOW_FIELD + "\"" + queueConfig.getPipeOverflow().name() + "\"");
+        }
+        return "{" + String.join(", ", fields) + "}";
+    }
+
     private FunctionDefinitionNode createAttemptToCloseConnectionFunction() {
         ArrayList<StatementNode> statements = new ArrayList<>();
 
@@ -1398,6 +1695,11 @@ public class IntermediateClientGenerator {
         ExpressionStatementNode removePipesNode = getCloseLockStatementNode(PIPES, REMOVE_PIPES, dotToken);
         lockStatements.add(removePipesNode);
 
+        if (inFlightWindowPresent) {
+            //check self.inFlightWindow.close();
+            lockStatements.add(getCloseLockStatementNode(IN_FLIGHT_WINDOW, CLOSE, dotToken));
+        }
+
         //TODO: conditionally check this one
         if (streamsPresent) {
             ExpressionStatementNode removeStreamGeneratorsNode = getCloseLockStatementNode(STREAM_GENERATORS,
@@ -1447,9 +1749,10 @@ public class IntermediateClientGenerator {
     }
 
     /**
-     * Generate remote function definition node.
+     * Generate remote function definition node, along with its future-returning variant when the client pipelines
+     * the requests correlated by their ids.
      */
-    private FunctionDefinitionNode getRemoteFunctionDefinitionNode(String messageName,
+    private List<FunctionDefinitionNode> getRemoteFunctionDefinitionNodes(String messageName,
                                                                    AsyncApi25MessageImpl messageValue,
                                                                    Map<String, JsonNode> extensions,
                                                                    List<String> pipeIdMethods,
@@ -1506,7 +1809,7 @@ public class IntermediateClientGenerator {
         // Create remote Function Body
         String functionNameString = REMOTE_METHOD_NAME_PREFIX + getValidName(messageName, true);
         RemoteFunctionBodyGenerator remoteFunctionBodyGenerator = new RemoteFunctionBodyGenerator(imports,
-                functionNameString);
+                functionNameString, pipelining, reconnect);
         boolean schemaDispatcherStreamIdContains = false;
         if (messageValue.getPayload() != null) {
             JsonNode jsonNode = messageValue.getPayload();
@@ -1516,6 +1819,7 @@ public class IntermediateClientGenerator {
             CommonFunctionUtils commonFunctionUtils = new CommonFunctionUtils(asyncApi);
             schemaDispatcherStreamIdContains = commonFunctionUtils.isDispatcherPresent(schemaName, schema,
                     specDispatcherStreamId, true);
+            remoteFunctionBodyGenerator.setRequestSubtypeOfMessage(isSubtypeOfMessage(schema));
         }
 
         //Check if the schema has dispatcherStreamId
@@ -1544,8 +1848,61 @@ public class IntermediateClientGenerator {
         IdentifierToken functionName = createIdentifierToken(functionNameString);
 
         //Create whole remote function
-        return createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, metadataNode, qualifierList,
-                functionKeyWord, functionName, createEmptyNodeList(), functionSignatureNode, functionBodyNode);
+        List<FunctionDefinitionNode> functionDefinitionNodes = new ArrayList<>();
+        functionDefinitionNodes.add(createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, metadataNode,
+                qualifierList, functionKeyWord, functionName, createEmptyNodeList(), functionSignatureNode,
+                functionBodyNode));
+
+        if (pipelining && extensions != null && !isSubscribe && !Objects.isNull(specDispatcherStreamId) &&
+                !new TextNode(SERVER_STREAMING).equals(extensions.get(X_RESPONSE_TYPE))) {
+            inFlightWindowPresent = true;
+            functionDefinitionNodes.add(createFutureRemoteFunction(functionNameString, metadataNode,
+                    functionSignatureNode, responseType));
+        }
+        return functionDefinitionNodes;
+    }
+
+    /**
+     * Checks whether the record generated for a request schema is statically a subtype of the `Message` type, which
+     * is the case when the schema is a record of its own with the dispatcher key as a required string field.
+     */
+    private boolean isSubtypeOfMessage(AsyncApi25SchemaImpl schema) {
+        if (schema == null || schema.getProperties() == null || schema.getOneOf() != null ||
+                schema.getAllOf() != null || schema.getAnyOf() != null ||
+                (schema.getType() != null && !schema.getType().equals(OBJECT)) ||
+                schema.getRequired() == null || !schema.getRequired().contains(dispatcherKey)) {
+            return false;
+        }
+        AsyncApi25SchemaImpl dispatcherKeySchema = (AsyncApi25SchemaImpl) schema.getProperties().get(dispatcherKey);
+        return dispatcherKeySchema != null && dispatcherKeySchema.get$ref() == null &&
+                STRING.equals(dispatcherKeySchema.getType()) && (dispatcherKeySchema.getExtensions() == null ||
+                !BooleanNode.TRUE.equals(dispatcherKeySchema.getExtensions().get(X_NULLABLE)));
+    }
+
+    /**
+     * Generate the future-returning variant of a remote function which waits on a response correlated by its id.
+     * The variant calls the remote function on a new strand, hence the caller can have several requests in flight
+     * on the connection, as many as the window of the requests in flight of the client lets through.
+     */
+    private FunctionDefinitionNode createFutureRemoteFunction(String functionName, MetadataNode metadataNode,
+                                                              FunctionSignatureNode functionSignatureNode,
+                                                              String responseType) {
+        // return start self->doChat(chat.cloneReadOnly(), timeout);
+        RequiredParameterNode requestParameter = (RequiredParameterNode) functionSignatureNode.parameters().get(0);
+        String requestName = requestParameter.paramName().orElseThrow().text();
+        StatementNode startStatement = NodeParser.parseStatement(String.format(START_REMOTE_FUNCTION_STATEMENT,
+                functionName, requestName, TIMEOUT));
+
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), createBuiltinSimpleNameReferenceNode(null,
+                        createIdentifierToken(String.format(FUTURE_RETURN_TYPE_TEMPLATE, responseType))));
+        FunctionSignatureNode futureSignatureNode = createFunctionSignatureNode(openParenToken,
+                functionSignatureNode.parameters(), closeParenToken, returnTypeDescriptorNode);
+        return createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, metadataNode,
+                createNodeList(createToken(REMOTE_KEYWORD), createToken(ISOLATED_KEYWORD)),
+                createToken(FUNCTION_KEYWORD), createIdentifierToken(functionName + FUTURE_FUNCTION_SUFFIX),
+                createEmptyNodeList(), futureSignatureNode, createFunctionBodyBlockNode(openBraceToken, null,
+                        createNodeList(startStatement), closeBraceToken, null));
     }
 
     /**
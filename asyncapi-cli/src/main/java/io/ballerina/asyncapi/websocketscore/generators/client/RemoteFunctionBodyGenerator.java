@@ -48,6 +48,7 @@ import java.util.Objects;
 
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.ATTEMPT_CON_CLOSE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLONE_WITH_TYPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.FROM_JSON_STRING_WITH_TYPE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_CLOSED_MESSAGE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONSUME;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONSUMING;
@@ -56,6 +57,8 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DATABINDIN
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DOT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.ERROR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.ERROR_PIPE_CLOSE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IN_FLIGHT_WINDOW_ACQUIRE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IN_FLIGHT_WINDOW_RELEASE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IS_ACTIVE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.LOG_PRINT_DEBUG_TEMPLATE;
@@ -71,6 +74,11 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_ERR_C
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_ERR_TEMPLATE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PRODUCE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PRODUCING;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REPLAY_ADD_REQUEST;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REPLAY_ADD_SUBSCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REPLAY_LOG;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REPLAY_REMOVE_REQUEST;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REPLAY_REMOVE_SUBSCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_MESSAGE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RETURN;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF;
@@ -78,6 +86,7 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF_PIPES
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SERVER_STREAMING;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_GENERATOR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_GENERATOR_CAPITAL;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STRING;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.TIMEOUT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WITHIN_PAREN_TEMPLATE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_MESSAGE_QUEUE;
@@ -136,6 +145,9 @@ public class RemoteFunctionBodyGenerator {
 
     private final List<ImportDeclarationNode> imports;
     private final String functionName;
+    private final boolean inFlightWindow;
+    private final boolean reconnect;
+    private boolean requestSubtypeOfMessage = false;
     private static final Token openParenToken = createToken(OPEN_PAREN_TOKEN);
     private static final Token closeParenToken = createToken(CLOSE_PAREN_TOKEN);
     private static final Token openBraceToken = createToken(OPEN_BRACE_TOKEN);
@@ -145,30 +157,97 @@ public class RemoteFunctionBodyGenerator {
     private static final Token dotToken = createToken(DOT_TOKEN);
 
     public RemoteFunctionBodyGenerator(List<ImportDeclarationNode> imports, String functionName) {
+        this(imports, functionName, false);
+    }
+
+    /**
+     * Creates a generator of the body of a remote function.
+     *
+     * @param imports        Imports of the client
+     * @param functionName   Name of the remote function
+     * @param inFlightWindow Whether a request correlated by its id takes a place in the window of the requests in
+     *                       flight of the client until its response is consumed
+     */
+    public RemoteFunctionBodyGenerator(List<ImportDeclarationNode> imports, String functionName,
+                                       boolean inFlightWindow) {
+        this(imports, functionName, inFlightWindow, false);
+    }
+
+    /**
+     * Creates a generator of the body of a remote function.
+     *
+     * @param imports        Imports of the client
+     * @param functionName   Name of the remote function
+     * @param inFlightWindow Whether a request correlated by its id takes a place in the window of the requests in
+     *                       flight of the client until its response is consumed
+     * @param reconnect      Whether the client reconnects once its connection fails, hence records the subscribe
+     *                       messages and the requests correlated by their ids to write them again, and stays open on
+     *                       a pipe error
+     */
+    public RemoteFunctionBodyGenerator(List<ImportDeclarationNode> imports, String functionName,
+                                       boolean inFlightWindow, boolean reconnect) {
         this.imports = Collections.unmodifiableList(imports);
         this.functionName = functionName;
+        this.inFlightWindow = inFlightWindow;
+        this.reconnect = reconnect;
+    }
+
+    /**
+     * Set whether the type of the request is statically a subtype of the `Message` type, in which case the request
+     * is queued as it is rather than converted to a `Message` with `cloneWithType`.
+     *
+     * @param requestSubtypeOfMessage Whether the type of the request is a subtype of the `Message` type
+     */
+    public void setRequestSubtypeOfMessage(boolean requestSubtypeOfMessage) {
+        this.requestSubtypeOfMessage = requestSubtypeOfMessage;
+    }
+
+    private void addMessageStatements(List<StatementNode> statementsList, String requestType) {
+        SimpleNameReferenceNode requestTypeNameNode = createSimpleNameReferenceNode(createIdentifierToken(requestType));
+        if (requestSubtypeOfMessage) {
+            // The `Message` type is not read-only, hence the request is queued as it is, without a copy, and a
+            // caller which changes the request before the writer wrote it changes the message written
+            // Message message = subscribe;
+            statementsList.add(createVariableDeclarationNode(createEmptyNodeList(), null,
+                    createTypedBindingPatternNode(createSimpleNameReferenceNode(createIdentifierToken(MESSAGE)),
+                            createCaptureBindingPatternNode(createIdentifierToken(MESSAGE_VAR_NAME))),
+                    equalToken, requestTypeNameNode, semicolonToken));
+            return;
+        }
+        // Message|error message = subscribe.cloneWithType();
+        statementsList.add(createVariableDeclarationNode(createEmptyNodeList(), null,
+                createTypedBindingPatternNode(NodeParser.parseTypeDescriptor(MESSAGE + PIPE + ERROR),
+                        createCaptureBindingPatternNode(createIdentifierToken(MESSAGE_VAR_NAME))),
+                equalToken, createMethodCallExpressionNode(requestTypeNameNode, dotToken,
+                        createSimpleNameReferenceNode(createIdentifierToken(CLONE_WITH_TYPE)),
+                        openParenToken, createSeparatedNodeList(), closeParenToken), semicolonToken));
+        statementsList.add(getCloningMessageError(MESSAGE_VAR_NAME));
     }
 
     private void addProduceStatementForWriteMessageQueue(List<StatementNode> statementsList, String requestType,
-                                                         boolean isSubscribe) {
+                                                         boolean isSubscribe, boolean takeWindowPlace,
+                                                         String replayId, String recordTemplate,
+                                                         String removeTemplate) {
         if (!isSubscribe) {
-            SimpleNameReferenceNode requestTypeNameNode =
-                    createSimpleNameReferenceNode(createIdentifierToken(requestType));
-            VariableDeclarationNode messageVariableDeclarationNode =
-                    createVariableDeclarationNode(createEmptyNodeList(), null,
-                            createTypedBindingPatternNode(NodeParser.parseTypeDescriptor(MESSAGE + PIPE + ERROR),
-                                    createCaptureBindingPatternNode(createIdentifierToken(MESSAGE_VAR_NAME))),
-                            equalToken, createMethodCallExpressionNode(requestTypeNameNode, dotToken,
-                                    createSimpleNameReferenceNode(createIdentifierToken(CLONE_WITH_TYPE)),
-                                    openParenToken, createSeparatedNodeList(), closeParenToken), semicolonToken);
-            // Message|error message = subscribe.cloneWithType();
-            statementsList.add(messageVariableDeclarationNode);
-            statementsList.add(getCloningMessageError(MESSAGE_VAR_NAME));
-            statementsList.addAll(getProduceToWriteMessageQueueVar());
+            addMessageStatements(statementsList, requestType);
+            List<StatementNode> cleanupStatements = new ArrayList<>();
+            if (takeWindowPlace) {
+                // check self.inFlightWindow.acquire(timeout);
+                statementsList.add(NodeParser.parseStatement(IN_FLIGHT_WINDOW_ACQUIRE));
+                cleanupStatements.add(NodeParser.parseStatement(IN_FLIGHT_WINDOW_RELEASE));
+            }
+            if (replayId != null) {
+                // The message is recorded before it is queued, so that it is written again even if the connection
+                // fails before the message is written
+                // self.replayLog.addRequest(chat.id, message);
+                statementsList.add(NodeParser.parseStatement(String.format(recordTemplate, replayId)));
+                cleanupStatements.add(NodeParser.parseStatement(String.format(removeTemplate, replayId)));
+            }
+            statementsList.addAll(getProduceToWriteMessageQueueVar(cleanupStatements));
         }
     }
 
-    private List<StatementNode> getProduceToWriteMessageQueueVar() {
+    private List<StatementNode> getProduceToWriteMessageQueueVar(List<StatementNode> cleanupStatements) {
         // pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         List<StatementNode> statements = new ArrayList<>();
         List<Node> arguments = new ArrayList<>();
@@ -187,7 +266,7 @@ public class RemoteFunctionBodyGenerator {
                         createToken(QUESTION_MARK_TOKEN)), createFieldBindingPatternVarnameNode(
                                 createSimpleNameReferenceNode(createIdentifierToken(PIPE_ERR)))), equalToken,
                 callGlobalQueueProduce, semicolonToken));
-        statements.add(getPipeError(PIPE_ERR, PRODUCING));
+        statements.add(getPipeError(PIPE_ERR, PRODUCING, cleanupStatements));
         return statements;
     }
 
@@ -205,15 +284,23 @@ public class RemoteFunctionBodyGenerator {
     }
 
     private StatementNode getPipeError(String errVar, String activity) {
+        return getPipeError(errVar, activity, Collections.emptyList());
+    }
+
+    private StatementNode getPipeError(String errVar, String activity, List<StatementNode> cleanupStatements) {
+        List<StatementNode> errorStatements = new ArrayList<>(cleanupStatements);
+        if (!reconnect) {
+            // A client which reconnects stays open, as the pipe errors of a failed connection are recovered from
+            errorStatements.add(ATTEMPT_CON_CLOSE);
+        }
+        errorStatements.add(createReturnStatementNode(createToken(RETURN_KEYWORD),
+                createErrorConstructorExpressionNode(createToken(ERROR_KEYWORD), null, openParenToken,
+                        createSeparatedNodeList(createIdentifierToken(String.format(PIPE_ERR_TEMPLATE, activity)),
+                                createToken(COMMA_TOKEN), createIdentifierToken(errVar)),
+                        closeParenToken), semicolonToken));
         return createIfElseStatementNode(createToken(IF_KEYWORD),
                 NodeParser.parseExpression(errVar + IS + PIPE_ERROR_NODE),
-                createBlockStatementNode(openBraceToken,
-                        createNodeList(ATTEMPT_CON_CLOSE, createReturnStatementNode(createToken(RETURN_KEYWORD),
-                                createErrorConstructorExpressionNode(createToken(ERROR_KEYWORD), null,
-                                        openParenToken, createSeparatedNodeList(createIdentifierToken(String.format(
-                                                PIPE_ERR_TEMPLATE, activity)), createToken(COMMA_TOKEN),
-                                                createIdentifierToken(errVar)),
-                                        closeParenToken), semicolonToken)), closeBraceToken), null);
+                createBlockStatementNode(openBraceToken, createNodeList(errorStatements), closeBraceToken), null);
     }
 
     public List<ImportDeclarationNode> getImports() {
@@ -270,7 +357,9 @@ public class RemoteFunctionBodyGenerator {
         //        self.pipes.addPipe(id, subscribeMessagePipe);
         //        Message message = check subscribeMessage.cloneWithType();
         //        check self.writeMessageQueue.produce(message, timeout);
-        addProduceStatementForWriteMessageQueue(statementsList, requestType, isSubscribe);
+        // The subscribe message is written again on a new connection until the stream is closed
+        addProduceStatementForWriteMessageQueue(statementsList, requestType, isSubscribe, false,
+                reconnect ? pipeId : null, REPLAY_ADD_SUBSCRIPTION, REPLAY_REMOVE_SUBSCRIPTION);
 
         SimpleNameReferenceNode responseNameNode = createSimpleNameReferenceNode(createIdentifierToken(
                 responseType + ",error?"));
@@ -291,7 +380,7 @@ public class RemoteFunctionBodyGenerator {
         statementsList.add(streamMessages);
 
         //  lock {
-        //     StreamGenerator streamGenerator = check new (subscribeMessagePipe, timeout);
+        //     StreamGenerator streamGenerator = check new (self.pipes, pipeId, timeout);
         //     self.streamGenerators.addStreamGenerator(streamGenerator);
         //     streamMessages = new (streamGenerator);
         //  }
@@ -303,8 +392,13 @@ public class RemoteFunctionBodyGenerator {
         streamGeneratorArguments.add(createToken(COMMA_TOKEN));
         streamGeneratorArguments.add(createPositionalArgumentNode(NodeParser.parseExpression(pipeId)));
         streamGeneratorArguments.add(createToken(COMMA_TOKEN));
-        streamGeneratorArguments.add(createPositionalArgumentNode(createSimpleNameReferenceNode(createIdentifierToken(
-                TIMEOUT))));
+        streamGeneratorArguments.add(createPositionalArgumentNode(createSimpleNameReferenceNode(
+                createIdentifierToken(TIMEOUT))));
+        if (reconnect) {
+            streamGeneratorArguments.add(createToken(COMMA_TOKEN));
+            streamGeneratorArguments.add(createPositionalArgumentNode(NodeParser.parseExpression(
+                    SELF + DOT + REPLAY_LOG)));
+        }
         ImplicitNewExpressionNode newExpressionNode = createImplicitNewExpressionNode(createToken(NEW_KEYWORD),
                         createParenthesizedArgList(openParenToken, createSeparatedNodeList(streamGeneratorArguments),
                                 closeParenToken));
@@ -363,24 +457,9 @@ public class RemoteFunctionBodyGenerator {
 
     private void createNoResponseFunctionBodyStatement(List<StatementNode> statementsList, String requestType) {
         // check self.writeMessageQueue.produce(tuple, timeout);
-
-        TypeDescriptorNode messageTypeNode = NodeParser.parseTypeDescriptor(MESSAGE + PIPE + ERROR);
-        SimpleNameReferenceNode messageVarNode = createSimpleNameReferenceNode(createIdentifierToken(MESSAGE_VAR_NAME));
-        SimpleNameReferenceNode requestTypePipeNode = createSimpleNameReferenceNode(createIdentifierToken(requestType));
-
         statementsList.add(getConnectionActiveCheck());
-
-        MethodCallExpressionNode cloneWithTypeNode = createMethodCallExpressionNode(
-                requestTypePipeNode, dotToken, createSimpleNameReferenceNode(createIdentifierToken(CLONE_WITH_TYPE)),
-                openParenToken, createSeparatedNodeList(), closeParenToken);
-
-        VariableDeclarationNode responseTypeCloneStatement = createVariableDeclarationNode(createEmptyNodeList(),
-                null, createTypedBindingPatternNode(messageTypeNode, createFieldBindingPatternVarnameNode(
-                        messageVarNode)), equalToken, cloneWithTypeNode, semicolonToken);
-
-        statementsList.add(responseTypeCloneStatement);
-        statementsList.add(getCloningMessageError(MESSAGE_VAR_NAME));
-        statementsList.addAll(getProduceToWriteMessageQueueVar());
+        addMessageStatements(statementsList, requestType);
+        statementsList.addAll(getProduceToWriteMessageQueueVar(Collections.emptyList()));
     }
 
     /**
@@ -408,10 +487,18 @@ public class RemoteFunctionBodyGenerator {
             pipeId = requestType + DOT + escapeIdentifier(dispatcherStreamId);
         }
 
-        addProduceStatementForWriteMessageQueue(statementsList, requestType, isSubscribe);
+        // A request correlated by its id takes a place in the window of the requests in flight until its response
+        // is consumed, or the consume timed out or failed
+        boolean takeWindowPlace = inFlightWindow && !Objects.isNull(dispatcherStreamId) && !isSubscribe;
+        // A request correlated by its id is failed or written again on a new connection until its response is
+        // consumed. The requests correlated by the types of their responses are not recorded, as a response to a
+        // request written again could not be told apart from a response to the request written before
+        boolean recordForReplay = reconnect && !Objects.isNull(dispatcherStreamId) && !isSubscribe;
+        addProduceStatementForWriteMessageQueue(statementsList, requestType, isSubscribe, takeWindowPlace,
+                recordForReplay ? pipeId : null, REPLAY_ADD_REQUEST, REPLAY_REMOVE_REQUEST);
 
         TypeDescriptorNode responseTypeName = NodeParser.parseTypeDescriptor(responseType + PIPE + ERROR);
-        TypeDescriptorNode consumeResponseType = NodeParser.parseTypeDescriptor(MESSAGE + PIPE + PIPE_ERROR_NODE);
+        TypeDescriptorNode consumeResponseType = NodeParser.parseTypeDescriptor(STRING + PIPE + PIPE_ERROR_NODE);
         SimpleNameReferenceNode responseMessageVarNode = createSimpleNameReferenceNode(createIdentifierToken(
                 RESPONSE_MESSAGE));
         SimpleNameReferenceNode responseNameNode;
@@ -427,11 +514,20 @@ public class RemoteFunctionBodyGenerator {
                         createFieldBindingPatternVarnameNode(responseMessageVarNode)), equalToken,
                 NodeParser.parseExpression(String.format(SELF_PIPES_GET_PIPE, pipeId) +
                         DOT + CONSUME + String.format(WITHIN_PAREN_TEMPLATE, TIMEOUT)), semicolonToken);
-        // Message|pipe:Error responseMessage = tuplePipe.consume(timeout);
+        // string|pipe:Error responseMessage = tuplePipe.consume(timeout);
         statementsList.add(callRelevantPipeConsumeVar);
-        statementsList.add(getPipeError(RESPONSE_MESSAGE, CONSUMING));
+        if (takeWindowPlace) {
+            // self.inFlightWindow.release();
+            statementsList.add(NodeParser.parseStatement(IN_FLIGHT_WINDOW_RELEASE));
+        }
+        if (recordForReplay) {
+            // self.replayLog.removeRequest(chat.id);
+            statementsList.add(NodeParser.parseStatement(String.format(REPLAY_REMOVE_REQUEST, pipeId)));
+        }
 
         if (!Objects.isNull(dispatcherStreamId)) {
+            // The pipe of the request is removed once its response is consumed, or the consume timed out or failed,
+            // so that the pipes do not pile up over the requests of a long-lived client
 //            error? pipeCloseErr = self.pipes.removePipe(chat.id);
 //            if pipeCloseErr is error {
 //                log:printDebug("[doChat]PipeError: Error in closing pipe");
@@ -443,17 +539,19 @@ public class RemoteFunctionBodyGenerator {
                     createNodeList(NodeParser.parseStatement(String.format(LOG_PRINT_DEBUG_TEMPLATE, PIPE_ERR_CAPITAL,
                             ERROR_PIPE_CLOSE, pipeCloseErr))), closeBraceToken), null));
         }
+        statementsList.add(getPipeError(RESPONSE_MESSAGE, CONSUMING));
 
-        //PongMessage pongMessage = responseMessage.cloneWithType();
-        MethodCallExpressionNode cloneWithTypeMethodCallExpressionNode = createMethodCallExpressionNode(
-                responseMessageVarNode, dotToken, createSimpleNameReferenceNode(createIdentifierToken(CLONE_WITH_TYPE)),
-                openParenToken, createSeparatedNodeList(), closeParenToken);
+        // The pipes hold the text of the received messages, hence the response is parsed once, right into its type
+        //PongMessage|error pongMessage = responseMessage.fromJsonStringWithType();
+        MethodCallExpressionNode fromJsonStringMethodCallExpressionNode = createMethodCallExpressionNode(
+                responseMessageVarNode, dotToken, createSimpleNameReferenceNode(createIdentifierToken(
+                        FROM_JSON_STRING_WITH_TYPE)), openParenToken, createSeparatedNodeList(), closeParenToken);
 
-        VariableDeclarationNode responseTypeCloneStatement = createVariableDeclarationNode(createEmptyNodeList(),
+        VariableDeclarationNode responseTypeBindingStatement = createVariableDeclarationNode(createEmptyNodeList(),
                 null, createTypedBindingPatternNode(responseTypeName, createFieldBindingPatternVarnameNode(
-                        responseNameNode)), equalToken, cloneWithTypeMethodCallExpressionNode, semicolonToken);
+                        responseNameNode)), equalToken, fromJsonStringMethodCallExpressionNode, semicolonToken);
 
-        statementsList.add(responseTypeCloneStatement);
+        statementsList.add(responseTypeBindingStatement);
         statementsList.add(getCloningMessageError(responseTypeCamelCaseName));
         ReturnStatementNode returnStatementNode = createReturnStatementNode(createIdentifierToken(RETURN),
                 responseNameNode, semicolonToken);
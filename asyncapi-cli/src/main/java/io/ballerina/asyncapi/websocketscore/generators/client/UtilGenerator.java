@@ -49,7 +49,6 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypeReferenceNode;
-import io.ballerina.compiler.syntax.tree.WhileStatementNode;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
@@ -75,30 +74,45 @@ import java.util.Set;
 
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.BALLERINA;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLOSE_STREAM_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_SELECTOR_CLASS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECT_WITH_BACKOFF;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DECIMAL;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DOT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.INIT;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IS;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MESSAGE_VAR_NAME;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IN_FLIGHT_WINDOW_CLASS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.LANG_RUNTIME;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.NEXT;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.OPTIONAL_ERROR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.OVERFLOW_POLICY_TYPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PENDING_REQUEST_POLICY_TYPE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPES;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPES_MAP;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPES_STRIPE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_ID;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_TYPE_NODE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_ROUTING_TYPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUEUE_CONFIG_TYPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RANDOM;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_CONFIG_TYPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REPLAY_LOG;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REPLAY_LOG_CLASS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REPLAY_REMOVE_SUBSCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SEMICOLON;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SIMPLE_PIPE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SPACE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_CLAIM_PIPE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_GENERATORS_MAP;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_GENERATOR_CAPITAL;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_NEXT_CONSUME_MESSAGE;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_NEXT_RESPONSE_CLONE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_NEXT_END_ON_CLOSE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_NEXT_RESPONSE_BINDING;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STRING;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.TIME;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.TIMEOUT;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.TRUE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.TYPE_INCLUSION_GENERATOR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.URL;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WEBSOCKET;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WITHIN_BRACE_TEMPLATE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.XLIBB;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.XLIBB_PIPE;
@@ -108,12 +122,10 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeLi
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createAssignmentStatementNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createBlockStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createClassDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionBodyBlockNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignatureNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createIfElseStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMarkdownDocumentationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
@@ -124,19 +136,16 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSingletonTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeReferenceNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createWhileStatementNode;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ASTERISK_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLASS_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLIENT_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.CONTINUE_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FINAL_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FUNCTION_KEYWORD;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.IF_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ISOLATED_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
@@ -146,7 +155,6 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURNS_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURN_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.WHILE_KEYWORD;
 
 /**
  * This class is used to generate util file syntax tree according to the generated client.
@@ -157,6 +165,9 @@ public class UtilGenerator {
     private static final String GET_ENCODED_URI = "getEncodedUri";
     private static final String GET_PATH_FOR_QUERY_PARAM = "getPathForQueryParam";
     private static final String GET_COMBINE_HEADERS = "getCombineHeaders";
+    private static final String GET_PIPE_ID = "getPipeId";
+    private static final String GET_JSON_STRING_END = "getJsonStringEnd";
+    private static final String GET_PIPE_ID_OF_JSON = "getPipeIdOfJson";
     private static final Token openParenToken = createToken(OPEN_PAREN_TOKEN);
     private static final Token closeParenToken = createToken(CLOSE_PAREN_TOKEN);
     private static final Token openBraceToken = createToken(OPEN_BRACE_TOKEN);
@@ -166,6 +177,9 @@ public class UtilGenerator {
     private boolean headersFound = false;
     private boolean queryParamsFound = false;
     private boolean pathParametersFound = false;
+    private boolean inFlightWindowFound = false;
+    private boolean connectionPoolFound = false;
+    private boolean reconnectFound = false;
 
     public UtilGenerator(ArrayList<String> streamReturns) {
         this.streamReturns = streamReturns;
@@ -199,6 +213,33 @@ public class UtilGenerator {
         this.pathParametersFound = flag;
     }
 
+    /**
+     * Set `inFlightWindowFound` flag to `true` when the client bounds the requests in flight.
+     *
+     * @param flag Function will be called only in the occasions where flag needs to be set to `true`
+     */
+    public void setInFlightWindowFound(boolean flag) {
+        this.inFlightWindowFound = flag;
+    }
+
+    /**
+     * Set `connectionPoolFound` flag to `true` when the pool of connections of the client is generated.
+     *
+     * @param flag Function will be called only in the occasions where flag needs to be set to `true`
+     */
+    public void setConnectionPoolFound(boolean flag) {
+        this.connectionPoolFound = flag;
+    }
+
+    /**
+     * Set `reconnectFound` flag to `true` when the client reconnects once its connection fails.
+     *
+     * @param flag Function will be called only in the occasions where flag needs to be set to `true`
+     */
+    public void setReconnectFound(boolean flag) {
+        this.reconnectFound = flag;
+    }
+
 
     /**
      * Generates util file syntax tree.
@@ -208,9 +249,13 @@ public class UtilGenerator {
     public SyntaxTree generateUtilSyntaxTree() throws IOException {
         Set<String> functionNameList = new LinkedHashSet<>();
         List<ImportDeclarationNode> imports = new ArrayList<>();
-        functionNameList.add(PIPES_MAP);
+        functionNameList.addAll(Arrays.asList(OVERFLOW_POLICY_TYPE, QUEUE_CONFIG_TYPE, PIPES_MAP, PIPES_STRIPE,
+                GET_PIPE_ID, GET_JSON_STRING_END, GET_PIPE_ID_OF_JSON));
         ImportDeclarationNode importForXLibbPipe = GeneratorUtils.getImportDeclarationNode(XLIBB, XLIBB_PIPE);
         imports.add(importForXLibbPipe);
+        ImportDeclarationNode importForTime = GeneratorUtils.getImportDeclarationNode(BALLERINA, TIME);
+        imports.add(importForTime);
+        imports.add(GeneratorUtils.getImportDeclarationNode(BALLERINA, LANG_RUNTIME));
         if (queryParamsFound) {
             functionNameList.addAll(Arrays.asList(GET_ENCODED_URI, GET_PATH_FOR_QUERY_PARAM));
         }
@@ -220,6 +265,18 @@ public class UtilGenerator {
         if (pathParametersFound) {
             functionNameList.add(GET_ENCODED_URI);
         }
+        if (inFlightWindowFound) {
+            functionNameList.add(IN_FLIGHT_WINDOW_CLASS);
+        }
+        if (connectionPoolFound) {
+            functionNameList.addAll(Arrays.asList(POOL_ROUTING_TYPE, CONNECTION_SELECTOR_CLASS));
+        }
+        if (reconnectFound) {
+            functionNameList.addAll(Arrays.asList(PENDING_REQUEST_POLICY_TYPE, RECONNECT_CONFIG_TYPE,
+                    REPLAY_LOG_CLASS, CONNECT_WITH_BACKOFF));
+            imports.add(GeneratorUtils.getImportDeclarationNode(BALLERINA, WEBSOCKET));
+            imports.add(GeneratorUtils.getImportDeclarationNode(BALLERINA, RANDOM));
+        }
 
         List<ModuleMemberDeclarationNode> memberDeclarationNodes = new ArrayList<>();
         getUtilTypeDeclarationNodes(memberDeclarationNodes);
@@ -312,17 +369,24 @@ public class UtilGenerator {
         ObjectFieldNode pipeIdField = createObjectFieldNode(null, null, qualifierList,
                 stringType, pipeId, null, null, semicolonToken);
 
-        //private final decimal timeout;
-        SimpleNameReferenceNode decimalType = createSimpleNameReferenceNode(createIdentifierToken(DECIMAL));
-        IdentifierToken timeout = createIdentifierToken(TIMEOUT);
-
-        ObjectFieldNode timeoutField = createObjectFieldNode(null, null, qualifierList,
-                decimalType, timeout, null, null, semicolonToken);
-
         fieldNodeList.add(typeReferenceNode);
         fieldNodeList.add(pipesField);
         fieldNodeList.add(pipeIdField);
-        fieldNodeList.add(timeoutField);
+
+        //private final pipe:Pipe pipe;
+        fieldNodeList.add(createObjectFieldNode(null, null, qualifierList, PIPE_TYPE_NODE,
+                createIdentifierToken(SIMPLE_PIPE), null, null, semicolonToken));
+
+        //private final decimal timeout;
+        fieldNodeList.add(createObjectFieldNode(null, null, qualifierList,
+                createSimpleNameReferenceNode(createIdentifierToken(DECIMAL)), createIdentifierToken(TIMEOUT), null,
+                null, semicolonToken));
+        if (reconnectFound) {
+            //private final ReplayLog replayLog;
+            fieldNodeList.add(createObjectFieldNode(null, null, qualifierList,
+                    createSimpleNameReferenceNode(createIdentifierToken(REPLAY_LOG_CLASS)),
+                    createIdentifierToken(REPLAY_LOG), null, null, semicolonToken));
+        }
         return fieldNodeList;
     }
 
@@ -360,7 +424,7 @@ public class UtilGenerator {
 
     private FunctionSignatureNode getNextFunctionSignatureNode(String returnType) {
         SimpleNameReferenceNode returnTypeNode = createSimpleNameReferenceNode(createIdentifierToken(
-                "record {|" + returnType + " value;|}|error"));
+                "record {|" + returnType + " value;|}|error?"));
         //returns
         ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
                 createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnTypeNode);
@@ -380,26 +444,25 @@ public class UtilGenerator {
 
     private FunctionBodyNode getCloseFunctionBodyNode() {
         List<StatementNode> assignmentNodes = new ArrayList<>();
+        if (reconnectFound) {
+            // The subscribe message of a closed stream is not written again once the client reconnects
+            assignmentNodes.add(NodeParser.parseStatement(String.format(REPLAY_REMOVE_SUBSCRIPTION,
+                    SELF + DOT + PIPE_ID)));
+        }
         assignmentNodes.add(NodeParser.parseStatement(CLOSE_STREAM_STATEMENT));
         NodeList<StatementNode> statementList = createNodeList(assignmentNodes);
         return createFunctionBodyBlockNode(openBraceToken, null, statementList, closeBraceToken, null);
     }
 
     private FunctionBodyNode getNextFunctionBodyNode(String returnType) {
-
+        // Waits up to the timeout for a message, ends the stream once its pipe is closed and returns any other error
         List<StatementNode> statements = new ArrayList<>();
         statements.add(NodeParser.parseStatement(STREAM_NEXT_CONSUME_MESSAGE));
-        statements.add(createIfElseStatementNode(createToken(IF_KEYWORD), NodeParser.parseExpression(
-                MESSAGE_VAR_NAME + IS + OPTIONAL_ERROR), createBlockStatementNode(openBraceToken,
-                createNodeList(NodeParser.parseStatement(CONTINUE_KEYWORD.stringValue() + SEMICOLON)),
-                closeBraceToken), null));
-        statements.add(NodeParser.parseStatement(String.format(STREAM_NEXT_RESPONSE_CLONE, returnType)));
+        statements.add(NodeParser.parseStatement(STREAM_NEXT_END_ON_CLOSE));
+        statements.add(NodeParser.parseStatement(String.format(STREAM_NEXT_RESPONSE_BINDING, returnType)));
         statements.add(NodeParser.parseStatement(RETURN_KEYWORD.stringValue() + SPACE +
                 String.format(WITHIN_BRACE_TEMPLATE, "value: " + RESPONSE) + SEMICOLON));
-        WhileStatementNode whileStatementNode = createWhileStatementNode(createToken(WHILE_KEYWORD),
-                NodeParser.parseExpression(TRUE), createBlockStatementNode(openBraceToken, createNodeList(statements),
-                        closeBraceToken), null);
-        NodeList<StatementNode> statementList = createNodeList(whileStatementNode);
+        NodeList<StatementNode> statementList = createNodeList(statements);
         return createFunctionBodyBlockNode(openBraceToken, null, statementList, closeBraceToken, null);
     }
 
@@ -421,9 +484,11 @@ public class UtilGenerator {
         MarkdownParameterDocumentationLineNode pipeNodeDocs = DocCommentsGenerator.createAPIParamDoc(
                 SIMPLE_PIPE, "Pipe to hold stream messages");
         docs.add(pipeNodeDocs);
-        MarkdownParameterDocumentationLineNode timeoutNodeDocs = DocCommentsGenerator.createAPIParamDoc(
-                TIMEOUT, "Waiting time");
-        docs.add(timeoutNodeDocs);
+        docs.add(DocCommentsGenerator.createAPIParamDoc(TIMEOUT, "Waiting time"));
+        if (reconnectFound) {
+            docs.add(DocCommentsGenerator.createAPIParamDoc(REPLAY_LOG,
+                    "Log of the messages to write again once the client reconnects"));
+        }
         MarkdownDocumentationNode clientInitDoc = createMarkdownDocumentationNode(createNodeList(docs));
         return createMetadataNode(clientInitDoc, createEmptyNodeList());
     }
@@ -434,14 +499,19 @@ public class UtilGenerator {
                 createSimpleNameReferenceNode(createIdentifierToken(PIPES_MAP)), createIdentifierToken(PIPES));
         RequiredParameterNode pipeIdNode = createRequiredParameterNode(createNodeList(),
                 createSimpleNameReferenceNode(createIdentifierToken(STRING)), createIdentifierToken(PIPE_ID));
-        RequiredParameterNode decimalNode = createRequiredParameterNode(createNodeList(), createSimpleNameReferenceNode(
-                        createIdentifierToken(DECIMAL)), createIdentifierToken(TIMEOUT));
         List<Node> parameterList = new ArrayList<>();
         parameterList.add(pipeNode);
         parameterList.add(createToken(COMMA_TOKEN));
         parameterList.add(pipeIdNode);
         parameterList.add(createToken(COMMA_TOKEN));
-        parameterList.add(decimalNode);
+        parameterList.add(createRequiredParameterNode(createNodeList(), createSimpleNameReferenceNode(
+                createIdentifierToken(DECIMAL)), createIdentifierToken(TIMEOUT)));
+        if (reconnectFound) {
+            parameterList.add(createToken(COMMA_TOKEN));
+            parameterList.add(createRequiredParameterNode(createNodeList(),
+                    createSimpleNameReferenceNode(createIdentifierToken(REPLAY_LOG_CLASS)),
+                    createIdentifierToken(REPLAY_LOG)));
+        }
         SeparatedNodeList<ParameterNode> parameters = createSeparatedNodeList(parameterList);
         return createFunctionSignatureNode(openParenToken, parameters, closeParenToken, null);
     }
@@ -454,12 +524,19 @@ public class UtilGenerator {
         AssignmentStatementNode selfPipeId = createAssignmentStatementNode(createIdentifierToken(
                         SELF + DOT + PIPE_ID), createToken(EQUAL_TOKEN),
                 createSimpleNameReferenceNode(createIdentifierToken(PIPE_ID)), createToken(SEMICOLON_TOKEN));
-        AssignmentStatementNode selfTimeout = createAssignmentStatementNode(createIdentifierToken(SELF + DOT +
-                        TIMEOUT), createToken(EQUAL_TOKEN),
-                createSimpleNameReferenceNode(createIdentifierToken(TIMEOUT)), createToken(SEMICOLON_TOKEN));
         assignmentNodes.add(selfPipes);
         assignmentNodes.add(selfPipeId);
-        assignmentNodes.add(selfTimeout);
+        // The pipe is claimed along with the stream, so that the overflow policy closing it ends the stream, and the
+        // messages received before the first next() are not removed as unclaimed
+        assignmentNodes.add(NodeParser.parseStatement(STREAM_CLAIM_PIPE));
+        assignmentNodes.add(createAssignmentStatementNode(createIdentifierToken(SELF + DOT + TIMEOUT),
+                createToken(EQUAL_TOKEN), createSimpleNameReferenceNode(createIdentifierToken(TIMEOUT)),
+                createToken(SEMICOLON_TOKEN)));
+        if (reconnectFound) {
+            assignmentNodes.add(createAssignmentStatementNode(createIdentifierToken(SELF + DOT + REPLAY_LOG),
+                    createToken(EQUAL_TOKEN), createSimpleNameReferenceNode(createIdentifierToken(REPLAY_LOG)),
+                    createToken(SEMICOLON_TOKEN)));
+        }
         NodeList<StatementNode> statementList = createNodeList(assignmentNodes);
         return createFunctionBodyBlockNode(openBraceToken, null, statementList, closeBraceToken, null);
     }
@@ -26,10 +26,20 @@ import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
 public class AasClientConfig {
     private final AsyncApi25DocumentImpl asyncAPI;
     private final String license;
+    private final boolean pipelining;
+    private final boolean connectionPool;
+    private final boolean reconnect;
+    private final boolean writeBatching;
+    private final AasQueueConfig queueConfig;
 
     private AasClientConfig(Builder clientConfigBuilder) {
         this.asyncAPI = clientConfigBuilder.asyncAPI;
         this.license = clientConfigBuilder.license;
+        this.pipelining = clientConfigBuilder.pipelining;
+        this.connectionPool = clientConfigBuilder.connectionPool;
+        this.reconnect = clientConfigBuilder.reconnect;
+        this.writeBatching = clientConfigBuilder.writeBatching;
+        this.queueConfig = clientConfigBuilder.queueConfig;
     }
 
     public AsyncApi25DocumentImpl getAsyncAPI() {
@@ -40,6 +50,45 @@ public class AasClientConfig {
         return license;
     }
 
+    /**
+     * Returns whether the generated client has a future-returning variant of each remote function which waits on a
+     * response correlated by its id, with the requests in flight bounded by a window.
+     */
+    public boolean isPipelining() {
+        return pipelining;
+    }
+
+    /**
+     * Returns whether a pool of connections of the generated client, which spreads the remote function calls over
+     * several connections, is generated along with the client.
+     */
+    public boolean isConnectionPool() {
+        return connectionPool;
+    }
+
+    /**
+     * Returns whether the generated client reconnects once its connection fails, and writes the subscriptions of
+     * its active streams again on the new connection.
+     */
+    public boolean isReconnect() {
+        return reconnect;
+    }
+
+    /**
+     * Returns whether the writer of the generated client writes the queued messages in batches.
+     */
+    public boolean isWriteBatching() {
+        return writeBatching;
+    }
+
+    /**
+     * Returns the defaults of the sizes of the write queue and of the pipes of the generated client, and of the
+     * policy for a received message whose pipe is full.
+     */
+    public AasQueueConfig getQueueConfig() {
+        return queueConfig;
+    }
+
     /**
      * Client IDL plugin meta data builder class.
      */
@@ -47,6 +96,11 @@ public class AasClientConfig {
         private AsyncApi25DocumentImpl asyncAPI;
         private String license = "// AUTO-GENERATED FILE. DO NOT MODIFY.\n\n" +
                 "// This file is auto-generated by the Ballerina AsyncAPI tool.\n";
+        private boolean pipelining = false;
+        private boolean connectionPool = false;
+        private boolean reconnect = false;
+        private boolean writeBatching = false;
+        private AasQueueConfig queueConfig = AasQueueConfig.DEFAULT;
 
         public Builder withAsyncApi(AsyncApi25DocumentImpl asyncAPI) {
             this.asyncAPI = asyncAPI;
@@ -58,6 +112,31 @@ public class AasClientConfig {
             return this;
         }
 
+        public Builder withPipelining(boolean pipelining) {
+            this.pipelining = pipelining;
+            return this;
+        }
+
+        public Builder withConnectionPool(boolean connectionPool) {
+            this.connectionPool = connectionPool;
+            return this;
+        }
+
+        public Builder withReconnect(boolean reconnect) {
+            this.reconnect = reconnect;
+            return this;
+        }
+
+        public Builder withWriteBatching(boolean writeBatching) {
+            this.writeBatching = writeBatching;
+            return this;
+        }
+
+        public Builder withQueueConfig(AasQueueConfig queueConfig) {
+            this.queueConfig = queueConfig;
+            return this;
+        }
+
         public AasClientConfig build() {
             return new AasClientConfig(this);
         }
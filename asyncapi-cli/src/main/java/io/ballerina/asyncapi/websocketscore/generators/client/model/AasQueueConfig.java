@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.websocketscore.generators.client.model;
+
+/**
+ * This class stores the defaults of the configurations of the write queue and of the pipes of the received messages
+ * of the generated client, which the client uses unless other configurations are given when it is initialized.
+ */
+public class AasQueueConfig {
+    public static final int DEFAULT_WRITE_QUEUE_SIZE = 1000;
+    public static final int DEFAULT_PIPE_SIZE = 100;
+    public static final AasQueueConfig DEFAULT = new AasQueueConfig(DEFAULT_WRITE_QUEUE_SIZE, DEFAULT_PIPE_SIZE,
+            OverflowPolicy.BLOCK);
+
+    private final int writeQueueSize;
+    private final int pipeSize;
+    private final OverflowPolicy pipeOverflow;
+
+    /**
+     * Creates the defaults of the queue configurations of the generated client.
+     *
+     * @param writeQueueSize Maximum number of messages waiting to be written
+     * @param pipeSize       Maximum number of received messages waiting in a pipe to be consumed
+     * @param pipeOverflow   Policy for a received message whose pipe is full
+     */
+    public AasQueueConfig(int writeQueueSize, int pipeSize, OverflowPolicy pipeOverflow) {
+        this.writeQueueSize = writeQueueSize;
+        this.pipeSize = pipeSize;
+        this.pipeOverflow = pipeOverflow;
+    }
+
+    public int getWriteQueueSize() {
+        return writeQueueSize;
+    }
+
+    public int getPipeSize() {
+        return pipeSize;
+    }
+
+    public OverflowPolicy getPipeOverflow() {
+        return pipeOverflow;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.websocketscore.generators.client.model;
+
+import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+
+import java.util.Locale;
+
+/**
+ * Policies of the generated client for a received message whose pipe is full.
+ */
+public enum OverflowPolicy {
+    /**
+     * Waits for a free place in the pipe up to the pipe timeout, and closes the client once none was freed.
+     */
+    BLOCK,
+    /**
+     * Drops the oldest message of the pipe to make room for the received message.
+     */
+    DROP_OLDEST,
+    /**
+     * Drops the received message.
+     */
+    DROP_NEWEST,
+    /**
+     * Closes the pipe, so that the remote function consuming from it fails and the stream consuming from it ends
+     * right away.
+     */
+    FAIL_FAST;
+
+    /**
+     * Returns the overflow policy of the given name, ignoring the case and accepting hyphens in place of
+     * underscores, e.g. {@code drop-oldest}.
+     *
+     * @param name Name of the overflow policy
+     * @return Overflow policy of the given name
+     * @throws BallerinaAsyncApiExceptionWs when there is no overflow policy of the given name
+     */
+    public static OverflowPolicy fromName(String name) throws BallerinaAsyncApiExceptionWs {
+        String policyName = name.replace('-', '_').toUpperCase(Locale.ENGLISH);
+        for (OverflowPolicy policy : values()) {
+            if (policy.name().equals(policyName)) {
+                return policy;
+            }
+        }
+        throw new BallerinaAsyncApiExceptionWs("Unknown overflow policy: " + name);
+    }
+}
@@ -29,7 +29,7 @@ import io.ballerina.asyncapi.websocketscore.generators.schema.ballerinatypegener
 import io.ballerina.asyncapi.websocketscore.generators.schema.ballerinatypegenerators.RecordTypeGenerator;
 import io.ballerina.asyncapi.websocketscore.generators.schema.ballerinatypegenerators.TypeGenerator;
 import io.ballerina.asyncapi.websocketscore.generators.schema.ballerinatypegenerators.UnionTypeGenerator;
-import io.ballerina.asyncapi.websocketscore.generators.schema.model.GeneratorMetaData;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GenerationContext;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
@@ -67,6 +67,7 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeLi
  */
 public class BallerinaTypesGenerator {
 
+    private final GenerationContext context;
     private final List<TypeDefinitionNode> typeDefinitionNodeList;
     private final Set<String> imports = new LinkedHashSet<>();
     private boolean hasConstraints;
@@ -80,15 +81,26 @@ public class BallerinaTypesGenerator {
      */
     public BallerinaTypesGenerator(AsyncApi25DocumentImpl asyncAPI,
                                    List<TypeDefinitionNode> typeDefinitionNodeList) {
-        GeneratorMetaData.createInstance(asyncAPI);
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
-        this.hasConstraints = false;
+        this(new GenerationContext(asyncAPI), typeDefinitionNodeList);
     }
 
     public BallerinaTypesGenerator(AsyncApi25DocumentImpl asyncAPI) {
         this(asyncAPI, new LinkedList<>());
     }
 
+    /**
+     * This public constructor is used to generate the types as a part of an existing generation, so that the types
+     * are resolved against the same AsyncAPI definition as the rest of that generation.
+     *
+     * @param context                Context of the current generation
+     * @param typeDefinitionNodeList list of types generated by earlier generations
+     */
+    public BallerinaTypesGenerator(GenerationContext context, List<TypeDefinitionNode> typeDefinitionNodeList) {
+        this.context = context;
+        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.hasConstraints = false;
+    }
+
     /**
      * Create Type Definition Node for a given AsyncAPI schema.
      *
@@ -103,13 +115,13 @@ public class BallerinaTypesGenerator {
         IdentifierToken typeNameToken = AbstractNodeFactory.createIdentifierToken(GeneratorUtils.getValidName(
                 typeName.trim(), true));
         TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, GeneratorUtils.getValidName(
-                typeName.trim(), true), null);
+                typeName.trim(), true), null, context);
         List<AnnotationNode> typeAnnotations = new ArrayList<>();
         AnnotationNode constraintNode = TypeGeneratorUtils.generateConstraintNode(typeName, schema);
         if (constraintNode != null) {
             typeAnnotations.add(constraintNode);
         }
-        TypeGeneratorUtils.getRecordDocs(schemaDocs, schema);
+        TypeGeneratorUtils.getRecordDocs(schemaDocs, schema, context);
         TypeDefinitionNode typeDefinitionNode =
                 typeGenerator.generateTypeDefinitionNode(typeNameToken, schemaDocs, typeAnnotations);
         if (typeGenerator instanceof ArrayTypeGenerator &&
@@ -145,7 +157,7 @@ public class BallerinaTypesGenerator {
     }
 
     public SyntaxTree generateSyntaxTree() throws BallerinaAsyncApiExceptionWs {
-        AsyncApi25DocumentImpl asyncAPI = GeneratorMetaData.getInstance().getAsyncAPI();
+        AsyncApi25DocumentImpl asyncAPI = context.getAsyncAPI();
         List<TypeDefinitionNode> typeDefinitionNodeListForSchema = new ArrayList<>();
         if (asyncAPI.getComponents() != null) {
             // Create typeDefinitionNode
@@ -36,7 +36,7 @@ import io.ballerina.asyncapi.websocketscore.generators.schema.ballerinatypegener
 import io.ballerina.asyncapi.websocketscore.generators.schema.ballerinatypegenerators.ReferencedTypeGenerator;
 import io.ballerina.asyncapi.websocketscore.generators.schema.ballerinatypegenerators.TypeGenerator;
 import io.ballerina.asyncapi.websocketscore.generators.schema.ballerinatypegenerators.UnionTypeGenerator;
-import io.ballerina.asyncapi.websocketscore.generators.schema.model.GeneratorMetaData;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GenerationContext;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
@@ -103,41 +103,43 @@ public class TypeGeneratorUtils {
      *
      * @param schemaValue Schema object
      * @param typeName    Parameter name
+     * @param context     Context of the current generation
      * @return Relevant SchemaType object
      * @throws BallerinaAsyncApiExceptionWs Exception
      */
     public static TypeGenerator getTypeGenerator(AsyncApi25SchemaImpl schemaValue, String typeName,
-                                                 String parentName) throws BallerinaAsyncApiExceptionWs {
+                                                 String parentName, GenerationContext context)
+            throws BallerinaAsyncApiExceptionWs {
         if (schemaValue.getType() != null) {
             GeneratorUtils.convertAsyncAPITypeToBallerina(schemaValue.getType());
         }
         if (schemaValue.get$ref() != null) {
-            return new ReferencedTypeGenerator(schemaValue, typeName);
+            return new ReferencedTypeGenerator(schemaValue, typeName, context);
         } else if (schemaValue.getType() != null && schemaValue.getType().equals(GeneratorConstants.ARRAY)) {
-            return new ArrayTypeGenerator(schemaValue, typeName, parentName);
+            return new ArrayTypeGenerator(schemaValue, typeName, parentName, context);
         } else if (schemaValue.getType() != null && primitiveTypeList.contains(schemaValue.getType())) {
-            return new PrimitiveTypeGenerator(schemaValue, typeName);
+            return new PrimitiveTypeGenerator(schemaValue, typeName, context);
         } else if (schemaValue.getOneOf() != null || schemaValue.getAllOf() != null || schemaValue.getAnyOf() != null) {
             if (schemaValue.getAllOf() != null) {
-                return new AllOfRecordTypeGenerator(schemaValue, typeName);
+                return new AllOfRecordTypeGenerator(schemaValue, typeName, context);
             } else {
-                return new UnionTypeGenerator(schemaValue, typeName);
+                return new UnionTypeGenerator(schemaValue, typeName, context);
             }
         } else if ((schemaValue.getType() != null && schemaValue.getType().equals(GeneratorConstants.OBJECT)) ||
                 schemaValue.getProperties() != null) {
-            return new RecordTypeGenerator(schemaValue, typeName);
+            return new RecordTypeGenerator(schemaValue, typeName, context);
         } else if (schemaValue.getType() != null && schemaValue.getType().equals(GeneratorConstants.OBJECT) &&
                 schemaValue.getAdditionalProperties() != null &&
                 (schemaValue.getAdditionalProperties() instanceof AsyncApi25SchemaImpl ||
                         (schemaValue.getAdditionalProperties() instanceof BooleanUnionValueImpl &&
                                 schemaValue.getAdditionalProperties().asBoolean().equals(true)))) {
-            return new MapTypeGenerator(schemaValue, typeName);
+            return new MapTypeGenerator(schemaValue, typeName, context);
 
         } else if (schemaValue.getType() == null && schemaValue.getProperties() == null &&
                 schemaValue.getAdditionalProperties() != null) {
-            return new JsonTypeGenerator(schemaValue, typeName);
+            return new JsonTypeGenerator(schemaValue, typeName, context);
         } else { // when schemaValue.type == null
-            return new AnyDataTypeGenerator(schemaValue, typeName);
+            return new AnyDataTypeGenerator(schemaValue, typeName, context);
         }
     }
 
@@ -460,10 +462,11 @@ public class TypeGeneratorUtils {
     /**
      * Creates API documentation for record fields.
      *
-     * @param field Schema of the field to generate
+     * @param field   Schema of the field to generate
+     * @param context Context of the current generation
      * @return Documentation node list
      */
-    public static List<Node> getFieldApiDocs(AsyncApi25SchemaImpl field) {
+    public static List<Node> getFieldApiDocs(AsyncApi25SchemaImpl field, GenerationContext context) {
         List<Node> schemaDoc = new ArrayList<>();
         if (field.getDescription() != null) {
             schemaDoc.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
@@ -471,7 +474,7 @@ public class TypeGeneratorUtils {
         } else if (field.get$ref() != null) {
             String[] split = field.get$ref().trim().split("/");
             String componentName = GeneratorUtils.getValidName(split[split.length - 1], true);
-            AsyncApi25DocumentImpl asyncAPI = GeneratorMetaData.getInstance().getAsyncAPI();
+            AsyncApi25DocumentImpl asyncAPI = context.getAsyncAPI();
             if (asyncAPI.getComponents().getSchemas().get(componentName) != null) {
                 AsyncApi25SchemaImpl schema = (AsyncApi25SchemaImpl) asyncAPI.getComponents().getSchemas()
                         .get(componentName);
@@ -489,16 +492,17 @@ public class TypeGeneratorUtils {
      * @param documentation Documentation node list
      * @param schemaValue   AsyncAPI schema
      *                      //     * @param typeAnnotations Annotation list of the record
+     * @param context       Context of the current generation
      */
-    public static void getRecordDocs(List<Node> documentation, AsyncApi25SchemaImpl schemaValue
-    ) throws BallerinaAsyncApiExceptionWs {
+    public static void getRecordDocs(List<Node> documentation, AsyncApi25SchemaImpl schemaValue,
+                                     GenerationContext context) throws BallerinaAsyncApiExceptionWs {
         if (schemaValue.getDescription() != null) {
             documentation.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
                     schemaValue.getDescription(), false));
         } else if (schemaValue.get$ref() != null) {
             String typeName = GeneratorUtils.getValidName(GeneratorUtils.extractReferenceType(
                     schemaValue.get$ref()), true);
-            AsyncApi25SchemaImpl refSchema = (AsyncApi25SchemaImpl) GeneratorMetaData.getInstance().getAsyncAPI().
+            AsyncApi25SchemaImpl refSchema = (AsyncApi25SchemaImpl) context.getAsyncAPI().
                     getComponents().getSchemas().get(typeName);
             if (refSchema.getDescription() != null) {
                 documentation.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
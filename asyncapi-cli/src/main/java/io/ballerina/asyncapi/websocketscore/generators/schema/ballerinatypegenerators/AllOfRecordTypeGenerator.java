@@ -22,7 +22,7 @@ import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
 import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25SchemaImpl;
 import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
-import io.ballerina.asyncapi.websocketscore.generators.schema.model.GeneratorMetaData;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GenerationContext;
 import io.ballerina.asyncapi.websocketscore.generators.schema.model.RecordMetadata;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.Node;
@@ -59,8 +59,8 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
     private final List<Schema> restSchemas = new LinkedList<>();
 
-    public AllOfRecordTypeGenerator(AsyncApi25SchemaImpl schema, String typeName) {
-        super(schema, typeName);
+    public AllOfRecordTypeGenerator(AsyncApi25SchemaImpl schema, String typeName, GenerationContext context) {
+        super(schema, typeName, context);
     }
 
     /**
@@ -69,7 +69,7 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
      *
      * @return
      */
-    private static RecordRestDescriptorNode getRestDescriptorNodeForAllOf(List<Schema> restSchemas)
+    private RecordRestDescriptorNode getRestDescriptorNodeForAllOf(List<Schema> restSchemas)
             throws BallerinaAsyncApiExceptionWs {
         TypeDescriptorNode unionType = getUnionType(restSchemas);
         return NodeFactory.createRecordRestDescriptorNode(unionType, createToken(ELLIPSIS_TOKEN),
@@ -83,13 +83,13 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
      * @return Union type
      * @throws BallerinaAsyncApiExceptionWs when unsupported combination of schemas found
      */
-    private static TypeDescriptorNode getUnionType(List<Schema> schemas) throws BallerinaAsyncApiExceptionWs {
+    private TypeDescriptorNode getUnionType(List<Schema> schemas) throws BallerinaAsyncApiExceptionWs {
         // TODO: this has issue with generating union type with `string?|int?...
         // this will be tracked via https://github.com/ballerina-platform/openapi-tools/issues/810
         List<TypeDescriptorNode> typeDescriptorNodes = new ArrayList<>();
         for (Schema schema : schemas) {
             TypeGenerator typeGenerator = getTypeGenerator((AsyncApi25SchemaImpl) schema, null,
-                    null);
+                    null, context);
             TypeDescriptorNode typeDescriptorNode = typeGenerator.generateTypeDescriptorNode();
             typeDescriptorNodes.add(typeDescriptorNode);
             // error for rest field unhandled constraint support
@@ -137,7 +137,7 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
         if (allOfSchemas != null && allOfSchemas.size() == 1 && ((AsyncApi25SchemaImpl)
                 allOfSchemas.get(0)).get$ref() != null) {
             ReferencedTypeGenerator referencedTypeGenerator = new ReferencedTypeGenerator((AsyncApi25SchemaImpl)
-                    allOfSchemas.get(0), typeName);
+                    allOfSchemas.get(0), typeName, context);
             return referencedTypeGenerator.generateTypeDescriptorNode();
         } else {
             List<Node> recordFieldList = null;
@@ -168,7 +168,7 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
                 TypeReferenceNode recordField = NodeFactory.createTypeReferenceNode(createToken(ASTERISK_TOKEN),
                         typeRef, createToken(SEMICOLON_TOKEN));
                 // check whether given reference schema has additional fields.
-                AsyncApi25DocumentImpl asyncAPI = GeneratorMetaData.getInstance().getAsyncAPI();
+                AsyncApi25DocumentImpl asyncAPI = context.getAsyncAPI();
                 AsyncApi25SchemaImpl refSchema = (AsyncApi25SchemaImpl) asyncAPI.getComponents()
                         .getSchemas().get(extractedSchemaName);
                 addAdditionalSchemas(refSchema);
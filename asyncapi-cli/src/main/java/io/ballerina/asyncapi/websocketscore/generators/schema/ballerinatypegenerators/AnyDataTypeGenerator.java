@@ -21,6 +21,7 @@ import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25SchemaImpl;
 import io.ballerina.asyncapi.websocketscore.GeneratorConstants;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
 import io.ballerina.asyncapi.websocketscore.generators.schema.TypeGeneratorUtils;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GenerationContext;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -32,8 +33,8 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  */
 public class AnyDataTypeGenerator extends TypeGenerator {
 
-    public AnyDataTypeGenerator(AsyncApi25SchemaImpl schema, String typeName) {
-        super(schema, typeName);
+    public AnyDataTypeGenerator(AsyncApi25SchemaImpl schema, String typeName, GenerationContext context) {
+        super(schema, typeName, context);
     }
 
     /**
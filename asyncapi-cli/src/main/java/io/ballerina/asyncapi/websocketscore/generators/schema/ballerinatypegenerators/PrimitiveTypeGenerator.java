@@ -22,6 +22,7 @@ import io.ballerina.asyncapi.websocketscore.GeneratorConstants;
 import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
 import io.ballerina.asyncapi.websocketscore.generators.schema.TypeGeneratorUtils;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GenerationContext;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -33,8 +34,8 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  */
 public class PrimitiveTypeGenerator extends TypeGenerator {
 
-    public PrimitiveTypeGenerator(AsyncApi25SchemaImpl schema, String typeName) {
-        super(schema, typeName);
+    public PrimitiveTypeGenerator(AsyncApi25SchemaImpl schema, String typeName, GenerationContext context) {
+        super(schema, typeName, context);
     }
 
     /**
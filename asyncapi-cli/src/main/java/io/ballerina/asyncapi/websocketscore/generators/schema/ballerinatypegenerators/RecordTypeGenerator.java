@@ -24,6 +24,7 @@ import io.apicurio.datamodels.models.union.BooleanSchemaUnion;
 import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
 import io.ballerina.asyncapi.websocketscore.generators.schema.TypeGeneratorUtils;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GenerationContext;
 import io.ballerina.asyncapi.websocketscore.generators.schema.model.RecordMetadata;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
@@ -64,17 +65,18 @@ public class RecordTypeGenerator extends TypeGenerator {
 
     public static final PrintStream OUT_STREAM = System.err;
 
-    public RecordTypeGenerator(AsyncApi25SchemaImpl schema, String typeName) {
-        super(schema, typeName);
+    public RecordTypeGenerator(AsyncApi25SchemaImpl schema, String typeName, GenerationContext context) {
+        super(schema, typeName, context);
     }
 
     /**
      * Creates reference rest node when additional property has reference.
      */
-    public static RecordRestDescriptorNode getRestDescriptorNodeForReference(AsyncApi25SchemaImpl additionalPropSchema)
+    public static RecordRestDescriptorNode getRestDescriptorNodeForReference(AsyncApi25SchemaImpl additionalPropSchema,
+                                                                             GenerationContext context)
             throws BallerinaAsyncApiExceptionWs {
         ReferencedTypeGenerator referencedTypeGenerator = new ReferencedTypeGenerator(additionalPropSchema,
-                null);
+                null, context);
         TypeDescriptorNode refNode = referencedTypeGenerator.generateTypeDescriptorNode();
         return NodeFactory.createRecordRestDescriptorNode(refNode, createToken(ELLIPSIS_TOKEN),
                 createToken(SEMICOLON_TOKEN));
@@ -84,7 +86,8 @@ public class RecordTypeGenerator extends TypeGenerator {
      * Generates {@code RecordRestDescriptorNode} for the additional properties in object schema.
      *
      */
-    public static RecordRestDescriptorNode getRecordRestDescriptorNode(AsyncApi25SchemaImpl additionalPropSchema)
+    public static RecordRestDescriptorNode getRecordRestDescriptorNode(AsyncApi25SchemaImpl additionalPropSchema,
+                                                                       GenerationContext context)
             throws BallerinaAsyncApiExceptionWs {
 
         RecordRestDescriptorNode recordRestDescNode = null;
@@ -98,14 +101,14 @@ public class RecordTypeGenerator extends TypeGenerator {
                     createToken(ELLIPSIS_TOKEN),
                     createToken(SEMICOLON_TOKEN));
         } else if (additionalPropSchema.getType() != null && additionalPropSchema.getType().equals("object")) {
-            RecordTypeGenerator record = new RecordTypeGenerator(additionalPropSchema, null);
+            RecordTypeGenerator record = new RecordTypeGenerator(additionalPropSchema, null, context);
             TypeDescriptorNode recordNode = TypeGeneratorUtils.getNullableType(additionalPropSchema,
                     record.generateTypeDescriptorNode());
             recordRestDescNode = NodeFactory.createRecordRestDescriptorNode(recordNode, createToken(ELLIPSIS_TOKEN),
                     createToken(SEMICOLON_TOKEN));
         } else if (additionalPropSchema.getType() != null && additionalPropSchema.getType().equals("array")) {
             ArrayTypeGenerator arrayTypeGenerator = new ArrayTypeGenerator(additionalPropSchema, null,
-                    null);
+                    null, context);
             TypeDescriptorNode arrayNode = arrayTypeGenerator.generateTypeDescriptorNode();
             recordRestDescNode = NodeFactory.createRecordRestDescriptorNode(arrayNode, createToken(ELLIPSIS_TOKEN),
                     createToken(SEMICOLON_TOKEN));
@@ -113,7 +116,7 @@ public class RecordTypeGenerator extends TypeGenerator {
                 additionalPropSchema.getType().equals("string") ||
                 additionalPropSchema.getType().equals("boolean")) {
             PrimitiveTypeGenerator primitiveTypeGenerator = new PrimitiveTypeGenerator(additionalPropSchema,
-                    null);
+                    null, context);
             TypeDescriptorNode primitiveNode = primitiveTypeGenerator.generateTypeDescriptorNode();
             recordRestDescNode = NodeFactory.createRecordRestDescriptorNode(primitiveNode, createToken(ELLIPSIS_TOKEN),
                     createToken(SEMICOLON_TOKEN));
@@ -199,10 +202,10 @@ public class RecordTypeGenerator extends TypeGenerator {
                 }
                 if (additionalPropSchema.get$ref() != null) {
                     isOpenRecord = false;
-                    recordRestDescNode = getRestDescriptorNodeForReference(additionalPropSchema);
+                    recordRestDescNode = getRestDescriptorNodeForReference(additionalPropSchema, context);
                 } else if (additionalPropSchema.getType() != null) {
                     isOpenRecord = false;
-                    recordRestDescNode = getRecordRestDescriptorNode(additionalPropSchema);
+                    recordRestDescNode = getRecordRestDescriptorNode(additionalPropSchema, context);
                 } else if ((
                         (additionalPropSchema.getOneOf() != null || additionalPropSchema.getAllOf() != null ||
                                 additionalPropSchema.getAnyOf() != null))) {
@@ -232,11 +235,12 @@ public class RecordTypeGenerator extends TypeGenerator {
             String fieldNameStr = GeneratorUtils.escapeIdentifier(field.getKey().trim());
             // API doc generations
             AsyncApi25SchemaImpl fieldSchema = (AsyncApi25SchemaImpl) field.getValue();
-            List<Node> schemaDoc = TypeGeneratorUtils.getFieldApiDocs(fieldSchema);
+            List<Node> schemaDoc = TypeGeneratorUtils.getFieldApiDocs(fieldSchema, context);
             NodeList<Node> schemaDocNodes = createNodeList(schemaDoc);
 
             IdentifierToken fieldName = AbstractNodeFactory.createIdentifierToken(fieldNameStr);
-            TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(fieldSchema, fieldNameStr, recordName);
+            TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(fieldSchema, fieldNameStr, recordName,
+                    context);
             TypeDescriptorNode fieldTypeName = typeGenerator.generateTypeDescriptorNode();
             if (typeGenerator instanceof RecordTypeGenerator) {
                 fieldTypeName = TypeGeneratorUtils.getNullableType(fieldSchema, fieldTypeName);
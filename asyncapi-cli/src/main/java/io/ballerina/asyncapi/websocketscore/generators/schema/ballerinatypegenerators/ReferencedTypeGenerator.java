@@ -20,7 +20,7 @@ package io.ballerina.asyncapi.websocketscore.generators.schema.ballerinatypegene
 import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25SchemaImpl;
 import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
-import io.ballerina.asyncapi.websocketscore.generators.schema.model.GeneratorMetaData;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GenerationContext;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createIdentifierToken;
@@ -32,8 +32,8 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  */
 public class ReferencedTypeGenerator extends TypeGenerator {
 
-    public ReferencedTypeGenerator(AsyncApi25SchemaImpl schema, String typeName) {
-        super(schema, typeName);
+    public ReferencedTypeGenerator(AsyncApi25SchemaImpl schema, String typeName, GenerationContext context) {
+        super(schema, typeName, context);
     }
 
     /**
@@ -45,10 +45,10 @@ public class ReferencedTypeGenerator extends TypeGenerator {
 
         String extractName = GeneratorUtils.extractReferenceType(schema.get$ref());
         String typeName = GeneratorUtils.getValidName(extractName, true);
-        AsyncApi25SchemaImpl refSchema = (AsyncApi25SchemaImpl) GeneratorMetaData.getInstance().getAsyncAPI()
+        AsyncApi25SchemaImpl refSchema = (AsyncApi25SchemaImpl) context.getAsyncAPI()
                 .getComponents().getSchemas().get(typeName);
         refSchema = refSchema == null ?
-                (AsyncApi25SchemaImpl) GeneratorMetaData.getInstance().getAsyncAPI().getComponents().getSchemas()
+                (AsyncApi25SchemaImpl) context.getAsyncAPI().getComponents().getSchemas()
                         .get(extractName) : refSchema;
         TypeDescriptorNode typeDescriptorNode = createSimpleNameReferenceNode(createIdentifierToken(typeName));
         if (refSchema == null) {
@@ -1,5 +1,5 @@
 /*
- *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
  *
  *  WSO2 LLC. licenses this file to you under the Apache License,
  *  Version 2.0 (the "License"); you may not use this file except
@@ -20,26 +20,19 @@ package io.ballerina.asyncapi.websocketscore.generators.schema.model;
 import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
 
 /**
- * Stores metadata related to Ballerina types generation.
+ * Holds the state of a single Ballerina types generation run.
+ * A new context is created for every generation and passed down to the type generators, so that generations
+ * running concurrently never share the AsyncAPI document they resolve references against.
  *
  */
-public class GeneratorMetaData {
+public class GenerationContext {
 
-    private static GeneratorMetaData generatorMetaData = null;
     private final AsyncApi25DocumentImpl asyncAPI;
 
-    private GeneratorMetaData(AsyncApi25DocumentImpl asyncAPI) {
+    public GenerationContext(AsyncApi25DocumentImpl asyncAPI) {
         this.asyncAPI = asyncAPI;
     }
 
-    public static void createInstance(AsyncApi25DocumentImpl asyncAPI) {
-        generatorMetaData = new GeneratorMetaData(asyncAPI);
-    }
-
-    public static GeneratorMetaData getInstance() {
-        return generatorMetaData;
-    }
-
     public AsyncApi25DocumentImpl getAsyncAPI() {
         return asyncAPI;
     }
@@ -10,6 +10,7 @@ module io.ballerina.asyncapi {
     requires com.fasterxml.jackson.databind;
     requires com.fasterxml.jackson.dataformat.yaml;
     requires java.sql;
+    requires jdk.management;
     requires io.ballerina.lang;
     requires org.apache.commons.lang3;
     requires org.slf4j;
@@ -22,14 +22,14 @@ service class DispatcherService {
 
    // We are not using the (@http:payload GenericEventWrapperEvent g) notation because of a bug in Ballerina.
    // Issue: https://github.com/ballerina-platform/ballerina-lang/issues/32859
+   // The payload is routed by its event identifier and then bound once, into the type of the matched event only.
    resource function post .(http:Caller caller, http:Request request) returns error? {
        json payload = check request.getJsonPayload();
-       GenericDataType genericDataType = check payload.cloneWithType(GenericDataType);
-       check self.matchRemoteFunc(genericDataType);
+       check self.matchRemoteFunc(payload);
        check caller->respond(http:STATUS_OK);
    }
 
-   private function matchRemoteFunc(GenericDataType genericDataType) returns error? {}
+   private function matchRemoteFunc(json payload) returns error? {}
 
    private function executeRemoteFunc(GenericDataType genericEvent, string eventName, string serviceTypeStr, string eventFunction) returns error? {
          GenericServiceType? genericService = self.services[serviceTypeStr];
@@ -0,0 +1,85 @@
+import ballerina/http;
+import ballerina/log;
+import ballerinax/asyncapi.native.handler;
+
+# Error returned when an event arrives while the maximum number of events are being handled.
+type EventOverflowError distinct error;
+
+service class DispatcherService {
+   *http:Service;
+   private map<GenericServiceType> services = {};
+   private handler:NativeHandler nativeHandler = new ();
+   private final int maxInFlightEvents;
+   private int inFlightEvents = 0;
+
+   function init(int maxInFlightEvents) {
+        self.maxInFlightEvents = maxInFlightEvents;
+   }
+
+   isolated function addServiceRef(string serviceType, GenericServiceType genericService) returns error? {
+        if (self.services.hasKey(serviceType)) {
+             return error("Service of type " + serviceType + " has already been attached");
+        }
+        self.services[serviceType] = genericService;
+   }
+
+   isolated function removeServiceRef(string serviceType) returns error? {
+        if (!self.services.hasKey(serviceType)) {
+             return error("Cannot detach the service of type " + serviceType + ". Service has not been attached to the listener before");
+        }
+        _ = self.services.remove(serviceType);
+   }
+
+   // We are not using the (@http:payload GenericEventWrapperEvent g) notation because of a bug in Ballerina.
+   // Issue: https://github.com/ballerina-platform/ballerina-lang/issues/32859
+   // The payload is routed by its event identifier and then bound once, into the type of the matched event only.
+   // The event is acknowledged once it is routed, while its remote function runs on a strand of its own. Events
+   // which arrive while the maximum number of events are being handled are rejected, so that they are retried.
+   resource function post .(http:Caller caller, http:Request request) returns error? {
+       json payload = check request.getJsonPayload();
+       string eventIdentifier = check request.getHeader("event-identifier-name");
+       error? dispatchResult = self.matchRemoteFunc(payload, eventIdentifier);
+       if dispatchResult is EventOverflowError {
+           check caller->respond(<http:ServiceUnavailable>{});
+           return;
+       }
+       if dispatchResult is error {
+           return dispatchResult;
+       }
+       check caller->respond(http:STATUS_OK);
+   }
+
+   private function matchRemoteFunc(json payload, string eventIdentifier) returns error? {}
+
+   private function executeRemoteFunc(GenericDataType genericEvent, string eventName, string serviceTypeStr, string eventFunction) returns error? {
+         GenericServiceType? genericService = self.services[serviceTypeStr];
+         if genericService is GenericServiceType {
+              check self.acquireEventSlot();
+              _ = start self.invokeRemoteFunc(genericEvent, eventName, eventFunction, genericService);
+         }
+   }
+
+   private function invokeRemoteFunc(GenericDataType genericEvent, string eventName, string eventFunction, GenericServiceType genericService) {
+         // Trapped, so that a remote function which panics still releases its slot
+         error? result = trap self.nativeHandler.invokeRemoteFunction(genericEvent, eventName, eventFunction, genericService);
+         self.releaseEventSlot();
+         if result is error {
+              log:printError("Error occurred while handling the event " + eventName, 'error = result);
+         }
+   }
+
+   private function acquireEventSlot() returns EventOverflowError? {
+         lock {
+              if self.inFlightEvents >= self.maxInFlightEvents {
+                   return error EventOverflowError("Maximum number of in-flight events reached");
+              }
+              self.inFlightEvents += 1;
+         }
+   }
+
+   private function releaseEventSlot() {
+         lock {
+              self.inFlightEvents -= 1;
+         }
+   }
+}
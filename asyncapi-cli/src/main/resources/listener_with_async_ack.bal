@@ -0,0 +1,52 @@
+import ballerina/http;
+
+@display {
+    label: ""
+}
+public class Listener {
+    private http:Listener httpListener;
+    private DispatcherService dispatcherService;
+
+    # Initializes the listener. Events are acknowledged before their remote functions complete.
+    #
+    # + listenOn - Port or HTTP listener to listen on
+    # + maxInFlightEvents - Maximum number of events handled at the same time. Events which arrive while this many
+    # events are being handled are rejected with a 503 response, so that they are retried
+    # + return - An error if the listener could not be initialized
+    public function init(int|http:Listener listenOn = 8090, int maxInFlightEvents = 100) returns error? {
+        if maxInFlightEvents < 1 {
+            return error("The maximum number of in-flight events should be at least 1");
+        }
+        if listenOn is http:Listener {
+            self.httpListener = listenOn;
+        } else {
+            self.httpListener = check new (listenOn);
+        }
+        self.dispatcherService = new DispatcherService(maxInFlightEvents);
+    }
+
+    public isolated function attach(GenericServiceType serviceRef, () attachPoint) returns @tainted error? {
+        string serviceTypeStr = self.getServiceTypeStr(serviceRef);
+        check self.dispatcherService.addServiceRef(serviceTypeStr, serviceRef);
+    }
+
+    public isolated function detach(GenericServiceType serviceRef) returns error? {
+        string serviceTypeStr = self.getServiceTypeStr(serviceRef);
+        check self.dispatcherService.removeServiceRef(serviceTypeStr);
+    }
+
+    public isolated function 'start() returns error? {
+        check self.httpListener.attach(self.dispatcherService, ());
+        return self.httpListener.'start();
+    }
+
+    public isolated function gracefulStop() returns @tainted error? {
+        return self.httpListener.gracefulStop();
+    }
+
+    public isolated function immediateStop() returns error? {
+        return self.httpListener.immediateStop();
+    }
+
+    private isolated function getServiceTypeStr(GenericServiceType serviceRef) returns string {}
+}
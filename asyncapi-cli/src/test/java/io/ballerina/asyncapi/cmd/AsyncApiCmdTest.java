@@ -30,7 +30,10 @@ import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -149,6 +152,95 @@ public class AsyncApiCmdTest {
         }
     }
 
+    @Test(description = "Test that an unchanged spec is not regenerated when the generation cache is enabled")
+    public void testExecuteWithCache() throws IOException {
+        Path specYaml = resourceDir.resolve(Paths.get("specs", "spec-complete-slack.yml"));
+        Path outputDir = this.tmpDir.resolve("cached");
+        String[] args = {"--input", specYaml.toString(), "-o", outputDir.toString(), "--cache-dir",
+                this.tmpDir.resolve("cache").toString()};
+        AsyncApiCmd cmd = new AsyncApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        Assert.assertTrue(readOutput(true).contains("Generation cache: 0 hit(s), 1 miss(es)"));
+        FileTime listenerModifiedTime = Files.getLastModifiedTime(outputDir.resolve("listener.bal"));
+
+        cmd = new AsyncApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("are up to date, skipping the generation."));
+        Assert.assertTrue(output.contains("Generation cache: 1 hit(s), 0 miss(es)"));
+        Assert.assertEquals(Files.getLastModifiedTime(outputDir.resolve("listener.bal")), listenerModifiedTime);
+
+        // A modified output should be regenerated
+        Files.writeString(outputDir.resolve("listener.bal"), "");
+        cmd = new AsyncApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        Assert.assertTrue(readOutput(true).contains("Generation cache: 0 hit(s), 1 miss(es)"));
+        Assert.assertEquals(readContent(outputDir.resolve("listener.bal")),
+                readContent(resourceDir.resolve(Paths.get("expected_gen", "listener.bal"))));
+    }
+
+    @Test(description = "Test that editing a file referenced by the spec changes the generation cache key")
+    public void testCacheKeyOfReferencedFiles() throws IOException {
+        Path specDir = Files.createDirectories(this.tmpDir.resolve("referencing-spec"));
+        Path spec = specDir.resolve("spec.yaml");
+        Path messages = Files.createDirectories(specDir.resolve("common")).resolve("messages.yaml");
+        Path schemas = specDir.resolve("schemas.yaml");
+        Files.writeString(spec, "components:\n  messages:\n    Ping:\n      $ref: 'common/messages.yaml#/Ping'\n");
+        Files.writeString(messages, "Ping:\n  payload:\n    $ref: '../schemas.yaml#/Ping'\n");
+        Files.writeString(schemas, "Ping:\n  type: object\n");
+        GenerationCache generationCache = new GenerationCache(this.tmpDir.resolve("referencing-cache"));
+        String key = generationCache.computeKey(spec, this.tmpDir, List.of(), Map.of());
+        Assert.assertEquals(generationCache.computeKey(spec, this.tmpDir, List.of(), Map.of()), key);
+
+        // A file referenced through another referenced file is part of the key as well
+        Files.writeString(schemas, "Ping:\n  type: string\n");
+        String editedKey = generationCache.computeKey(spec, this.tmpDir, List.of(), Map.of());
+        Assert.assertNotEquals(editedKey, key);
+
+        // A spec referring to a remote file cannot be cached
+        Files.writeString(messages, "Ping:\n  payload:\n    $ref: 'https://example.com/schemas.yaml#/Ping'\n");
+        Assert.assertThrows(IOException.class,
+                () -> generationCache.computeKey(spec, this.tmpDir, List.of(), Map.of()));
+    }
+
+    @Test(description = "Test generating the listeners of multiple specs in batch mode")
+    public void testExecuteBatch() throws IOException {
+        String specs = resourceDir.resolve(Paths.get("specs", "spec-complete-slack.*")).toString();
+        Path outputDir = this.tmpDir.resolve("batch");
+        String[] args = {"--input", specs, "-o", outputDir.toString(), "--batch", "--threads", "2"};
+        AsyncApiCmd cmd = new AsyncApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("Batch generation completed: 2 succeeded, 0 failed."));
+        // The output of the generation of each spec is reported along with its entry
+        Assert.assertEquals(output.split("  Following files were generated successfully:", -1).length, 3);
+        String expectedListenerContent = readContent(resourceDir.resolve(Paths.get("expected_gen", "listener.bal")));
+        Assert.assertEquals(readContent(outputDir.resolve(Paths.get("spec-complete-slack_json", "listener.bal"))),
+                expectedListenerContent);
+        Assert.assertEquals(readContent(outputDir.resolve(Paths.get("spec-complete-slack_yml", "listener.bal"))),
+                expectedListenerContent);
+    }
+
+    @Test(description = "Test that the failures of the batch mode are reported per spec")
+    public void testExecuteBatchWithInvalidSpec() throws IOException {
+        Path manifest = this.tmpDir.resolve("specs.txt");
+        Files.writeString(manifest, resourceDir.resolve(Paths.get("specs", "spec-complete-slack.yml")) + "\n" +
+                resourceDir.resolve(Paths.get("specs", "spec-with-duplicate-keys.yml")) + "\n");
+        String[] args = {"--input", manifest.toString(), "-o", this.tmpDir.resolve("batch-invalid").toString(),
+                "--batch"};
+        AsyncApiCmd cmd = new AsyncApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("[FAILED] " + resourceDir.resolve(Paths.get("specs",
+                "spec-with-duplicate-keys.yml"))));
+        Assert.assertTrue(output.contains("Batch generation completed: 1 succeeded, 1 failed."));
+    }
+
     @Test(description = "Test the functionality of the asyncapi command when the given input directory is invalid")
     public void testExecuteWithInvalidSpecPath() throws IOException {
         Path specYaml = resourceDir.resolve(Paths.get("specs", "invalid-file-name.yml"));
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.cmd;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test the input resolution and the execution of the batch generation.
+ */
+public class BatchGeneratorTest {
+    private Path tmpDir;
+    private final Path outputDir = Paths.get("out");
+
+    @BeforeClass
+    public void setup() throws IOException {
+        this.tmpDir = Files.createTempDirectory("asyncapi-batch-test-" + System.nanoTime());
+        Files.createDirectories(tmpDir.resolve("specs").resolve("nested"));
+        Files.writeString(tmpDir.resolve("specs").resolve("slack.yaml"), "");
+        Files.writeString(tmpDir.resolve("specs").resolve("slack.json"), "");
+        Files.writeString(tmpDir.resolve("specs").resolve("readme.md"), "");
+        Files.writeString(tmpDir.resolve("specs").resolve("nested").resolve("github.yml"), "");
+        Files.writeString(tmpDir.resolve("specs.txt"), "# Specs to generate\n\nspecs/nested/github.yml\n" +
+                "specs/slack.yaml\n");
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(tmpDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test(description = "Test resolving the inputs of a directory")
+    public void testResolveDirectoryInputs() throws IOException {
+        List<BatchGenerator.Input> inputs = BatchGenerator.resolveInputs("specs", tmpDir, outputDir,
+                path -> !path.toString().endsWith(".md"));
+        Assert.assertEquals(inputs.size(), 3);
+        Assert.assertEquals(inputs.get(0).getPath(), tmpDir.resolve("specs/nested/github.yml"));
+        Assert.assertEquals(inputs.get(0).getOutputDir(), outputDir.resolve("nested/github"));
+        // Inputs which only differ by the extension should not share the output directory
+        Assert.assertEquals(inputs.get(1).getOutputDir(), outputDir.resolve("slack_json"));
+        Assert.assertEquals(inputs.get(2).getOutputDir(), outputDir.resolve("slack_yaml"));
+    }
+
+    @Test(description = "Test resolving the inputs of a glob pattern")
+    public void testResolveGlobInputs() throws IOException {
+        List<BatchGenerator.Input> inputs = BatchGenerator.resolveInputs("specs/*.yaml", tmpDir, outputDir,
+                path -> true);
+        Assert.assertEquals(inputs.size(), 1);
+        Assert.assertEquals(inputs.get(0).getPath(), tmpDir.resolve("specs/slack.yaml"));
+        Assert.assertEquals(inputs.get(0).getOutputDir(), outputDir.resolve("slack"));
+    }
+
+    @Test(description = "Test resolving the inputs of a manifest file")
+    public void testResolveManifestInputs() throws IOException {
+        List<BatchGenerator.Input> inputs = BatchGenerator.resolveInputs("specs.txt", tmpDir, outputDir,
+                path -> true);
+        Assert.assertEquals(inputs.size(), 2);
+        Assert.assertEquals(inputs.get(0).getPath(), tmpDir.resolve("specs/nested/github.yml"));
+        Assert.assertEquals(inputs.get(0).getOutputDir(), outputDir.resolve("specs/nested/github"));
+        Assert.assertEquals(inputs.get(1).getPath(), tmpDir.resolve("specs/slack.yaml"));
+    }
+
+    @Test(description = "Test that a file which is not a manifest is rejected instead of being read as one")
+    public void testResolveNonManifestFile() {
+        IOException exception = Assert.expectThrows(IOException.class, () -> BatchGenerator.resolveInputs(
+                "specs/slack.yaml", tmpDir, outputDir, path -> true));
+        Assert.assertEquals(exception.getMessage(), "the input should be a directory, a glob pattern or a manifest " +
+                "file with one of the extensions .txt, .list");
+    }
+
+    @Test(description = "Test that the results are reported in the order of the inputs along with the failures")
+    public void testGenerate() throws IOException {
+        List<BatchGenerator.Input> inputs = BatchGenerator.resolveInputs("specs", tmpDir, outputDir,
+                path -> !path.toString().endsWith(".md"));
+        List<BatchGenerator.Result> results = new BatchGenerator(3).generate(inputs, (input, output) -> {
+            if (input.toString().endsWith(".json")) {
+                throw new IOException("Invalid spec: " + input.getFileName());
+            }
+            return List.of(output.toString());
+        });
+        Assert.assertEquals(results.size(), 3);
+        Assert.assertTrue(results.get(0).isSuccess());
+        Assert.assertEquals(results.get(0).getDiagnostics(), List.of(outputDir.resolve("nested/github").toString()));
+        Assert.assertFalse(results.get(1).isSuccess());
+        Assert.assertEquals(results.get(1).getDiagnostics(), List.of("Invalid spec: slack.json"));
+        Assert.assertTrue(results.get(2).isSuccess());
+    }
+}
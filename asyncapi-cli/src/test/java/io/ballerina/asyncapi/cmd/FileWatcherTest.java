@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.cmd;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test the reporting of the changed files by the file watcher of the watch mode.
+ */
+public class FileWatcherTest {
+    private Path tmpDir;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        this.tmpDir = Files.createTempDirectory("asyncapi-watch-test-" + System.nanoTime());
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(tmpDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test(description = "Test that the changes of the filtered files are reported until the watcher is closed")
+    public void testWatch() throws Exception {
+        Path watchedFile = tmpDir.resolve("service.bal");
+        Files.writeString(watchedFile, "");
+        CompletableFuture<Set<Path>> changedFiles = new CompletableFuture<>();
+        FileWatcher watcher = new FileWatcher(List.of(tmpDir), file -> file.toString().endsWith(".bal"), 100);
+        CompletableFuture<Void> watching = CompletableFuture.runAsync(() -> {
+            try {
+                watcher.watch(changedFiles::complete);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Files.writeString(tmpDir.resolve("service_asyncapi.yaml"), "asyncapi: 2.5.0");
+        Files.writeString(watchedFile, "import ballerina/websocket;");
+        Assert.assertEquals(changedFiles.get(30, TimeUnit.SECONDS), Set.of(watchedFile));
+        watcher.close();
+        watching.get(30, TimeUnit.SECONDS);
+    }
+}
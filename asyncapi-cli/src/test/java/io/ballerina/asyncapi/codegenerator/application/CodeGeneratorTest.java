@@ -19,6 +19,7 @@
 package io.ballerina.asyncapi.codegenerator.application;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.options.GenerationOptions;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -35,6 +36,19 @@ public class CodeGeneratorTest {
         Assert.assertEquals(mockRepository.getWriteCount(), 4);
     }
 
+    @Test(description = "Test generating the files in parallel gives the same output as generating them serially")
+    public void testGenerateInParallel() throws BallerinaAsyncApiException {
+        MockFileRepositoryImpl serialRepository = new MockFileRepositoryImpl();
+        new CodeGenerator(serialRepository, new GenerationOptions.Builder().withThreads(1).build())
+                .generate("test.yaml", "/");
+        MockFileRepositoryImpl parallelRepository = new MockFileRepositoryImpl();
+        new CodeGenerator(parallelRepository, new GenerationOptions.Builder().withThreads(4)
+                .withPrintTimings(true).build()).generate("test.yaml", "/");
+
+        Assert.assertEquals(parallelRepository.getWriteCount(), 4);
+        Assert.assertEquals(parallelRepository.getWrittenFiles(), serialRepository.getWrittenFiles());
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when AsyncAPI spec file has a different file extension than .yaml, .yml or .json",
             expectedExceptions = BallerinaAsyncApiException.class,
@@ -18,16 +18,22 @@
 
 package io.ballerina.asyncapi.codegenerator.application;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Mock the FileRepositoryImpl to prevent file writing while testing.
  */
 public class MockFileRepositoryImpl implements FileRepository {
     private final FileRepository fileRepository = new FileRepositoryImpl();
-    private int writeCount = 0;
+    private final AtomicInteger writeCount = new AtomicInteger();
+    private final Map<String, String> writtenFiles = new ConcurrentHashMap<>();
 
     @Override
     public String getFileContent(String filePath) throws BallerinaAsyncApiException {
@@ -42,7 +48,8 @@ public class MockFileRepositoryImpl implements FileRepository {
 
     @Override
     public void writeToFile(String filePath, String content) throws BallerinaAsyncApiException {
-        writeCount += 1;
+        writeCount.incrementAndGet();
+        writtenFiles.put(filePath, content);
     }
 
     @Override
@@ -55,7 +62,21 @@ public class MockFileRepositoryImpl implements FileRepository {
         return true;
     }
 
+    @Override
+    public ObjectNode getSpecTree(String filePath) throws BallerinaAsyncApiException {
+        return fileRepository.getSpecTreeFromResources("specs/spec-complete-slack.yml");
+    }
+
+    @Override
+    public ObjectNode getSpecTreeFromResources(String fileName) throws BallerinaAsyncApiException {
+        return fileRepository.getSpecTreeFromResources(fileName);
+    }
+
     public int getWriteCount() {
-        return writeCount;
+        return writeCount.get();
+    }
+
+    public Map<String, String> getWrittenFiles() {
+        return writtenFiles;
     }
 }
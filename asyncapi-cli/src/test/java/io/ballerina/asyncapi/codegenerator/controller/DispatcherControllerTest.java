@@ -20,12 +20,17 @@ package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.DispatchMode;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Test the functionality and flow control of the data extraction process.
@@ -50,6 +55,97 @@ public class DispatcherControllerTest {
         Assert.assertEquals(dispatcherController.generateBalCode(dispatcherTemplate), dispatcherResult);
     }
 
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the map dispatch mode")
+    public void testGenerateBalCodeWithDispatchTable() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dispatcherTemplate = fileRepository
+                .getFileContentFromResources(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), DispatchMode.MAP, GenerationProfiler.DISABLED);
+        String dispatcherCode = dispatcherController.generateBalCode(dispatcherTemplate).replaceAll("\\s", "");
+
+        Assert.assertTrue(dispatcherCode.startsWith("importballerina/http;importballerinax/asyncapi.native.handler;" +
+                "finalmap<[string,string,typedesc<GenericDataType>]>&readonlydispatchTable={\"app_mention_added\":" +
+                "[\"AppMentionHandlingService\",\"onAppMentionAdded\",GenericEventWrapper],"));
+        Assert.assertTrue(dispatcherCode.contains("privatefunctionmatchRemoteFunc(jsonpayload)returnserror?{" +
+                "jsoneventName=checkpayload.event.'type;ifeventNameisstring{" +
+                "[string,string,typedesc<GenericDataType>]?remoteFunction=dispatchTable[eventName];" +
+                "ifremoteFunctionis[string,string,typedesc<GenericDataType>]{checkself.executeRemoteFunc(" +
+                "checkpayload.cloneWithType(remoteFunction[2]),eventName,remoteFunction[0],remoteFunction[1]);}}}"));
+        Assert.assertFalse(dispatcherCode.contains("matchcheckpayload"));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the map dispatch mode " +
+            "when the event identifier is in a header")
+    public void testGenerateBalCodeWithDispatchTableForHeader() throws BallerinaAsyncApiException {
+        String dispatcherTemplate = fileRepository.getFileContentFromResources(
+                Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER);
+        List<ServiceType> serviceTypes = List.of(new ServiceType("AppCreatedHandlingService",
+                List.of(new RemoteFunction("app_created", "GenericEvent"))));
+        BalController dispatcherController = new DispatcherController(serviceTypes,
+                Constants.X_BALLERINA_EVENT_TYPE_HEADER, "X-Event-Type", DispatchMode.MAP,
+                GenerationProfiler.DISABLED);
+        String dispatcherCode = dispatcherController.generateBalCode(dispatcherTemplate).replaceAll("\\s", "");
+
+        Assert.assertTrue(dispatcherCode.contains("stringeventIdentifier=checkrequest.getHeader(\"X-Event-Type\");"));
+        Assert.assertTrue(dispatcherCode.contains("[\"AppCreatedHandlingService\",\"onAppCreated\",GenericEvent]"));
+        Assert.assertTrue(dispatcherCode.contains("returnserror?{[string,string,typedesc<GenericDataType>]?" +
+                "remoteFunction=dispatchTable[eventIdentifier];" +
+                "ifremoteFunctionis[string,string,typedesc<GenericDataType>]{checkself.executeRemoteFunc(" +
+                "checkpayload.cloneWithType(remoteFunction[2]),eventIdentifier,remoteFunction[0]," +
+                "remoteFunction[1]);}}"));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the asynchronous " +
+            "acknowledgement")
+    public void testGenerateBalCodeWithAsyncAck() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dispatcherTemplate = fileRepository.getFileContentFromResources(
+                Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY_WITH_ASYNC_ACK);
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath());
+        String dispatcherCode = dispatcherController.generateBalCode(dispatcherTemplate).replaceAll("\\s", "");
+
+        Assert.assertTrue(dispatcherCode.contains("privatefunctionmatchRemoteFunc(jsonpayload)returnserror?{" +
+                "matchcheckpayload.event.'type{\"app_mention_added\"=>{checkself.executeRemoteFunc(" +
+                "checkpayload.cloneWithType(GenericEventWrapper),\"app_mention_added\"," +
+                "\"AppMentionHandlingService\",\"onAppMentionAdded\");}"));
+        Assert.assertTrue(dispatcherCode.contains("error?dispatchResult=self.matchRemoteFunc(payload);" +
+                "ifdispatchResultisEventOverflowError{checkcaller->respond(<http:ServiceUnavailable>{});return;}"));
+        Assert.assertTrue(dispatcherCode.contains("checkself.acquireEventSlot();" +
+                "_=startself.invokeRemoteFunc(genericEvent,eventName,eventFunction,genericService);"));
+        Assert.assertTrue(dispatcherCode.contains("error?result=trapself.nativeHandler.invokeRemoteFunction(" +
+                "genericEvent,eventName,eventFunction,genericService);self.releaseEventSlot();"));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the asynchronous " +
+            "acknowledgement when the event identifier is in a header")
+    public void testGenerateBalCodeWithAsyncAckForHeader() throws BallerinaAsyncApiException {
+        String dispatcherTemplate = fileRepository.getFileContentFromResources(
+                Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER_WITH_ASYNC_ACK);
+        List<ServiceType> serviceTypes = List.of(new ServiceType("AppCreatedHandlingService",
+                List.of(new RemoteFunction("app_created", "GenericEvent"))));
+        BalController dispatcherController = new DispatcherController(serviceTypes,
+                Constants.X_BALLERINA_EVENT_TYPE_HEADER, "X-Event-Type");
+        String dispatcherCode = dispatcherController.generateBalCode(dispatcherTemplate).replaceAll("\\s", "");
+
+        Assert.assertTrue(dispatcherCode.contains("jsonpayload=checkrequest.getJsonPayload();" +
+                "stringeventIdentifier=checkrequest.getHeader(\"X-Event-Type\");" +
+                "error?dispatchResult=self.matchRemoteFunc(payload,eventIdentifier);"));
+        Assert.assertTrue(dispatcherCode.contains("error?result=trapself.nativeHandler.invokeRemoteFunction(" +
+                "genericEvent,eventName,eventFunction,genericService);self.releaseEventSlot();"));
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when the there is no resource function named as '.' in the dispatcher_service.bal template",
             expectedExceptions = BallerinaAsyncApiException.class,
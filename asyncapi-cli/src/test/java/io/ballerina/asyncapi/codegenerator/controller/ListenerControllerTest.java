@@ -48,6 +48,29 @@ public class ListenerControllerTest {
         Assert.assertEquals(listenerController.generateBalCode(listenerTemplate), listenerResult);
     }
 
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the asynchronous " +
+            "acknowledgement")
+    public void testGenerateBalCodeWithAsyncAck() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String listenerTemplate = fileRepository
+                .getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME_WITH_ASYNC_ACK);
+        String listenerResult = fileRepository
+                .getFileContentFromResources("expected_gen/".concat(Constants.LISTENER_BAL_FILE_NAME));
+        BalController listenerController = new ListenerController(specController.getServiceTypes());
+        String listenerCode = listenerController.generateBalCode(listenerTemplate);
+
+        Assert.assertTrue(listenerCode.replaceAll("\\s", "").contains("publicfunctioninit(int|http:ListenerlistenOn" +
+                "=8090,intmaxInFlightEvents=100)returnserror?{"));
+        Assert.assertTrue(listenerCode.contains("self.dispatcherService = new DispatcherService(maxInFlightEvents);"));
+        String getServiceTypeStr = listenerResult.substring(listenerResult.indexOf("private isolated function " +
+                "getServiceTypeStr"));
+        Assert.assertTrue(listenerCode.endsWith(getServiceTypeStr));
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when the there is no function named as 'getServiceTypeStr' in the listener.bal template",
             expectedExceptions = BallerinaAsyncApiException.class,
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.codegenerator.repository;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.models.Document;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test the single pass spec parsing of the FileRepositoryImpl and compare it against the string based parsing.
+ */
+public class FileRepositoryImplTest {
+    private static final Path SPECS_DIR = Paths.get("src/test/resources/specs");
+    private final FileRepository fileRepository = new FileRepositoryImpl();
+
+    @Test(description = "Test that the parsed spec tree matches the document read from the converted json string")
+    public void testGetSpecTreeMatchesJsonStringPath() throws BallerinaAsyncApiException, IOException {
+        for (Path spec : listSpecs()) {
+            Document fromString = parseAsJsonString(spec);
+            Document fromTree = parseAsSpecTree(spec);
+            Assert.assertEquals(Library.writeDocumentToJSONString(fromTree),
+                    Library.writeDocumentToJSONString(fromString), spec.getFileName().toString());
+        }
+    }
+
+    @Test(description = "Test the duplicate key validation of the yaml spec tree",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "Error when converting the given yaml file to json, " +
+                    "Please validate the yaml file")
+    public void testGetSpecTreeWithDuplicateKeys() throws BallerinaAsyncApiException {
+        fileRepository.getSpecTreeFromResources("specs/spec-with-duplicate-keys.yml");
+    }
+
+    @Test(description = "Test the functionality of the 'getSpecTree' function with an unknown file type",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "Unknown file type: test.ext")
+    public void testGetSpecTreeWithInvalidFileExtension() throws BallerinaAsyncApiException {
+        fileRepository.getSpecTree("test.ext");
+    }
+
+    private Document parseAsJsonString(Path spec) throws BallerinaAsyncApiException {
+        String specPath = spec.toString();
+        String content = fileRepository.getFileContent(specPath);
+        String json;
+        if (specPath.endsWith(".json")) {
+            fileRepository.validateJson(content);
+            json = content;
+        } else {
+            json = fileRepository.convertYamlToJson(content);
+        }
+        return Library.readDocumentFromJSONString(json);
+    }
+
+    private Document parseAsSpecTree(Path spec) throws BallerinaAsyncApiException {
+        return Library.readDocument(fileRepository.getSpecTree(spec.toString()));
+    }
+
+    private List<Path> listSpecs() throws IOException {
+        try (Stream<Path> specs = Files.list(SPECS_DIR)) {
+            return specs.filter(path -> !path.getFileName().toString().contains("duplicate-keys"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
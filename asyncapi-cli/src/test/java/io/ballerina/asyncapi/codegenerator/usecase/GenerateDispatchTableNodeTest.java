@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test the generation of the dispatch table of the dispatcher service.
+ */
+public class GenerateDispatchTableNodeTest {
+    @Test(description = "Test the functionality of the generate function " +
+            "when the service types list is not empty")
+    public void testGenerate() throws BallerinaAsyncApiException {
+        List<ServiceType> serviceTypes = new ArrayList<>();
+        serviceTypes.add(new ServiceType("AppMentionHandlingService", List.of(
+                new RemoteFunction("app_mention", "GenericEvent"),
+                new RemoteFunction("app_mention_removed", "GenericEvent"))));
+        serviceTypes.add(new ServiceType("AppCreatedHandlingService", List.of(
+                new RemoteFunction("app_created", "GenericEvent"))));
+        Generator generateDispatchTableNode = new GenerateDispatchTableNode(serviceTypes);
+        ModuleMemberDeclarationNode dispatchTableNode = generateDispatchTableNode.generate();
+
+        Assert.assertEquals(dispatchTableNode.kind(), SyntaxKind.MODULE_VAR_DECL);
+        Assert.assertFalse(dispatchTableNode.hasDiagnostics());
+        Assert.assertEquals(dispatchTableNode.toSourceCode().replaceAll("\\s", ""),
+                "finalmap<[string,string,typedesc<GenericDataType>]>&readonlydispatchTable={" +
+                        "\"app_mention\":[\"AppMentionHandlingService\",\"onAppMention\",GenericEvent]," +
+                        "\"app_mention_removed\":" +
+                        "[\"AppMentionHandlingService\",\"onAppMentionRemoved\",GenericEvent]," +
+                        "\"app_created\":[\"AppCreatedHandlingService\",\"onAppCreated\",GenericEvent]};");
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when an event is handled by more than one service type")
+    public void testGenerateWithDuplicateEvents() throws BallerinaAsyncApiException {
+        List<ServiceType> serviceTypes = new ArrayList<>();
+        serviceTypes.add(new ServiceType("AppMentionHandlingService", List.of(
+                new RemoteFunction("app_mention", "GenericEvent"))));
+        serviceTypes.add(new ServiceType("MessageHandlingService", List.of(
+                new RemoteFunction("app_mention", "GenericEvent"))));
+        Generator generateDispatchTableNode = new GenerateDispatchTableNode(serviceTypes);
+        ModuleMemberDeclarationNode dispatchTableNode = generateDispatchTableNode.generate();
+
+        // Same as the match statement, the event is dispatched to the first service type which handles it
+        Assert.assertEquals(dispatchTableNode.toSourceCode().replaceAll("\\s", ""),
+                "finalmap<[string,string,typedesc<GenericDataType>]>&readonlydispatchTable={" +
+                        "\"app_mention\":[\"AppMentionHandlingService\",\"onAppMention\",GenericEvent]};");
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the service types list is empty",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "No service types found, probably there are no channels defined " +
+                    "in the async api spec")
+    public void testGenerateWithEmptyServiceTypesList() throws BallerinaAsyncApiException {
+        Generator generateDispatchTableNode = new GenerateDispatchTableNode(new ArrayList<>());
+        generateDispatchTableNode.generate();
+    }
+}
@@ -52,7 +52,7 @@ public class GenerateMatchStatementNodeTest {
         String matchStatement = matchStatementNode.matchClauses().get(0).blockStatement()
                 .statements().get(0).toSourceCode();
         Assert.assertEquals(matchStatement,
-                "checkself.executeRemoteFunc(genericDataType,\"app_mention\"," +
+                "checkself.executeRemoteFunc(check payload.cloneWithType(GenericEvent),\"app_mention\"," +
                         "\"AppMentionHandlingService\",\"onAppMention\");");
     }
 
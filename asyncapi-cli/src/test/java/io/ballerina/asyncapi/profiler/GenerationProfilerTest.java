@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.profiler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Test the recording and the reporting of the generation profile.
+ */
+public class GenerationProfilerTest {
+
+    @Test(description = "Test recording nested phases along with their counts")
+    public void testRecordNestedPhases() {
+        GenerationProfiler profiler = new GenerationProfiler();
+        try (GenerationProfiler.Phase phase = profiler.start("generate")) {
+            try (GenerationProfiler.Phase ignored = profiler.start("parse").count("nodes", 42)) {
+                Assert.assertTrue(profiler.isEnabled());
+            }
+            phase.count("files", 4);
+        }
+        try (GenerationProfiler.Phase ignored = profiler.start("write")) {
+            Assert.assertTrue(profiler.isEnabled());
+        }
+
+        List<GenerationProfiler.PhaseRecord> phases = profiler.getPhases();
+        Assert.assertEquals(phases.size(), 3);
+        Assert.assertEquals(phases.get(0).getName(), "generate");
+        Assert.assertEquals(phases.get(0).getDepth(), 0);
+        Assert.assertEquals(phases.get(0).getCounts().get("files"), Long.valueOf(4));
+        Assert.assertEquals(phases.get(1).getName(), "parse");
+        Assert.assertEquals(phases.get(1).getDepth(), 1);
+        Assert.assertEquals(phases.get(1).getCounts().get("nodes"), Long.valueOf(42));
+        Assert.assertEquals(phases.get(2).getName(), "write");
+        Assert.assertEquals(phases.get(2).getDepth(), 0);
+        Assert.assertTrue(phases.get(0).getDurationNanos() >= phases.get(1).getDurationNanos());
+    }
+
+    @Test(description = "Test that a disabled profiler does not record any phase")
+    public void testDisabledProfiler() {
+        try (GenerationProfiler.Phase ignored = GenerationProfiler.DISABLED.start("generate").count("nodes", 1)) {
+            Assert.assertFalse(GenerationProfiler.DISABLED.isEnabled());
+        }
+        Assert.assertTrue(GenerationProfiler.DISABLED.getPhases().isEmpty());
+    }
+
+    @Test(description = "Test printing the summary of the recorded phases")
+    public void testPrintSummary() {
+        GenerationProfiler profiler = new GenerationProfiler();
+        try (GenerationProfiler.Phase ignored = profiler.start("generate")) {
+            try (GenerationProfiler.Phase nested = profiler.start("format types.bal")) {
+                nested.count("schemas", 7);
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        profiler.printSummary(new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        Assert.assertEquals(lines.size(), 4);
+        Assert.assertEquals(lines.get(0), "Generation profile:");
+        Assert.assertTrue(lines.get(1).startsWith("Phase"));
+        Assert.assertTrue(lines.get(2).startsWith("generate "));
+        Assert.assertTrue(lines.get(3).startsWith("  format types.bal"));
+        Assert.assertTrue(lines.get(3).endsWith("schemas=7"));
+    }
+
+    @Test(description = "Test writing the recorded phases in the trace event format")
+    public void testWriteChromeTrace() throws IOException {
+        GenerationProfiler profiler = new GenerationProfiler();
+        try (GenerationProfiler.Phase ignored = profiler.start("generate").count("characters", 10)) {
+            Assert.assertTrue(profiler.isEnabled());
+        }
+        Path tmpDir = Files.createTempDirectory("asyncapi-profile-test-" + System.nanoTime());
+        Path tracePath = tmpDir.resolve("traces").resolve("profile.json");
+        try {
+            profiler.writeChromeTrace(tracePath);
+            JsonNode trace = new ObjectMapper().readTree(tracePath.toFile());
+            JsonNode events = trace.get("traceEvents");
+            Assert.assertEquals(events.size(), 2);
+            Assert.assertEquals(events.get(0).get("ph").asText(), "M");
+            Assert.assertEquals(events.get(0).get("args").get("name").asText(), Thread.currentThread().getName());
+            JsonNode event = events.get(1);
+            Assert.assertEquals(event.get("name").asText(), "generate");
+            Assert.assertEquals(event.get("ph").asText(), "X");
+            Assert.assertEquals(event.get("tid").asLong(), events.get(0).get("tid").asLong());
+            Assert.assertTrue(event.get("dur").asLong() >= 0);
+            Assert.assertEquals(event.get("args").get("characters").asLong(), 10);
+        } finally {
+            Files.deleteIfExists(tracePath);
+            Files.deleteIfExists(tracePath.getParent());
+            Files.deleteIfExists(tmpDir);
+        }
+    }
+}
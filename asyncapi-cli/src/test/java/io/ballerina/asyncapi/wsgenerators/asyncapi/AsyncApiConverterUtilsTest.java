@@ -18,7 +18,16 @@
 package io.ballerina.asyncapi.wsgenerators.asyncapi;
 
 import io.ballerina.asyncapi.cmd.websockets.BallerinaToAsyncApiGenerator;
+import io.ballerina.asyncapi.profiler.GenerationProfiler;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.AsyncApiConverterDiagnostic;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.model.AsyncApiResult;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.ServiceToAsyncApiConverterUtils;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterTest;
@@ -134,6 +143,76 @@ public class AsyncApiConverterUtilsTest {
         Assert.assertTrue(Files.exists(this.tempDir.resolve(String.format("payloadV%s.yaml", ASYNC_API_SUFFIX))));
     }
 
+    @Test(description = "Generate AsyncAPI specs for the services of all the modules of a package")
+    public void testPackageServices() {
+        Path packagePath = RES_DIR.resolve("service/project_modules");
+        List<AsyncApiConverterDiagnostic> errors = BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllModules(
+                packagePath, this.tempDir, null, false, outStream, GenerationProfiler.DISABLED);
+        Assert.assertTrue(errors.isEmpty());
+        Assert.assertTrue(Files.exists(this.tempDir.resolve(String.format("alerts%s.yaml", ASYNC_API_SUFFIX))));
+        Assert.assertTrue(Files.exists(this.tempDir.resolve(String.format("chat%s.yaml", ASYNC_API_SUFFIX))));
+        Assert.assertTrue(Files.exists(this.tempDir.resolve(String.format("notifications_chat%s.yaml",
+                ASYNC_API_SUFFIX))));
+    }
+
+    @Test(description = "Generate the AsyncAPI spec of a given service of a package")
+    public void testPackageServiceByName() {
+        Path packagePath = RES_DIR.resolve("service/project_modules");
+        List<AsyncApiConverterDiagnostic> errors = BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllModules(
+                packagePath, this.tempDir, "/alerts", false, outStream, GenerationProfiler.DISABLED);
+        Assert.assertTrue(errors.isEmpty());
+        Assert.assertTrue(Files.exists(this.tempDir.resolve(String.format("alerts%s.yaml", ASYNC_API_SUFFIX))));
+        Assert.assertFalse(Files.exists(this.tempDir.resolve(String.format("chat%s.yaml", ASYNC_API_SUFFIX))));
+    }
+
+    @Test(description = "Generate the AsyncAPI specs of the services of a file, validating them on several workers")
+    public void testServicesOnWorkers() {
+        Path ballerinaFilePath = RES_DIR.resolve("service/complex_base_path.bal");
+        Project project = ProjectLoader.loadProject(ballerinaFilePath);
+        Module module = project.currentPackage().getDefaultModule();
+        DocumentId documentId = module.documentIds().iterator().next();
+        SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
+        SemanticModel semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+        List<AsyncApiResult> expected = ServiceToAsyncApiConverterUtils.generateAsyncAPISpecDefinition(syntaxTree,
+                semanticModel, null, false, ballerinaFilePath, 1);
+        List<AsyncApiResult> actual = ServiceToAsyncApiConverterUtils.generateAsyncAPISpecDefinition(syntaxTree,
+                semanticModel, null, false, ballerinaFilePath, 4);
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertTrue(actual.size() > 1);
+        // The definitions keep the order of the services regardless of the order the workers validate them in
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(actual.get(i).getServiceName(), expected.get(i).getServiceName());
+            Assert.assertEquals(actual.get(i).getYaml(), expected.get(i).getYaml());
+        }
+    }
+
+    @Test(description = "Stream the AsyncAPI specs to their files with the same content as their serialized strings")
+    public void testStreamedDefinitions() throws IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("service/complex_base_path.bal");
+        Project project = ProjectLoader.loadProject(ballerinaFilePath);
+        Module module = project.currentPackage().getDefaultModule();
+        DocumentId documentId = module.documentIds().iterator().next();
+        SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
+        SemanticModel semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+        List<AsyncApiResult> definitions = ServiceToAsyncApiConverterUtils.generateAsyncAPISpecDefinition(syntaxTree,
+                semanticModel, null, false, ballerinaFilePath);
+        Assert.assertFalse(definitions.isEmpty());
+        for (int i = 0; i < definitions.size(); i++) {
+            AsyncApiResult definition = definitions.get(i);
+            if (definition.getAsyncAPI().isEmpty()) {
+                continue;
+            }
+            Path yamlPath = this.tempDir.resolve("service_" + i + ".yaml");
+            Path jsonPath = this.tempDir.resolve("service_" + i + ".json");
+            long yamlBytes = definition.write(yamlPath, false);
+            long jsonBytes = definition.write(jsonPath, true);
+            Assert.assertEquals(Files.readString(yamlPath), definition.getYaml().orElseThrow());
+            Assert.assertEquals(Files.readString(jsonPath), definition.getJson().orElseThrow());
+            Assert.assertEquals(yamlBytes, Files.size(yamlPath));
+            Assert.assertEquals(jsonBytes, Files.size(jsonPath));
+        }
+    }
+
     @Test(description = "Generate AsyncAPI spec for given ballerina file has only compiler warning", enabled = false)
     public void testForCompilerWarning() throws IOException {
         Path ballerinaFilePath = RES_DIR.resolve("service/compiler_warning.bal");
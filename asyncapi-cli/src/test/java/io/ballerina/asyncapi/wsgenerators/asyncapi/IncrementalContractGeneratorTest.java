@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.wsgenerators.asyncapi;
+
+import io.ballerina.asyncapi.cmd.websockets.IncrementalContractGenerator;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.AsyncApiConverterDiagnostic;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constants.ASYNC_API_SUFFIX;
+import static io.ballerina.asyncapi.wsgenerators.asyncapi.TestUtils.deleteDirectory;
+
+/**
+ * Test the generation of the AsyncAPI specs of a package again as its sources change, as done in the watch mode.
+ */
+public class IncrementalContractGeneratorTest {
+    private static final Path RES_DIR = Paths.get("src/test/resources/websockets" +
+            "/ballerina-to-asyncapi").toAbsolutePath();
+    private Path tempDir;
+    private Path packagePath;
+    private Path outPath;
+    private final PrintStream outStream = System.out;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        this.tempDir = Files.createTempDirectory("bal-to-asyncapi-watch-test-" + System.nanoTime()).toRealPath();
+        this.packagePath = tempDir.resolve("package");
+        this.outPath = tempDir.resolve("out");
+        FileUtils.copyDirectory(RES_DIR.resolve("service/project_modules").toFile(), packagePath.toFile());
+    }
+
+    @Test(description = "Generate the spec of a changed document again without the specs of the other documents")
+    public void testChangedDocument() throws IOException {
+        IncrementalContractGenerator generator = new IncrementalContractGenerator(packagePath, outPath, null, false,
+                outStream);
+        Assert.assertTrue(generator.generate().isEmpty());
+        Assert.assertTrue(Files.exists(getSpecPath("alerts")));
+        Files.delete(getSpecPath("chat"));
+
+        Path alertsPath = packagePath.resolve("alerts.bal");
+        Files.writeString(alertsPath, Files.readString(alertsPath).replace("service /alerts", "service /warnings"));
+        List<AsyncApiConverterDiagnostic> errors = generator.update(List.of(alertsPath));
+        Assert.assertTrue(errors.isEmpty());
+        Assert.assertTrue(Files.exists(getSpecPath("warnings")));
+        // The spec of the removed service is deleted, while the spec of the unchanged document is not written again
+        Assert.assertFalse(Files.exists(getSpecPath("alerts")));
+        Assert.assertFalse(Files.exists(getSpecPath("chat")));
+        Assert.assertTrue(Files.exists(getSpecPath("notifications_chat")));
+    }
+
+    @Test(description = "Generate the specs of all the documents again when the types of a document change")
+    public void testChangedTypes() throws IOException {
+        IncrementalContractGenerator generator = new IncrementalContractGenerator(packagePath, outPath, null, false,
+                outStream);
+        Assert.assertTrue(generator.generate().isEmpty());
+        Files.delete(getSpecPath("chat"));
+
+        Path alertsPath = packagePath.resolve("alerts.bal");
+        Files.writeString(alertsPath, Files.readString(alertsPath).replace("string id;", "string id;\n    int level;"));
+        Assert.assertTrue(generator.update(List.of(alertsPath)).isEmpty());
+        Assert.assertTrue(Files.exists(getSpecPath("chat")));
+        Assert.assertTrue(Files.readString(getSpecPath("alerts")).contains("level"));
+    }
+
+    @Test(description = "Load the package again when a document is added")
+    public void testAddedDocument() throws IOException {
+        IncrementalContractGenerator generator = new IncrementalContractGenerator(packagePath, outPath, null, false,
+                outStream);
+        Assert.assertTrue(generator.generate().isEmpty());
+
+        Path eventsPath = packagePath.resolve("events.bal");
+        Files.writeString(eventsPath, String.join("\n",
+                "import ballerina/websocket;",
+                "",
+                "listener websocket:Listener ep2 = new(9094);",
+                "",
+                "@websocket:ServiceConfig {dispatcherKey: \"event\"}",
+                "service /events on ep2 {",
+                "    resource function get .() returns websocket:Service|websocket:UpgradeError {",
+                "        return new EventServer();",
+                "    }",
+                "}",
+                "",
+                "service class EventServer {",
+                "    *websocket:Service;",
+                "",
+                "    remote function onAlert(websocket:Caller caller, Alert message) returns int {",
+                "        return 5;",
+                "    }",
+                "}",
+                ""));
+        Assert.assertTrue(generator.update(List.of(eventsPath)).isEmpty());
+        Assert.assertTrue(Files.exists(getSpecPath("events")));
+        Assert.assertTrue(generator.isSourceFile(eventsPath));
+        Assert.assertFalse(generator.isSourceFile(getSpecPath("events")));
+    }
+
+    private Path getSpecPath(String serviceName) {
+        return outPath.resolve(String.format("%s%s.yaml", serviceName, ASYNC_API_SUFFIX));
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+        deleteDirectory(this.tempDir);
+    }
+}
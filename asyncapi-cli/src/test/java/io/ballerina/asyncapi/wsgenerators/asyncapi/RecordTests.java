@@ -96,6 +96,12 @@ public class RecordTests {
         TestUtils.compareWithGeneratedFile(ballerinaFilePath, "record/cyclic_record.yaml");
     }
 
+    @Test(description = "When the record fields refer back to the record through another record")
+    public void testMutuallyCyclicRecord() throws IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("record/mutually_cyclic_record.bal");
+        TestUtils.compareWithGeneratedFile(ballerinaFilePath, "record/mutually_cyclic_record.yaml");
+    }
+
     @Test(description = "When the record is readOnly type")
     public void testReadOnlyRecord() throws IOException {
         Path ballerinaFilePath = RES_DIR.resolve("record/with_readonly_keyword.bal");
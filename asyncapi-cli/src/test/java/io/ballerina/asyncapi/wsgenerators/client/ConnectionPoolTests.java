@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.wsgenerators.client;
+
+import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
+import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
+import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+import io.ballerina.asyncapi.websocketscore.generators.client.IntermediateClientGenerator;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.AasClientConfig;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static io.ballerina.asyncapi.wsgenerators.common.TestUtils.compareGeneratedSyntaxTreeWithExpectedSyntaxTree;
+
+/**
+ * Test the generation of the pool of connections of the client.
+ */
+public class ConnectionPoolTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/websockets" +
+            "/asyncapi-to-ballerina/client").toAbsolutePath();
+
+    @Test(description = "Test the pool of a client with streaming and request-response remote functions")
+    public void testConnectionPool() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("StreamResponse/multiple_stream_with_dispatcherStreamId.yaml");
+        IntermediateClientGenerator clientGenerator = createClientGenerator(definitionPath);
+        SyntaxTree syntaxTree = clientGenerator.generateSyntaxTree();
+
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(
+                RES_DIR.resolve("baloutputs/ConnectionPool/multiple_stream_with_connection_pool.bal"), syntaxTree);
+    }
+
+    @Test(description = "Test the utils of a client with a pool of connections")
+    public void testConnectionPoolUtils() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("SimpleResponse/one_response_with_no_dispatcherStreamId.yaml");
+        IntermediateClientGenerator clientGenerator = createClientGenerator(definitionPath);
+        clientGenerator.generateSyntaxTree();
+        SyntaxTree utilSyntaxTree = clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(
+                RES_DIR.resolve("baloutputs/ConnectionPool/connection_pool_util.bal"), utilSyntaxTree);
+    }
+
+    @Test(description = "Test the remote functions of a pool which receive the messages the server pushes")
+    public void testConnectionPoolWithReceiveOnlyRemoteFunctions() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("Real/kraken_websocket.yaml");
+        IntermediateClientGenerator clientGenerator = createClientGenerator(definitionPath);
+        String source = clientGenerator.generateSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+
+        Assert.assertTrue(source.contains("remoteisolatedfunctiondoHeartbeat(decimaltimeout)returnsHeartbeat|error{" +
+                "KrakenWebsocketsAPIClientconnection=self.getConnection(0);" +
+                "returnconnection->doHeartbeat(timeout);}"));
+    }
+
+    private static IntermediateClientGenerator createClientGenerator(Path definitionPath)
+            throws IOException, BallerinaAsyncApiExceptionWs {
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig clientConfig = new AasClientConfig.Builder().withAsyncApi(asyncAPI)
+                .withConnectionPool(true).build();
+        return new IntermediateClientGenerator(clientConfig);
+    }
+}
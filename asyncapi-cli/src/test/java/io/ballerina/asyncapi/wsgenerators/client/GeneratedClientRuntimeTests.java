@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.wsgenerators.client;
+
+import io.ballerina.asyncapi.cmd.websockets.AsyncApiToBallerinaGenerator;
+import io.ballerina.asyncapi.options.GenerationOptions;
+import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.asyncapi.wsgenerators.asyncapi.TestUtils.deleteDirectory;
+
+/**
+ * Test the generated clients by building them and running the Ballerina tests in {@code client/runtime} against them.
+ * The Ballerina tests start a WebSocket service of their own for the client to connect to. The tests are skipped
+ * when there is no {@code bal} command in the Ballerina distribution at {@code ballerina.home}.
+ */
+public class GeneratedClientRuntimeTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/websockets" +
+            "/asyncapi-to-ballerina/client").toAbsolutePath();
+    private static final String BALLERINA_TOML = "[package]\norg = \"asyncapi_test\"\nname = \"generated_client\"\n" +
+            "version = \"0.1.0\"\n";
+    private static final long BAL_TEST_TIMEOUT_MINUTES = 10;
+    private final PrintStream outStream = new PrintStream(PrintStream.nullOutputStream());
+    private Path packagePath;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        this.packagePath = Files.createTempDirectory("asyncapi-generated-client-" + System.nanoTime()).toRealPath();
+    }
+
+    @Test(description = "Test that closing the client ends a stream waiting for a message and stops the writer " +
+            "waiting for a message to write, and that a stream returns the timeout of next() as an error")
+    public void testCloseWhileWaiting() throws IOException, BallerinaAsyncApiExceptionWs, FormatterException,
+            InterruptedException {
+        generateClient("StreamResponse/multiple_stream_with_dispatcherStreamId.yaml",
+                new GenerationOptions.Builder().withThreads(1).withOutStream(outStream));
+        runBallerinaTests("runtime/close_while_waiting");
+    }
+
+    @Test(description = "Test the overflow policies of the pipes against a service answering with a burst of messages")
+    public void testOverflowPolicies() throws IOException, BallerinaAsyncApiExceptionWs, FormatterException,
+            InterruptedException {
+        generateClient("StreamResponse/multiple_stream_with_dispatcherStreamId.yaml",
+                new GenerationOptions.Builder().withThreads(1).withOutStream(outStream));
+        runBallerinaTests("runtime/overflow");
+    }
+
+    @Test(description = "Test that a client reconnects with backoff and writes the subscribe messages of its open " +
+            "streams again, and that it is closed once it runs out of attempts")
+    public void testReconnect() throws IOException, BallerinaAsyncApiExceptionWs, FormatterException,
+            InterruptedException {
+        generateClient("StreamResponse/multiple_stream_with_dispatcherStreamId.yaml",
+                new GenerationOptions.Builder().withThreads(1).withReconnect(true).withOutStream(outStream));
+        runBallerinaTests("runtime/reconnect");
+    }
+
+    @Test(description = "Test the policies for the requests waiting on a response when the client reconnects")
+    public void testPendingRequestPolicies() throws IOException, BallerinaAsyncApiExceptionWs, FormatterException,
+            InterruptedException {
+        generateClient("SimpleResponse/one_response_with_dispatcherStreamId.yaml",
+                new GenerationOptions.Builder().withThreads(1).withReconnect(true).withOutStream(outStream));
+        runBallerinaTests("runtime/pending_requests");
+    }
+
+    @Test(description = "Test that the pipes of a client are removed once its requests are answered, time out or " +
+            "fail, and that the sweeper removes the pipes of the responses no request waits on")
+    public void testPipeLifecycle() throws IOException, BallerinaAsyncApiExceptionWs, FormatterException,
+            InterruptedException {
+        generateClient("SimpleResponse/one_response_with_dispatcherStreamId.yaml",
+                new GenerationOptions.Builder().withThreads(1).withOutStream(outStream));
+        runBallerinaTests("runtime/pipe_lifecycle");
+    }
+
+    @Test(description = "Test that the reader routes the text and binary messages on the top level stream id of the " +
+            "message, and closes the client on a message without the stream id and the dispatcher key")
+    public void testInboundRouting() throws IOException, BallerinaAsyncApiExceptionWs, FormatterException,
+            InterruptedException {
+        generateClient("SimpleResponse/one_response_with_dispatcherStreamId.yaml",
+                new GenerationOptions.Builder().withThreads(1).withOutStream(outStream));
+        runBallerinaTests("runtime/inbound_routing");
+    }
+
+    private void generateClient(String definition, GenerationOptions.Builder options) throws IOException,
+            BallerinaAsyncApiExceptionWs, FormatterException {
+        Files.writeString(packagePath.resolve("Ballerina.toml"), BALLERINA_TOML);
+        new AsyncApiToBallerinaGenerator(options.build()).generateClient(RES_DIR.resolve(definition), packagePath);
+    }
+
+    private void runBallerinaTests(String testsDir) throws IOException, InterruptedException {
+        String ballerinaHome = System.getProperty("ballerina.home");
+        Path balCommand = ballerinaHome == null ? null : Paths.get(ballerinaHome, "bin", "bal");
+        if (balCommand == null || !Files.isExecutable(balCommand)) {
+            throw new SkipException("No bal command found in the Ballerina distribution at ballerina.home");
+        }
+        FileUtils.copyDirectory(RES_DIR.resolve(testsDir).toFile(), packagePath.resolve("tests").toFile());
+
+        Path outputPath = packagePath.resolve("bal-test.log");
+        Process process = new ProcessBuilder(balCommand.toString(), "test")
+                .directory(packagePath.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(outputPath.toFile())
+                .start();
+        if (!process.waitFor(BAL_TEST_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            Assert.fail("bal test did not complete in " + BAL_TEST_TIMEOUT_MINUTES + " minutes:\n" +
+                    Files.readString(outputPath, StandardCharsets.UTF_8));
+        }
+        Assert.assertEquals(process.exitValue(), 0, Files.readString(outputPath, StandardCharsets.UTF_8));
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+        deleteDirectory(this.packagePath);
+    }
+}
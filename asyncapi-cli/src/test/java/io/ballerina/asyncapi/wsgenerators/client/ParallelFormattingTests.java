@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.wsgenerators.client;
+
+import io.ballerina.asyncapi.cmd.websockets.AsyncApiToBallerinaGenerator;
+import io.ballerina.asyncapi.options.GenerationOptions;
+import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Tests for formatting and writing the generated client files in parallel.
+ */
+public class ParallelFormattingTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/websockets" +
+            "/asyncapi-to-ballerina/client").toAbsolutePath();
+
+    @Test(description = "Test generating the client files in parallel gives the same files as generating them " +
+            "serially")
+    public void testParallelGenerationMatchesSerialGeneration() throws IOException, BallerinaAsyncApiExceptionWs,
+            FormatterException {
+        Path definitionPath = RES_DIR.resolve("Real/kraken_websocket.yaml");
+        Path serialOutput = Files.createTempDirectory("asyncapi-serial");
+        Path parallelOutput = Files.createTempDirectory("asyncapi-parallel");
+        try {
+            List<Path> serialFiles = new AsyncApiToBallerinaGenerator(new GenerationOptions.Builder()
+                    .withIncludeTestFiles(true).withThreads(1).build())
+                    .generateClient(definitionPath, serialOutput);
+            List<Path> parallelFiles = new AsyncApiToBallerinaGenerator(new GenerationOptions.Builder()
+                    .withIncludeTestFiles(true).withThreads(4).withPrintTimings(true).build())
+                    .generateClient(definitionPath, parallelOutput);
+
+            Assert.assertEquals(parallelFiles.size(), serialFiles.size());
+            for (int i = 0; i < serialFiles.size(); i++) {
+                Path serialFile = serialFiles.get(i);
+                Path parallelFile = parallelFiles.get(i);
+                Assert.assertEquals(parallelOutput.toRealPath().relativize(parallelFile),
+                        serialOutput.toRealPath().relativize(serialFile));
+                Assert.assertEquals(Files.readAllBytes(parallelFile), Files.readAllBytes(serialFile),
+                        "Parallel generation differs from the serial generation for " + serialFile.getFileName());
+            }
+        } finally {
+            FileUtils.deleteDirectory(serialOutput.toFile());
+            FileUtils.deleteDirectory(parallelOutput.toFile());
+        }
+    }
+}
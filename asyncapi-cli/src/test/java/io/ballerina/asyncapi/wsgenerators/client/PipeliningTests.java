@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.wsgenerators.client;
+
+import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
+import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
+import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+import io.ballerina.asyncapi.websocketscore.generators.client.IntermediateClientGenerator;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.AasClientConfig;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static io.ballerina.asyncapi.wsgenerators.common.TestUtils.compareGeneratedSyntaxTreeWithExpectedSyntaxTree;
+
+/**
+ * Test the client generation with the future-returning variants of the remote functions.
+ */
+public class PipeliningTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/websockets" +
+            "/asyncapi-to-ballerina/client").toAbsolutePath();
+
+    @Test(description = "Test the remote functions of a client which pipelines the requests correlated by their ids")
+    public void testPipelining() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("SimpleResponse/one_response_with_dispatcherStreamId.yaml");
+        IntermediateClientGenerator clientGenerator = createClientGenerator(definitionPath, true);
+        SyntaxTree syntaxTree = clientGenerator.generateSyntaxTree();
+        SyntaxTree utilSyntaxTree = clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(
+                RES_DIR.resolve("baloutputs/Pipelining/one_response_with_pipelining.bal"), syntaxTree);
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(
+                RES_DIR.resolve("baloutputs/Pipelining/pipelining_util.bal"), utilSyntaxTree);
+    }
+
+    @Test(description = "Test the remote functions of a client which has no requests correlated by their ids")
+    public void testPipeliningWithoutDispatcherStreamId() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("SimpleResponse/one_response_with_no_dispatcherStreamId.yaml");
+        IntermediateClientGenerator clientGenerator = createClientGenerator(definitionPath, true);
+        SyntaxTree syntaxTree = clientGenerator.generateSyntaxTree();
+
+        Assert.assertFalse(syntaxTree.toString().contains("inFlightWindow"));
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(
+                RES_DIR.resolve("baloutputs/SimpleResponse/one_response_with_no_dispatcherStreamId.bal"), syntaxTree);
+    }
+
+    private static IntermediateClientGenerator createClientGenerator(Path definitionPath, boolean pipelining)
+            throws IOException, BallerinaAsyncApiExceptionWs {
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig clientConfig = new AasClientConfig.Builder().withAsyncApi(asyncAPI)
+                .withPipelining(pipelining).build();
+        return new IntermediateClientGenerator(clientConfig);
+    }
+}
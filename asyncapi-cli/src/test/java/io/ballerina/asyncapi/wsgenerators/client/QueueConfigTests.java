@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.wsgenerators.client;
+
+import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
+import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
+import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+import io.ballerina.asyncapi.websocketscore.generators.client.IntermediateClientGenerator;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.AasClientConfig;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.AasQueueConfig;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.OverflowPolicy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Test the generation of the queue configurations of the client.
+ */
+public class QueueConfigTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/websockets" +
+            "/asyncapi-to-ballerina/client").toAbsolutePath();
+
+    @Test(description = "Test the defaults of the queue configurations given to the generator")
+    public void testQueueConfigDefaults() throws IOException, BallerinaAsyncApiExceptionWs {
+        String source = generateClient(new AasQueueConfig(5000, AasQueueConfig.DEFAULT_PIPE_SIZE,
+                OverflowPolicy.DROP_OLDEST));
+
+        Assert.assertTrue(source.contains("decimalpipeIdleTimeout=60,QueueConfigqueueConfig={writeQueueSize:5000," +
+                "pipeOverflow:\"DROP_OLDEST\"})returnserror?{"));
+        Assert.assertTrue(source.contains("self.pipes=new(pipeIdleTimeout,queueConfig);"));
+        Assert.assertTrue(source.contains("self.writeMessageQueue=new(queueConfig.writeQueueSize);"));
+    }
+
+    @Test(description = "Test the pipe depth metrics of the client")
+    public void testPipeDepthMetrics() throws IOException, BallerinaAsyncApiExceptionWs {
+        String source = generateClient(AasQueueConfig.DEFAULT);
+
+        Assert.assertTrue(source.contains("QueueConfigqueueConfig={})returnserror?{"));
+        Assert.assertTrue(source.contains("publicisolatedfunctiongetPipeDepths()returnsmap<int>{" +
+                "returnself.pipes.getPipeDepths();}"));
+        Assert.assertTrue(source.contains("publicisolatedfunctiongetDroppedMessageCount()returnsint{" +
+                "returnself.pipes.getDroppedMessageCount();}"));
+    }
+
+    @Test(description = "Test the names of the overflow policies")
+    public void testOverflowPolicyNames() throws BallerinaAsyncApiExceptionWs {
+        Assert.assertEquals(OverflowPolicy.fromName("block"), OverflowPolicy.BLOCK);
+        Assert.assertEquals(OverflowPolicy.fromName("drop-oldest"), OverflowPolicy.DROP_OLDEST);
+        Assert.assertEquals(OverflowPolicy.fromName("DROP_NEWEST"), OverflowPolicy.DROP_NEWEST);
+        Assert.assertEquals(OverflowPolicy.fromName("Fail-Fast"), OverflowPolicy.FAIL_FAST);
+        Assert.assertThrows(BallerinaAsyncApiExceptionWs.class, () -> OverflowPolicy.fromName("drop"));
+    }
+
+    private static String generateClient(AasQueueConfig queueConfig)
+            throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("SimpleResponse/one_response_with_dispatcherStreamId.yaml");
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig clientConfig = new AasClientConfig.Builder().withAsyncApi(asyncAPI)
+                .withQueueConfig(queueConfig).build();
+        return new IntermediateClientGenerator(clientConfig).generateSyntaxTree().toSourceCode()
+                .replaceAll("\\s+", "");
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.wsgenerators.client;
+
+import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
+import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
+import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+import io.ballerina.asyncapi.websocketscore.generators.client.IntermediateClientGenerator;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.AasClientConfig;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static io.ballerina.asyncapi.wsgenerators.common.TestUtils.compareGeneratedSyntaxTreeWithExpectedSyntaxTree;
+
+/**
+ * Test the generation of the client which reconnects once its connection fails.
+ */
+public class ReconnectTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/websockets" +
+            "/asyncapi-to-ballerina/client").toAbsolutePath();
+
+    @Test(description = "Test the client which records the subscribe messages of its streams to write them again")
+    public void testReconnectWithStreams() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("StreamResponse/multiple_stream_with_dispatcherStreamId.yaml");
+        IntermediateClientGenerator clientGenerator = createClientGenerator(definitionPath);
+        SyntaxTree syntaxTree = clientGenerator.generateSyntaxTree();
+
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(
+                RES_DIR.resolve("baloutputs/Reconnect/multiple_stream_with_reconnect.bal"), syntaxTree);
+    }
+
+    @Test(description = "Test the client which records the requests correlated by their ids to fail or retry them")
+    public void testReconnectWithPendingRequests() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("SimpleResponse/one_response_with_dispatcherStreamId.yaml");
+        IntermediateClientGenerator clientGenerator = createClientGenerator(definitionPath);
+        SyntaxTree syntaxTree = clientGenerator.generateSyntaxTree();
+        SyntaxTree utilSyntaxTree = clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(
+                RES_DIR.resolve("baloutputs/Reconnect/one_response_with_reconnect.bal"), syntaxTree);
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(
+                RES_DIR.resolve("baloutputs/Reconnect/reconnect_util.bal"), utilSyntaxTree);
+    }
+
+    @Test(description = "Test the stream generators of a client which reconnects")
+    public void testReconnectStreamGenerators() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("StreamResponse/multiple_stream_with_dispatcherStreamId.yaml");
+        IntermediateClientGenerator clientGenerator = createClientGenerator(definitionPath);
+        clientGenerator.generateSyntaxTree();
+        String source = clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree().toSourceCode()
+                .replaceAll("\\s+", "");
+
+        Assert.assertTrue(source.contains("privatefinalReplayLogreplayLog;"));
+        Assert.assertTrue(source.contains("publicisolatedfunctioninit(PipesMappipes,stringpipeId,decimaltimeout," +
+                "ReplayLogreplayLog){self.pipes=pipes;self.pipeId=pipeId;self.pipe=pipes.getPipe(pipeId);" +
+                "self.timeout=timeout;self.replayLog=replayLog;}"));
+        Assert.assertTrue(source.contains("publicisolatedfunctionclose()returnserror?{" +
+                "self.replayLog.removeSubscription(self.pipeId);"));
+    }
+
+    private static IntermediateClientGenerator createClientGenerator(Path definitionPath)
+            throws IOException, BallerinaAsyncApiExceptionWs {
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig clientConfig = new AasClientConfig.Builder().withAsyncApi(asyncAPI)
+                .withReconnect(true).build();
+        return new IntermediateClientGenerator(clientConfig);
+    }
+}
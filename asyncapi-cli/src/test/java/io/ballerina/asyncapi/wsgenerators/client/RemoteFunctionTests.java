@@ -56,6 +56,20 @@ public class RemoteFunctionTests {
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPathForClient, syntaxTree);
     }
 
+    @Test(description = "Test the conversion of the requests to the messages written to the websocket")
+    public void testRequestToMessageConversion() throws IOException, BallerinaAsyncApiExceptionWs {
+        // A request which is a subtype of the message type is queued as it is, without a copy
+        String source = generateClientSource(RES_DIR.resolve(
+                "SimpleResponse/one_response_with_no_dispatcherStreamId.yaml"));
+        Assert.assertTrue(source.contains("Messagemessage=subscribe;"));
+        Assert.assertFalse(source.contains("subscribe.cloneWithType()"));
+
+        // A request which may not have the dispatcher key is converted to the message type
+        source = generateClientSource(RES_DIR.resolve("RemoteFunction/request_with_optional_dispatcher_key.yaml"));
+        Assert.assertTrue(source.contains("Message|errormessage=subscribe.cloneWithType();ifmessageiserror{"));
+        Assert.assertFalse(source.contains("cloneReadOnly()"));
+    }
+
     @Test(description = "Check whether the formatted function name are meeting ballerina coding conventions",
             dataProvider = "sampleProvider")
     public void testFunctionNameGeneration(String requestName, String expectedFunctionName) {
@@ -72,4 +86,12 @@ public class RemoteFunctionTests {
                 {"chat.media.download", "chatMediaDownload"}
         };
     }
+
+    private static String generateClientSource(Path definitionPath)
+            throws IOException, BallerinaAsyncApiExceptionWs {
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig clientConfig = new AasClientConfig.Builder().withAsyncApi(asyncAPI).build();
+        return new IntermediateClientGenerator(clientConfig).generateSyntaxTree().toSourceCode()
+                .replaceAll("\\s+", "");
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.wsgenerators.client;
+
+import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
+import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
+import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+import io.ballerina.asyncapi.websocketscore.generators.client.IntermediateClientGenerator;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.AasClientConfig;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static io.ballerina.asyncapi.wsgenerators.common.TestUtils.compareGeneratedSyntaxTreeWithExpectedSyntaxTree;
+
+/**
+ * Test the client generation with the batched writing of the queued messages.
+ */
+public class WriteBatchingTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/websockets" +
+            "/asyncapi-to-ballerina/client").toAbsolutePath();
+
+    @Test(description = "Test the writer of a client which writes the queued messages in batches")
+    public void testWriteBatching() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("SimpleResponse/one_response_with_dispatcherStreamId.yaml");
+        Path expectedPathForClient = RES_DIR.resolve("baloutputs/WriteBatching/one_response_with_write_batching.bal");
+        SyntaxTree syntaxTree = generateClient(definitionPath, true);
+
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPathForClient, syntaxTree);
+    }
+
+    @Test(description = "Test the writer of a client which writes the queued messages one at a time")
+    public void testWithoutWriteBatching() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("SimpleResponse/one_response_with_dispatcherStreamId.yaml");
+        SyntaxTree syntaxTree = generateClient(definitionPath, false);
+
+        Assert.assertFalse(syntaxTree.toString().contains("writeBatchSize"));
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(
+                RES_DIR.resolve("baloutputs/SimpleResponse/one_response_with_dispatcherStreamId.bal"), syntaxTree);
+    }
+
+    @Test(description = "Test the writer of a client which reconnects, whose batch ends once a write fails")
+    public void testWriteBatchingWithReconnect() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("SimpleResponse/one_response_with_dispatcherStreamId.yaml");
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig clientConfig = new AasClientConfig.Builder().withAsyncApi(asyncAPI)
+                .withWriteBatching(true).withReconnect(true).build();
+        String source = new IntermediateClientGenerator(clientConfig).generateSyntaxTree().toSourceCode()
+                .replaceAll("\\s+", "");
+
+        Assert.assertTrue(source.contains("websocket:Error?nextWsErr=clientEp->writeMessage(nextMessage);" +
+                "ifnextWsErriswebsocket:Error{lock{if!self.isActive{return;}}" +
+                "log:printError(\"WsError:Failedtowritemessagetotheclient\",nextWsErr);break;}"));
+        Assert.assertTrue(source.contains("ReconnectConfigreconnectConfig={},intwriteBatchSize=64," +
+                "decimalwriteLingerTime=0.001"));
+    }
+
+    private static SyntaxTree generateClient(Path definitionPath, boolean writeBatching)
+            throws IOException, BallerinaAsyncApiExceptionWs {
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig clientConfig = new AasClientConfig.Builder().withAsyncApi(asyncAPI)
+                .withWriteBatching(writeBatching).build();
+        return new IntermediateClientGenerator(clientConfig).generateSyntaxTree();
+    }
+}
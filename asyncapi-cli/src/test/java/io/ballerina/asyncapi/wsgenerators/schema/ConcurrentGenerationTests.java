@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.wsgenerators.schema;
+
+import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
+import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
+import io.ballerina.asyncapi.websocketscore.generators.client.IntermediateClientGenerator;
+import io.ballerina.asyncapi.websocketscore.generators.client.model.AasClientConfig;
+import io.ballerina.asyncapi.websocketscore.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests that generations of different AsyncAPI definitions running at the same time do not affect each other.
+ */
+public class ConcurrentGenerationTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/websockets" +
+            "/asyncapi-to-ballerina").toAbsolutePath();
+    private static final int MIN_SPEC_COUNT = 50;
+    private static final int THREAD_COUNT = 16;
+    private static final int ROUNDS = 3;
+
+    @Test(description = "Test generating different definitions in parallel gives the same output as in serial")
+    public void testParallelGenerationMatchesSerialGeneration() throws Exception {
+        List<Path> specs = getSpecs();
+        Assert.assertTrue(specs.size() >= MIN_SPEC_COUNT, "Expected at least " + MIN_SPEC_COUNT +
+                " definitions, but found " + specs.size());
+        List<String> expectedOutputs = new ArrayList<>();
+        for (Path spec : specs) {
+            expectedOutputs.add(generate(spec));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                // Release all the generations of a round together, so that they overlap as much as possible
+                CountDownLatch startSignal = new CountDownLatch(1);
+                List<Future<String>> outputs = new ArrayList<>();
+                for (Path spec : specs) {
+                    outputs.add(executor.submit(() -> {
+                        startSignal.await();
+                        return generate(spec);
+                    }));
+                }
+                startSignal.countDown();
+                for (int i = 0; i < specs.size(); i++) {
+                    Assert.assertEquals(outputs.get(i).get(), expectedOutputs.get(i),
+                            "Parallel generation differs from the serial generation for " + specs.get(i));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Path> getSpecs() throws IOException {
+        List<Path> specs = new ArrayList<>();
+        for (String dir : List.of("schema", "client")) {
+            try (Stream<Path> files = Files.walk(RES_DIR.resolve(dir))) {
+                specs.addAll(files.filter(Files::isRegularFile)
+                        .filter(file -> file.toString().endsWith(".yaml") || file.toString().endsWith(".yml"))
+                        .sorted()
+                        .collect(Collectors.toList()));
+            }
+        }
+        return specs;
+    }
+
+    /**
+     * Generates the client and the types the same way as the tool, and returns the generated sources. A failed
+     * generation returns the failure, since it has to fail the same way in parallel too.
+     */
+    private static String generate(Path spec) {
+        StringBuilder output = new StringBuilder();
+        AsyncApi25DocumentImpl asyncAPI;
+        try {
+            asyncAPI = GeneratorUtils.normalizeAsyncAPI(spec);
+        } catch (Exception e) {
+            return "Normalization failed: " + e.getMessage();
+        }
+        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>();
+        BallerinaTypesGenerator typesGenerator;
+        try {
+            AasClientConfig clientConfig = new AasClientConfig.Builder().withAsyncApi(asyncAPI).build();
+            IntermediateClientGenerator clientGenerator = new IntermediateClientGenerator(clientConfig);
+            output.append(clientGenerator.generateSyntaxTree().toSourceCode());
+            output.append(clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree().toSourceCode());
+            preGeneratedTypeDefNodes.addAll(
+                    clientGenerator.getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
+            preGeneratedTypeDefNodes.addAll(clientGenerator.getTypeDefinitionNodeList());
+            typesGenerator = new BallerinaTypesGenerator(clientGenerator.getGenerationContext(),
+                    preGeneratedTypeDefNodes);
+        } catch (Exception e) {
+            output.append("Client generation failed: ").append(e.getMessage());
+            typesGenerator = new BallerinaTypesGenerator(asyncAPI);
+        }
+        try {
+            output.append(typesGenerator.generateSyntaxTree().toSourceCode());
+        } catch (Exception e) {
+            output.append("Types generation failed: ").append(e.getMessage());
+        }
+        return output.toString();
+    }
+}
@@ -22,26 +22,26 @@ service class DispatcherService {
 
     // We are not using the (@http:payload GenericEventWrapperEvent g) notation because of a bug in Ballerina.
     // Issue: https://github.com/ballerina-platform/ballerina-lang/issues/32859
+    // The payload is routed by its event identifier and then bound once, into the type of the matched event only.
     resource function post .(http:Caller caller, http:Request request) returns error? {
         json payload = check request.getJsonPayload();
-        GenericDataType genericDataType = check payload.cloneWithType(GenericDataType);
-        check self.matchRemoteFunc(genericDataType);
+        check self.matchRemoteFunc(payload);
         check caller->respond(http:STATUS_OK);
     }
 
-    private function matchRemoteFunc(GenericDataType genericDataType) returns error? {
-        match genericDataType.event.'type {
+    private function matchRemoteFunc(json payload) returns error? {
+        match check payload.event.'type {
             "app_mention_added" => {
-                check self.executeRemoteFunc(genericDataType, "app_mention_added", "AppMentionHandlingService", "onAppMentionAdded");
+                check self.executeRemoteFunc(check payload.cloneWithType(GenericEventWrapper), "app_mention_added", "AppMentionHandlingService", "onAppMentionAdded");
             }
             "app_mention_removed" => {
-                check self.executeRemoteFunc(genericDataType, "app_mention_removed", "AppMentionHandlingService", "onAppMentionRemoved");
+                check self.executeRemoteFunc(check payload.cloneWithType(GenericEventWrapper), "app_mention_removed", "AppMentionHandlingService", "onAppMentionRemoved");
             }
             "app_rate_limited" => {
-                check self.executeRemoteFunc(genericDataType, "app_rate_limited", "AppRateLimitedHandlingService", "onAppRateLimited");
+                check self.executeRemoteFunc(check payload.cloneWithType(GenericEventWrapper), "app_rate_limited", "AppRateLimitedHandlingService", "onAppRateLimited");
             }
             "app_created" => {
-                check self.executeRemoteFunc(genericDataType, "app_created", "AppCreatedHandlingService", "onAppCreated");
+                check self.executeRemoteFunc(check payload.cloneWithType(CustomTestSchema), "app_created", "AppCreatedHandlingService", "onAppCreated");
             }
         }
     }
@@ -0,0 +1,520 @@
+import xlibb/pipe;
+import ballerina/time;
+import ballerina/lang.runtime;
+
+# Policy for a received message whose pipe is full. `BLOCK` waits for a free place in the pipe up to the pipe timeout
+# and closes the client once none was freed, `DROP_OLDEST` drops the oldest message of the pipe to make room for the
+# message, `DROP_NEWEST` drops the message, and `FAIL_FAST` closes the pipe, so that the remote function consuming from
+# it fails and the stream consuming from it ends right away. The policies other than `BLOCK` do not hold up the
+# reader, hence a consumer falling behind does not delay the messages of the other pipes.
+public type OverflowPolicy "BLOCK"|"DROP_OLDEST"|"DROP_NEWEST"|"FAIL_FAST";
+
+# Configurations of the write queue and of the pipes of the received messages of a client.
+#
+# + writeQueueSize - Maximum number of messages waiting to be written
+# + pipeSize - Maximum number of received messages waiting in a pipe to be consumed
+# + pipeOverflow - Policy for a received message whose pipe is full
+# + pipeTimeout - Time in seconds to wait for a free place in a full pipe with the `BLOCK` policy
+public type QueueConfig record {|
+    int writeQueueSize = 1000;
+    int pipeSize = 100;
+    OverflowPolicy pipeOverflow = "BLOCK";
+    decimal pipeTimeout = 5;
+|};
+
+# PipesMap class to handle generated pipes
+#
+# The pipes are spread over 16 stripes by their ids, each of which is guarded by a lock of its own, hence the reader
+# and the remote functions accessing the pipes of different ids do not wait on each other.
+#
+# A pipe created to route a received message stays unclaimed until a consumer gets it. A sweeper of the map closes and
+# removes the unclaimed pipes older than the idle timeout once every idle timeout, until the pipes of the map are
+# removed along with the client, so that the messages no consumer waits for, e.g. the late responses of timed out
+# requests, do not pile up.
+#
+# A received message which does not fit into its pipe is handled by the overflow policy of the queue configurations.
+public isolated class PipesMap {
+    private final PipesStripe stripe0 = new;
+    private final PipesStripe stripe1 = new;
+    private final PipesStripe stripe2 = new;
+    private final PipesStripe stripe3 = new;
+    private final PipesStripe stripe4 = new;
+    private final PipesStripe stripe5 = new;
+    private final PipesStripe stripe6 = new;
+    private final PipesStripe stripe7 = new;
+    private final PipesStripe stripe8 = new;
+    private final PipesStripe stripe9 = new;
+    private final PipesStripe stripe10 = new;
+    private final PipesStripe stripe11 = new;
+    private final PipesStripe stripe12 = new;
+    private final PipesStripe stripe13 = new;
+    private final PipesStripe stripe14 = new;
+    private final PipesStripe stripe15 = new;
+    private final decimal idleTimeout;
+    private final readonly & QueueConfig queueConfig;
+    private boolean isClosed = false;
+
+    # Initializes the pipes map.
+    #
+    # + idleTimeout - Time in seconds after which an unclaimed pipe is removed
+    # + queueConfig - Configurations of the size of the pipes and of the policy for a full pipe
+    public isolated function init(decimal idleTimeout = 60, QueueConfig queueConfig = {}) {
+        self.idleTimeout = idleTimeout;
+        self.queueConfig = queueConfig.cloneReadOnly();
+        self.startSweeping();
+    }
+
+    public isolated function addPipe(string id, pipe:Pipe pipe) {
+        self.getStripe(id).addPipe(id, pipe);
+    }
+
+    # Gets the pipe of the given id to consume from, which claims the pipe.
+    #
+    # + id - Id of the pipe
+    # + return - Pipe of the id
+    public isolated function getPipe(string id) returns pipe:Pipe {
+        return self.getStripe(id).getPipe(id, self.queueConfig.pipeSize);
+    }
+
+    # Gets the pipe of the given id to produce a received message to, which leaves a new pipe unclaimed.
+    #
+    # + id - Id of the pipe
+    # + return - Pipe of the id
+    public isolated function getPipeToProduce(string id) returns pipe:Pipe {
+        return self.getStripe(id).getPipeToProduce(id, self.queueConfig.pipeSize);
+    }
+
+    # Produces a received message to the pipe of the given id, or handles it by the overflow policy once the pipe is
+    # full. A message to a pipe which was closed in the meantime, e.g. by a stream closed by its consumer, is dropped.
+    #
+    # + id - Id of the pipe
+    # + message - Text of the received message
+    # + return - An error if no place was freed in the pipe within the pipe timeout with the `BLOCK` policy
+    public isolated function produce(string id, string message) returns pipe:Error? {
+        PipesStripe stripe = self.getStripe(id);
+        pipe:Pipe pipe = stripe.getPipeToProduce(id, self.queueConfig.pipeSize);
+        OverflowPolicy overflow = self.queueConfig.pipeOverflow;
+        pipe:Error? pipeErr = pipe.produce(message, overflow == "BLOCK" ? self.queueConfig.pipeTimeout : 0);
+        if pipeErr is () || pipe.isClosed() {
+            return;
+        }
+        if overflow == "BLOCK" {
+            return pipeErr;
+        }
+        if overflow == "DROP_OLDEST" {
+            anydata|pipe:Error oldest = pipe.consume(0);
+            pipe:Error? retryErr = pipe.produce(message, 0);
+            if retryErr is () {
+                if oldest is anydata {
+                    stripe.countDroppedMessage();
+                }
+                return;
+            }
+        } else if overflow == "FAIL_FAST" {
+            _ = stripe.takePipe(id);
+            check pipe.immediateClose();
+        }
+        stripe.countDroppedMessage();
+    }
+
+    public isolated function removePipe(string id) returns error? {
+        pipe:Pipe? pipe = self.getStripe(id).takePipe(id);
+        if pipe is pipe:Pipe {
+            check pipe.gracefulClose();
+        }
+    }
+
+    public isolated function removePipes() returns error? {
+        lock {
+            self.isClosed = true;
+        }
+        foreach PipesStripe stripe in self.getStripes() {
+            check stripe.removePipes();
+        }
+    }
+
+    # Gets the number of pipes in the map.
+    #
+    # + return - Number of pipes
+    public isolated function getPipeCount() returns int {
+        int pipeCount = 0;
+        foreach PipesStripe stripe in self.getStripes() {
+            pipeCount += stripe.getPipeCount();
+        }
+        return pipeCount;
+    }
+
+    # Gets the number of messages waiting to be consumed in each pipe of the map.
+    #
+    # + return - Number of messages in the pipe of each id
+    public isolated function getPipeDepths() returns map<int> {
+        map<int> depths = {};
+        foreach PipesStripe stripe in self.getStripes() {
+            foreach [string, int] [id, depth] in stripe.getPipeDepths().entries() {
+                depths[id] = depth;
+            }
+        }
+        return depths;
+    }
+
+    # Gets the number of received messages dropped by the overflow policy.
+    #
+    # + return - Number of dropped messages
+    public isolated function getDroppedMessageCount() returns int {
+        int droppedMessages = 0;
+        foreach PipesStripe stripe in self.getStripes() {
+            droppedMessages += stripe.getDroppedMessageCount();
+        }
+        return droppedMessages;
+    }
+
+    # Gets the stripe of the pipe of the given id, which is picked from the last 8 characters of the id, as the ids
+    # of the requests differ at their ends.
+    #
+    # + id - Id of the pipe
+    # + return - Stripe of the id
+    isolated function getStripe(string id) returns PipesStripe {
+        int stripe = 0;
+        foreach int i in int:max(0, id.length() - 8) ..< id.length() {
+            stripe = (stripe * 31 + id.getCodePoint(i)) % 16;
+        }
+        match stripe {
+            0 => {
+                return self.stripe0;
+            }
+            1 => {
+                return self.stripe1;
+            }
+            2 => {
+                return self.stripe2;
+            }
+            3 => {
+                return self.stripe3;
+            }
+            4 => {
+                return self.stripe4;
+            }
+            5 => {
+                return self.stripe5;
+            }
+            6 => {
+                return self.stripe6;
+            }
+            7 => {
+                return self.stripe7;
+            }
+            8 => {
+                return self.stripe8;
+            }
+            9 => {
+                return self.stripe9;
+            }
+            10 => {
+                return self.stripe10;
+            }
+            11 => {
+                return self.stripe11;
+            }
+            12 => {
+                return self.stripe12;
+            }
+            13 => {
+                return self.stripe13;
+            }
+            14 => {
+                return self.stripe14;
+            }
+        }
+        return self.stripe15;
+    }
+
+    isolated function getStripes() returns PipesStripe[] {
+        return [self.stripe0, self.stripe1, self.stripe2, self.stripe3, self.stripe4, self.stripe5, self.stripe6,
+            self.stripe7, self.stripe8, self.stripe9, self.stripe10, self.stripe11, self.stripe12, self.stripe13,
+            self.stripe14, self.stripe15];
+    }
+
+    # Removes the unclaimed pipes older than the idle timeout once every idle timeout, until the pipes of the map are
+    # removed.
+    isolated function startSweeping() {
+        worker sweepPipes {
+            while true {
+                runtime:sleep(self.idleTimeout);
+                lock {
+                    if self.isClosed {
+                        return;
+                    }
+                }
+                decimal createdBefore = time:monotonicNow() - self.idleTimeout;
+                foreach PipesStripe stripe in self.getStripes() {
+                    stripe.removeUnclaimedPipes(createdBefore);
+                }
+            }
+        }
+    }
+}
+
+# PipesStripe class to handle the pipes of a stripe of a PipesMap
+isolated class PipesStripe {
+    private final map<pipe:Pipe> pipes = {};
+    private final map<decimal> unclaimedPipes = {};
+    private int droppedMessages = 0;
+
+    isolated function addPipe(string id, pipe:Pipe pipe) {
+        lock {
+            self.pipes[id] = pipe;
+        }
+    }
+
+    isolated function getPipe(string id, int pipeSize) returns pipe:Pipe {
+        lock {
+            _ = self.unclaimedPipes.removeIfHasKey(id);
+            pipe:Pipe? pipe = self.pipes[id];
+            if pipe is pipe:Pipe {
+                return pipe;
+            }
+            pipe:Pipe newPipe = new (pipeSize);
+            self.pipes[id] = newPipe;
+            return newPipe;
+        }
+    }
+
+    isolated function getPipeToProduce(string id, int pipeSize) returns pipe:Pipe {
+        lock {
+            pipe:Pipe? pipe = self.pipes[id];
+            if pipe is pipe:Pipe {
+                return pipe;
+            }
+            pipe:Pipe newPipe = new (pipeSize);
+            self.pipes[id] = newPipe;
+            self.unclaimedPipes[id] = time:monotonicNow();
+            return newPipe;
+        }
+    }
+
+    # Takes the pipe of the given id out of the stripe, without closing it.
+    #
+    # + id - Id of the pipe
+    # + return - Pipe of the id, or nil if there is no pipe of the id
+    isolated function takePipe(string id) returns pipe:Pipe? {
+        lock {
+            _ = self.unclaimedPipes.removeIfHasKey(id);
+            return self.pipes.removeIfHasKey(id);
+        }
+    }
+
+    isolated function removePipes() returns error? {
+        lock {
+            foreach [string, pipe:Pipe] [id, pipe] in self.pipes.entries() {
+                if self.unclaimedPipes.hasKey(id) {
+                    // No consumer waits on an unclaimed pipe, hence it is closed right away along with its messages
+                    check pipe.immediateClose();
+                } else {
+                    check pipe.gracefulClose();
+                }
+            }
+            self.pipes.removeAll();
+            self.unclaimedPipes.removeAll();
+        }
+    }
+
+    # Closes and removes the pipes which are unclaimed since the given time. No consumer waits on them, hence they are
+    # closed right away along with the messages in them.
+    #
+    # + createdBefore - Monotonic time before which the pipes to remove were created
+    isolated function removeUnclaimedPipes(decimal createdBefore) {
+        lock {
+            foreach [string, decimal] [id, createdAt] in self.unclaimedPipes.entries() {
+                if createdAt < createdBefore {
+                    _ = self.unclaimedPipes.remove(id);
+                    pipe:Pipe? pipe = self.pipes.removeIfHasKey(id);
+                    if pipe is pipe:Pipe {
+                        // A pipe is taken out of the stripe before it is closed anywhere else, hence this close does
+                        // not fail, and the pipe is out of the stripe regardless
+                        pipe:Error? closeErr = pipe.immediateClose();
+                    }
+                }
+            }
+        }
+    }
+
+    isolated function getPipeCount() returns int {
+        lock {
+            return self.pipes.length();
+        }
+    }
+
+    isolated function getPipeDepths() returns map<int> {
+        lock {
+            map<int> depths = {};
+            foreach [string, pipe:Pipe] [id, pipe] in self.pipes.entries() {
+                depths[id] = pipe.size();
+            }
+            return depths.clone();
+        }
+    }
+
+    isolated function countDroppedMessage() {
+        lock {
+            self.droppedMessages += 1;
+        }
+    }
+
+    isolated function getDroppedMessageCount() returns int {
+        lock {
+            return self.droppedMessages;
+        }
+    }
+}
+
+# Gets the id of the pipe a received message is routed to, i.e. the string value of the stream id key of the message,
+# or the value of its dispatcher key if it has none. The values are scanned off the top-level keys of the text of the
+# message rather than parsed, hence the message is parsed only once, by its consumer, into the type of its response.
+# A message whose value of either key is escaped is parsed as JSON instead. The keys are matched as they are written.
+#
+# + message - Text of the received message
+# + dispatcherKey - Key of the type of the message
+# + streamIdKey - Key of the stream id of the message, if the messages are correlated by their ids
+# + return - Id of the pipe, or an error if the message has no string value for the dispatcher key
+isolated function getPipeId(string message, string dispatcherKey, string? streamIdKey = ()) returns string|error {
+    string? dispatcherValue = ();
+    int keyStart = 0;
+    int keyEnd = 0;
+    boolean isValue = false;
+    int depth = 0;
+    int index = 0;
+    while index < message.length() {
+        int codePoint = message.getCodePoint(index);
+        if codePoint == 34 {
+            // `"` opens a string, which is skipped as a whole, as it may hold any of the characters scanned for
+            int end = getJsonStringEnd(message, index + 1);
+            if end < 0 {
+                break;
+            }
+            if depth == 1 && !isValue {
+                keyStart = index + 1;
+                keyEnd = end;
+            } else if depth == 1 {
+                string key = message.substring(keyStart, keyEnd);
+                if key == streamIdKey || key == dispatcherKey {
+                    string value = message.substring(index + 1, end);
+                    if value.includes("\\") {
+                        return getPipeIdOfJson(message, dispatcherKey, streamIdKey);
+                    }
+                    if key == streamIdKey || streamIdKey is () {
+                        return value;
+                    }
+                    dispatcherValue = value;
+                }
+            }
+            index = end + 1;
+            continue;
+        }
+        if codePoint == 123 || codePoint == 91 {
+            // `{` or `[`
+            depth += 1;
+        } else if codePoint == 125 || codePoint == 93 {
+            // `}` or `]`
+            depth -= 1;
+        } else if depth == 1 && codePoint == 58 {
+            // `:` ends a top-level key
+            isValue = true;
+        } else if depth == 1 && codePoint == 44 {
+            // `,` ends a top-level value
+            isValue = false;
+        }
+        index += 1;
+    }
+    if dispatcherValue is string {
+        return dispatcherValue;
+    }
+    return error(string `The message has no string value for the dispatcher key ${dispatcherKey}`);
+}
+
+# Gets the index of the `"` which ends a JSON string.
+#
+# + text - Text holding the string
+# + 'from - Index of the first character of the string, after its opening `"`
+# + return - Index of the closing `"`, or -1 if the string is not closed
+isolated function getJsonStringEnd(string text, int 'from) returns int {
+    int? quote = text.indexOf("\"", 'from);
+    while quote is int {
+        // A `"` preceded by an odd number of `\` is escaped
+        int backslashes = 0;
+        while text.getCodePoint(quote - backslashes - 1) == 92 {
+            backslashes += 1;
+        }
+        if backslashes % 2 == 0 {
+            return quote;
+        }
+        quote = text.indexOf("\"", quote + 1);
+    }
+    return -1;
+}
+
+# Gets the id of the pipe a received message is routed to by parsing the message as JSON.
+#
+# + message - Text of the received message
+# + dispatcherKey - Key of the type of the message
+# + streamIdKey - Key of the stream id of the message, if the messages are correlated by their ids
+# + return - Id of the pipe, or an error if the message is not a JSON object with a string value for the dispatcher key
+isolated function getPipeIdOfJson(string message, string dispatcherKey, string? streamIdKey) returns string|error {
+    map<json> fields = check (check message.fromJsonString()).ensureType();
+    json streamId = streamIdKey is string ? fields[streamIdKey] : ();
+    if streamId is string {
+        return streamId;
+    }
+    return fields[dispatcherKey].ensureType();
+}
+
+# Routing of the remote function calls of a client pool over its connections. `ROUND_ROBIN` routes the calls to the
+# connections in turns, while `LEAST_IN_FLIGHT` routes a call to the connection with the fewest calls in progress.
+public type PoolRouting "ROUND_ROBIN"|"LEAST_IN_FLIGHT";
+
+# ConnectionSelector class to select the connection of a client pool a remote function call is routed to
+#
+# The calls in progress are counted per connection from the selection of the connection until the call is released.
+# Connections with the same count are selected in turns, hence both routings spread the calls evenly while the
+# connections are equally loaded.
+isolated class ConnectionSelector {
+    private final PoolRouting routing;
+    private final int[] inFlightCalls = [];
+    private int nextConnection = 0;
+
+    isolated function init(int connections, PoolRouting routing) {
+        self.routing = routing;
+        lock {
+            foreach int i in 0 ..< connections {
+                self.inFlightCalls.push(0);
+            }
+        }
+    }
+
+    # Selects the connection to route a call to and counts the call as in progress on it.
+    #
+    # + return - Index of the selected connection
+    isolated function select() returns int {
+        lock {
+            int selected = self.nextConnection;
+            if self.routing == "LEAST_IN_FLIGHT" {
+                foreach int i in 0 ..< self.inFlightCalls.length() {
+                    if self.inFlightCalls[i] < self.inFlightCalls[selected] {
+                        selected = i;
+                    }
+                }
+            }
+            self.nextConnection = (selected + 1) % self.inFlightCalls.length();
+            self.inFlightCalls[selected] += 1;
+            return selected;
+        }
+    }
+
+    # Counts a call routed to a connection as completed.
+    #
+    # + connection - Index of the connection the call was routed to
+    isolated function release(int connection) {
+        lock {
+            self.inFlightCalls[connection] -= 1;
+        }
+    }
+}
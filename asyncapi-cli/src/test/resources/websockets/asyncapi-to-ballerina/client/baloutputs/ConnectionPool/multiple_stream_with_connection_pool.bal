@@ -0,0 +1,357 @@
+import ballerina/log;
+import ballerina/websocket;
+
+import xlibb/pipe;
+
+public client isolated class ChatClient {
+    private final websocket:Client clientEp;
+    private final pipe:Pipe writeMessageQueue;
+    private final PipesMap pipes;
+    private final StreamGeneratorsMap streamGenerators;
+    private boolean isActive;
+
+    # Gets invoked to initialize the `connector`.
+    #
+    # + config - The configurations to be used when initializing the `connector`
+    # + serviceUrl - URL of the target service
+    # + pipeIdleTimeout - Time in seconds after which a pipe created for a received message, which no remote function has consumed from, is removed
+    # + queueConfig - Configurations of the write queue and of the pipes of the received messages
+    # + return - An error if connector initialization failed
+    public isolated function init(websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws://localhost:9090/chat", decimal pipeIdleTimeout = 60, QueueConfig queueConfig = {}) returns error? {
+        if queueConfig.writeQueueSize < 1 || queueConfig.pipeSize < 1 {
+            return error("The sizes of the write queue and of the pipes should be at least 1");
+        }
+        self.pipes = new (pipeIdleTimeout, queueConfig);
+        self.streamGenerators = new ();
+        self.writeMessageQueue = new (queueConfig.writeQueueSize);
+        websocket:Client websocketEp = check new (serviceUrl, clientConfig);
+        self.clientEp = websocketEp;
+        self.isActive = true;
+        self.startMessageWriting();
+        self.startMessageReading();
+        return;
+    }
+
+    # Used to write messages to the websocket.
+    #
+    private isolated function startMessageWriting() {
+        worker writeMessage {
+            while true {
+                Message|pipe:Error message = self.writeMessageQueue.consume(-1);
+                lock {
+                    if !self.isActive {
+                        return;
+                    }
+                }
+                if message is pipe:Error {
+                    log:printError("PipeError: Failed to consume message from the pipe", message);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                websocket:Error? wsErr = self.clientEp->writeMessage(message);
+                if wsErr is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("WsError: Failed to write message to the client", wsErr);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+            }
+        }
+    }
+
+    # Used to read messages from the websocket.
+    #
+    private isolated function startMessageReading() {
+        worker readMessage {
+            while true {
+                string|byte[]|websocket:Error message = self.clientEp->readMessage();
+                if message is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("WsError: Failed to read message from the client", message);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                string|error text = message is string ? message : string:fromBytes(message);
+                if text is error {
+                    log:printError("DataBindingError: Failed to decode the message", text);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                string|error pipeId = getPipeId(text, "type", "id");
+                if pipeId is error {
+                    log:printError("DataBindingError: Failed to read the dispatcher key of the message", pipeId);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                pipe:Error? pipeErr = self.pipes.produce(pipeId, text);
+                if pipeErr is pipe:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("PipeError: Failed to produce message to the pipe", pipeErr);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+            }
+        }
+    }
+
+    remote isolated function doTesting(Testing testing, decimal timeout) returns stream<NextMessage,error?>|error {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = testing;
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+        stream<NextMessage,error?> streamMessages;
+        lock {
+            NextMessageStreamGenerator streamGenerator = new (self.pipes, testing.id, timeout);
+            self.streamGenerators.addStreamGenerator(streamGenerator);
+            streamMessages = new (streamGenerator);
+        }
+        return streamMessages;
+    }
+
+    remote isolated function doSubscribeMessage(SubscribeMessage subscribeMessage, decimal timeout) returns stream<NextMessage|CompleteMessage|ErrorMessage,error?>|error {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = subscribeMessage;
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+        stream<NextMessage|CompleteMessage|ErrorMessage,error?> streamMessages;
+        lock {
+            NextMessageCompleteMessageErrorMessageStreamGenerator streamGenerator = new (self.pipes, subscribeMessage.id, timeout);
+            self.streamGenerators.addStreamGenerator(streamGenerator);
+            streamMessages = new (streamGenerator);
+        }
+        return streamMessages;
+    }
+
+    remote isolated function doPingMessage(PingMessage pingMessage, decimal timeout) returns PongMessage|error {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = pingMessage;
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+        string|pipe:Error responseMessage = self.pipes.getPipe("pingMessage").consume(timeout);
+        if responseMessage is pipe:Error {
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in consuming message", responseMessage);
+        }
+        PongMessage|error pongMessage = responseMessage.fromJsonStringWithType();
+        if pongMessage is error {
+            self.attemptToCloseConnection();
+            return error("DataBindingError: Error in cloning message", pongMessage);
+        }
+        return pongMessage;
+    }
+
+    remote isolated function doPongMessage(PongMessage pongMessage, decimal timeout) returns error? {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = pongMessage;
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+    }
+
+    remote isolated function doConnectionInitMessage(ConnectionInitMessage connectionInitMessage, decimal timeout) returns ConnectionAckMessage|error {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = connectionInitMessage;
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+        string|pipe:Error responseMessage = self.pipes.getPipe("connectionInitMessage").consume(timeout);
+        if responseMessage is pipe:Error {
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in consuming message", responseMessage);
+        }
+        ConnectionAckMessage|error connectionAckMessage = responseMessage.fromJsonStringWithType();
+        if connectionAckMessage is error {
+            self.attemptToCloseConnection();
+            return error("DataBindingError: Error in cloning message", connectionAckMessage);
+        }
+        return connectionAckMessage;
+    }
+
+    remote isolated function doCompleteMessage(CompleteMessage completeMessage, decimal timeout) returns error? {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = completeMessage;
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+    }
+
+    # Gets the number of pipes the client holds to route the received messages.
+    public isolated function getPipeCount() returns int {
+        return self.pipes.getPipeCount();
+    }
+
+    # Gets the number of received messages waiting to be consumed in each pipe of the client, by the id of the pipe.
+    public isolated function getPipeDepths() returns map<int> {
+        return self.pipes.getPipeDepths();
+    }
+
+    # Gets the number of received messages the client dropped as their pipes were full.
+    public isolated function getDroppedMessageCount() returns int {
+        return self.pipes.getDroppedMessageCount();
+    }
+
+    isolated function attemptToCloseConnection() {
+        error? connectionClose = self->connectionClose();
+        if connectionClose is error {
+            log:printError("ConnectionError", connectionClose);
+        }
+    }
+
+    remote isolated function connectionClose() returns error? {
+        lock {
+            self.isActive = false;
+            check self.writeMessageQueue.immediateClose();
+            check self.pipes.removePipes();
+            check self.streamGenerators.removeStreamGenerators();
+            check self.clientEp->close();
+        }
+    };
+}
+
+# Pool of connections of the `ChatClient`, which spreads the remote function calls over the connections.
+public client isolated class ChatClientPool {
+    private final ChatClient[] connections = [];
+    private final ConnectionSelector selector;
+
+    # Gets invoked to initialize the pool of connections of the `connector`.
+    #
+    # + config - The configurations to be used when initializing the `connector`
+    # + serviceUrl - URL of the target service
+    # + pipeIdleTimeout - Time in seconds after which a pipe created for a received message, which no remote function has consumed from, is removed
+    # + queueConfig - Configurations of the write queue and of the pipes of the received messages
+    # + poolSize - Number of connections of the pool
+    # + routing - Routing of the remote function calls over the connections
+    # + return - An error if connector initialization failed
+    public isolated function init(websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws://localhost:9090/chat", decimal pipeIdleTimeout = 60, QueueConfig queueConfig = {}, int poolSize = 4, PoolRouting routing = "ROUND_ROBIN") returns error? {
+        if poolSize < 1 {
+            return error("The pool size should be at least 1");
+        }
+        self.selector = new (poolSize, routing);
+        foreach int i in 0 ..< poolSize {
+            ChatClient|error connection = new (clientConfig, serviceUrl, pipeIdleTimeout, queueConfig);
+            if connection is error {
+                error? closeErr = self->connectionClose();
+                if closeErr is error {
+                    log:printError("ConnectionError: Failed to close the connections of the pool", closeErr);
+                }
+                return connection;
+            }
+            lock {
+                self.connections.push(connection);
+            }
+        }
+    }
+
+    remote isolated function doTesting(Testing testing, decimal timeout) returns stream<NextMessage,error?>|error {
+        ChatClient connection = self.getConnection(0);
+        return connection->doTesting(testing, timeout);
+    }
+
+    remote isolated function doSubscribeMessage(SubscribeMessage subscribeMessage, decimal timeout) returns stream<NextMessage|CompleteMessage|ErrorMessage,error?>|error {
+        ChatClient connection = self.getConnection(0);
+        return connection->doSubscribeMessage(subscribeMessage, timeout);
+    }
+
+    remote isolated function doPingMessage(PingMessage pingMessage, decimal timeout) returns PongMessage|error {
+        int index = self.selector.select();
+        ChatClient connection = self.getConnection(index);
+        PongMessage|error result = connection->doPingMessage(pingMessage, timeout);
+        self.selector.release(index);
+        return result;
+    }
+
+    remote isolated function doPongMessage(PongMessage pongMessage, decimal timeout) returns error? {
+        int index = self.selector.select();
+        ChatClient connection = self.getConnection(index);
+        error? result = connection->doPongMessage(pongMessage, timeout);
+        self.selector.release(index);
+        return result;
+    }
+
+    remote isolated function doConnectionInitMessage(ConnectionInitMessage connectionInitMessage, decimal timeout) returns ConnectionAckMessage|error {
+        int index = self.selector.select();
+        ChatClient connection = self.getConnection(index);
+        ConnectionAckMessage|error result = connection->doConnectionInitMessage(connectionInitMessage, timeout);
+        self.selector.release(index);
+        return result;
+    }
+
+    remote isolated function doCompleteMessage(CompleteMessage completeMessage, decimal timeout) returns error? {
+        int index = self.selector.select();
+        ChatClient connection = self.getConnection(index);
+        error? result = connection->doCompleteMessage(completeMessage, timeout);
+        self.selector.release(index);
+        return result;
+    }
+
+    remote isolated function connectionClose() returns error? {
+        int connections = self.getConnectionCount();
+        foreach int i in 0 ..< connections {
+            ChatClient connection = self.getConnection(i);
+            check connection->connectionClose();
+        }
+    }
+
+    private isolated function getConnection(int index) returns ChatClient {
+        lock {
+            return self.connections[index];
+        }
+    }
+
+    private isolated function getConnectionCount() returns int {
+        lock {
+            return self.connections.length();
+        }
+    }
+}
@@ -13,7 +13,7 @@ public type HeaderParams record {|
     int units = 12;
 |};
 
-public type Message readonly & record {string event;};
+public type Message record {string event;};
 
 public type MessageWithId readonly & record {string event; string id;};
 
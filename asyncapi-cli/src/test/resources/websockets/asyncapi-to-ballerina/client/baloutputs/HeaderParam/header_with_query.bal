@@ -13,12 +13,17 @@ public client isolated class PayloadVv1Client {
     #
     # + config - The configurations to be used when initializing the `connector`
     # + serviceUrl - URL of the target service
+    # + pipeIdleTimeout - Time in seconds after which a pipe created for a received message, which no remote function has consumed from, is removed
+    # + queueConfig - Configurations of the write queue and of the pipes of the received messages
     # + return - An error if connector initialization failed
     # + queryParams - query parameters
     # + headerParams - header parameters
-    public isolated function init(HeaderParams headerParams, QueryParams queryParams, websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws://localhost:9090/payloadV") returns error? {
-        self.pipes = new ();
-        self.writeMessageQueue = new (1000);
+    public isolated function init(HeaderParams headerParams, QueryParams queryParams, websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws://localhost:9090/payloadV", decimal pipeIdleTimeout = 60, QueueConfig queueConfig = {}) returns error? {
+        if queueConfig.writeQueueSize < 1 || queueConfig.pipeSize < 1 {
+            return error("The sizes of the write queue and of the pipes should be at least 1");
+        }
+        self.pipes = new (pipeIdleTimeout, queueConfig);
+        self.writeMessageQueue = new (queueConfig.writeQueueSize);
         string modifiedUrl = serviceUrl + string `/v1`;
         map<anydata> queryParam = {"offset": queryParams.offset, "lat": queryParams.lat, "lon": queryParams.lon, "exclude": queryParams.exclude, "units": queryParams.units};
         modifiedUrl = modifiedUrl + check getPathForQueryParam(queryParam);
@@ -38,22 +43,24 @@ public client isolated class PayloadVv1Client {
     private isolated function startMessageWriting() {
         worker writeMessage {
             while true {
+                Message|pipe:Error message = self.writeMessageQueue.consume(-1);
                 lock {
                     if !self.isActive {
-                        break;
+                        return;
                     }
                 }
-                Message|pipe:Error message = self.writeMessageQueue.consume(5);
                 if message is pipe:Error {
-                    if message.message() == "Operation has timed out" {
-                        continue;
-                    }
                     log:printError("PipeError: Failed to consume message from the pipe", message);
                     self.attemptToCloseConnection();
                     return;
                 }
                 websocket:Error? wsErr = self.clientEp->writeMessage(message);
                 if wsErr is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to write message to the client", wsErr);
                     self.attemptToCloseConnection();
                     return;
@@ -67,26 +74,36 @@ public client isolated class PayloadVv1Client {
     private isolated function startMessageReading() {
         worker readMessage {
             while true {
-                lock {
-                    if !self.isActive {
-                        break;
-                    }
-                }
-                Message|websocket:Error message = self.clientEp->readMessage(Message);
+                string|byte[]|websocket:Error message = self.clientEp->readMessage();
                 if message is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to read message from the client", message);
                     self.attemptToCloseConnection();
                     return;
                 }
-                pipe:Pipe pipe;
-                MessageWithId|error messageWithId = message.cloneWithType(MessageWithId);
-                if messageWithId is MessageWithId {
-                    pipe = self.pipes.getPipe(messageWithId.id);
-                } else {
-                    pipe = self.pipes.getPipe(message.event);
+                string|error text = message is string ? message : string:fromBytes(message);
+                if text is error {
+                    log:printError("DataBindingError: Failed to decode the message", text);
+                    self.attemptToCloseConnection();
+                    return;
                 }
-                pipe:Error? pipeErr = pipe.produce(message, 5);
+                string|error pipeId = getPipeId(text, "event", "id");
+                if pipeId is error {
+                    log:printError("DataBindingError: Failed to read the dispatcher key of the message", pipeId);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                pipe:Error? pipeErr = self.pipes.produce(pipeId, text);
                 if pipeErr is pipe:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("PipeError: Failed to produce message to the pipe", pipeErr);
                     self.attemptToCloseConnection();
                     return;
@@ -106,26 +123,22 @@ public client isolated class PayloadVv1Client {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = subscribe.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = subscribe;
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe(subscribe.id).consume(timeout);
-        if responseMessage is pipe:Error {
-            self.attemptToCloseConnection();
-            return error("PipeError: Error in consuming message", responseMessage);
-        }
+        string|pipe:Error responseMessage = self.pipes.getPipe(subscribe.id).consume(timeout);
         error? pipeCloseError = self.pipes.removePipe(subscribe.id);
         if pipeCloseError is error {
             log:printDebug("PipeError: Error in closing pipe.", pipeCloseError);
         }
-        UnSubscribe|error unSubscribe = responseMessage.cloneWithType();
+        if responseMessage is pipe:Error {
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in consuming message", responseMessage);
+        }
+        UnSubscribe|error unSubscribe = responseMessage.fromJsonStringWithType();
         if unSubscribe is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", unSubscribe);
@@ -133,6 +146,21 @@ public client isolated class PayloadVv1Client {
         return unSubscribe;
     }
 
+    # Gets the number of pipes the client holds to route the received messages.
+    public isolated function getPipeCount() returns int {
+        return self.pipes.getPipeCount();
+    }
+
+    # Gets the number of received messages waiting to be consumed in each pipe of the client, by the id of the pipe.
+    public isolated function getPipeDepths() returns map<int> {
+        return self.pipes.getPipeDepths();
+    }
+
+    # Gets the number of received messages the client dropped as their pipes were full.
+    public isolated function getDroppedMessageCount() returns int {
+        return self.pipes.getDroppedMessageCount();
+    }
+
     isolated function attemptToCloseConnection() {
         error? connectionClose = self->connectionClose();
         if connectionClose is error {
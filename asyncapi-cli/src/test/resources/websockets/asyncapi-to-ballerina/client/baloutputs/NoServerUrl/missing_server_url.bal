@@ -14,11 +14,16 @@ public client isolated class ChatClient {
     #
     # + config - The configurations to be used when initializing the `connector`
     # + serviceUrl - URL of the target service
+    # + pipeIdleTimeout - Time in seconds after which a pipe created for a received message, which no remote function has consumed from, is removed
+    # + queueConfig - Configurations of the write queue and of the pipes of the received messages
     # + return - An error if connector initialization failed
-    public isolated function init(string serviceUrl, websocket:ClientConfiguration clientConfig =  {}) returns error? {
-        self.pipes = new ();
+    public isolated function init(string serviceUrl, websocket:ClientConfiguration clientConfig =  {}, decimal pipeIdleTimeout = 60, QueueConfig queueConfig = {}) returns error? {
+        if queueConfig.writeQueueSize < 1 || queueConfig.pipeSize < 1 {
+            return error("The sizes of the write queue and of the pipes should be at least 1");
+        }
+        self.pipes = new (pipeIdleTimeout, queueConfig);
         self.streamGenerators = new ();
-        self.writeMessageQueue = new (1000);
+        self.writeMessageQueue = new (queueConfig.writeQueueSize);
         websocket:Client websocketEp = check new (serviceUrl, clientConfig);
         self.clientEp = websocketEp;
         self.isActive = true;
@@ -32,22 +37,24 @@ public client isolated class ChatClient {
     private isolated function startMessageWriting() {
         worker writeMessage {
             while true {
+                Message|pipe:Error message = self.writeMessageQueue.consume(-1);
                 lock {
                     if !self.isActive {
-                        break;
+                        return;
                     }
                 }
-                Message|pipe:Error message = self.writeMessageQueue.consume(5);
                 if message is pipe:Error {
-                    if message.message() == "Operation has timed out" {
-                        continue;
-                    }
                     log:printError("PipeError: Failed to consume message from the pipe", message);
                     self.attemptToCloseConnection();
                     return;
                 }
                 websocket:Error? wsErr = self.clientEp->writeMessage(message);
                 if wsErr is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to write message to the client", wsErr);
                     self.attemptToCloseConnection();
                     return;
@@ -61,20 +68,36 @@ public client isolated class ChatClient {
     private isolated function startMessageReading() {
         worker readMessage {
             while true {
-                lock {
-                    if !self.isActive {
-                        break;
-                    }
-                }
-                Message|websocket:Error message = self.clientEp->readMessage(Message);
+                string|byte[]|websocket:Error message = self.clientEp->readMessage();
                 if message is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to read message from the client", message);
                     self.attemptToCloseConnection();
                     return;
                 }
-                pipe:Pipe pipe = self.pipes.getPipe(message.'type);
-                pipe:Error? pipeErr = pipe.produce(message, 5);
+                string|error text = message is string ? message : string:fromBytes(message);
+                if text is error {
+                    log:printError("DataBindingError: Failed to decode the message", text);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                string|error pipeId = getPipeId(text, "type");
+                if pipeId is error {
+                    log:printError("DataBindingError: Failed to read the dispatcher key of the message", pipeId);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                pipe:Error? pipeErr = self.pipes.produce(pipeId, text);
                 if pipeErr is pipe:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("PipeError: Failed to produce message to the pipe", pipeErr);
                     self.attemptToCloseConnection();
                     return;
@@ -94,11 +117,7 @@ public client isolated class ChatClient {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = subscribeMessage.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = subscribeMessage;
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
@@ -119,22 +138,18 @@ public client isolated class ChatClient {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = pingMessage.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = pingMessage;
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe("pingMessage").consume(timeout);
+        string|pipe:Error responseMessage = self.pipes.getPipe("pingMessage").consume(timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        PongMessage|error pongMessage = responseMessage.cloneWithType();
+        PongMessage|error pongMessage = responseMessage.fromJsonStringWithType();
         if pongMessage is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", pongMessage);
@@ -148,11 +163,7 @@ public client isolated class ChatClient {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = pongMessage.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = pongMessage;
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
@@ -166,22 +177,18 @@ public client isolated class ChatClient {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = connectionInitMessage.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = connectionInitMessage;
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe("connectionInitMessage").consume(timeout);
+        string|pipe:Error responseMessage = self.pipes.getPipe("connectionInitMessage").consume(timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        ConnectionAckMessage|error connectionAckMessage = responseMessage.cloneWithType();
+        ConnectionAckMessage|error connectionAckMessage = responseMessage.fromJsonStringWithType();
         if connectionAckMessage is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", connectionAckMessage);
@@ -195,11 +202,7 @@ public client isolated class ChatClient {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = completeMessage.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = completeMessage;
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
@@ -207,6 +210,21 @@ public client isolated class ChatClient {
         }
     }
 
+    # Gets the number of pipes the client holds to route the received messages.
+    public isolated function getPipeCount() returns int {
+        return self.pipes.getPipeCount();
+    }
+
+    # Gets the number of received messages waiting to be consumed in each pipe of the client, by the id of the pipe.
+    public isolated function getPipeDepths() returns map<int> {
+        return self.pipes.getPipeDepths();
+    }
+
+    # Gets the number of received messages the client dropped as their pipes were full.
+    public isolated function getDroppedMessageCount() returns int {
+        return self.pipes.getDroppedMessageCount();
+    }
+
     isolated function attemptToCloseConnection() {
         error? connectionClose = self->connectionClose();
         if connectionClose is error {
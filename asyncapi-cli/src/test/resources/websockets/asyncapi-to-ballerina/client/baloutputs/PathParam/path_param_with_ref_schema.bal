@@ -5,7 +5,7 @@ public type PathParams record {|
     Id id;
 |};
 
-public type Message readonly & record {string event;};
+public type Message record {string event;};
 
 public type MessageWithId readonly & record {string event; string id;};
 
@@ -0,0 +1,181 @@
+import ballerina/log;
+import ballerina/websocket;
+
+import xlibb/pipe;
+
+public client isolated class PayloadVlocationsClient {
+    private final websocket:Client clientEp;
+    private final pipe:Pipe writeMessageQueue;
+    private final PipesMap pipes;
+    private final InFlightWindow inFlightWindow;
+    private boolean isActive;
+
+    # Gets invoked to initialize the `connector`.
+    #
+    # + config - The configurations to be used when initializing the `connector`
+    # + serviceUrl - URL of the target service
+    # + pipeIdleTimeout - Time in seconds after which a pipe created for a received message, which no remote function has consumed from, is removed
+    # + queueConfig - Configurations of the write queue and of the pipes of the received messages
+    # + maxInFlightRequests - Maximum number of requests correlated by their ids which wait on a response at a time
+    # + return - An error if connector initialization failed
+    public isolated function init(websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws://localhost:9090/payloadV", decimal pipeIdleTimeout = 60, QueueConfig queueConfig = {}, int maxInFlightRequests = 100) returns error? {
+        if queueConfig.writeQueueSize < 1 || queueConfig.pipeSize < 1 {
+            return error("The sizes of the write queue and of the pipes should be at least 1");
+        }
+        self.pipes = new (pipeIdleTimeout, queueConfig);
+        self.writeMessageQueue = new (queueConfig.writeQueueSize);
+        if maxInFlightRequests < 1 {
+            return error("The maximum number of requests in flight should be at least 1");
+        }
+        self.inFlightWindow = new (maxInFlightRequests);
+        string modifiedUrl = serviceUrl + string `/locations`;
+        websocket:Client websocketEp = check new (modifiedUrl, clientConfig);
+        self.clientEp = websocketEp;
+        self.isActive = true;
+        self.startMessageWriting();
+        self.startMessageReading();
+        return;
+    }
+
+    # Used to write messages to the websocket.
+    #
+    private isolated function startMessageWriting() {
+        worker writeMessage {
+            while true {
+                Message|pipe:Error message = self.writeMessageQueue.consume(-1);
+                lock {
+                    if !self.isActive {
+                        return;
+                    }
+                }
+                if message is pipe:Error {
+                    log:printError("PipeError: Failed to consume message from the pipe", message);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                websocket:Error? wsErr = self.clientEp->writeMessage(message);
+                if wsErr is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("WsError: Failed to write message to the client", wsErr);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+            }
+        }
+    }
+
+    # Used to read messages from the websocket.
+    #
+    private isolated function startMessageReading() {
+        worker readMessage {
+            while true {
+                string|byte[]|websocket:Error message = self.clientEp->readMessage();
+                if message is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("WsError: Failed to read message from the client", message);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                string|error text = message is string ? message : string:fromBytes(message);
+                if text is error {
+                    log:printError("DataBindingError: Failed to decode the message", text);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                string|error pipeId = getPipeId(text, "event", "id");
+                if pipeId is error {
+                    log:printError("DataBindingError: Failed to read the dispatcher key of the message", pipeId);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                pipe:Error? pipeErr = self.pipes.produce(pipeId, text);
+                if pipeErr is pipe:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("PipeError: Failed to produce message to the pipe", pipeErr);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+            }
+        }
+    }
+
+    remote isolated function doSubscribe(Subscribe subscribe, decimal timeout) returns UnSubscribe|error {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = subscribe;
+        check self.inFlightWindow.acquire(timeout);
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            self.inFlightWindow.release();
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+        string|pipe:Error responseMessage = self.pipes.getPipe(subscribe.id).consume(timeout);
+        self.inFlightWindow.release();
+        error? pipeCloseError = self.pipes.removePipe(subscribe.id);
+        if pipeCloseError is error {
+            log:printDebug("PipeError: Error in closing pipe.", pipeCloseError);
+        }
+        if responseMessage is pipe:Error {
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in consuming message", responseMessage);
+        }
+        UnSubscribe|error unSubscribe = responseMessage.fromJsonStringWithType();
+        if unSubscribe is error {
+            self.attemptToCloseConnection();
+            return error("DataBindingError: Error in cloning message", unSubscribe);
+        }
+        return unSubscribe;
+    }
+
+    remote isolated function doSubscribeAsync(Subscribe subscribe, decimal timeout) returns future<UnSubscribe|error> {
+        return start self->doSubscribe(subscribe.cloneReadOnly(), timeout);
+    }
+
+    # Gets the number of pipes the client holds to route the received messages.
+    public isolated function getPipeCount() returns int {
+        return self.pipes.getPipeCount();
+    }
+
+    # Gets the number of received messages waiting to be consumed in each pipe of the client, by the id of the pipe.
+    public isolated function getPipeDepths() returns map<int> {
+        return self.pipes.getPipeDepths();
+    }
+
+    # Gets the number of received messages the client dropped as their pipes were full.
+    public isolated function getDroppedMessageCount() returns int {
+        return self.pipes.getDroppedMessageCount();
+    }
+
+    isolated function attemptToCloseConnection() {
+        error? connectionClose = self->connectionClose();
+        if connectionClose is error {
+            log:printError("ConnectionError", connectionClose);
+        }
+    }
+
+    remote isolated function connectionClose() returns error? {
+        lock {
+            self.isActive = false;
+            check self.writeMessageQueue.immediateClose();
+            check self.pipes.removePipes();
+            check self.inFlightWindow.close();
+            check self.clientEp->close();
+        }
+    };
+}
@@ -13,7 +13,7 @@ public type QueryParams record {|
     int units;
 |};
 
-public type Message readonly & record {string event;};
+public type Message record {string event;};
 
 public type MessageWithId readonly & record {string event; string id;};
 
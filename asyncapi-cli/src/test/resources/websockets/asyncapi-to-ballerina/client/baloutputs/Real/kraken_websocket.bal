@@ -25,10 +25,15 @@ public client isolated class KrakenWebsocketsAPIClient {
     #
     # + config - The configurations to be used when initializing the `connector`
     # + serviceUrl - URL of the target service
+    # + pipeIdleTimeout - Time in seconds after which a pipe created for a received message, which no remote function has consumed from, is removed
+    # + queueConfig - Configurations of the write queue and of the pipes of the received messages
     # + return - An error if connector initialization failed
-    public isolated function init(websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws.kraken.com") returns error? {
-        self.pipes = new ();
-        self.writeMessageQueue = new (1000);
+    public isolated function init(websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws.kraken.com", decimal pipeIdleTimeout = 60, QueueConfig queueConfig = {}) returns error? {
+        if queueConfig.writeQueueSize < 1 || queueConfig.pipeSize < 1 {
+            return error("The sizes of the write queue and of the pipes should be at least 1");
+        }
+        self.pipes = new (pipeIdleTimeout, queueConfig);
+        self.writeMessageQueue = new (queueConfig.writeQueueSize);
         websocket:Client websocketEp = check new (serviceUrl, clientConfig);
         self.clientEp = websocketEp;
         self.isActive = true;
@@ -42,22 +47,24 @@ public client isolated class KrakenWebsocketsAPIClient {
     private isolated function startMessageWriting() {
         worker writeMessage {
             while true {
+                Message|pipe:Error message = self.writeMessageQueue.consume(-1);
                 lock {
                     if !self.isActive {
-                        break;
+                        return;
                     }
                 }
-                Message|pipe:Error message = self.writeMessageQueue.consume(5);
                 if message is pipe:Error {
-                    if message.message() == "Operation has timed out" {
-                        continue;
-                    }
                     log:printError("PipeError: Failed to consume message from the pipe", message);
                     self.attemptToCloseConnection();
                     return;
                 }
                 websocket:Error? wsErr = self.clientEp->writeMessage(message);
                 if wsErr is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to write message to the client", wsErr);
                     self.attemptToCloseConnection();
                     return;
@@ -71,20 +78,36 @@ public client isolated class KrakenWebsocketsAPIClient {
     private isolated function startMessageReading() {
         worker readMessage {
             while true {
-                lock {
-                    if !self.isActive {
-                        break;
-                    }
-                }
-                Message|websocket:Error message = self.clientEp->readMessage(Message);
+                string|byte[]|websocket:Error message = self.clientEp->readMessage();
                 if message is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to read message from the client", message);
                     self.attemptToCloseConnection();
                     return;
                 }
-                pipe:Pipe pipe = self.pipes.getPipe(message.event);
-                pipe:Error? pipeErr = pipe.produce(message, 5);
+                string|error text = message is string ? message : string:fromBytes(message);
+                if text is error {
+                    log:printError("DataBindingError: Failed to decode the message", text);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                string|error pipeId = getPipeId(text, "event");
+                if pipeId is error {
+                    log:printError("DataBindingError: Failed to read the dispatcher key of the message", pipeId);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                pipe:Error? pipeErr = self.pipes.produce(pipeId, text);
                 if pipeErr is pipe:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("PipeError: Failed to produce message to the pipe", pipeErr);
                     self.attemptToCloseConnection();
                     return;
@@ -101,22 +124,18 @@ public client isolated class KrakenWebsocketsAPIClient {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = ping.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = ping;
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe("ping").consume(timeout);
+        string|pipe:Error responseMessage = self.pipes.getPipe("ping").consume(timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        Pong|error pong = responseMessage.cloneWithType();
+        Pong|error pong = responseMessage.fromJsonStringWithType();
         if pong is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", pong);
@@ -132,22 +151,18 @@ public client isolated class KrakenWebsocketsAPIClient {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = subscribe.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = subscribe;
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe("subscribe").consume(timeout);
+        string|pipe:Error responseMessage = self.pipes.getPipe("subscribe").consume(timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        SubscriptionStatus|error subscriptionStatus = responseMessage.cloneWithType();
+        SubscriptionStatus|error subscriptionStatus = responseMessage.fromJsonStringWithType();
         if subscriptionStatus is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", subscriptionStatus);
@@ -163,22 +178,18 @@ public client isolated class KrakenWebsocketsAPIClient {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = unsubscribe.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = unsubscribe;
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe("unsubscribe").consume(timeout);
+        string|pipe:Error responseMessage = self.pipes.getPipe("unsubscribe").consume(timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        SubscriptionStatus|error subscriptionStatus = responseMessage.cloneWithType();
+        SubscriptionStatus|error subscriptionStatus = responseMessage.fromJsonStringWithType();
         if subscriptionStatus is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", subscriptionStatus);
@@ -187,12 +198,12 @@ public client isolated class KrakenWebsocketsAPIClient {
     }
 
     remote isolated function doHeartbeat(decimal timeout) returns Heartbeat|error {
-        Message|pipe:Error responseMessage = self.pipes.getPipe("heartbeat").consume(timeout);
+        string|pipe:Error responseMessage = self.pipes.getPipe("heartbeat").consume(timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        Heartbeat|error heartbeat = responseMessage.cloneWithType();
+        Heartbeat|error heartbeat = responseMessage.fromJsonStringWithType();
         if heartbeat is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", heartbeat);
@@ -201,12 +212,12 @@ public client isolated class KrakenWebsocketsAPIClient {
     }
 
     remote isolated function doSystemStatus(decimal timeout) returns SystemStatus|error {
-        Message|pipe:Error responseMessage = self.pipes.getPipe("systemStatus").consume(timeout);
+        string|pipe:Error responseMessage = self.pipes.getPipe("systemStatus").consume(timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        SystemStatus|error systemStatus = responseMessage.cloneWithType();
+        SystemStatus|error systemStatus = responseMessage.fromJsonStringWithType();
         if systemStatus is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", systemStatus);
@@ -214,6 +225,21 @@ public client isolated class KrakenWebsocketsAPIClient {
         return systemStatus;
     }
 
+    # Gets the number of pipes the client holds to route the received messages.
+    public isolated function getPipeCount() returns int {
+        return self.pipes.getPipeCount();
+    }
+
+    # Gets the number of received messages waiting to be consumed in each pipe of the client, by the id of the pipe.
+    public isolated function getPipeDepths() returns map<int> {
+        return self.pipes.getPipeDepths();
+    }
+
+    # Gets the number of received messages the client dropped as their pipes were full.
+    public isolated function getDroppedMessageCount() returns int {
+        return self.pipes.getDroppedMessageCount();
+    }
+
     isolated function attemptToCloseConnection() {
         error? connectionClose = self->connectionClose();
         if connectionClose is error {
@@ -0,0 +1,295 @@
+import ballerina/log;
+import ballerina/websocket;
+
+import xlibb/pipe;
+
+public client isolated class ChatClient {
+    private websocket:Client clientEp;
+    private final pipe:Pipe writeMessageQueue;
+    private final PipesMap pipes;
+    private final StreamGeneratorsMap streamGenerators;
+    private final readonly & ReconnectConfig reconnectConfig;
+    private final ReplayLog replayLog;
+    private boolean isActive;
+
+    # Gets invoked to initialize the `connector`.
+    #
+    # + config - The configurations to be used when initializing the `connector`
+    # + serviceUrl - URL of the target service
+    # + pipeIdleTimeout - Time in seconds after which a pipe created for a received message, which no remote function has consumed from, is removed
+    # + queueConfig - Configurations of the write queue and of the pipes of the received messages
+    # + reconnectConfig - Configurations of the reconnection once the connection fails
+    # + return - An error if connector initialization failed
+    public isolated function init(websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws://localhost:9090/chat", decimal pipeIdleTimeout = 60, QueueConfig queueConfig = {}, ReconnectConfig reconnectConfig = {}) returns error? {
+        if queueConfig.writeQueueSize < 1 || queueConfig.pipeSize < 1 {
+            return error("The sizes of the write queue and of the pipes should be at least 1");
+        }
+        self.pipes = new (pipeIdleTimeout, queueConfig);
+        self.streamGenerators = new ();
+        self.writeMessageQueue = new (queueConfig.writeQueueSize);
+        self.reconnectConfig = reconnectConfig.cloneReadOnly();
+        self.replayLog = new ();
+        websocket:Client websocketEp = check new (serviceUrl, clientConfig);
+        self.clientEp = websocketEp;
+        self.isActive = true;
+        self.startMessageWriting();
+        self.startMessageReading(serviceUrl, clientConfig);
+        return;
+    }
+
+    # Used to write messages to the websocket.
+    #
+    private isolated function startMessageWriting() {
+        worker writeMessage {
+            while true {
+                Message|pipe:Error message = self.writeMessageQueue.consume(-1);
+                lock {
+                    if !self.isActive {
+                        return;
+                    }
+                }
+                if message is pipe:Error {
+                    log:printError("PipeError: Failed to consume message from the pipe", message);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                websocket:Client clientEp = self.getClientEp();
+                websocket:Error? wsErr = clientEp->writeMessage(message);
+                if wsErr is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("WsError: Failed to write message to the client", wsErr);
+                    continue;
+                }
+            }
+        }
+    }
+
+    # Used to read messages from the websocket.
+    #
+    private isolated function startMessageReading(string serviceUrl, websocket:ClientConfiguration clientConfig) {
+        worker readMessage {
+            while true {
+                websocket:Client clientEp = self.getClientEp();
+                string|byte[]|websocket:Error message = clientEp->readMessage();
+                if message is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("WsError: Failed to read message from the client", message);
+                    error? reconnectErr = self.reconnect(serviceUrl, clientConfig);
+                    if reconnectErr is error {
+                        log:printError("ReconnectError: Failed to reconnect to the service", reconnectErr);
+                        self.attemptToCloseConnection();
+                        return;
+                    }
+                    continue;
+                }
+                string|error text = message is string ? message : string:fromBytes(message);
+                if text is error {
+                    log:printError("DataBindingError: Failed to decode the message", text);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                string|error pipeId = getPipeId(text, "type", "id");
+                if pipeId is error {
+                    log:printError("DataBindingError: Failed to read the dispatcher key of the message", pipeId);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                pipe:Error? pipeErr = self.pipes.produce(pipeId, text);
+                if pipeErr is pipe:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("PipeError: Failed to produce message to the pipe", pipeErr);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+            }
+        }
+    }
+
+    # Reconnects to the service once the connection failed, and writes the subscribe messages of the active streams again, along with the pending requests when they are retried. The pending requests which are not retried fail.
+    private isolated function reconnect(string serviceUrl, websocket:ClientConfiguration clientConfig) returns error? {
+        websocket:Client websocketEp = check connectWithBackoff(serviceUrl, clientConfig, self.reconnectConfig);
+        boolean isActive;
+        lock {
+            isActive = self.isActive;
+            if isActive {
+                self.clientEp = websocketEp;
+            }
+        }
+        if !isActive {
+            return websocketEp->close();
+        }
+        [Message[], string[]] [messages, failedRequests] = self.replayLog.getReplay(self.reconnectConfig.pendingRequests);
+        foreach string id in failedRequests {
+            check self.pipes.removePipe(id);
+        }
+        foreach Message message in messages {
+            check self.writeMessageQueue.produce(message, 5);
+        }
+    }
+
+    private isolated function getClientEp() returns websocket:Client {
+        lock {
+            return self.clientEp;
+        }
+    }
+
+    remote isolated function doTesting(Testing testing, decimal timeout) returns stream<NextMessage,error?>|error {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = testing;
+        self.replayLog.addSubscription(testing.id, message);
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            self.replayLog.removeSubscription(testing.id);
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+        stream<NextMessage,error?> streamMessages;
+        lock {
+            NextMessageStreamGenerator streamGenerator = new (self.pipes, testing.id, timeout, self.replayLog);
+            self.streamGenerators.addStreamGenerator(streamGenerator);
+            streamMessages = new (streamGenerator);
+        }
+        return streamMessages;
+    }
+
+    remote isolated function doSubscribeMessage(SubscribeMessage subscribeMessage, decimal timeout) returns stream<NextMessage|CompleteMessage|ErrorMessage,error?>|error {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = subscribeMessage;
+        self.replayLog.addSubscription(subscribeMessage.id, message);
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            self.replayLog.removeSubscription(subscribeMessage.id);
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+        stream<NextMessage|CompleteMessage|ErrorMessage,error?> streamMessages;
+        lock {
+            NextMessageCompleteMessageErrorMessageStreamGenerator streamGenerator = new (self.pipes, subscribeMessage.id, timeout, self.replayLog);
+            self.streamGenerators.addStreamGenerator(streamGenerator);
+            streamMessages = new (streamGenerator);
+        }
+        return streamMessages;
+    }
+
+    remote isolated function doPingMessage(PingMessage pingMessage, decimal timeout) returns PongMessage|error {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = pingMessage;
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+        string|pipe:Error responseMessage = self.pipes.getPipe("pingMessage").consume(timeout);
+        if responseMessage is pipe:Error {
+            return error("PipeError: Error in consuming message", responseMessage);
+        }
+        PongMessage|error pongMessage = responseMessage.fromJsonStringWithType();
+        if pongMessage is error {
+            self.attemptToCloseConnection();
+            return error("DataBindingError: Error in cloning message", pongMessage);
+        }
+        return pongMessage;
+    }
+
+    remote isolated function doPongMessage(PongMessage pongMessage, decimal timeout) returns error? {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = pongMessage;
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+    }
+
+    remote isolated function doConnectionInitMessage(ConnectionInitMessage connectionInitMessage, decimal timeout) returns ConnectionAckMessage|error {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = connectionInitMessage;
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+        string|pipe:Error responseMessage = self.pipes.getPipe("connectionInitMessage").consume(timeout);
+        if responseMessage is pipe:Error {
+            return error("PipeError: Error in consuming message", responseMessage);
+        }
+        ConnectionAckMessage|error connectionAckMessage = responseMessage.fromJsonStringWithType();
+        if connectionAckMessage is error {
+            self.attemptToCloseConnection();
+            return error("DataBindingError: Error in cloning message", connectionAckMessage);
+        }
+        return connectionAckMessage;
+    }
+
+    remote isolated function doCompleteMessage(CompleteMessage completeMessage, decimal timeout) returns error? {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = completeMessage;
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+    }
+
+    # Gets the number of pipes the client holds to route the received messages.
+    public isolated function getPipeCount() returns int {
+        return self.pipes.getPipeCount();
+    }
+
+    # Gets the number of received messages waiting to be consumed in each pipe of the client, by the id of the pipe.
+    public isolated function getPipeDepths() returns map<int> {
+        return self.pipes.getPipeDepths();
+    }
+
+    # Gets the number of received messages the client dropped as their pipes were full.
+    public isolated function getDroppedMessageCount() returns int {
+        return self.pipes.getDroppedMessageCount();
+    }
+
+    isolated function attemptToCloseConnection() {
+        error? connectionClose = self->connectionClose();
+        if connectionClose is error {
+            log:printError("ConnectionError", connectionClose);
+        }
+    }
+
+    remote isolated function connectionClose() returns error? {
+        lock {
+            self.isActive = false;
+            check self.writeMessageQueue.immediateClose();
+            check self.pipes.removePipes();
+            check self.streamGenerators.removeStreamGenerators();
+            check self.clientEp->close();
+        }
+    };
+}
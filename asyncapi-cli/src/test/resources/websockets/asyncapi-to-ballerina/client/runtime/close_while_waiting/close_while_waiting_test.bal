@@ -0,0 +1,119 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/time;
+import ballerina/websocket;
+
+const string SERVICE_URL = "ws://localhost:21001/chat";
+
+isolated int closedConnections = 0;
+
+service /chat on new websocket:Listener(21001) {
+    resource function get .() returns websocket:Service {
+        return new ChatService();
+    }
+}
+
+service class ChatService {
+    *websocket:Service;
+
+    # Answers a subscribe message with a single next message, and keeps the subscription open afterwards.
+    remote function onMessage(websocket:Caller caller, map<json> message) returns websocket:Error? {
+        check caller->writeMessage({id: message["id"], 'type: "NextMessage", payload: {}});
+    }
+
+    remote function onClose(websocket:Caller caller, int statusCode, string reason) {
+        lock {
+            closedConnections += 1;
+        }
+    }
+}
+
+@test:Config {}
+function testCloseWhileNextIsWaiting() returns error? {
+    ChatClient chatClient = check new (serviceUrl = SERVICE_URL);
+    stream<NextMessage, error?> messages = check chatClient->doTesting(testingMessage("next"), 60);
+    record {|NextMessage value;|}? first = check messages.next();
+    test:assertTrue(first is record {|NextMessage value;|}, "The stream should return the answer of the service");
+
+    // No other message comes, hence next() waits on the pipe of the stream until the client is closed
+    future<record {|NextMessage value;|}|error?> waitingNext = start nextMessage(messages);
+    runtime:sleep(1);
+    decimal closedAt = time:monotonicNow();
+    check chatClient->connectionClose();
+    record {|NextMessage value;|}|error? last = wait waitingNext;
+    test:assertTrue(last is (), "The stream should end once the client is closed");
+    test:assertTrue(time:monotonicNow() - closedAt < 10d, "The stream should end well before the timeout of next()");
+}
+
+@test:Config {}
+function testNextReturnsTimeout() returns error? {
+    ChatClient chatClient = check new (serviceUrl = SERVICE_URL);
+    stream<NextMessage, error?> messages = check chatClient->doTesting(testingMessage("timeout"), 1);
+    _ = check messages.next();
+
+    // No other message comes within the timeout, which is returned as an error instead of ending the stream
+    record {|NextMessage value;|}|error? timedOut = messages.next();
+    test:assertTrue(timedOut is error, "The stream should return the timeout of next() as an error");
+    check chatClient->connectionClose();
+}
+
+@test:Config {}
+function testCloseWhileWriterIsWaiting() returns error? {
+    ChatClient chatClient = check new (serviceUrl = SERVICE_URL);
+    // Nothing is queued for longer than the 5 seconds the writer used to poll for, hence it waits on the empty queue
+    runtime:sleep(6);
+    stream<NextMessage, error?> messages = check chatClient->doTesting(testingMessage("writer"), 60);
+    record {|NextMessage value;|}? answer = check messages.next();
+    test:assertTrue(answer is record {|NextMessage value;|}, "The waiting writer should write a queued message");
+
+    // The writer waits on the empty queue again until the client is closed
+    runtime:sleep(1);
+    int closedBefore = getClosedConnections();
+    decimal closedAt = time:monotonicNow();
+    check chatClient->connectionClose();
+    test:assertTrue(time:monotonicNow() - closedAt < 5d, "The client should close without waiting for the writer");
+    test:assertTrue(waitForClosedConnections(closedBefore + 1), "The service should see the connection closed");
+
+    stream<NextMessage, error?>|error afterClose = chatClient->doTesting(testingMessage("closed"), 1);
+    test:assertTrue(afterClose is error, "A closed client should not queue a message");
+}
+
+function nextMessage(stream<NextMessage, error?> messages) returns record {|NextMessage value;|}|error? {
+    return messages.next();
+}
+
+function testingMessage(string id) returns Testing {
+    return {id, 'type: "SubscribeMessage", payload: {query: "{ messages }"}};
+}
+
+isolated function getClosedConnections() returns int {
+    lock {
+        return closedConnections;
+    }
+}
+
+function waitForClosedConnections(int count) returns boolean {
+    foreach int _ in 0 ..< 50 {
+        if getClosedConnections() >= count {
+            return true;
+        }
+        runtime:sleep(0.1);
+    }
+    return false;
+}
@@ -0,0 +1,84 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+import ballerina/websocket;
+
+const string SERVICE_URL = "ws://localhost:21006/payloadV";
+
+service /payloadV/locations on new websocket:Listener(21006) {
+    resource function get .() returns websocket:Service {
+        return new LocationsService();
+    }
+}
+
+service class LocationsService {
+    *websocket:Service;
+
+    # Answers each request with a response of the same id, whose stream id and dispatcher key come after a payload
+    # and a note holding keys of the same names, along with escaped quotes, brackets and colons. The requests whose
+    # ids start with `binary` are answered with a binary message, and the ones whose ids start with `missing` with a
+    # response which has neither the stream id nor the dispatcher key at its top level.
+    remote function onMessage(websocket:Caller caller, map<json> message) returns websocket:Error? {
+        string id = message["id"].toString();
+        string keys = id.startsWith("missing") ? "" : string `,"event":"UnSubscribe","id":${id.toJsonString()}`;
+        string response = string `{"payload":{"id":"decoy","event":"Decoy","list":["}",{"id":"decoy"}]},` +
+            string `"note":"a \"quoted\" {\"id\":\"decoy\"}, \\","type":"UnSubscribe"${keys}}`;
+        if id.startsWith("binary") {
+            check caller->writeMessage(response.toBytes());
+            return;
+        }
+        check caller->writeMessage(response);
+    }
+}
+
+@test:Config {}
+function testRoutingOnTopLevelKeys() returns error? {
+    PayloadVlocationsClient locationsClient = check new (serviceUrl = SERVICE_URL);
+    UnSubscribe response = check subscribe(locationsClient, "nested", 5);
+    test:assertEquals(response["id"], "nested");
+    test:assertEquals(response.payload["id"], "decoy");
+    check locationsClient->connectionClose();
+}
+
+@test:Config {}
+function testRoutingOnEscapedStreamId() returns error? {
+    PayloadVlocationsClient locationsClient = check new (serviceUrl = SERVICE_URL);
+    // The escaped stream id is not scanned off the text, hence the message is parsed to route it
+    UnSubscribe response = check subscribe(locationsClient, "escaped \"id\"", 5);
+    test:assertEquals(response["id"], "escaped \"id\"");
+    check locationsClient->connectionClose();
+}
+
+@test:Config {}
+function testRoutingOfBinaryMessage() returns error? {
+    PayloadVlocationsClient locationsClient = check new (serviceUrl = SERVICE_URL);
+    UnSubscribe response = check subscribe(locationsClient, "binary", 5);
+    test:assertEquals(response["id"], "binary");
+    check locationsClient->connectionClose();
+}
+
+@test:Config {}
+function testMessageWithoutDispatcherKey() returns error? {
+    PayloadVlocationsClient locationsClient = check new (serviceUrl = SERVICE_URL);
+    UnSubscribe|error response = subscribe(locationsClient, "missing", 5);
+    // The client closes itself once a message can not be routed, which fails the request waiting on it
+    test:assertTrue(response is error, "A message without the stream id and the dispatcher key should not be routed");
+}
+
+function subscribe(PayloadVlocationsClient locationsClient, string id, decimal timeout) returns UnSubscribe|error {
+    return locationsClient->doSubscribe({id, event: "Subscribe"}, timeout);
+}
@@ -0,0 +1,110 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/websocket;
+
+const string SERVICE_URL = "ws://localhost:21002/chat";
+const int BURST_SIZE = 5;
+const int PIPE_SIZE = 2;
+
+service /chat on new websocket:Listener(21002) {
+    resource function get .() returns websocket:Service {
+        return new ChatService();
+    }
+}
+
+service class ChatService {
+    *websocket:Service;
+
+    # Answers a subscribe message with a burst of next messages, numbered from 0, which overflows the pipe.
+    remote function onMessage(websocket:Caller caller, map<json> message) returns websocket:Error? {
+        foreach int sequence in 0 ..< BURST_SIZE {
+            check caller->writeMessage({id: message["id"], 'type: "NextMessage", payload: {sequence}});
+        }
+    }
+}
+
+@test:Config {}
+function testDropOldest() returns error? {
+    [ChatClient, stream<NextMessage, error?>] [chatClient, messages] = check subscribeToBurst("DROP_OLDEST");
+    test:assertEquals(chatClient.getDroppedMessageCount(), BURST_SIZE - PIPE_SIZE);
+    test:assertEquals(check sequenceOf(check messages.next()), 3, "The oldest messages should be dropped");
+    test:assertEquals(check sequenceOf(check messages.next()), 4);
+    check chatClient->connectionClose();
+}
+
+@test:Config {}
+function testDropNewest() returns error? {
+    [ChatClient, stream<NextMessage, error?>] [chatClient, messages] = check subscribeToBurst("DROP_NEWEST");
+    test:assertEquals(chatClient.getDroppedMessageCount(), BURST_SIZE - PIPE_SIZE);
+    test:assertEquals(check sequenceOf(check messages.next()), 0, "The newest messages should be dropped");
+    test:assertEquals(check sequenceOf(check messages.next()), 1);
+    check chatClient->connectionClose();
+}
+
+@test:Config {}
+function testFailFast() returns error? {
+    [ChatClient, stream<NextMessage, error?>] [chatClient, messages] = check subscribeToBurst("FAIL_FAST");
+    // The first message which does not fit closes the pipe of the stream, the later ones go to a new pipe
+    test:assertEquals(chatClient.getDroppedMessageCount(), 1);
+    record {|NextMessage value;|}|error? next = messages.next();
+    test:assertTrue(next is (), "The stream should end once its pipe is closed by the overflow");
+    check chatClient->connectionClose();
+}
+
+@test:Config {}
+function testBlock() returns error? {
+    [ChatClient, stream<NextMessage, error?>] [chatClient, messages] = check subscribeToBurst("BLOCK", 0.5);
+    // The first message which does not fit waits for the pipe timeout, after which the client is closed. The
+    // messages in the pipe can still be consumed, then the stream ends.
+    test:assertEquals(chatClient.getDroppedMessageCount(), 0);
+    test:assertEquals(check sequenceOf(check messages.next()), 0);
+    test:assertEquals(check sequenceOf(check messages.next()), 1);
+    record {|NextMessage value;|}|error? next = messages.next();
+    test:assertTrue(next is (), "The stream should end once the client is closed");
+    stream<NextMessage, error?>|error afterClose = chatClient->doTesting(testingMessage("closed"), 1);
+    test:assertTrue(afterClose is error, "The client should be closed once a message waited too long for its pipe");
+}
+
+# Subscribes with a client whose pipes hold fewer messages than the burst of the service, and waits until the
+# burst was received before the stream is consumed.
+#
+# + policy - Overflow policy of the pipes
+# + pipeTimeout - Time in seconds to wait for a free place in a full pipe with the `BLOCK` policy
+# + return - The client and its stream
+function subscribeToBurst(OverflowPolicy policy, decimal pipeTimeout = 5)
+        returns [ChatClient, stream<NextMessage, error?>]|error {
+    ChatClient chatClient = check new (serviceUrl = SERVICE_URL,
+        queueConfig = {pipeSize: PIPE_SIZE, pipeOverflow: policy, pipeTimeout});
+    stream<NextMessage, error?> messages = check chatClient->doTesting(testingMessage(policy), 5);
+    runtime:sleep(2);
+    return [chatClient, messages];
+}
+
+function sequenceOf(record {|NextMessage value;|}? next) returns int|error {
+    if next is () {
+        return error("The stream ended");
+    }
+    json message = next.value.toJson();
+    json sequence = check message.payload.sequence;
+    return sequence.ensureType();
+}
+
+function testingMessage(string id) returns Testing {
+    return {id, 'type: "SubscribeMessage", payload: {query: "{ messages }"}};
+}
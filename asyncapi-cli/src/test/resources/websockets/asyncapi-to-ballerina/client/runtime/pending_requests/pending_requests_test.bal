@@ -0,0 +1,114 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/time;
+import ballerina/websocket;
+
+const string SERVICE_URL = "ws://localhost:21004/payloadV";
+
+isolated websocket:Caller[] callers = [];
+isolated map<int> requests = {};
+
+service /payloadV/locations on new websocket:Listener(21004) {
+    resource function get .() returns websocket:Service {
+        return new LocationsService();
+    }
+}
+
+service class LocationsService {
+    *websocket:Service;
+
+    remote function onOpen(websocket:Caller caller) {
+        lock {
+            callers.push(caller);
+        }
+    }
+
+    # Answers each request with a response of the same id, except the requests whose ids start with `hold`, which
+    # are answered only when they are written again.
+    remote function onMessage(websocket:Caller caller, map<json> message) returns websocket:Error? {
+        string id = message["id"].toString();
+        int count;
+        lock {
+            count = (requests[id] ?: 0) + 1;
+            requests[id] = count;
+        }
+        if id.startsWith("hold") && count == 1 {
+            return;
+        }
+        check caller->writeMessage({id, 'type: "UnSubscribe", event: "UnSubscribe"});
+    }
+}
+
+@test:Config {}
+function testFailPendingRequests() returns error? {
+    PayloadVlocationsClient locationsClient = check new (serviceUrl = SERVICE_URL,
+        reconnectConfig = {initialBackoff: 0.2, pendingRequests: "FAIL"});
+    future<UnSubscribe|error> pending = start subscribe(locationsClient, "hold-fail");
+    runtime:sleep(1);
+
+    // The client reconnects and fails the request waiting on a response, well before the timeout of the request
+    decimal droppedAt = time:monotonicNow();
+    check dropConnections();
+    UnSubscribe|error response = wait pending;
+    test:assertTrue(response is error, "The pending request should fail once the client reconnects");
+    test:assertTrue(time:monotonicNow() - droppedAt < 10d, "The pending request should fail before its timeout");
+    runtime:sleep(1);
+    test:assertEquals(getRequests("hold-fail"), 1, "The failed request should not be written again");
+
+    UnSubscribe|error later = subscribe(locationsClient, "later");
+    test:assertTrue(later is UnSubscribe, "A request on the new connection should get its response");
+    check locationsClient->connectionClose();
+}
+
+@test:Config {dependsOn: [testFailPendingRequests]}
+function testRetryPendingRequests() returns error? {
+    PayloadVlocationsClient locationsClient = check new (serviceUrl = SERVICE_URL,
+        reconnectConfig = {initialBackoff: 0.2, pendingRequests: "RETRY"});
+    future<UnSubscribe|error> pending = start subscribe(locationsClient, "hold-retry");
+    runtime:sleep(1);
+
+    // The client reconnects and writes the request waiting on a response again, which the service answers
+    check dropConnections();
+    UnSubscribe|error response = wait pending;
+    test:assertTrue(response is UnSubscribe, "The pending request should get its response on the new connection");
+    test:assertEquals(getRequests("hold-retry"), 2, "The pending request should be written again");
+    check locationsClient->connectionClose();
+}
+
+function subscribe(PayloadVlocationsClient locationsClient, string id) returns UnSubscribe|error {
+    return locationsClient->doSubscribe({id, event: "Subscribe"}, 30);
+}
+
+# Closes the connections of the clients from the side of the service.
+#
+# + return - An error if a connection could not be closed
+function dropConnections() returns error? {
+    lock {
+        foreach websocket:Caller caller in callers {
+            check caller->close(timeout = 5);
+        }
+        callers.removeAll();
+    }
+}
+
+isolated function getRequests(string id) returns int {
+    lock {
+        return requests[id] ?: 0;
+    }
+}
@@ -0,0 +1,98 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/websocket;
+
+const string SERVICE_URL = "ws://localhost:21005/payloadV";
+const int REQUESTS = 500;
+const decimal PIPE_IDLE_TIMEOUT = 0.5;
+
+service /payloadV/locations on new websocket:Listener(21005) {
+    resource function get .() returns websocket:Service {
+        return new LocationsService();
+    }
+}
+
+service class LocationsService {
+    *websocket:Service;
+
+    # Answers each request with a response of the same id. The requests whose ids start with `hold` are not answered,
+    # the ones whose ids start with `invalid` are answered with a response which does not bind to the response type,
+    # and the ones whose ids start with `stray` are answered along with a response of an id no request waits on.
+    remote function onMessage(websocket:Caller caller, map<json> message) returns websocket:Error? {
+        string id = message["id"].toString();
+        if id.startsWith("hold") {
+            return;
+        }
+        if id.startsWith("invalid") {
+            check caller->writeMessage({id, 'type: "Invalid", event: "UnSubscribe"});
+            return;
+        }
+        if id.startsWith("stray") {
+            check caller->writeMessage({id: id + "-late", 'type: "UnSubscribe", event: "UnSubscribe"});
+        }
+        check caller->writeMessage({id, 'type: "UnSubscribe", event: "UnSubscribe"});
+    }
+}
+
+@test:Config {}
+function testPipesOfAnsweredRequests() returns error? {
+    PayloadVlocationsClient locationsClient = check new (serviceUrl = SERVICE_URL);
+    foreach int i in 0 ..< REQUESTS {
+        UnSubscribe response = check subscribe(locationsClient, string `request-${i}`, 5);
+        test:assertEquals(response.'type, "UnSubscribe");
+        test:assertEquals(locationsClient.getPipeCount(), 0, "The pipe of an answered request should be removed");
+    }
+    check locationsClient->connectionClose();
+}
+
+@test:Config {}
+function testPipesOfStrayResponses() returns error? {
+    PayloadVlocationsClient locationsClient = check new (serviceUrl = SERVICE_URL, pipeIdleTimeout = PIPE_IDLE_TIMEOUT);
+    foreach int i in 0 ..< 10 {
+        _ = check subscribe(locationsClient, string `stray-${i}`, 5);
+    }
+    // The responses no request waits on stay in unclaimed pipes until the sweeper removes them, which takes between
+    // one and two idle timeouts
+    test:assertTrue(locationsClient.getPipeCount() > 0, "The stray responses should be held in unclaimed pipes");
+    runtime:sleep(PIPE_IDLE_TIMEOUT * 3);
+    test:assertEquals(locationsClient.getPipeCount(), 0, "The unclaimed pipes should be removed by the sweeper");
+    check locationsClient->connectionClose();
+}
+
+@test:Config {}
+function testPipesOfTimedOutRequest() returns error? {
+    PayloadVlocationsClient locationsClient = check new (serviceUrl = SERVICE_URL);
+    UnSubscribe|error response = subscribe(locationsClient, "hold", 0.5);
+    test:assertTrue(response is error, "The request should time out");
+    // The client closes itself once a request times out, which removes the pipes of the other requests as well
+    test:assertEquals(locationsClient.getPipeCount(), 0, "The pipe of a timed out request should be removed");
+}
+
+@test:Config {}
+function testPipesOfFailedRequest() returns error? {
+    PayloadVlocationsClient locationsClient = check new (serviceUrl = SERVICE_URL);
+    UnSubscribe|error response = subscribe(locationsClient, "invalid", 5);
+    test:assertTrue(response is error, "The response should not bind to the response type");
+    // The client closes itself once a response does not bind, which removes the pipes of the other requests as well
+    test:assertEquals(locationsClient.getPipeCount(), 0, "The pipe of a failed request should be removed");
+}
+
+function subscribe(PayloadVlocationsClient locationsClient, string id, decimal timeout) returns UnSubscribe|error {
+    return locationsClient->doSubscribe({id, event: "Subscribe"}, timeout);
+}
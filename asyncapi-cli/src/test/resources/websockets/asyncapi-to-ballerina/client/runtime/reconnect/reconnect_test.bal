@@ -0,0 +1,142 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/websocket;
+
+const string SERVICE_URL = "ws://localhost:21003/chat";
+
+isolated websocket:Caller[] callers = [];
+isolated map<int> subscriptions = {};
+isolated int connections = 0;
+isolated boolean rejectConnections = false;
+isolated int rejectedConnections = 0;
+
+service /chat on new websocket:Listener(21003) {
+    resource function get .() returns websocket:Service|websocket:UpgradeError {
+        lock {
+            if rejectConnections {
+                rejectedConnections += 1;
+                return error websocket:UpgradeError("The service does not accept connections");
+            }
+            connections += 1;
+        }
+        return new ChatService();
+    }
+}
+
+service class ChatService {
+    *websocket:Service;
+
+    remote function onOpen(websocket:Caller caller) {
+        lock {
+            callers.push(caller);
+        }
+    }
+
+    # Answers each subscribe message with a single next message, and counts the subscribe messages of each id.
+    remote function onMessage(websocket:Caller caller, map<json> message) returns websocket:Error? {
+        string id = message["id"].toString();
+        lock {
+            subscriptions[id] = (subscriptions[id] ?: 0) + 1;
+        }
+        check caller->writeMessage({id, 'type: "NextMessage", payload: {}});
+    }
+}
+
+@test:Config {}
+function testReconnectReplaysSubscriptions() returns error? {
+    ChatClient chatClient = check new (serviceUrl = SERVICE_URL, reconnectConfig = {initialBackoff: 0.2});
+    int connectionsBefore = getConnections();
+    stream<NextMessage, error?> messages = check chatClient->doTesting(testingMessage("replayed"), 10);
+    stream<NextMessage, error?> closedMessages = check chatClient->doTesting(testingMessage("closed"), 10);
+    test:assertTrue(check messages.next() is record {|NextMessage value;|});
+    test:assertTrue(check closedMessages.next() is record {|NextMessage value;|});
+    check closedMessages.close();
+
+    // The client reconnects and writes the subscribe message of the open stream again, which the service answers on
+    // the new connection
+    check dropConnections();
+    record {|NextMessage value;|}? replayed = check messages.next();
+    test:assertTrue(replayed is record {|NextMessage value;|}, "The open stream should be subscribed again");
+    test:assertEquals(getConnections() - connectionsBefore, 2, "The client should open a new connection");
+    test:assertEquals(getSubscriptions("replayed"), 2);
+    runtime:sleep(1);
+    test:assertEquals(getSubscriptions("closed"), 1, "The closed stream should not be subscribed again");
+    check chatClient->connectionClose();
+}
+
+@test:Config {dependsOn: [testReconnectReplaysSubscriptions]}
+function testReconnectGivesUpAfterMaxAttempts() returns error? {
+    ChatClient chatClient = check new (serviceUrl = SERVICE_URL,
+        reconnectConfig = {maxAttempts: 3, initialBackoff: 0.1, maxBackoff: 0.2});
+    stream<NextMessage, error?> messages = check chatClient->doTesting(testingMessage("given-up"), 10);
+    test:assertTrue(check messages.next() is record {|NextMessage value;|});
+
+    // Each attempt waits for a backoff of up to 0.1, 0.2 and 0.2 seconds, after which all of them are rejected and
+    // the client is closed, which ends its streams
+    int rejectedBefore = getRejectedConnections();
+    setRejectConnections(true);
+    check dropConnections();
+    record {|NextMessage value;|}|error? last = messages.next();
+    setRejectConnections(false);
+    test:assertTrue(last is (), "The stream should end once the client gives up reconnecting");
+    test:assertEquals(getRejectedConnections() - rejectedBefore, 3, "The client should attempt maxAttempts times");
+
+    stream<NextMessage, error?>|error afterClose = chatClient->doTesting(testingMessage("closed-client"), 1);
+    test:assertTrue(afterClose is error, "The client should be closed once it gave up reconnecting");
+}
+
+# Closes the connections of the clients from the side of the service.
+#
+# + return - An error if a connection could not be closed
+function dropConnections() returns error? {
+    lock {
+        foreach websocket:Caller caller in callers {
+            check caller->close(timeout = 5);
+        }
+        callers.removeAll();
+    }
+}
+
+function testingMessage(string id) returns Testing {
+    return {id, 'type: "SubscribeMessage", payload: {query: "{ messages }"}};
+}
+
+isolated function getSubscriptions(string id) returns int {
+    lock {
+        return subscriptions[id] ?: 0;
+    }
+}
+
+isolated function getConnections() returns int {
+    lock {
+        return connections;
+    }
+}
+
+isolated function getRejectedConnections() returns int {
+    lock {
+        return rejectedConnections;
+    }
+}
+
+isolated function setRejectConnections(boolean reject) {
+    lock {
+        rejectConnections = reject;
+    }
+}
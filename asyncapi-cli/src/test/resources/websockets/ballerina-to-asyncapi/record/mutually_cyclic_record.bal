@@ -0,0 +1,44 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/websocket;
+
+type Order record {|
+    int id;
+    Customer customer;
+    string event;
+|};
+
+type Customer record {|
+    string name;
+    Order[] orders;
+|};
+
+listener websocket:Listener ep0 = new (443, config = {host: "petstore.swagger.io"});
+
+@websocket:ServiceConfig{dispatcherKey: "event"}
+service /payloadV on ep0 {
+    resource function get orders() returns websocket:Service|websocket:UpgradeError {
+        return new ChatServer();
+    }
+}
+
+service class ChatServer{
+    *websocket:Service;
+
+    remote function onOrder(websocket:Caller caller, Order message) returns Order {
+        return {id: 1, customer: {name: "", orders: []}, event: "Order"};
+    }
+}
@@ -0,0 +1,39 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/websocket;
+
+listener websocket:Listener ep1 = new(9092);
+
+@websocket:ServiceConfig {dispatcherKey: "event"}
+service /alerts on ep1 {
+    resource function get .() returns websocket:Service|websocket:UpgradeError {
+        return new AlertServer();
+    }
+}
+
+service class AlertServer {
+    *websocket:Service;
+
+    remote function onAlert(websocket:Caller caller, Alert message) returns int {
+        return 5;
+    }
+}
+
+public type Alert record {
+    string event;
+    string id;
+};
@@ -14,7 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
-public type Message readonly & record {string event;};
+public type Message record {string event;};
 
 public type MessageWithId readonly & record {string event; string id;};
 